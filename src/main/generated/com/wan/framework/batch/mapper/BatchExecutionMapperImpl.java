@@ -7,7 +7,7 @@ import org.springframework.stereotype.Component;
 
 @Generated(
     value = "org.mapstruct.ap.MappingProcessor",
-    date = "2026-01-16T16:07:41+0900",
+    date = "2026-10-19T14:20:43+0900",
     comments = "version: 1.5.5.Final, compiler: javac, environment: Java 17.0.15 (OpenLogic)"
 )
 @Component
@@ -37,6 +37,10 @@ public class BatchExecutionMapperImpl implements BatchExecutionMapper {
         batchExecutionDTO.stackTrace( entity.getStackTrace() );
         batchExecutionDTO.retryCount( entity.getRetryCount() );
         batchExecutionDTO.originalExecutionId( entity.getOriginalExecutionId() );
+        batchExecutionDTO.nextRetryAt( entity.getNextRetryAt() );
+        batchExecutionDTO.fencingToken( entity.getFencingToken() );
+        batchExecutionDTO.readCount( entity.getReadCount() );
+        batchExecutionDTO.writeCount( entity.getWriteCount() );
         batchExecutionDTO.serverInfo( entity.getServerInfo() );
         batchExecutionDTO.executedBy( entity.getExecutedBy() );
         batchExecutionDTO.createdAt( entity.getCreatedAt() );
@@ -68,6 +72,10 @@ public class BatchExecutionMapperImpl implements BatchExecutionMapper {
         batchExecution.stackTrace( dto.getStackTrace() );
         batchExecution.retryCount( dto.getRetryCount() );
         batchExecution.originalExecutionId( dto.getOriginalExecutionId() );
+        batchExecution.nextRetryAt( dto.getNextRetryAt() );
+        batchExecution.fencingToken( dto.getFencingToken() );
+        batchExecution.readCount( dto.getReadCount() );
+        batchExecution.writeCount( dto.getWriteCount() );
         batchExecution.serverInfo( dto.getServerInfo() );
         batchExecution.executedBy( dto.getExecutedBy() );
         batchExecution.createdAt( dto.getCreatedAt() );
@@ -7,7 +7,7 @@ import org.springframework.stereotype.Component;
 
 @Generated(
     value = "org.mapstruct.ap.MappingProcessor",
-    date = "2026-01-16T16:07:41+0900",
+    date = "2026-10-19T16:05:12+0900",
     comments = "version: 1.5.5.Final, compiler: javac, environment: Java 17.0.15 (OpenLogic)"
 )
 @Component
@@ -27,7 +27,14 @@ public class BatchJobMapperImpl implements BatchJobMapper {
         batchJobDTO.description( entity.getDescription() );
         batchJobDTO.scheduleType( entity.getScheduleType() );
         batchJobDTO.scheduleExpression( entity.getScheduleExpression() );
+        batchJobDTO.misfirePolicy( entity.getMisfirePolicy() );
+        batchJobDTO.spreadSeconds( entity.getSpreadSeconds() );
+        batchJobDTO.jobType( entity.getJobType() );
         batchJobDTO.proxyApiCode( entity.getProxyApiCode() );
+        batchJobDTO.chunkWriterApiCode( entity.getChunkWriterApiCode() );
+        batchJobDTO.chunkItemsPath( entity.getChunkItemsPath() );
+        batchJobDTO.chunkSize( entity.getChunkSize() );
+        batchJobDTO.chunkPartitions( entity.getChunkPartitions() );
         batchJobDTO.executionParameters( entity.getExecutionParameters() );
         batchJobDTO.enabled( entity.getEnabled() );
         batchJobDTO.maxRetryCount( entity.getMaxRetryCount() );
@@ -60,7 +67,14 @@ public class BatchJobMapperImpl implements BatchJobMapper {
         batchJob.description( dto.getDescription() );
         batchJob.scheduleType( dto.getScheduleType() );
         batchJob.scheduleExpression( dto.getScheduleExpression() );
+        batchJob.misfirePolicy( dto.getMisfirePolicy() );
+        batchJob.spreadSeconds( dto.getSpreadSeconds() );
+        batchJob.jobType( dto.getJobType() );
         batchJob.proxyApiCode( dto.getProxyApiCode() );
+        batchJob.chunkWriterApiCode( dto.getChunkWriterApiCode() );
+        batchJob.chunkItemsPath( dto.getChunkItemsPath() );
+        batchJob.chunkSize( dto.getChunkSize() );
+        batchJob.chunkPartitions( dto.getChunkPartitions() );
         batchJob.executionParameters( dto.getExecutionParameters() );
         batchJob.enabled( dto.getEnabled() );
         batchJob.maxRetryCount( dto.getMaxRetryCount() );
@@ -111,9 +125,30 @@ public class BatchJobMapperImpl implements BatchJobMapper {
         if ( dto.getScheduleExpression() != null ) {
             entity.setScheduleExpression( dto.getScheduleExpression() );
         }
+        if ( dto.getMisfirePolicy() != null ) {
+            entity.setMisfirePolicy( dto.getMisfirePolicy() );
+        }
+        if ( dto.getSpreadSeconds() != null ) {
+            entity.setSpreadSeconds( dto.getSpreadSeconds() );
+        }
+        if ( dto.getJobType() != null ) {
+            entity.setJobType( dto.getJobType() );
+        }
         if ( dto.getProxyApiCode() != null ) {
             entity.setProxyApiCode( dto.getProxyApiCode() );
         }
+        if ( dto.getChunkWriterApiCode() != null ) {
+            entity.setChunkWriterApiCode( dto.getChunkWriterApiCode() );
+        }
+        if ( dto.getChunkItemsPath() != null ) {
+            entity.setChunkItemsPath( dto.getChunkItemsPath() );
+        }
+        if ( dto.getChunkSize() != null ) {
+            entity.setChunkSize( dto.getChunkSize() );
+        }
+        if ( dto.getChunkPartitions() != null ) {
+            entity.setChunkPartitions( dto.getChunkPartitions() );
+        }
         if ( dto.getExecutionParameters() != null ) {
             entity.setExecutionParameters( dto.getExecutionParameters() );
         }
@@ -0,0 +1,252 @@
+package com.wan.framework.batch.mapper;
+
+import com.wan.framework.batch.domain.BatchWorkflow;
+import com.wan.framework.batch.domain.BatchWorkflowEdge;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.dto.BatchWorkflowDTO;
+import com.wan.framework.batch.dto.BatchWorkflowEdgeDTO;
+import com.wan.framework.batch.dto.BatchWorkflowRunDTO;
+import com.wan.framework.batch.dto.BatchWorkflowStepDTO;
+import com.wan.framework.batch.dto.BatchWorkflowStepRunDTO;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.Generated;
+import org.springframework.stereotype.Component;
+
+@Generated(
+    value = "org.mapstruct.ap.MappingProcessor",
+    date = "2026-10-19T13:41:07+0900",
+    comments = "version: 1.5.5.Final, compiler: javac, environment: Java 17.0.15 (OpenLogic)"
+)
+@Component
+public class BatchWorkflowMapperImpl implements BatchWorkflowMapper {
+
+    @Override
+    public BatchWorkflowDTO toDto(BatchWorkflow entity) {
+        if ( entity == null ) {
+            return null;
+        }
+
+        BatchWorkflowDTO.BatchWorkflowDTOBuilder batchWorkflowDTO = BatchWorkflowDTO.builder();
+
+        batchWorkflowDTO.id( entity.getId() );
+        batchWorkflowDTO.workflowId( entity.getWorkflowId() );
+        batchWorkflowDTO.workflowName( entity.getWorkflowName() );
+        batchWorkflowDTO.description( entity.getDescription() );
+        batchWorkflowDTO.scheduleType( entity.getScheduleType() );
+        batchWorkflowDTO.scheduleExpression( entity.getScheduleExpression() );
+        batchWorkflowDTO.enabled( entity.getEnabled() );
+        batchWorkflowDTO.dataState( entity.getDataState() );
+        batchWorkflowDTO.createdBy( entity.getCreatedBy() );
+        batchWorkflowDTO.createdAt( entity.getCreatedAt() );
+        batchWorkflowDTO.updatedBy( entity.getUpdatedBy() );
+        batchWorkflowDTO.updatedAt( entity.getUpdatedAt() );
+
+        return batchWorkflowDTO.build();
+    }
+
+    @Override
+    public BatchWorkflow toEntity(BatchWorkflowDTO dto) {
+        if ( dto == null ) {
+            return null;
+        }
+
+        BatchWorkflow.BatchWorkflowBuilder batchWorkflow = BatchWorkflow.builder();
+
+        batchWorkflow.id( dto.getId() );
+        batchWorkflow.workflowId( dto.getWorkflowId() );
+        batchWorkflow.workflowName( dto.getWorkflowName() );
+        batchWorkflow.description( dto.getDescription() );
+        batchWorkflow.scheduleType( dto.getScheduleType() );
+        batchWorkflow.scheduleExpression( dto.getScheduleExpression() );
+        batchWorkflow.enabled( dto.getEnabled() );
+        batchWorkflow.dataState( dto.getDataState() );
+
+        return batchWorkflow.build();
+    }
+
+    @Override
+    public void updateEntityFromDto(BatchWorkflowDTO dto, BatchWorkflow entity) {
+        if ( dto == null ) {
+            return;
+        }
+
+        if ( dto.getCreatedBy() != null ) {
+            entity.setCreatedBy( dto.getCreatedBy() );
+        }
+        if ( dto.getCreatedAt() != null ) {
+            entity.setCreatedAt( dto.getCreatedAt() );
+        }
+        if ( dto.getUpdatedBy() != null ) {
+            entity.setUpdatedBy( dto.getUpdatedBy() );
+        }
+        if ( dto.getUpdatedAt() != null ) {
+            entity.setUpdatedAt( dto.getUpdatedAt() );
+        }
+        if ( dto.getWorkflowName() != null ) {
+            entity.setWorkflowName( dto.getWorkflowName() );
+        }
+        if ( dto.getDescription() != null ) {
+            entity.setDescription( dto.getDescription() );
+        }
+        if ( dto.getScheduleType() != null ) {
+            entity.setScheduleType( dto.getScheduleType() );
+        }
+        if ( dto.getScheduleExpression() != null ) {
+            entity.setScheduleExpression( dto.getScheduleExpression() );
+        }
+        if ( dto.getEnabled() != null ) {
+            entity.setEnabled( dto.getEnabled() );
+        }
+    }
+
+    @Override
+    public List<BatchWorkflowStepDTO> toStepDtoList(List<BatchWorkflowStep> entities) {
+        if ( entities == null ) {
+            return null;
+        }
+
+        List<BatchWorkflowStepDTO> list = new ArrayList<BatchWorkflowStepDTO>( entities.size() );
+        for ( BatchWorkflowStep batchWorkflowStep : entities ) {
+            list.add( batchWorkflowStepToBatchWorkflowStepDTO( batchWorkflowStep ) );
+        }
+
+        return list;
+    }
+
+    @Override
+    public BatchWorkflowStep toStepEntity(BatchWorkflowStepDTO dto) {
+        if ( dto == null ) {
+            return null;
+        }
+
+        BatchWorkflowStep.BatchWorkflowStepBuilder batchWorkflowStep = BatchWorkflowStep.builder();
+
+        batchWorkflowStep.stepKey( dto.getStepKey() );
+        batchWorkflowStep.batchJobId( dto.getBatchJobId() );
+        batchWorkflowStep.maxRetryCount( dto.getMaxRetryCount() );
+        batchWorkflowStep.retryIntervalSeconds( dto.getRetryIntervalSeconds() );
+
+        return batchWorkflowStep.build();
+    }
+
+    @Override
+    public List<BatchWorkflowEdgeDTO> toEdgeDtoList(List<BatchWorkflowEdge> entities) {
+        if ( entities == null ) {
+            return null;
+        }
+
+        List<BatchWorkflowEdgeDTO> list = new ArrayList<BatchWorkflowEdgeDTO>( entities.size() );
+        for ( BatchWorkflowEdge batchWorkflowEdge : entities ) {
+            list.add( batchWorkflowEdgeToBatchWorkflowEdgeDTO( batchWorkflowEdge ) );
+        }
+
+        return list;
+    }
+
+    @Override
+    public BatchWorkflowEdge toEdgeEntity(BatchWorkflowEdgeDTO dto) {
+        if ( dto == null ) {
+            return null;
+        }
+
+        BatchWorkflowEdge.BatchWorkflowEdgeBuilder batchWorkflowEdge = BatchWorkflowEdge.builder();
+
+        batchWorkflowEdge.fromStepKey( dto.getFromStepKey() );
+        batchWorkflowEdge.toStepKey( dto.getToStepKey() );
+        batchWorkflowEdge.condition( dto.getCondition() );
+
+        return batchWorkflowEdge.build();
+    }
+
+    @Override
+    public BatchWorkflowRunDTO toRunDto(BatchWorkflowRun entity) {
+        if ( entity == null ) {
+            return null;
+        }
+
+        BatchWorkflowRunDTO.BatchWorkflowRunDTOBuilder batchWorkflowRunDTO = BatchWorkflowRunDTO.builder();
+
+        batchWorkflowRunDTO.id( entity.getId() );
+        batchWorkflowRunDTO.runId( entity.getRunId() );
+        batchWorkflowRunDTO.batchWorkflowId( entity.getBatchWorkflowId() );
+        batchWorkflowRunDTO.workflowId( entity.getWorkflowId() );
+        batchWorkflowRunDTO.status( entity.getStatus() );
+        batchWorkflowRunDTO.triggerType( entity.getTriggerType() );
+        batchWorkflowRunDTO.resumeCount( entity.getResumeCount() );
+        batchWorkflowRunDTO.serverInfo( entity.getServerInfo() );
+        batchWorkflowRunDTO.executedBy( entity.getExecutedBy() );
+        batchWorkflowRunDTO.startTime( entity.getStartTime() );
+        batchWorkflowRunDTO.endTime( entity.getEndTime() );
+
+        return batchWorkflowRunDTO.build();
+    }
+
+    @Override
+    public List<BatchWorkflowStepRunDTO> toStepRunDtoList(List<BatchWorkflowStepRun> entities) {
+        if ( entities == null ) {
+            return null;
+        }
+
+        List<BatchWorkflowStepRunDTO> list = new ArrayList<BatchWorkflowStepRunDTO>( entities.size() );
+        for ( BatchWorkflowStepRun batchWorkflowStepRun : entities ) {
+            list.add( batchWorkflowStepRunToBatchWorkflowStepRunDTO( batchWorkflowStepRun ) );
+        }
+
+        return list;
+    }
+
+    protected BatchWorkflowStepDTO batchWorkflowStepToBatchWorkflowStepDTO(BatchWorkflowStep batchWorkflowStep) {
+        if ( batchWorkflowStep == null ) {
+            return null;
+        }
+
+        BatchWorkflowStepDTO.BatchWorkflowStepDTOBuilder batchWorkflowStepDTO = BatchWorkflowStepDTO.builder();
+
+        batchWorkflowStepDTO.id( batchWorkflowStep.getId() );
+        batchWorkflowStepDTO.stepKey( batchWorkflowStep.getStepKey() );
+        batchWorkflowStepDTO.batchJobId( batchWorkflowStep.getBatchJobId() );
+        batchWorkflowStepDTO.maxRetryCount( batchWorkflowStep.getMaxRetryCount() );
+        batchWorkflowStepDTO.retryIntervalSeconds( batchWorkflowStep.getRetryIntervalSeconds() );
+
+        return batchWorkflowStepDTO.build();
+    }
+
+    protected BatchWorkflowEdgeDTO batchWorkflowEdgeToBatchWorkflowEdgeDTO(BatchWorkflowEdge batchWorkflowEdge) {
+        if ( batchWorkflowEdge == null ) {
+            return null;
+        }
+
+        BatchWorkflowEdgeDTO.BatchWorkflowEdgeDTOBuilder batchWorkflowEdgeDTO = BatchWorkflowEdgeDTO.builder();
+
+        batchWorkflowEdgeDTO.id( batchWorkflowEdge.getId() );
+        batchWorkflowEdgeDTO.fromStepKey( batchWorkflowEdge.getFromStepKey() );
+        batchWorkflowEdgeDTO.toStepKey( batchWorkflowEdge.getToStepKey() );
+        batchWorkflowEdgeDTO.condition( batchWorkflowEdge.getCondition() );
+
+        return batchWorkflowEdgeDTO.build();
+    }
+
+    protected BatchWorkflowStepRunDTO batchWorkflowStepRunToBatchWorkflowStepRunDTO(BatchWorkflowStepRun batchWorkflowStepRun) {
+        if ( batchWorkflowStepRun == null ) {
+            return null;
+        }
+
+        BatchWorkflowStepRunDTO.BatchWorkflowStepRunDTOBuilder batchWorkflowStepRunDTO = BatchWorkflowStepRunDTO.builder();
+
+        batchWorkflowStepRunDTO.id( batchWorkflowStepRun.getId() );
+        batchWorkflowStepRunDTO.runId( batchWorkflowStepRun.getRunId() );
+        batchWorkflowStepRunDTO.stepKey( batchWorkflowStepRun.getStepKey() );
+        batchWorkflowStepRunDTO.batchJobId( batchWorkflowStepRun.getBatchJobId() );
+        batchWorkflowStepRunDTO.status( batchWorkflowStepRun.getStatus() );
+        batchWorkflowStepRunDTO.attempt( batchWorkflowStepRun.getAttempt() );
+        batchWorkflowStepRunDTO.executionId( batchWorkflowStepRun.getExecutionId() );
+        batchWorkflowStepRunDTO.errorMessage( batchWorkflowStepRun.getErrorMessage() );
+        batchWorkflowStepRunDTO.startTime( batchWorkflowStepRun.getStartTime() );
+        batchWorkflowStepRunDTO.endTime( batchWorkflowStepRun.getEndTime() );
+
+        return batchWorkflowStepRunDTO.build();
+    }
+}
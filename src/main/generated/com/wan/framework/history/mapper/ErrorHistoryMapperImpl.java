@@ -7,7 +7,7 @@ import org.springframework.stereotype.Component;
 
 @Generated(
     value = "org.mapstruct.ap.MappingProcessor",
-    date = "2026-01-16T16:07:41+0900",
+    date = "2026-10-19T10:12:33+0900",
     comments = "version: 1.5.5.Final, compiler: javac, environment: Java 17.0.15 (OpenLogic)"
 )
 @Component
@@ -27,6 +27,11 @@ public class ErrorHistoryMapperImpl implements ErrorHistoryMapper {
         errorHistoryDTO.errorMessage( errorHistory.getErrorMessage() );
         errorHistoryDTO.eventTime( errorHistory.getEventTime() );
         errorHistoryDTO.stackTrace( errorHistory.getStackTrace() );
+        errorHistoryDTO.fingerprint( errorHistory.getFingerprint() );
+        errorHistoryDTO.exceptionType( errorHistory.getExceptionType() );
+        errorHistoryDTO.bucketStart( errorHistory.getBucketStart() );
+        errorHistoryDTO.occurrenceCount( errorHistory.getOccurrenceCount() );
+        errorHistoryDTO.lastEventTime( errorHistory.getLastEventTime() );
 
         return errorHistoryDTO.build();
     }
@@ -45,6 +50,11 @@ public class ErrorHistoryMapperImpl implements ErrorHistoryMapper {
         errorHistory.errorMessage( errorHistoryDTO.getErrorMessage() );
         errorHistory.eventTime( errorHistoryDTO.getEventTime() );
         errorHistory.stackTrace( errorHistoryDTO.getStackTrace() );
+        errorHistory.fingerprint( errorHistoryDTO.getFingerprint() );
+        errorHistory.exceptionType( errorHistoryDTO.getExceptionType() );
+        errorHistory.bucketStart( errorHistoryDTO.getBucketStart() );
+        errorHistory.occurrenceCount( errorHistoryDTO.getOccurrenceCount() );
+        errorHistory.lastEventTime( errorHistoryDTO.getLastEventTime() );
 
         return errorHistory.build();
     }
@@ -0,0 +1,41 @@
+package com.wan.framework.history.mapper;
+
+import com.wan.framework.history.domain.ExecutionRollup;
+import com.wan.framework.history.dto.ExecutionRollupDTO;
+import javax.annotation.processing.Generated;
+import org.springframework.stereotype.Component;
+
+@Generated(
+    value = "org.mapstruct.ap.MappingProcessor",
+    date = "2026-10-19T21:23:10+0900",
+    comments = "version: 1.5.5.Final, compiler: javac, environment: Java 17.0.15 (OpenLogic)"
+)
+@Component
+public class ExecutionRollupMapperImpl implements ExecutionRollupMapper {
+
+    @Override
+    public ExecutionRollupDTO toDTO(ExecutionRollup executionRollup) {
+        if ( executionRollup == null ) {
+            return null;
+        }
+
+        ExecutionRollupDTO.ExecutionRollupDTOBuilder executionRollupDTO = ExecutionRollupDTO.builder();
+
+        executionRollupDTO.sourceType( executionRollup.getSourceType() );
+        executionRollupDTO.targetId( executionRollup.getTargetId() );
+        executionRollupDTO.granularity( executionRollup.getGranularity() );
+        executionRollupDTO.bucketStart( executionRollup.getBucketStart() );
+        executionRollupDTO.totalCount( executionRollup.getTotalCount() );
+        executionRollupDTO.successCount( executionRollup.getSuccessCount() );
+        executionRollupDTO.failureCount( executionRollup.getFailureCount() );
+        executionRollupDTO.latencyCount( executionRollup.getLatencyCount() );
+        executionRollupDTO.latencySumMs( executionRollup.getLatencySumMs() );
+        executionRollupDTO.latencyMaxMs( executionRollup.getLatencyMaxMs() );
+        executionRollupDTO.latencyLe100Count( executionRollup.getLatencyLe100Count() );
+        executionRollupDTO.latencyLe500Count( executionRollup.getLatencyLe500Count() );
+        executionRollupDTO.latencyLe1000Count( executionRollup.getLatencyLe1000Count() );
+        executionRollupDTO.latencyLe5000Count( executionRollup.getLatencyLe5000Count() );
+
+        return executionRollupDTO.build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.wan.framework.proxy.mapper;
+
+import com.wan.framework.proxy.domain.ApiComposite;
+import com.wan.framework.proxy.dto.ApiCompositeDTO;
+import javax.annotation.processing.Generated;
+import org.springframework.stereotype.Component;
+
+@Generated(
+    value = "org.mapstruct.ap.MappingProcessor",
+    date = "2026-10-19T21:13:41+0900",
+    comments = "version: 1.5.5.Final, compiler: javac, environment: Java 17.0.15 (OpenLogic)"
+)
+@Component
+public class ApiCompositeMapperImpl implements ApiCompositeMapper {
+
+    @Override
+    public ApiCompositeDTO toDto(ApiComposite entity) {
+        if ( entity == null ) {
+            return null;
+        }
+
+        ApiCompositeDTO.ApiCompositeDTOBuilder apiCompositeDTO = ApiCompositeDTO.builder();
+
+        apiCompositeDTO.id( entity.getId() );
+        apiCompositeDTO.compositeCode( entity.getCompositeCode() );
+        apiCompositeDTO.compositeName( entity.getCompositeName() );
+        apiCompositeDTO.description( entity.getDescription() );
+        apiCompositeDTO.branchDefinitions( entity.getBranchDefinitions() );
+        apiCompositeDTO.timeoutMs( entity.getTimeoutMs() );
+        apiCompositeDTO.isEnabled( entity.getIsEnabled() );
+        apiCompositeDTO.dataState( entity.getDataState() );
+        apiCompositeDTO.createdBy( entity.getCreatedBy() );
+        apiCompositeDTO.createdAt( entity.getCreatedAt() );
+        apiCompositeDTO.updatedBy( entity.getUpdatedBy() );
+        apiCompositeDTO.updatedAt( entity.getUpdatedAt() );
+
+        return apiCompositeDTO.build();
+    }
+
+    @Override
+    public ApiComposite toEntity(ApiCompositeDTO dto) {
+        if ( dto == null ) {
+            return null;
+        }
+
+        ApiComposite.ApiCompositeBuilder apiComposite = ApiComposite.builder();
+
+        apiComposite.id( dto.getId() );
+        apiComposite.compositeCode( dto.getCompositeCode() );
+        apiComposite.compositeName( dto.getCompositeName() );
+        apiComposite.description( dto.getDescription() );
+        apiComposite.branchDefinitions( dto.getBranchDefinitions() );
+        apiComposite.timeoutMs( dto.getTimeoutMs() );
+        apiComposite.isEnabled( dto.getIsEnabled() );
+        apiComposite.dataState( dto.getDataState() );
+
+        return apiComposite.build();
+    }
+
+    @Override
+    public void updateEntityFromDto(ApiCompositeDTO dto, ApiComposite entity) {
+        if ( dto == null ) {
+            return;
+        }
+
+        if ( dto.getCreatedBy() != null ) {
+            entity.setCreatedBy( dto.getCreatedBy() );
+        }
+        if ( dto.getCreatedAt() != null ) {
+            entity.setCreatedAt( dto.getCreatedAt() );
+        }
+        if ( dto.getUpdatedBy() != null ) {
+            entity.setUpdatedBy( dto.getUpdatedBy() );
+        }
+        if ( dto.getUpdatedAt() != null ) {
+            entity.setUpdatedAt( dto.getUpdatedAt() );
+        }
+        if ( dto.getId() != null ) {
+            entity.setId( dto.getId() );
+        }
+        if ( dto.getCompositeCode() != null ) {
+            entity.setCompositeCode( dto.getCompositeCode() );
+        }
+        if ( dto.getCompositeName() != null ) {
+            entity.setCompositeName( dto.getCompositeName() );
+        }
+        if ( dto.getDescription() != null ) {
+            entity.setDescription( dto.getDescription() );
+        }
+        if ( dto.getBranchDefinitions() != null ) {
+            entity.setBranchDefinitions( dto.getBranchDefinitions() );
+        }
+        if ( dto.getTimeoutMs() != null ) {
+            entity.setTimeoutMs( dto.getTimeoutMs() );
+        }
+        if ( dto.getIsEnabled() != null ) {
+            entity.setIsEnabled( dto.getIsEnabled() );
+        }
+        if ( dto.getDataState() != null ) {
+            entity.setDataState( dto.getDataState() );
+        }
+    }
+}
@@ -32,6 +32,24 @@ public class ApiEndpointMapperImpl implements ApiEndpointMapper {
         apiEndpointDTO.timeoutSeconds( entity.getTimeoutSeconds() );
         apiEndpointDTO.retryCount( entity.getRetryCount() );
         apiEndpointDTO.retryIntervalMs( entity.getRetryIntervalMs() );
+        apiEndpointDTO.retryBackoffMultiplier( entity.getRetryBackoffMultiplier() );
+        apiEndpointDTO.retryMaxIntervalMs( entity.getRetryMaxIntervalMs() );
+        apiEndpointDTO.retryMaxElapsedMs( entity.getRetryMaxElapsedMs() );
+        apiEndpointDTO.retryableStatusCodes( entity.getRetryableStatusCodes() );
+        apiEndpointDTO.retryableExceptions( entity.getRetryableExceptions() );
+        apiEndpointDTO.retryBudgetPercent( entity.getRetryBudgetPercent() );
+        apiEndpointDTO.circuitBreakerEnabled( entity.getCircuitBreakerEnabled() );
+        apiEndpointDTO.circuitFailureRateThreshold( entity.getCircuitFailureRateThreshold() );
+        apiEndpointDTO.circuitSlidingWindowSize( entity.getCircuitSlidingWindowSize() );
+        apiEndpointDTO.circuitMinimumCalls( entity.getCircuitMinimumCalls() );
+        apiEndpointDTO.circuitOpenDurationMs( entity.getCircuitOpenDurationMs() );
+        apiEndpointDTO.circuitHalfOpenCalls( entity.getCircuitHalfOpenCalls() );
+        apiEndpointDTO.maxConcurrentCalls( entity.getMaxConcurrentCalls() );
+        apiEndpointDTO.responseCacheEnabled( entity.getResponseCacheEnabled() );
+        apiEndpointDTO.responseCacheTtlSeconds( entity.getResponseCacheTtlSeconds() );
+        apiEndpointDTO.responseCacheVaryHeaders( entity.getResponseCacheVaryHeaders() );
+        apiEndpointDTO.captureHeaders( entity.getCaptureHeaders() );
+        apiEndpointDTO.captureBodies( entity.getCaptureBodies() );
         apiEndpointDTO.isInternal( entity.getIsInternal() );
         apiEndpointDTO.isEnabled( entity.getIsEnabled() );
         apiEndpointDTO.dataState( entity.getDataState() );
@@ -62,6 +80,24 @@ public class ApiEndpointMapperImpl implements ApiEndpointMapper {
         apiEndpoint.timeoutSeconds( dto.getTimeoutSeconds() );
         apiEndpoint.retryCount( dto.getRetryCount() );
         apiEndpoint.retryIntervalMs( dto.getRetryIntervalMs() );
+        apiEndpoint.retryBackoffMultiplier( dto.getRetryBackoffMultiplier() );
+        apiEndpoint.retryMaxIntervalMs( dto.getRetryMaxIntervalMs() );
+        apiEndpoint.retryMaxElapsedMs( dto.getRetryMaxElapsedMs() );
+        apiEndpoint.retryableStatusCodes( dto.getRetryableStatusCodes() );
+        apiEndpoint.retryableExceptions( dto.getRetryableExceptions() );
+        apiEndpoint.retryBudgetPercent( dto.getRetryBudgetPercent() );
+        apiEndpoint.circuitBreakerEnabled( dto.getCircuitBreakerEnabled() );
+        apiEndpoint.circuitFailureRateThreshold( dto.getCircuitFailureRateThreshold() );
+        apiEndpoint.circuitSlidingWindowSize( dto.getCircuitSlidingWindowSize() );
+        apiEndpoint.circuitMinimumCalls( dto.getCircuitMinimumCalls() );
+        apiEndpoint.circuitOpenDurationMs( dto.getCircuitOpenDurationMs() );
+        apiEndpoint.circuitHalfOpenCalls( dto.getCircuitHalfOpenCalls() );
+        apiEndpoint.maxConcurrentCalls( dto.getMaxConcurrentCalls() );
+        apiEndpoint.responseCacheEnabled( dto.getResponseCacheEnabled() );
+        apiEndpoint.responseCacheTtlSeconds( dto.getResponseCacheTtlSeconds() );
+        apiEndpoint.responseCacheVaryHeaders( dto.getResponseCacheVaryHeaders() );
+        apiEndpoint.captureHeaders( dto.getCaptureHeaders() );
+        apiEndpoint.captureBodies( dto.getCaptureBodies() );
         apiEndpoint.isInternal( dto.getIsInternal() );
         apiEndpoint.isEnabled( dto.getIsEnabled() );
         apiEndpoint.dataState( dto.getDataState() );
@@ -120,6 +156,60 @@ public class ApiEndpointMapperImpl implements ApiEndpointMapper {
         if ( dto.getRetryIntervalMs() != null ) {
             entity.setRetryIntervalMs( dto.getRetryIntervalMs() );
         }
+        if ( dto.getRetryBackoffMultiplier() != null ) {
+            entity.setRetryBackoffMultiplier( dto.getRetryBackoffMultiplier() );
+        }
+        if ( dto.getRetryMaxIntervalMs() != null ) {
+            entity.setRetryMaxIntervalMs( dto.getRetryMaxIntervalMs() );
+        }
+        if ( dto.getRetryMaxElapsedMs() != null ) {
+            entity.setRetryMaxElapsedMs( dto.getRetryMaxElapsedMs() );
+        }
+        if ( dto.getRetryableStatusCodes() != null ) {
+            entity.setRetryableStatusCodes( dto.getRetryableStatusCodes() );
+        }
+        if ( dto.getRetryableExceptions() != null ) {
+            entity.setRetryableExceptions( dto.getRetryableExceptions() );
+        }
+        if ( dto.getRetryBudgetPercent() != null ) {
+            entity.setRetryBudgetPercent( dto.getRetryBudgetPercent() );
+        }
+        if ( dto.getCircuitBreakerEnabled() != null ) {
+            entity.setCircuitBreakerEnabled( dto.getCircuitBreakerEnabled() );
+        }
+        if ( dto.getCircuitFailureRateThreshold() != null ) {
+            entity.setCircuitFailureRateThreshold( dto.getCircuitFailureRateThreshold() );
+        }
+        if ( dto.getCircuitSlidingWindowSize() != null ) {
+            entity.setCircuitSlidingWindowSize( dto.getCircuitSlidingWindowSize() );
+        }
+        if ( dto.getCircuitMinimumCalls() != null ) {
+            entity.setCircuitMinimumCalls( dto.getCircuitMinimumCalls() );
+        }
+        if ( dto.getCircuitOpenDurationMs() != null ) {
+            entity.setCircuitOpenDurationMs( dto.getCircuitOpenDurationMs() );
+        }
+        if ( dto.getCircuitHalfOpenCalls() != null ) {
+            entity.setCircuitHalfOpenCalls( dto.getCircuitHalfOpenCalls() );
+        }
+        if ( dto.getMaxConcurrentCalls() != null ) {
+            entity.setMaxConcurrentCalls( dto.getMaxConcurrentCalls() );
+        }
+        if ( dto.getResponseCacheEnabled() != null ) {
+            entity.setResponseCacheEnabled( dto.getResponseCacheEnabled() );
+        }
+        if ( dto.getResponseCacheTtlSeconds() != null ) {
+            entity.setResponseCacheTtlSeconds( dto.getResponseCacheTtlSeconds() );
+        }
+        if ( dto.getResponseCacheVaryHeaders() != null ) {
+            entity.setResponseCacheVaryHeaders( dto.getResponseCacheVaryHeaders() );
+        }
+        if ( dto.getCaptureHeaders() != null ) {
+            entity.setCaptureHeaders( dto.getCaptureHeaders() );
+        }
+        if ( dto.getCaptureBodies() != null ) {
+            entity.setCaptureBodies( dto.getCaptureBodies() );
+        }
         if ( dto.getIsInternal() != null ) {
             entity.setIsInternal( dto.getIsInternal() );
         }
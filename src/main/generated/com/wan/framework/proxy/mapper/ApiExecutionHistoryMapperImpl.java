@@ -37,6 +37,11 @@ public class ApiExecutionHistoryMapperImpl implements ApiExecutionHistoryMapper
         apiExecutionHistoryDTO.retryAttempt( entity.getRetryAttempt() );
         apiExecutionHistoryDTO.executionTrigger( entity.getExecutionTrigger() );
         apiExecutionHistoryDTO.executedBy( entity.getExecutedBy() );
+        apiExecutionHistoryDTO.cacheStatus( entity.getCacheStatus() );
+        apiExecutionHistoryDTO.requestBodySize( entity.getRequestBodySize() );
+        apiExecutionHistoryDTO.responseBodySize( entity.getResponseBodySize() );
+        apiExecutionHistoryDTO.responseBodyHash( entity.getResponseBodyHash() );
+        apiExecutionHistoryDTO.bodyCompressed( entity.getBodyCompressed() );
         apiExecutionHistoryDTO.executedAt( entity.getExecutedAt() );
 
         return apiExecutionHistoryDTO.build();
@@ -66,6 +71,11 @@ public class ApiExecutionHistoryMapperImpl implements ApiExecutionHistoryMapper
         apiExecutionHistory.retryAttempt( dto.getRetryAttempt() );
         apiExecutionHistory.executionTrigger( dto.getExecutionTrigger() );
         apiExecutionHistory.executedBy( dto.getExecutedBy() );
+        apiExecutionHistory.cacheStatus( dto.getCacheStatus() );
+        apiExecutionHistory.requestBodySize( dto.getRequestBodySize() );
+        apiExecutionHistory.responseBodySize( dto.getResponseBodySize() );
+        apiExecutionHistory.responseBodyHash( dto.getResponseBodyHash() );
+        apiExecutionHistory.bodyCompressed( dto.getBodyCompressed() );
         apiExecutionHistory.executedAt( dto.getExecutedAt() );
 
         return apiExecutionHistory.build();
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "t_api_key_usage_history", indexes = {
     @Index(name = "idx_api_key_id", columnList = "api_key_id"),
-    @Index(name = "idx_used_at", columnList = "used_at")
+    @Index(name = "idx_used_at", columnList = "used_at"),
+    @Index(name = "idx_used_at_id", columnList = "used_at, id"),
+    @Index(name = "idx_api_key_used_at_id", columnList = "api_key_id, used_at, id")
 })
 @Getter
 @Setter
@@ -4,6 +4,8 @@ import com.wan.framework.apikey.domain.ApiKeyUsageHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,9 +23,21 @@ public interface ApiKeyUsageHistoryRepository extends JpaRepository<ApiKeyUsageH
     Page<ApiKeyUsageHistory> findByApiKeyIdAndIsSuccess(
             Long apiKeyId, Boolean isSuccess, Pageable pageable);
 
-    // API Key ID로 총 사용 횟수
-    long countByApiKeyId(Long apiKeyId);
-
-    // API Key ID와 성공/실패 여부로 횟수
-    long countByApiKeyIdAndIsSuccess(Long apiKeyId, Boolean isSuccess);
+    // 전체 사용 이력 키셋 조회 (usedAt, id 역순)
+    @Query("SELECT h FROM ApiKeyUsageHistory h " +
+            "WHERE (h.usedAt < :cursorTime OR (h.usedAt = :cursorTime AND h.id < :cursorId)) " +
+            "ORDER BY h.usedAt DESC, h.id DESC")
+    List<ApiKeyUsageHistory> findAllBefore(@Param("cursorTime") LocalDateTime cursorTime,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable limit);
+
+    // API Key ID로 사용 이력 키셋 조회 (usedAt, id 역순)
+    @Query("SELECT h FROM ApiKeyUsageHistory h " +
+            "WHERE h.apiKey.id = :apiKeyId " +
+            "AND (h.usedAt < :cursorTime OR (h.usedAt = :cursorTime AND h.id < :cursorId)) " +
+            "ORDER BY h.usedAt DESC, h.id DESC")
+    List<ApiKeyUsageHistory> findByApiKeyIdBefore(@Param("apiKeyId") Long apiKeyId,
+                                                  @Param("cursorTime") LocalDateTime cursorTime,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable limit);
 }
@@ -6,6 +6,10 @@ import com.wan.framework.apikey.dto.ApiKeyUsageHistoryDTO;
 import com.wan.framework.apikey.mapper.ApiKeyUsageHistoryMapper;
 import com.wan.framework.apikey.repository.ApiKeyRepository;
 import com.wan.framework.apikey.repository.ApiKeyUsageHistoryRepository;
+import com.wan.framework.base.dto.CursorPage;
+import com.wan.framework.base.dto.KeysetCursor;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.service.ExecutionRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,6 +29,7 @@ public class ApiKeyUsageHistoryService {
     private final ApiKeyUsageHistoryRepository repository;
     private final ApiKeyRepository apiKeyRepository;
     private final ApiKeyUsageHistoryMapper mapper;
+    private final ExecutionRollupService executionRollupService;
 
     /**
      * 사용 이력 기록
@@ -64,6 +69,16 @@ public class ApiKeyUsageHistoryService {
                 .map(mapper::toDto);
     }
 
+    /**
+     * API Key별 사용 이력 조회 (커서)
+     */
+    public CursorPage<ApiKeyUsageHistoryDTO> findByApiKeyId(Long apiKeyId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                repository.findByApiKeyIdBefore(apiKeyId, position.time(), position.id(), CursorPage.limit(size)),
+                size, ApiKeyUsageHistory::getUsedAt, ApiKeyUsageHistory::getId, mapper::toDto);
+    }
+
     /**
      * API Key별 사용 이력 조회 (기간 지정)
      */
@@ -92,16 +107,27 @@ public class ApiKeyUsageHistoryService {
     }
 
     /**
-     * 특정 API Key의 총 사용 횟수
+     * 전체 사용 이력 조회 (관리자용, 커서)
+     */
+    public CursorPage<ApiKeyUsageHistoryDTO> findAll(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                repository.findAllBefore(position.time(), position.id(), CursorPage.limit(size)),
+                size, ApiKeyUsageHistory::getUsedAt, ApiKeyUsageHistory::getId, mapper::toDto);
+    }
+
+    /**
+     * 특정 API Key의 총 사용 횟수 (롤업 기준)
      */
     public Long countByApiKeyId(Long apiKeyId) {
-        return repository.countByApiKeyId(apiKeyId);
+        return executionRollupService.countExecutions(RollupSource.API_KEY_USAGE, apiKeyId, null);
     }
 
     /**
-     * 특정 API Key의 성공/실패 횟수
+     * 특정 API Key의 성공/실패 횟수 (롤업 기준)
+     * - 전체 횟수는 countByApiKeyId 사용
      */
-    public Long countByApiKeyIdAndSuccess(Long apiKeyId, Boolean isSuccess) {
-        return repository.countByApiKeyIdAndIsSuccess(apiKeyId, isSuccess);
+    public Long countByApiKeyIdAndSuccess(Long apiKeyId, boolean isSuccess) {
+        return executionRollupService.countExecutions(RollupSource.API_KEY_USAGE, apiKeyId, isSuccess);
     }
 }
@@ -2,6 +2,7 @@ package com.wan.framework.apikey.web;
 
 import com.wan.framework.apikey.dto.ApiKeyUsageHistoryDTO;
 import com.wan.framework.apikey.service.ApiKeyUsageHistoryService;
+import com.wan.framework.base.dto.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -33,6 +34,17 @@ public class ApiKeyUsageHistoryController {
         return ResponseEntity.ok(service.findByApiKeyId(apiKeyId, pageable));
     }
 
+    /**
+     * API Key별 사용 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/api-key/{apiKeyId}/cursor")
+    public ResponseEntity<CursorPage<ApiKeyUsageHistoryDTO>> getUsageHistoryCursor(
+            @PathVariable Long apiKeyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(service.findByApiKeyId(apiKeyId, cursor, size));
+    }
+
     /**
      * API Key별 사용 이력 조회 (기간 지정)
      */
@@ -64,6 +76,16 @@ public class ApiKeyUsageHistoryController {
         return ResponseEntity.ok(service.findAll(pageable));
     }
 
+    /**
+     * 전체 사용 이력 조회 (관리자용, 커서, 건수 미집계)
+     */
+    @GetMapping("/all/cursor")
+    public ResponseEntity<CursorPage<ApiKeyUsageHistoryDTO>> getAllUsageHistoryCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(service.findAll(cursor, size));
+    }
+
     /**
      * 특정 API Key의 총 사용 횟수
      */
@@ -78,7 +100,7 @@ public class ApiKeyUsageHistoryController {
     @GetMapping("/api-key/{apiKeyId}/count/success")
     public ResponseEntity<Long> getSuccessCount(
             @PathVariable Long apiKeyId,
-            @RequestParam Boolean isSuccess) {
+            @RequestParam boolean isSuccess) {
         return ResponseEntity.ok(service.countByApiKeyIdAndSuccess(apiKeyId, isSuccess));
     }
 }
@@ -0,0 +1,35 @@
+package com.wan.framework.base.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 시퀀스 (Hi-Lo 블록 할당용)
+ * - 시퀀스별 다음 할당 시작 값 보관
+ * - 서버는 블록 단위로 ID를 미리 할당받아 INSERT 전에 ID를 확정
+ */
+@Entity
+@Table(name = "t_id_sequence")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+
+    /**
+     * 시퀀스 이름
+     */
+    @Id
+    @Column(name = "sequence_name", length = 100)
+    private String sequenceName;
+
+    /**
+     * 다음 할당 시작 값
+     */
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
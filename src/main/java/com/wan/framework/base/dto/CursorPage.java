@@ -0,0 +1,72 @@
+package com.wan.framework.base.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답
+ * - 전체 건수를 세지 않음 (COUNT 쿼리 없음)
+ * - nextCursor를 다음 요청의 cursor로 전달, hasNext가 false면 마지막 페이지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 1000;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * 조회 건수 제한 (다음 페이지 존재 확인용 1건 추가)
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, normalizeSize(size) + 1);
+    }
+
+    /**
+     * size + 1건 조회 결과로 페이지 구성
+     *
+     * @param rows   limit(size)로 조회한 행
+     * @param time   정렬 시각 추출
+     * @param id     ID 추출
+     * @param mapper DTO 변환
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, LocalDateTime> time,
+                                          Function<E, Long> id,
+                                          Function<E, T> mapper) {
+        int pageSize = normalizeSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(time.apply(last), id.apply(last)).encode();
+        }
+
+        return CursorPage.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static int normalizeSize(int size) {
+        return Math.min(Math.max(1, size), MAX_SIZE);
+    }
+}
@@ -0,0 +1,43 @@
+package com.wan.framework.base.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징 커서 (정렬 시각 + ID)
+ * - (시각 DESC, ID DESC) 정렬에서 마지막 행 다음부터 조회하기 위한 위치
+ * - 클라이언트에는 Base64 URL 문자열로 전달 (형식은 공개하지 않음)
+ * - 첫 페이지는 최대값 커서로 조회하여 쿼리를 하나로 유지
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    private static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * 커서 문자열 해석 (없으면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * 커서 문자열 생성
+     */
+    public String encode() {
+        String raw = time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,6 @@
 package com.wan.framework.base.exception;
 
-import com.wan.framework.history.service.ErrorHistoryService;
+import com.wan.framework.history.service.ErrorHistoryRecorder;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +17,7 @@ import static com.wan.framework.base.exception.ExceptionConst.INVALID_ERROR;
 @RestControllerAdvice
 public class FrameworkExceptionHandler {
 
-    private final ErrorHistoryService errorHistoryService;
+    private final ErrorHistoryRecorder errorHistoryRecorder;
 
     private ExceptionResponse wrapException(Exception e) {
         if (e instanceof FrameworkException) {
@@ -33,7 +33,7 @@ public class FrameworkExceptionHandler {
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ExceptionResponse> handleRuntimeException(RuntimeException e, HttpServletRequest request) {
         log.error("exception handle: {}", e.getMessage());
-        errorHistoryService.saveException(e, request);
+        errorHistoryRecorder.record(e, request);
         return ResponseEntity
                 .badRequest()
                 .body(wrapException(e));
@@ -0,0 +1,115 @@
+package com.wan.framework.base.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시퀀스 기반 ID 블록 할당기 (Hi-Lo)
+ * - t_id_sequence에서 블록 크기만큼 ID 범위를 할당받아 메모리에서 순차 발급
+ * - INSERT 전에 ID가 필요한 비동기/배치 저장에 사용
+ * - 블록 할당 시 대상 테이블 MAX(id)보다 뒤에서 시작하여 기존 IDENTITY 저장분과 충돌하지 않음
+ * - 블록을 사용하는 테이블은 모든 INSERT가 이 할당기의 ID를 사용해야 함
+ *   (ID 없이 INSERT하면 AUTO_INCREMENT가 다른 서버가 보유 중인 블록 범위의 ID를 사용하여 충돌)
+ * - 서버 재시작 시 사용하지 않은 블록 잔여분은 버려짐 (ID 공백 허용)
+ */
+@Slf4j
+@Service
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, IdBlock> blocks = new ConcurrentHashMap<>();
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 ID 발급 (PK 컬럼명 id)
+     *
+     * @param sequenceName 시퀀스 이름
+     * @param tableName    ID를 사용하는 테이블 (내부 상수만 전달)
+     * @param blockSize    한 번에 할당받을 ID 수
+     */
+    public long nextId(String sequenceName, String tableName, int blockSize) {
+        return nextId(sequenceName, tableName, "id", blockSize);
+    }
+
+    /**
+     * 다음 ID 발급
+     *
+     * @param sequenceName 시퀀스 이름
+     * @param tableName    ID를 사용하는 테이블 (내부 상수만 전달)
+     * @param idColumn     PK 컬럼 (내부 상수만 전달)
+     * @param blockSize    한 번에 할당받을 ID 수
+     */
+    public long nextId(String sequenceName, String tableName, String idColumn, int blockSize) {
+        IdBlock block = blocks.computeIfAbsent(sequenceName, key -> new IdBlock());
+        synchronized (block) {
+            if (block.next >= block.end) {
+                long start = allocateBlock(sequenceName, tableName, idColumn, Math.max(1, blockSize));
+                block.next = start;
+                block.end = start + Math.max(1, blockSize);
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * 블록 할당 (별도 트랜잭션, 행 잠금)
+     */
+    private long allocateBlock(String sequenceName, String tableName, String idColumn, int blockSize) {
+        Long start = transactionTemplate.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT next_val FROM t_id_sequence WHERE sequence_name = ? FOR UPDATE",
+                    Long.class, sequenceName);
+
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + tableName, Long.class);
+            long floor = (maxId != null ? maxId : 0L) + 1;
+
+            if (current.isEmpty()) {
+                try {
+                    jdbcTemplate.update(
+                            "INSERT INTO t_id_sequence (sequence_name, next_val) VALUES (?, ?)",
+                            sequenceName, floor + blockSize);
+                    return floor;
+                } catch (DuplicateKeyException e) {
+                    // 다른 서버가 먼저 생성한 경우 다시 잠금 후 할당
+                    current = jdbcTemplate.queryForList(
+                            "SELECT next_val FROM t_id_sequence WHERE sequence_name = ? FOR UPDATE",
+                            Long.class, sequenceName);
+                }
+            }
+
+            long blockStart = Math.max(current.get(0), floor);
+            jdbcTemplate.update(
+                    "UPDATE t_id_sequence SET next_val = ? WHERE sequence_name = ?",
+                    blockStart + blockSize, sequenceName);
+            return blockStart;
+        });
+
+        log.debug("ID block allocated: {} [{}, {})", sequenceName, start, start + blockSize);
+        return start;
+    }
+
+    /**
+     * 메모리 ID 블록
+     */
+    private static class IdBlock {
+        private long next;
+        private long end;
+    }
+}
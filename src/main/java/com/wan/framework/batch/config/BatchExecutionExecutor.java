@@ -0,0 +1,88 @@
+package com.wan.framework.batch.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 배치 실행기
+ * - 배치 실행 전용 워커 풀 (Quartz 워커/요청 스레드와 분리)
+ * - 호출 스레드는 마감 시각까지만 결과를 대기
+ * - 기본 스레드 수 = 최대 스레드 수 (ThreadPoolExecutor는 대기열이 가득 찬 뒤에만 기본 수 이상으로 늘리므로)
+ *   유휴 스레드는 회수, 모든 스레드가 실행 중일 때만 대기열 사용
+ * - @Scheduled/@Async 기본 실행기와 충돌하지 않도록 Bean으로 노출하지 않음
+ */
+@Slf4j
+@Component
+public class BatchExecutionExecutor {
+
+    private final ThreadPoolExecutor workerPool;
+
+    public BatchExecutionExecutor(BatchProperties batchProperties) {
+        BatchProperties.Execution execution = batchProperties.getExecution();
+
+        this.workerPool = new ThreadPoolExecutor(
+                execution.getMaxPoolSize(),
+                execution.getMaxPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(execution.getQueueCapacity()),
+                new CustomizableThreadFactory("batch-exec-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.workerPool.allowCoreThreadTimeOut(true);
+
+        log.info("BatchExecutionExecutor initialized (max: {}, queue: {})",
+                execution.getMaxPoolSize(), execution.getQueueCapacity());
+    }
+
+    /**
+     * 워커 풀에서 실행
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 대기열 초과 시
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, workerPool);
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return workerPool.getActiveCount();
+    }
+
+    /**
+     * 대기열에서 실행을 기다리는 작업 수
+     */
+    public int getQueuedCount() {
+        return workerPool.getQueue().size();
+    }
+
+    /**
+     * 현재 스레드 수
+     */
+    public int getPoolSize() {
+        return workerPool.getPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Shutting down BatchExecutionExecutor");
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
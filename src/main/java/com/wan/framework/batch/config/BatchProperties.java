@@ -0,0 +1,92 @@
+package com.wan.framework.batch.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 배치 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "batch")
+public class BatchProperties {
+
+    private Execution execution = new Execution();
+    private Retry retry = new Retry();
+    private Quartz quartz = new Quartz();
+    private Workflow workflow = new Workflow();
+    private Chunk chunk = new Chunk();
+    private Stream stream = new Stream();
+    private Reaper reaper = new Reaper();
+    private Schedule schedule = new Schedule();
+
+    @Data
+    public static class Execution {
+        private int maxPoolSize = 16;           // 배치 실행 워커 최대 스레드 수 (동시 실행 상한, 유휴 스레드는 회수)
+        private int queueCapacity = 100;        // 모든 워커가 실행 중일 때 대기열 크기 (초과 시 실행 거부)
+    }
+
+    @Data
+    public static class Retry {
+        private boolean enabled = true;         // 실패/타임아웃 자동 재시도
+        private long pollIntervalMs = 5000;     // 재시도 대상 조회 주기
+        private int maxConcurrent = 2;          // 서버당 동시 재시도 실행 수 (빈 슬롯만큼만 선점)
+        private long maxBackoffSeconds = 3600;  // 지수 백오프 상한
+    }
+
+    @Data
+    public static class Quartz {
+        private int threadCount = 25;                       // 동시 실행 Job 상한 (스레드는 필요할 때 생성)
+        private long threadKeepAliveSeconds = 60;           // 유휴 워커 회수 시간
+        private long clusterCheckinIntervalMs = 7500;       // 클러스터 체크인 주기 (장애 서버 Job 인계 시간)
+        private long misfireThresholdMs = 60000;            // 이 시간 이상 늦은 트리거는 misfire 정책 적용
+        private int batchTriggerAcquisitionMaxCount = 10;   // 한 번에 가져갈 트리거 수 (TRIGGER_ACCESS 락 경합 감소)
+        private long batchTriggerAcquisitionFireAheadTimeWindowMs = 1000;  // 미리 가져갈 트리거 시간 범위
+    }
+
+    @Data
+    public static class Workflow {
+        private int stepPoolSize = 8;           // 워크플로우 단계 동시 실행 수 (서버 전체)
+        private int queueCapacity = 100;        // 실행 대기 단계 수 (초과 시 단계 실패)
+    }
+
+    @Data
+    public static class Chunk {
+        private int defaultChunkSize = 100;     // 청크 크기 미지정 시 (페이지 크기 = 커밋 단위)
+        private int maxChunkSize = 10000;
+        private int maxPartitions = 16;         // 배치당 최대 파티션 수
+        private int partitionPoolSize = 8;      // 파티션 워커 스레드 수 (서버 전체, 커넥션 풀 최대 크기의 절반 이하로 제한)
+        private long staleAfterSeconds = 300;   // 이 시간 동안 커밋이 없는 미종료 실행은 중단된 것으로 보고 재시작
+    }
+
+    @Data
+    public static class Stream {
+        private long emitterTimeoutSeconds = 1800;  // SSE 연결 유지 시간 (만료 시 클라이언트 재연결)
+        private long heartbeatMs = 15000;           // 유휴 연결 유지/끊긴 연결 정리 주기
+        private int maxSubscribers = 500;           // 서버당 최대 SSE 구독 수
+        private long progressIntervalMs = 1000;     // 실행별 진행 이벤트 최소 간격
+    }
+
+    @Data
+    public static class Reaper {
+        private boolean enabled = true;         // 중단된 서버의 실행 정리
+        private long heartbeatMs = 10000;       // 서버 생존 신호 주기
+        private long nodeTtlSeconds = 45;       // 생존 신호 유효 시간 (지나면 중단된 서버로 판단)
+        private long intervalMs = 30000;        // 정리 주기
+        private long graceSeconds = 120;        // 시작 후 이 시간이 지난 실행만 정리 대상
+        private boolean requeue = false;        // 정리한 실행을 재시도 예약 (재시도 횟수 이내), 워크플로우는 재개
+    }
+
+    @Data
+    public static class Schedule {
+        private int maxSpreadSeconds = 3600;            // 배치별 실행 분산 구간 상한
+        private int maxConcurrentPerHost = 0;           // Proxy 대상 호스트별 동시 스케줄 실행 수 (클러스터 전체, 0이면 제한 없음)
+        private Map<String, Integer> hostLimits = new HashMap<>();  // 호스트별 상한 (기본값보다 우선)
+        private long queueRetryMs = 5000;               // 상한 도달 시 다시 시도하는 간격
+        private long maxQueueWaitSeconds = 3600;        // 대기 상한 (초과 시 이번 실행 건너뜀)
+    }
+}
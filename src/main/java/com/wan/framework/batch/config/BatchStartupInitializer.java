@@ -1,7 +1,9 @@
 package com.wan.framework.batch.config;
 
 import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.domain.BatchWorkflow;
 import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRepository;
 import com.wan.framework.batch.service.BatchSchedulerService;
 import com.wan.framework.base.constant.DataStateCode;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import java.util.List;
 /**
  * 배치 시작 시 초기화
  * - 활성화된 배치 작업 스케줄 등록
+ * - 스케줄이 있는 활성화된 워크플로우 스케줄 등록
  * - 애플리케이션 시작 시 자동 실행
  */
 @Slf4j
@@ -23,6 +26,7 @@ import java.util.List;
 public class BatchStartupInitializer implements ApplicationRunner {
 
     private final BatchJobRepository batchJobRepository;
+    private final BatchWorkflowRepository batchWorkflowRepository;
     private final BatchSchedulerService batchSchedulerService;
 
     @Override
@@ -42,11 +46,17 @@ public class BatchStartupInitializer implements ApplicationRunner {
 
             if (enabledJobs.isEmpty()) {
                 log.info("No enabled batch jobs to schedule");
-                return;
+            } else {
+                // 모든 활성화된 배치 작업 스케줄 등록
+                batchSchedulerService.scheduleAllEnabledJobs(enabledJobs);
             }
 
-            // 모든 활성화된 배치 작업 스케줄 등록
-            batchSchedulerService.scheduleAllEnabledJobs(enabledJobs);
+            // 스케줄이 있는 활성화된 워크플로우 스케줄 등록
+            List<BatchWorkflow> scheduledWorkflows = batchWorkflowRepository.findByEnabledTrueAndDataStateNot(DataStateCode.D)
+                    .stream()
+                    .filter(workflow -> workflow.getScheduleType() != null)
+                    .toList();
+            batchSchedulerService.scheduleAllEnabledWorkflows(scheduledWorkflows);
 
             log.info("=== Batch Startup Initialization Completed Successfully ===");
 
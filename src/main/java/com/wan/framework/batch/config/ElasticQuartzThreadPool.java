@@ -0,0 +1,167 @@
+package com.wan.framework.batch.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quartz 워커 스레드 풀 (필요할 때 생성, 유휴 시 회수)
+ * - SimpleThreadPool은 threadCount만큼 스레드를 미리 만들어 계속 보유
+ * - I/O 대기가 긴 Proxy 배치를 위해 상한을 크게 두어도 유휴 시간에는 스레드를 반납
+ * - 실행 중 작업 수가 상한에 도달하면 Quartz가 트리거를 더 가져가지 않음 (blockForAvailableThreads)
+ * - 설정은 org.quartz.threadPool.* 프로퍼티로 주입 (threadCount, keepAliveSeconds, threadNamePrefix)
+ */
+@Slf4j
+public class ElasticQuartzThreadPool implements ThreadPool {
+
+    private int threadCount = 10;
+    private long keepAliveSeconds = 60;
+    private String threadNamePrefix;
+    private String instanceName = "Quartz";
+
+    private final Object lock = new Object();
+    private int busyCount;
+    private boolean shutdown;
+    private ThreadPoolExecutor executor;
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public void setKeepAliveSeconds(long keepAliveSeconds) {
+        this.keepAliveSeconds = keepAliveSeconds;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+
+        String prefix = threadNamePrefix != null ? threadNamePrefix : instanceName + "-worker-";
+        // 코어 = 최대 + 코어 타임아웃: 실행 수만큼만 생성되고 keepAlive 동안 유휴면 회수
+        executor = new ThreadPoolExecutor(
+                threadCount, threadCount,
+                keepAliveSeconds, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory(prefix)
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        log.info("Elastic Quartz thread pool initialized (max: {}, keepAlive: {}s)", threadCount, keepAliveSeconds);
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null) {
+            return false;
+        }
+
+        synchronized (lock) {
+            awaitAvailable();
+            if (shutdown) {
+                return false;
+            }
+            busyCount++;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            release();
+            return false;
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        synchronized (lock) {
+            awaitAvailable();
+            return shutdown ? 0 : threadCount - busyCount;
+        }
+    }
+
+    /**
+     * 빈 슬롯이 생기거나 종료될 때까지 대기 (lock 보유 상태에서 호출)
+     */
+    private void awaitAvailable() {
+        while (busyCount >= threadCount && !shutdown) {
+            try {
+                lock.wait(500);
+            } catch (InterruptedException ignored) {
+                // SimpleThreadPool과 동일하게 종료 신호로만 빠져나옴
+            }
+        }
+    }
+
+    private void release() {
+        synchronized (lock) {
+            busyCount--;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        if (!waitForJobsToComplete) {
+            return;
+        }
+        try {
+            while (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.info("Waiting for {} Quartz jobs to complete", getBusyCount());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getBusyCount() {
+        synchronized (lock) {
+            return busyCount;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.wan.framework.batch.config;
 
+import lombok.RequiredArgsConstructor;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.spi.JobFactory;
@@ -15,12 +16,15 @@ import java.util.Properties;
 /**
  * Quartz 스케줄러 설정
  * - Spring Bean 의존성 주입 지원
- * - Job Store 설정
- * - Thread Pool 설정
+ * - Job Store 설정 (JDBC 클러스터: 트리거는 클러스터 내 한 서버만 실행)
+ * - Thread Pool 설정 (ElasticQuartzThreadPool)
  */
 @Configuration
+@RequiredArgsConstructor
 public class QuartzConfig {
 
+    private final BatchProperties batchProperties;
+
     /**
      * Spring Bean JobFactory
      * - Quartz Job에서 Spring Bean 사용 가능하도록 설정
@@ -71,18 +75,30 @@ public class QuartzConfig {
         properties.setProperty("org.quartz.scheduler.instanceName", "BatchScheduler");
         properties.setProperty("org.quartz.scheduler.instanceId", "AUTO");
 
-        // Thread Pool 설정
-        properties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
-        properties.setProperty("org.quartz.threadPool.threadCount", "10");
-        properties.setProperty("org.quartz.threadPool.threadPriority", "5");
+        BatchProperties.Quartz quartz = batchProperties.getQuartz();
+
+        // Thread Pool 설정 (상한까지 필요할 때 생성, 유휴 스레드 회수)
+        properties.setProperty("org.quartz.threadPool.class", ElasticQuartzThreadPool.class.getName());
+        properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(quartz.getThreadCount()));
+        properties.setProperty("org.quartz.threadPool.keepAliveSeconds", String.valueOf(quartz.getThreadKeepAliveSeconds()));
+        properties.setProperty("org.quartz.threadPool.threadNamePrefix", "quartz-worker-");
+
+        // 트리거 일괄 획득 (획득 건수만큼 TRIGGER_ACCESS 락 경합 감소)
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount",
+                String.valueOf(Math.min(quartz.getBatchTriggerAcquisitionMaxCount(), quartz.getThreadCount())));
+        properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow",
+                String.valueOf(quartz.getBatchTriggerAcquisitionFireAheadTimeWindowMs()));
 
         // Job Store 설정 (DB 사용)
         properties.setProperty("org.quartz.jobStore.class", "org.springframework.scheduling.quartz.LocalDataSourceJobStore");
         properties.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
         properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+
+        // 클러스터 설정 (체크인이 끊긴 서버의 Job은 다른 서버가 인계)
         properties.setProperty("org.quartz.jobStore.isClustered", "true");
-        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", "20000");
-        properties.setProperty("org.quartz.jobStore.misfireThreshold", "60000");
+        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", String.valueOf(quartz.getClusterCheckinIntervalMs()));
+        properties.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", "true");
+        properties.setProperty("org.quartz.jobStore.misfireThreshold", String.valueOf(quartz.getMisfireThresholdMs()));
 
         return properties;
     }
@@ -14,6 +14,8 @@ public enum BatchExceptionMessage {
     BATCH_JOB_DISABLED("BATCH_003", "비활성화된 배치 작업입니다."),
     BATCH_JOB_RUNNING("BATCH_004", "실행 중인 배치 작업은 삭제할 수 없습니다."),
     INVALID_SCHEDULE_EXPRESSION("BATCH_005", "유효하지 않은 스케줄 표현식입니다."),
+    INVALID_MISFIRE_POLICY("BATCH_023", "유효하지 않은 Misfire 정책입니다."),
+    INVALID_SCHEDULE_SPREAD("BATCH_034", "실행 분산 구간이 올바르지 않습니다. (0 이상, 실행 주기 미만)"),
 
     // 배치 실행 관련
     BATCH_EXECUTION_NOT_FOUND("BATCH_006", "배치 실행 이력을 찾을 수 없습니다."),
@@ -21,12 +23,31 @@ public enum BatchExceptionMessage {
     BATCH_LOCK_ACQUISITION_FAILED("BATCH_008", "배치 락 획득에 실패했습니다."),
     BATCH_ALREADY_RUNNING("BATCH_009", "이미 실행 중인 배치입니다."),
     BATCH_TIMEOUT("BATCH_010", "배치 실행 시간이 초과되었습니다."),
+    BATCH_CANCELLED("BATCH_018", "배치 실행이 취소되었습니다."),
+    BATCH_EXECUTION_NOT_RUNNING("BATCH_019", "실행 중인 배치가 아닙니다."),
+    BATCH_RUNNING_ON_OTHER_SERVER("BATCH_020", "다른 서버에서 실행 중인 배치입니다."),
+    BATCH_EXECUTION_REJECTED("BATCH_021", "배치 실행 대기열이 가득 찼습니다."),
+    STREAM_SUBSCRIBER_LIMIT("BATCH_033", "실행 스트림 구독자 수가 상한에 도달했습니다."),
 
     // 재시도 관련
     MAX_RETRY_EXCEEDED("BATCH_011", "최대 재시도 횟수를 초과했습니다."),
     RETRY_NOT_ALLOWED("BATCH_012", "재시도가 허용되지 않은 상태입니다."),
     CANNOT_RETRY_SUCCESS("BATCH_016", "성공한 배치는 재시도할 수 없습니다."),
     CANNOT_RETRY_RUNNING("BATCH_017", "실행 중인 배치는 재시도할 수 없습니다."),
+    RETRY_ALREADY_SCHEDULED("BATCH_022", "이미 예약된 재시도가 있습니다."),
+
+    // 워크플로우 관련
+    WORKFLOW_NOT_FOUND("BATCH_024", "배치 워크플로우를 찾을 수 없습니다."),
+    WORKFLOW_ID_ALREADY_EXISTS("BATCH_025", "이미 존재하는 워크플로우 ID입니다."),
+    INVALID_WORKFLOW_DEFINITION("BATCH_026", "유효하지 않은 워크플로우 정의입니다. (단계/연결/순환 확인)"),
+    WORKFLOW_DISABLED("BATCH_027", "비활성화된 워크플로우입니다."),
+    WORKFLOW_ALREADY_RUNNING("BATCH_028", "이미 실행 중인 워크플로우입니다."),
+    WORKFLOW_RUN_NOT_FOUND("BATCH_029", "워크플로우 실행 이력을 찾을 수 없습니다."),
+    WORKFLOW_RUN_NOT_RESUMABLE("BATCH_030", "실패한 워크플로우 실행만 재개할 수 있습니다."),
+
+    // 청크 작업 관련
+    INVALID_JOB_TYPE("BATCH_031", "유효하지 않은 배치 작업 유형입니다."),
+    INVALID_CHUNK_CONFIG("BATCH_032", "청크 작업 설정이 올바르지 않습니다."),
 
     // Proxy API 연계 관련
     PROXY_API_NOT_CONFIGURED("BATCH_013", "Proxy API가 설정되지 않았습니다."),
@@ -0,0 +1,22 @@
+package com.wan.framework.batch.constant;
+
+/**
+ * 배치 실행 이벤트 유형 (SSE 스트림)
+ */
+public enum BatchExecutionEventType {
+
+    /**
+     * 상태 변경 (RUNNING, SUCCESS, FAIL, TIMEOUT, CANCELLED, RETRY)
+     */
+    STATUS,
+
+    /**
+     * 진행 상황 (청크 작업 읽기/쓰기 건수)
+     */
+    PROGRESS,
+
+    /**
+     * 실행 로그
+     */
+    LOG
+}
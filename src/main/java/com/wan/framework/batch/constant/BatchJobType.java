@@ -0,0 +1,18 @@
+package com.wan.framework.batch.constant;
+
+/**
+ * 배치 작업 유형
+ */
+public enum BatchJobType {
+
+    /**
+     * Proxy API 1회 호출 (기본값)
+     */
+    API,
+
+    /**
+     * 청크 처리 (페이지 조회 API → 청크 쓰기 API, Spring Batch 스텝)
+     * - 청크 커밋 단위로 진행 상태를 저장하여 실패 후 재시도 시 마지막 커밋 이후부터 재개
+     */
+    CHUNK
+}
@@ -33,5 +33,15 @@ public enum BatchStatus {
     /**
      * 타임아웃
      */
-    TIMEOUT
+    TIMEOUT,
+
+    /**
+     * 취소
+     */
+    CANCELLED,
+
+    /**
+     * 건너뜀 (워크플로우 조건 미충족)
+     */
+    SKIPPED
 }
@@ -18,5 +18,10 @@ public enum BatchTriggerType {
     /**
      * 자동 재처리
      */
-    RETRY
+    RETRY,
+
+    /**
+     * 워크플로우 단계 실행 (재시도는 워크플로우가 단계별로 처리)
+     */
+    WORKFLOW
 }
@@ -0,0 +1,23 @@
+package com.wan.framework.batch.constant;
+
+/**
+ * Misfire 정책
+ * - 서버 중단/워커 부족으로 예정 시각을 misfireThreshold 이상 놓친 트리거의 처리 방식
+ */
+public enum MisfirePolicy {
+
+    /**
+     * 놓친 실행은 건너뛰고 다음 예정 시각에 실행 (기본값)
+     */
+    DO_NOTHING,
+
+    /**
+     * 놓친 실행을 한 번만 즉시 실행 후 원래 일정 유지
+     */
+    FIRE_ONCE_NOW,
+
+    /**
+     * 놓친 실행을 모두 즉시 실행 (누락 없이 처리해야 하는 배치)
+     */
+    IGNORE_MISFIRES
+}
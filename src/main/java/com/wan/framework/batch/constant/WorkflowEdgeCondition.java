@@ -0,0 +1,24 @@
+package com.wan.framework.batch.constant;
+
+/**
+ * 워크플로우 연결 조건
+ * - 선행 단계의 결과에 따라 후행 단계 실행 여부 결정
+ * - 후행 단계는 들어오는 모든 연결이 충족되어야 실행, 하나라도 불충족이면 건너뜀
+ */
+public enum WorkflowEdgeCondition {
+
+    /**
+     * 선행 단계 성공 시
+     */
+    ON_SUCCESS,
+
+    /**
+     * 선행 단계 실패 시
+     */
+    ON_FAILURE,
+
+    /**
+     * 선행 단계 종료 시 (성공/실패/건너뜀 무관)
+     */
+    ALWAYS
+}
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * 배치 실행 이력
  * - 배치 작업의 모든 실행 기록
  * - 성공/실패 추적
- * - 재시도 관계 추적
+ * - 재시도 관계 추적 (원본 실행 ID + 재시도 횟수로 체인 구성)
  */
 @Entity
 @Table(name = "t_batch_execution", indexes = {
@@ -20,7 +20,14 @@ import java.time.LocalDateTime;
         @Index(name = "idx_batch_id", columnList = "batch_id"),
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_start_time", columnList = "start_time"),
-        @Index(name = "idx_trigger_type", columnList = "trigger_type")
+        @Index(name = "idx_end_time", columnList = "end_time"),
+        @Index(name = "idx_job_start_time_id", columnList = "batch_job_id, start_time, id"),
+        @Index(name = "idx_batch_start_time_id", columnList = "batch_id, start_time, id"),
+        @Index(name = "idx_status_start_time_id", columnList = "status, start_time, id"),
+        @Index(name = "idx_trigger_start_time_id", columnList = "trigger_type, start_time, id"),
+        @Index(name = "idx_trigger_type", columnList = "trigger_type"),
+        @Index(name = "idx_status_next_retry_at", columnList = "status, next_retry_at"),
+        @Index(name = "uk_original_retry_count", columnList = "original_execution_id, retry_count", unique = true)
 })
 @Data
 @Builder
@@ -57,7 +64,7 @@ public class BatchExecution {
     private String batchName;
 
     /**
-     * 실행 상태 (WAIT, RUNNING, SUCCESS, FAIL, RETRY, TIMEOUT)
+     * 실행 상태 (WAIT, RUNNING, SUCCESS, FAIL, RETRY, TIMEOUT, CANCELLED)
      */
     @Column(nullable = false, length = 20)
     private String status;
@@ -75,6 +82,7 @@ public class BatchExecution {
 
     /**
      * 실행 파라미터 (JSON)
+     * - 실행 시점에 평가된 값 스냅샷 (재시도는 같은 값으로 실행)
      */
     @Column(columnDefinition = "TEXT")
     private String executionParameters;
@@ -115,11 +123,33 @@ public class BatchExecution {
     private Integer retryCount = 0;
 
     /**
-     * 원본 실행 ID (재시도인 경우)
+     * 원본 실행 ID (재시도인 경우, 재시도 체인의 최초 실행)
      */
-    @Column(length = 50)
+    @Column(name = "original_execution_id", length = 50)
     private String originalExecutionId;
 
+    /**
+     * 재시도 예정 시각 (RETRY 상태에서 이 시각 이후 재시도 스케줄러가 실행)
+     */
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
+    /**
+     * 펜싱 토큰 (실행 임대 획득 시 발급, 동시 실행 허용 배치는 null)
+     */
+    @Column(name = "fencing_token")
+    private Long fencingToken;
+
+    /**
+     * 읽은 항목 수 (CHUNK 작업, 청크 커밋마다 갱신)
+     */
+    private Long readCount;
+
+    /**
+     * 쓴 항목 수 (CHUNK 작업, 청크 커밋마다 갱신)
+     */
+    private Long writeCount;
+
     /**
      * 서버 정보 (실행된 서버)
      */
@@ -2,6 +2,8 @@ package com.wan.framework.batch.domain;
 
 import com.wan.framework.base.constant.DataStateCode;
 import com.wan.framework.base.domain.BaseAuditEntity;
+import com.wan.framework.batch.constant.BatchJobType;
+import com.wan.framework.batch.constant.MisfirePolicy;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -64,16 +66,63 @@ public class BatchJob extends BaseAuditEntity {
     @Column(nullable = false, length = 100)
     private String scheduleExpression;
 
+    /**
+     * Misfire 정책 (DO_NOTHING, FIRE_ONCE_NOW, IGNORE_MISFIRES)
+     * - 예정 시각을 놓친 트리거 처리 방식 (null이면 DO_NOTHING)
+     */
+    @Column(length = 20)
+    @Builder.Default
+    private String misfirePolicy = MisfirePolicy.DO_NOTHING.name();
+
+    /**
+     * 실행 분산 구간 (초)
+     * - 예정 시각 + (배치 ID 해시 기준 고정 지연, 0 ~ spreadSeconds) 에 실행 → 같은 시각 배치 몰림 방지
+     * - null/0이면 예정 시각에 바로 실행
+     */
+    private Integer spreadSeconds;
+
+    /**
+     * 작업 유형 (API: Proxy API 1회 호출, CHUNK: 읽기 → 쓰기 청크 처리, null이면 API)
+     */
+    @Column(length = 20)
+    @Builder.Default
+    private String jobType = BatchJobType.API.name();
+
     /**
      * 실행할 Proxy API 코드
+     * - CHUNK 작업은 페이지 조회 API (page, size, partition, partitions 파라미터 전달)
      */
     @Column(nullable = false, length = 100)
     private String proxyApiCode;
 
+    /**
+     * 청크 쓰기 Proxy API 코드 (CHUNK 작업, 요청 바디 템플릿의 ${items}에 청크 항목 배열 전달)
+     */
+    @Column(length = 100)
+    private String chunkWriterApiCode;
+
+    /**
+     * 페이지 조회 응답에서 항목 배열 위치 (JSON Pointer, 예: /data/items, 없으면 응답 전체)
+     */
+    @Column(length = 200)
+    private String chunkItemsPath;
+
+    /**
+     * 청크 크기 (페이지 크기 = 커밋 단위, null이면 batch.chunk.default-chunk-size)
+     */
+    private Integer chunkSize;
+
+    /**
+     * 파티션 수 (페이지를 나눠 병렬 처리, 1이면 단일 스텝)
+     */
+    @Builder.Default
+    private Integer chunkPartitions = 1;
+
     /**
      * 실행 파라미터 (JSON)
-     * - Proxy API로 전달할 동적 파라미터
-     * - 템플릿 변수 지원: {{executionId}}, {{batchId}}
+     * - Proxy API로 전달할 동적 파라미터 (저장 시 검증/컴파일, CompiledBatchParameters)
+     * - 실행 시점 식: ${executionId}, ${batchId}, ${now-1d}, ${today:yyyyMMdd}
+     * - 타입 지정: {"$type": "DATE", "default": "${today-1d}", "required": true}
      */
     @Column(columnDefinition = "TEXT")
     private String executionParameters;
@@ -126,6 +175,13 @@ public class BatchJob extends BaseAuditEntity {
     @Column(length = 20)
     private String lastExecutionStatus;
 
+    /**
+     * 마지막 실행 결과를 기록한 실행의 펜싱 토큰
+     * - 더 작은 토큰(만료된 이전 임대)의 결과는 덮어쓰지 않음
+     */
+    @Column(name = "last_fencing_token")
+    private Long lastFencingToken;
+
     /**
      * 다음 실행 예정 일시
      */
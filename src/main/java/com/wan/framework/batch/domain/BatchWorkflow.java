@@ -0,0 +1,95 @@
+package com.wan.framework.batch.domain;
+
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.base.domain.BaseAuditEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 워크플로우 정의
+ * - 배치 작업(BatchJob)을 단계로 묶은 DAG
+ * - 단계/연결은 BatchWorkflowStep, BatchWorkflowEdge
+ * - 스케줄이 없으면 수동 실행만 가능
+ */
+@Entity
+@Table(name = "t_batch_workflow", indexes = {
+        @Index(name = "idx_workflow_id", columnList = "workflow_id"),
+        @Index(name = "idx_workflow_enabled", columnList = "enabled")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflow extends BaseAuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 워크플로우 식별자 (고유)
+     */
+    @Column(name = "workflow_id", nullable = false, unique = true, length = 100)
+    private String workflowId;
+
+    /**
+     * 워크플로우명
+     */
+    @Column(nullable = false, length = 200)
+    private String workflowName;
+
+    /**
+     * 설명
+     */
+    @Column(length = 500)
+    private String description;
+
+    /**
+     * 스케줄 타입 (CRON, INTERVAL, 없으면 수동 실행만)
+     */
+    @Column(length = 20)
+    private String scheduleType;
+
+    /**
+     * 스케줄 표현식
+     */
+    @Column(length = 100)
+    private String scheduleExpression;
+
+    /**
+     * 활성화 여부
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean enabled = true;
+
+    /**
+     * 데이터 상태 (I: 등록, U: 수정, D: 삭제)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 1)
+    @Builder.Default
+    private DataStateCode dataState = DataStateCode.I;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.enabled == null) {
+            this.enabled = true;
+        }
+        if (this.dataState == null) {
+            this.dataState = DataStateCode.I;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        if (this.dataState == DataStateCode.I) {
+            this.dataState = DataStateCode.U;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.wan.framework.batch.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 워크플로우 연결 (선행 단계 → 후행 단계)
+ */
+@Entity
+@Table(name = "t_batch_workflow_edge", indexes = {
+        @Index(name = "idx_workflow_edge_workflow", columnList = "batch_workflow_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowEdge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 워크플로우 ID (FK)
+     */
+    @Column(name = "batch_workflow_id", nullable = false)
+    private Long batchWorkflowId;
+
+    /**
+     * 선행 단계 키
+     */
+    @Column(nullable = false, length = 100)
+    private String fromStepKey;
+
+    /**
+     * 후행 단계 키
+     */
+    @Column(nullable = false, length = 100)
+    private String toStepKey;
+
+    /**
+     * 연결 조건 (ON_SUCCESS, ON_FAILURE, ALWAYS)
+     */
+    @Column(name = "edge_condition", nullable = false, length = 20)
+    private String condition;
+}
@@ -0,0 +1,90 @@
+package com.wan.framework.batch.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 워크플로우 실행 이력
+ * - 단계별 상태는 BatchWorkflowStepRun에 저장
+ * - 실패한 실행은 같은 실행 ID로 재개 (성공한 단계는 다시 실행하지 않음)
+ */
+@Entity
+@Table(name = "t_batch_workflow_run", indexes = {
+        @Index(name = "idx_workflow_run_workflow", columnList = "batch_workflow_id, start_time"),
+        @Index(name = "idx_workflow_run_status", columnList = "status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 실행 ID (고유, UUID)
+     */
+    @Column(name = "run_id", nullable = false, unique = true, length = 50)
+    private String runId;
+
+    /**
+     * 워크플로우 ID (FK)
+     */
+    @Column(name = "batch_workflow_id", nullable = false)
+    private Long batchWorkflowId;
+
+    /**
+     * 워크플로우 식별자 (스냅샷)
+     */
+    @Column(name = "workflow_id", nullable = false, length = 100)
+    private String workflowId;
+
+    /**
+     * 실행 상태 (RUNNING, SUCCESS, FAIL)
+     */
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    /**
+     * 실행 트리거 (SCHEDULER, MANUAL)
+     */
+    @Column(nullable = false, length = 20)
+    private String triggerType;
+
+    /**
+     * 재개 횟수
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer resumeCount = 0;
+
+    /**
+     * 서버 정보 (실행/재개한 서버)
+     */
+    @Column(length = 100)
+    private String serverInfo;
+
+    /**
+     * 실행자
+     */
+    @Column(length = 50)
+    private String executedBy;
+
+    /**
+     * 시작 시간
+     */
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    /**
+     * 종료 시간
+     */
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,55 @@
+package com.wan.framework.batch.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 워크플로우 단계
+ * - 단계 하나가 배치 작업 하나를 실행
+ * - 재시도 설정이 없으면 배치 작업의 설정 사용
+ */
+@Entity
+@Table(name = "t_batch_workflow_step", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_workflow_step_key", columnNames = {"batch_workflow_id", "step_key"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowStep {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 워크플로우 ID (FK)
+     */
+    @Column(name = "batch_workflow_id", nullable = false)
+    private Long batchWorkflowId;
+
+    /**
+     * 단계 키 (워크플로우 내 고유)
+     */
+    @Column(name = "step_key", nullable = false, length = 100)
+    private String stepKey;
+
+    /**
+     * 실행할 배치 작업 ID (FK)
+     */
+    @Column(name = "batch_job_id", nullable = false)
+    private Long batchJobId;
+
+    /**
+     * 단계 최대 재시도 횟수 (null이면 배치 작업 설정)
+     */
+    private Integer maxRetryCount;
+
+    /**
+     * 단계 재시도 간격 (초, null이면 배치 작업 설정)
+     */
+    private Integer retryIntervalSeconds;
+}
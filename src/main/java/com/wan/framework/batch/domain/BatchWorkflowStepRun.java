@@ -0,0 +1,81 @@
+package com.wan.framework.batch.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 워크플로우 단계 실행 상태
+ * - 단계 전이마다 저장하여 서버 재시작/재개 시 진행 상태 유지
+ */
+@Entity
+@Table(name = "t_batch_workflow_step_run", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_workflow_step_run", columnNames = {"run_id", "step_key"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowStepRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 워크플로우 실행 ID
+     */
+    @Column(name = "run_id", nullable = false, length = 50)
+    private String runId;
+
+    /**
+     * 단계 키
+     */
+    @Column(name = "step_key", nullable = false, length = 100)
+    private String stepKey;
+
+    /**
+     * 배치 작업 ID
+     */
+    @Column(nullable = false)
+    private Long batchJobId;
+
+    /**
+     * 단계 상태 (WAIT, RUNNING, SUCCESS, FAIL, SKIPPED)
+     */
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    /**
+     * 시도 횟수 (재시도 포함)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempt = 0;
+
+    /**
+     * 마지막 배치 실행 ID
+     */
+    @Column(length = 50)
+    private String executionId;
+
+    /**
+     * 에러 메시지
+     */
+    @Column(length = 2000)
+    private String errorMessage;
+
+    /**
+     * 시작 시간
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * 종료 시간
+     */
+    private LocalDateTime endTime;
+}
@@ -32,6 +32,10 @@ public class BatchExecutionDTO {
     private String stackTrace;
     private Integer retryCount;
     private String originalExecutionId;
+    private LocalDateTime nextRetryAt;
+    private Long fencingToken;
+    private Long readCount;
+    private Long writeCount;
     private String serverInfo;
     private String executedBy;
     private LocalDateTime createdAt;
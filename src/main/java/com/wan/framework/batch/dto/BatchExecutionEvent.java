@@ -0,0 +1,52 @@
+package com.wan.framework.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 실행 이벤트 (SSE 스트림, Redis Pub/Sub으로 서버 간 전파)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExecutionEvent {
+
+    /**
+     * 이벤트 유형 (STATUS, PROGRESS, LOG)
+     */
+    private String eventType;
+
+    private String executionId;
+    private String batchId;
+
+    /**
+     * 실행 상태
+     */
+    private String status;
+
+    /**
+     * 진행률 (0~100, 알 수 없으면 null)
+     * - 종료 상태는 100, 청크 작업은 완료된 파티션 비율
+     */
+    private Integer progress;
+
+    private Long readCount;
+    private Long writeCount;
+
+    /**
+     * 로그 메시지 / 오류 메시지
+     */
+    private String message;
+
+    /**
+     * 이벤트 발생 서버
+     */
+    private String serverInfo;
+
+    private LocalDateTime timestamp;
+}
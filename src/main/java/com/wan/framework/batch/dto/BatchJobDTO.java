@@ -23,7 +23,14 @@ public class BatchJobDTO {
     private String description;
     private String scheduleType;
     private String scheduleExpression;
+    private String misfirePolicy;
+    private Integer spreadSeconds;
+    private String jobType;
     private String proxyApiCode;
+    private String chunkWriterApiCode;
+    private String chunkItemsPath;
+    private Integer chunkSize;
+    private Integer chunkPartitions;
     private String executionParameters;
     private Boolean enabled;
     private Integer maxRetryCount;
@@ -0,0 +1,35 @@
+package com.wan.framework.batch.dto;
+
+import com.wan.framework.base.constant.DataStateCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배치 워크플로우 DTO (단계/연결 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowDTO {
+
+    private Long id;
+    private String workflowId;
+    private String workflowName;
+    private String description;
+    private String scheduleType;
+    private String scheduleExpression;
+    private Boolean enabled;
+    private List<BatchWorkflowStepDTO> steps;
+    private List<BatchWorkflowEdgeDTO> edges;
+    private DataStateCode dataState;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private String updatedBy;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.wan.framework.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 워크플로우 연결 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowEdgeDTO {
+
+    private Long id;
+    private String fromStepKey;
+    private String toStepKey;
+    private String condition;
+}
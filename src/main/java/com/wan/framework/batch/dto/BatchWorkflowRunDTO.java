@@ -0,0 +1,32 @@
+package com.wan.framework.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배치 워크플로우 실행 DTO (단계 상태 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowRunDTO {
+
+    private Long id;
+    private String runId;
+    private Long batchWorkflowId;
+    private String workflowId;
+    private String status;
+    private String triggerType;
+    private Integer resumeCount;
+    private String serverInfo;
+    private String executedBy;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<BatchWorkflowStepRunDTO> steps;
+}
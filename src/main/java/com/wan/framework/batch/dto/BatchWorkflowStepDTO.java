@@ -0,0 +1,22 @@
+package com.wan.framework.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 워크플로우 단계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowStepDTO {
+
+    private Long id;
+    private String stepKey;
+    private Long batchJobId;
+    private Integer maxRetryCount;
+    private Integer retryIntervalSeconds;
+}
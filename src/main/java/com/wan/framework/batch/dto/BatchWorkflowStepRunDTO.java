@@ -0,0 +1,29 @@
+package com.wan.framework.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 워크플로우 단계 실행 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchWorkflowStepRunDTO {
+
+    private Long id;
+    private String runId;
+    private String stepKey;
+    private Long batchJobId;
+    private String status;
+    private Integer attempt;
+    private String executionId;
+    private String errorMessage;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
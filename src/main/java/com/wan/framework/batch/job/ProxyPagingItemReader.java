@@ -0,0 +1,83 @@
+package com.wan.framework.batch.job;
+
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 페이지 단위 항목 조회 Reader (CHUNK 작업)
+ * - 페이지 조회 API를 page 번호로 반복 호출, 빈 페이지 또는 페이지 크기 미만이면 종료
+ * - 파티션 k/N은 전역 페이지 k, k+N, k+2N ... 만 읽음 (파티션 간 겹침 없음)
+ * - 읽은 항목 수는 청크 커밋마다 스텝 실행 컨텍스트에 저장 → 재시작 시 해당 페이지/위치부터 다시 읽음
+ */
+public class ProxyPagingItemReader extends AbstractItemCountingItemStreamItemReader<Map<String, Object>> {
+
+    private final IntFunction<List<Map<String, Object>>> pageLoader;
+    private final int pageSize;
+    private final int partition;
+    private final int partitions;
+
+    private List<Map<String, Object>> currentPage;
+    private int currentIndex;
+    private int nextLocalPage;
+
+    /**
+     * @param pageLoader 전역 페이지 번호(0부터) → 항목 목록
+     */
+    public ProxyPagingItemReader(IntFunction<List<Map<String, Object>>> pageLoader,
+                                 int pageSize, int partition, int partitions) {
+        this.pageLoader = pageLoader;
+        this.pageSize = pageSize;
+        this.partition = partition;
+        this.partitions = partitions;
+        setName("proxyPagingReader");
+    }
+
+    @Override
+    protected Map<String, Object> doRead() {
+        if (currentPage == null || currentIndex >= currentPage.size()) {
+            // 마지막 페이지(크기 미만)를 다 읽었으면 종료
+            if (currentPage != null && currentPage.size() < pageSize) {
+                return null;
+            }
+            currentPage = loadPage(nextLocalPage++);
+            currentIndex = 0;
+            if (currentPage.isEmpty()) {
+                return null;
+            }
+        }
+        return currentPage.get(currentIndex++);
+    }
+
+    /**
+     * 재시작 위치로 이동 (커밋된 항목 수 기준, 페이지 중간이면 해당 페이지를 다시 조회하고 앞부분 건너뜀)
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        nextLocalPage = itemIndex / pageSize;
+        int offset = itemIndex % pageSize;
+        if (offset > 0) {
+            currentPage = loadPage(nextLocalPage++);
+            currentIndex = offset;
+        }
+    }
+
+    @Override
+    protected void doOpen() {
+        currentPage = null;
+        currentIndex = 0;
+        nextLocalPage = 0;
+    }
+
+    @Override
+    protected void doClose() {
+        currentPage = null;
+    }
+
+    private List<Map<String, Object>> loadPage(int localPage) {
+        List<Map<String, Object>> page = pageLoader.apply(partition + localPage * partitions);
+        return page != null ? page : List.of();
+    }
+}
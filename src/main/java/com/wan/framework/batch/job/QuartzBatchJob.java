@@ -1,23 +1,33 @@
 package com.wan.framework.batch.job;
 
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
 import com.wan.framework.batch.constant.BatchTriggerType;
 import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.exception.BatchException;
 import com.wan.framework.batch.service.BatchExecutionService;
+import com.wan.framework.batch.service.BatchHostConcurrencyLimiter;
 import com.wan.framework.batch.service.BatchJobService;
-import com.wan.framework.redis.service.ResilientDistributedLockService;
+import com.wan.framework.batch.service.BatchSchedulerService;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.SchedulerException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
+import java.util.Optional;
+
 /**
  * Quartz 배치 작업 실행자
  * - Quartz 스케줄러에 의해 호출되는 Job
  * - BatchExecutionService를 통해 실제 배치 실행
- * - 분산 락을 통한 다중 서버 환경에서의 중복 실행 방지
+ * - 중복 실행 방지는 BatchExecutionService의 실행 임대로 일원화 (스케줄/수동 실행 공통)
+ * - 실행 분산 구간이 있으면 batchId 해시로 정해진 시각으로 미룸 (정각 동시 실행 분산)
+ * - Proxy 대상 호스트 동시 실행 상한에 도달하면 거부하지 않고 재시도 간격 뒤로 미룸 (대기 시간 상한 초과 시 건너뜀)
  */
 @Slf4j
 @Component
@@ -30,10 +40,13 @@ public class QuartzBatchJob implements Job {
     private BatchJobService batchJobService;
 
     @Autowired
-    private ResilientDistributedLockService resilientDistributedLockService;
+    private BatchSchedulerService batchSchedulerService;
 
-    private static final String LOCK_PREFIX = "quartz:batch:";
-    private static final long DEFAULT_LOCK_TTL = 300L; // 5분 기본 TTL
+    @Autowired
+    private BatchHostConcurrencyLimiter batchHostConcurrencyLimiter;
+
+    @Autowired
+    private BatchProperties batchProperties;
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
@@ -42,10 +55,6 @@ public class QuartzBatchJob implements Job {
 
         log.info("Quartz job triggered for batch: {}", batchId);
 
-        // 분산 락 키 생성
-        String lockKey = LOCK_PREFIX + batchId;
-        String lockValue = null;
-
         try {
             // 배치 작업 조회
             BatchJob batchJob = batchJobService.getBatchJobByBatchId(batchId);
@@ -56,42 +65,66 @@ public class QuartzBatchJob implements Job {
                 return;
             }
 
-            // 동시 실행이 허용되지 않는 경우에만 분산 락 획득
-            if (!batchJob.getAllowConcurrent()) {
-                try {
-                    // TTL = batchJob.timeoutSeconds + 버퍼(30초)
-                    long lockTtl = batchJob.getTimeoutSeconds() + 30L;
-                    lockValue = resilientDistributedLockService.acquireLock(lockKey, lockTtl);
-                    log.debug("Distributed lock acquired for batch: {} (lockValue: {})", batchId, lockValue);
-                } catch (Exception e) {
-                    log.warn("Failed to acquire distributed lock for batch: {} - Skipping execution", batchId);
-                    return; // 락 획득 실패 시 실행하지 않음
-                }
+            JobDataMap triggerData = context.getMergedJobDataMap();
+            boolean deferred = triggerData.containsKey(BatchSchedulerService.DEFERRED_KEY);
+            long scheduledAt = context.getScheduledFireTime().getTime();
+
+            // 실행 분산: 예정 시각 + batchId별 고정 지연으로 미룸
+            long spreadDelayMs = batchSchedulerService.spreadDelayMillis(batchJob);
+            if (!deferred && spreadDelayMs > 0) {
+                batchSchedulerService.deferBatchJob(batchId, new Date(scheduledAt + spreadDelayMs), scheduledAt);
+                log.debug("Batch execution spread by {}ms: {}", spreadDelayMs, batchId);
+                return;
+            }
+
+            // Proxy 대상 호스트 동시 실행 상한: 허가가 없으면 대기 (재시도 간격 뒤로 미룸)
+            Optional<BatchHostConcurrencyLimiter.Permit> permit = batchHostConcurrencyLimiter.tryAcquire(batchJob);
+            if (permit.isEmpty()) {
+                long queuedSince = deferred ? triggerData.getLong(BatchSchedulerService.QUEUED_SINCE_KEY) : scheduledAt;
+                queue(batchId, queuedSince);
+                return;
             }
 
             // 배치 실행
-            batchExecutionService.executeBatch(
-                    batchJob,
-                    BatchTriggerType.SCHEDULER,
-                    "SCHEDULER"
-            );
+            try {
+                batchExecutionService.executeBatch(
+                        batchJob,
+                        BatchTriggerType.SCHEDULER,
+                        "SCHEDULER"
+                );
+            } finally {
+                batchHostConcurrencyLimiter.release(permit.get());
+            }
 
             log.info("Quartz job completed for batch: {}", batchId);
 
+        } catch (BatchException e) {
+            // 다른 실행이 임대 중이면 이번 실행은 건너뜀
+            if (e.getBatchExceptionMessage() == BatchExceptionMessage.BATCH_ALREADY_RUNNING) {
+                log.info("Batch already running, skipping execution: {}", batchId);
+                return;
+            }
+            log.error("Quartz job failed for batch: {} - {}", batchId, e.getMessage());
+            throw new JobExecutionException(e);
         } catch (Exception e) {
             log.error("Quartz job failed for batch: {} - {}", batchId, e.getMessage());
             // Quartz에게 실패를 알리고 재시도 정책에 따라 처리
             throw new JobExecutionException(e);
-        } finally {
-            // 분산 락 해제
-            if (lockValue != null) {
-                try {
-                    resilientDistributedLockService.releaseLock(lockKey, lockValue);
-                    log.debug("Distributed lock released for batch: {}", batchId);
-                } catch (Exception e) {
-                    log.error("Failed to release distributed lock for batch: {} - {}", batchId, e.getMessage());
-                }
-            }
         }
     }
+
+    /**
+     * 호스트 동시 실행 상한 대기
+     * - 최초 예정 시각으로부터 대기 시간 상한을 넘으면 이번 실행은 건너뜀
+     */
+    private void queue(String batchId, long queuedSince) throws SchedulerException {
+        long now = System.currentTimeMillis();
+        BatchProperties.Schedule schedule = batchProperties.getSchedule();
+        if (now - queuedSince > schedule.getMaxQueueWaitSeconds() * 1000L) {
+            log.warn("Batch waited too long for host concurrency limit, skipping execution: {}", batchId);
+            return;
+        }
+        batchSchedulerService.deferBatchJob(batchId, new Date(now + schedule.getQueueRetryMs()), queuedSince);
+        log.info("Host concurrency limit reached, batch queued: {}", batchId);
+    }
 }
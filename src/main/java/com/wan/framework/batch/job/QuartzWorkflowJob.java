@@ -0,0 +1,47 @@
+package com.wan.framework.batch.job;
+
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchTriggerType;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.service.BatchWorkflowService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Quartz 워크플로우 실행자
+ * - 스케줄된 워크플로우 실행 시작 (단계는 BatchWorkflowRunner에서 진행)
+ * - 이전 실행이 진행 중이면 이번 주기는 건너뜀
+ */
+@Slf4j
+@Component
+public class QuartzWorkflowJob implements Job {
+
+    @Autowired
+    private BatchWorkflowService batchWorkflowService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        String workflowId = context.getJobDetail().getJobDataMap().getString("workflowId");
+
+        log.info("Quartz job triggered for workflow: {}", workflowId);
+
+        try {
+            batchWorkflowService.startWorkflow(workflowId, BatchTriggerType.SCHEDULER, "SCHEDULER");
+        } catch (BatchException e) {
+            if (e.getBatchExceptionMessage() == BatchExceptionMessage.WORKFLOW_ALREADY_RUNNING
+                    || e.getBatchExceptionMessage() == BatchExceptionMessage.WORKFLOW_DISABLED) {
+                log.info("Skipping workflow run: {} - {}", workflowId, e.getMessage());
+                return;
+            }
+            log.error("Quartz job failed for workflow: {} - {}", workflowId, e.getMessage());
+            throw new JobExecutionException(e);
+        } catch (Exception e) {
+            log.error("Quartz job failed for workflow: {} - {}", workflowId, e.getMessage());
+            throw new JobExecutionException(e);
+        }
+    }
+}
@@ -18,11 +18,13 @@ public interface BatchJobMapper {
     /**
      * DTO -> Entity
      */
+    @Mapping(target = "lastFencingToken", ignore = true)
     BatchJob toEntity(BatchJobDTO dto);
 
     /**
      * DTO로 Entity 업데이트
      */
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "lastFencingToken", ignore = true)
     void updateEntityFromDto(BatchJobDTO dto, @MappingTarget BatchJob entity);
 }
@@ -0,0 +1,61 @@
+package com.wan.framework.batch.mapper;
+
+import com.wan.framework.batch.domain.BatchWorkflow;
+import com.wan.framework.batch.domain.BatchWorkflowEdge;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.dto.BatchWorkflowDTO;
+import com.wan.framework.batch.dto.BatchWorkflowEdgeDTO;
+import com.wan.framework.batch.dto.BatchWorkflowRunDTO;
+import com.wan.framework.batch.dto.BatchWorkflowStepDTO;
+import com.wan.framework.batch.dto.BatchWorkflowStepRunDTO;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * 배치 워크플로우 Mapper
+ * - 단계/연결/단계 실행 목록은 서비스에서 조회하여 채움
+ */
+@Mapper(componentModel = "spring")
+public interface BatchWorkflowMapper {
+
+    /**
+     * Entity -> DTO
+     */
+    @Mapping(target = "steps", ignore = true)
+    @Mapping(target = "edges", ignore = true)
+    BatchWorkflowDTO toDto(BatchWorkflow entity);
+
+    /**
+     * DTO -> Entity
+     */
+    BatchWorkflow toEntity(BatchWorkflowDTO dto);
+
+    /**
+     * DTO로 Entity 업데이트
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "workflowId", ignore = true)
+    @Mapping(target = "dataState", ignore = true)
+    void updateEntityFromDto(BatchWorkflowDTO dto, @MappingTarget BatchWorkflow entity);
+
+    List<BatchWorkflowStepDTO> toStepDtoList(List<BatchWorkflowStep> entities);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "batchWorkflowId", ignore = true)
+    BatchWorkflowStep toStepEntity(BatchWorkflowStepDTO dto);
+
+    List<BatchWorkflowEdgeDTO> toEdgeDtoList(List<BatchWorkflowEdge> entities);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "batchWorkflowId", ignore = true)
+    BatchWorkflowEdge toEdgeEntity(BatchWorkflowEdgeDTO dto);
+
+    @Mapping(target = "steps", ignore = true)
+    BatchWorkflowRunDTO toRunDto(BatchWorkflowRun entity);
+
+    List<BatchWorkflowStepRunDTO> toStepRunDtoList(List<BatchWorkflowStepRun> entities);
+}
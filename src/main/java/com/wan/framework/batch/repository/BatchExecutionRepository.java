@@ -4,9 +4,11 @@ import com.wan.framework.batch.domain.BatchExecution;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -43,6 +45,54 @@ public interface BatchExecutionRepository extends JpaRepository<BatchExecution,
      */
     Page<BatchExecution> findByTriggerTypeOrderByStartTimeDesc(String triggerType, Pageable pageable);
 
+    /**
+     * 배치 작업별 실행 이력 키셋 조회 (startTime, id 역순)
+     */
+    @Query("SELECT e FROM BatchExecution e " +
+           "WHERE e.batchJobId = :batchJobId " +
+           "AND (e.startTime < :cursorTime OR (e.startTime = :cursorTime AND e.id < :cursorId)) " +
+           "ORDER BY e.startTime DESC, e.id DESC")
+    List<BatchExecution> findByBatchJobIdBefore(@Param("batchJobId") Long batchJobId,
+                                                @Param("cursorTime") LocalDateTime cursorTime,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable limit);
+
+    /**
+     * 배치 ID별 실행 이력 키셋 조회 (startTime, id 역순)
+     */
+    @Query("SELECT e FROM BatchExecution e " +
+           "WHERE e.batchId = :batchId " +
+           "AND (e.startTime < :cursorTime OR (e.startTime = :cursorTime AND e.id < :cursorId)) " +
+           "ORDER BY e.startTime DESC, e.id DESC")
+    List<BatchExecution> findByBatchIdBefore(@Param("batchId") String batchId,
+                                             @Param("cursorTime") LocalDateTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable limit);
+
+    /**
+     * 상태별 실행 이력 키셋 조회 (startTime, id 역순)
+     */
+    @Query("SELECT e FROM BatchExecution e " +
+           "WHERE e.status = :status " +
+           "AND (e.startTime < :cursorTime OR (e.startTime = :cursorTime AND e.id < :cursorId)) " +
+           "ORDER BY e.startTime DESC, e.id DESC")
+    List<BatchExecution> findByStatusBefore(@Param("status") String status,
+                                            @Param("cursorTime") LocalDateTime cursorTime,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable limit);
+
+    /**
+     * 트리거 타입별 실행 이력 키셋 조회 (startTime, id 역순)
+     */
+    @Query("SELECT e FROM BatchExecution e " +
+           "WHERE e.triggerType = :triggerType " +
+           "AND (e.startTime < :cursorTime OR (e.startTime = :cursorTime AND e.id < :cursorId)) " +
+           "ORDER BY e.startTime DESC, e.id DESC")
+    List<BatchExecution> findByTriggerTypeBefore(@Param("triggerType") String triggerType,
+                                                 @Param("cursorTime") LocalDateTime cursorTime,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable limit);
+
     /**
      * 기간별 실행 이력 조회
      */
@@ -62,24 +112,74 @@ public interface BatchExecutionRepository extends JpaRepository<BatchExecution,
     List<BatchExecution> findTop10ByBatchIdOrderByStartTimeDesc(String batchId);
 
     /**
-     * 재시도 대상 조회 (실패 상태 + 재시도 횟수 미만)
+     * 재시도 대상 조회 (실패/타임아웃 + 재시도 횟수 미만 + 다음 재시도 미예약)
      */
     @Query("SELECT e FROM BatchExecution e " +
-           "WHERE e.status = :failStatus " +
-           "AND e.retryCount < (SELECT b.maxRetryCount FROM BatchJob b WHERE b.batchId = e.batchId) " +
-           "AND e.originalExecutionId IS NULL " +
+           "WHERE e.status IN :statuses " +
+           "AND e.retryCount < (SELECT b.maxRetryCount FROM BatchJob b WHERE b.id = e.batchJobId) " +
+           "AND NOT EXISTS (SELECT r FROM BatchExecution r " +
+           "                WHERE r.originalExecutionId = COALESCE(e.originalExecutionId, e.executionId) " +
+           "                AND r.retryCount = e.retryCount + 1) " +
            "ORDER BY e.startTime DESC")
-    List<BatchExecution> findRetryTargets(@Param("failStatus") String failStatus);
+    List<BatchExecution> findRetryTargets(@Param("statuses") List<String> statuses);
+
+    /**
+     * 재시도 체인에 해당 회차가 이미 있는지 여부
+     */
+    boolean existsByOriginalExecutionIdAndRetryCount(String originalExecutionId, Integer retryCount);
+
+    /**
+     * 실행 시각이 된 재시도 선점 조회
+     * - FOR UPDATE SKIP LOCKED: 다른 서버가 잠근 행은 건너뛰어 서버 간 중복 없이 분배
+     * - 호출 트랜잭션 안에서 상태를 변경해야 함
+     */
+    @Query(value = "SELECT * FROM t_batch_execution " +
+                   "WHERE status = :status AND next_retry_at <= :now " +
+                   "ORDER BY next_retry_at " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<BatchExecution> findDueRetriesForUpdate(@Param("status") String status,
+                                                 @Param("now") LocalDateTime now,
+                                                 @Param("limit") int limit);
+
+    /**
+     * 청크 작업 진행 상황 기록 (청크 커밋 후 호출, 실행 중인 이력만)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE BatchExecution e SET e.readCount = :readCount, e.writeCount = :writeCount " +
+           "WHERE e.executionId = :executionId AND e.status = 'RUNNING'")
+    int updateProgress(@Param("executionId") String executionId,
+                       @Param("readCount") long readCount,
+                       @Param("writeCount") long writeCount);
+
+    /**
+     * 정리 대상 조회 (지정 상태 + 시작 시각 이전)
+     */
+    List<BatchExecution> findByStatusInAndStartTimeBefore(List<String> statuses, LocalDateTime startTime);
+
+    /**
+     * 중단된 실행 종료 기록 (상태가 그대로일 때만 → 그 사이 정상 종료된 실행은 건드리지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE BatchExecution e SET e.status = :status, e.endTime = :endTime, " +
+           "e.executionTimeMs = :executionTimeMs, e.errorMessage = :errorMessage " +
+           "WHERE e.executionId = :executionId AND e.status = :expectedStatus")
+    int finishIfStatus(@Param("executionId") String executionId,
+                       @Param("expectedStatus") String expectedStatus,
+                       @Param("status") String status,
+                       @Param("endTime") LocalDateTime endTime,
+                       @Param("executionTimeMs") Long executionTimeMs,
+                       @Param("errorMessage") String errorMessage);
 
     /**
-     * 배치별 성공률 통계
+     * 선점 후 실행되지 못한 재시도 재예약 (WAIT → RETRY)
      */
-    @Query("SELECT " +
-           "COUNT(e) as totalCount, " +
-           "SUM(CASE WHEN e.status = 'SUCCESS' THEN 1 ELSE 0 END) as successCount, " +
-           "SUM(CASE WHEN e.status = 'FAIL' THEN 1 ELSE 0 END) as failureCount, " +
-           "AVG(e.executionTimeMs) as avgExecutionTime " +
-           "FROM BatchExecution e " +
-           "WHERE e.batchJobId = :batchJobId")
-    Object getExecutionStats(@Param("batchJobId") Long batchJobId);
+    @Modifying
+    @Transactional
+    @Query("UPDATE BatchExecution e SET e.status = 'RETRY', e.nextRetryAt = :nextRetryAt " +
+           "WHERE e.executionId = :executionId AND e.status = 'WAIT'")
+    int requeueClaimedRetry(@Param("executionId") String executionId,
+                            @Param("nextRetryAt") LocalDateTime nextRetryAt);
 }
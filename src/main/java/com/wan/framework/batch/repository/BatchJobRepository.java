@@ -5,8 +5,12 @@ import com.wan.framework.batch.domain.BatchJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +44,19 @@ public interface BatchJobRepository extends JpaRepository<BatchJob, Long> {
      * 활성화된 배치 목록 조회 (페이징)
      */
     Page<BatchJob> findByEnabledTrueAndDataStateNot(DataStateCode dataState, Pageable pageable);
+
+    /**
+     * 마지막 실행 결과 기록 (펜싱)
+     * - 저장된 토큰보다 작은 토큰의 결과는 무시 (토큰이 없는 실행은 항상 기록)
+     *
+     * @return 갱신 건수 (0이면 더 최신 임대의 결과가 이미 기록됨)
+     */
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.lastExecutedAt = :executedAt, j.lastExecutionStatus = :status, " +
+           "j.lastFencingToken = COALESCE(:fencingToken, j.lastFencingToken) " +
+           "WHERE j.id = :id AND (:fencingToken IS NULL OR j.lastFencingToken IS NULL OR j.lastFencingToken <= :fencingToken)")
+    int updateLastExecution(@Param("id") Long id,
+                            @Param("status") String status,
+                            @Param("executedAt") LocalDateTime executedAt,
+                            @Param("fencingToken") Long fencingToken);
 }
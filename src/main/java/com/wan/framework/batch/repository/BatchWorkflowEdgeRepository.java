@@ -0,0 +1,26 @@
+package com.wan.framework.batch.repository;
+
+import com.wan.framework.batch.domain.BatchWorkflowEdge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 배치 워크플로우 연결 Repository
+ */
+@Repository
+public interface BatchWorkflowEdgeRepository extends JpaRepository<BatchWorkflowEdge, Long> {
+
+    /**
+     * 워크플로우 연결 목록
+     */
+    List<BatchWorkflowEdge> findByBatchWorkflowIdOrderById(Long batchWorkflowId);
+
+    /**
+     * 워크플로우 연결 전체 삭제 (정의 교체 시)
+     */
+    @Modifying
+    void deleteByBatchWorkflowId(Long batchWorkflowId);
+}
@@ -0,0 +1,38 @@
+package com.wan.framework.batch.repository;
+
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.batch.domain.BatchWorkflow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배치 워크플로우 Repository
+ */
+@Repository
+public interface BatchWorkflowRepository extends JpaRepository<BatchWorkflow, Long> {
+
+    /**
+     * 워크플로우 ID로 조회 (삭제 제외)
+     */
+    Optional<BatchWorkflow> findByWorkflowIdAndDataStateNot(String workflowId, DataStateCode dataState);
+
+    /**
+     * 워크플로우 ID 존재 여부 (삭제 제외)
+     */
+    boolean existsByWorkflowIdAndDataStateNot(String workflowId, DataStateCode dataState);
+
+    /**
+     * 활성화된 워크플로우 목록 (스케줄러용)
+     */
+    List<BatchWorkflow> findByEnabledTrueAndDataStateNot(DataStateCode dataState);
+
+    /**
+     * 전체 워크플로우 목록 (페이징)
+     */
+    Page<BatchWorkflow> findByDataStateNot(DataStateCode dataState, Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package com.wan.framework.batch.repository;
+
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배치 워크플로우 실행 이력 Repository
+ */
+@Repository
+public interface BatchWorkflowRunRepository extends JpaRepository<BatchWorkflowRun, Long> {
+
+    /**
+     * 실행 ID로 조회
+     */
+    Optional<BatchWorkflowRun> findByRunId(String runId);
+
+    /**
+     * 워크플로우 실행 중 여부
+     */
+    boolean existsByBatchWorkflowIdAndStatus(Long batchWorkflowId, String status);
+
+    /**
+     * 워크플로우별 실행 이력 (페이징)
+     */
+    Page<BatchWorkflowRun> findByBatchWorkflowIdOrderByStartTimeDesc(Long batchWorkflowId, Pageable pageable);
+
+    /**
+     * 정리 대상 조회 (지정 상태 + 시작 시각 이전)
+     */
+    List<BatchWorkflowRun> findByStatusAndStartTimeBefore(String status, LocalDateTime startTime);
+}
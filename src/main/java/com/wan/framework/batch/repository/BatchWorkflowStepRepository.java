@@ -0,0 +1,26 @@
+package com.wan.framework.batch.repository;
+
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 배치 워크플로우 단계 Repository
+ */
+@Repository
+public interface BatchWorkflowStepRepository extends JpaRepository<BatchWorkflowStep, Long> {
+
+    /**
+     * 워크플로우 단계 목록
+     */
+    List<BatchWorkflowStep> findByBatchWorkflowIdOrderById(Long batchWorkflowId);
+
+    /**
+     * 워크플로우 단계 전체 삭제 (정의 교체 시)
+     */
+    @Modifying
+    void deleteByBatchWorkflowId(Long batchWorkflowId);
+}
@@ -0,0 +1,19 @@
+package com.wan.framework.batch.repository;
+
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 배치 워크플로우 단계 실행 Repository
+ */
+@Repository
+public interface BatchWorkflowStepRunRepository extends JpaRepository<BatchWorkflowStepRun, Long> {
+
+    /**
+     * 워크플로우 실행의 단계 상태 목록
+     */
+    List<BatchWorkflowStepRun> findByRunIdOrderById(String runId);
+}
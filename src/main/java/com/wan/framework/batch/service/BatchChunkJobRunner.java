@@ -0,0 +1,451 @@
+package com.wan.framework.batch.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.job.ProxyPagingItemReader;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.ProxyExecutionRequest;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import com.wan.framework.proxy.service.ApiEndpointService;
+import com.wan.framework.proxy.service.ApiExecutionService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 청크 작업 실행기 (Spring Batch)
+ * - 페이지 조회 API → (청크 단위) → 쓰기 API, 청크마다 트랜잭션 커밋 및 Reader 위치 저장
+ * - 파티션 수만큼 스텝을 나눠 병렬 실행 (split), 파티션별 재시작 위치를 따로 저장
+ * - Job 인스턴스는 재시도 체인의 최초 실행 ID로 식별 → 재시도는 같은 인스턴스를 재시작하여
+ *   완료된 파티션은 건너뛰고 나머지는 마지막 커밋 이후부터 재개
+ * - 청크 커밋마다 읽기/쓰기 건수를 BatchExecution에 기록하고 진행 이벤트 발행 (진행률 = 완료된 파티션 비율)
+ * - 호출 스레드(배치 실행기 워커)에서 동기 실행, 타임아웃/취소 시 Job 중지 요청 (다음 청크 경계에서 중지)
+ * - 청크 트랜잭션은 DB 커넥션을 잡지 않음 (읽기/쓰기는 모두 Proxy HTTP 호출)
+ *   → HTTP 호출 동안 커넥션을 점유하지 않고, Job 메타데이터는 청크 커밋 시점에 짧은 트랜잭션으로 저장
+ * - 파티션 동시 실행 수는 커넥션 풀 최대 크기의 절반 이하로 제한 (나머지는 요청 처리용)
+ */
+@Slf4j
+@Service
+public class BatchChunkJobRunner {
+
+    private final JobRepository jobRepository;
+    private final JobLauncher jobLauncher;
+    private final JobOperator jobOperator;
+    private final BatchExecutionRepository batchExecutionRepository;
+    private final ApiEndpointService apiEndpointService;
+    private final ApiExecutionService apiExecutionService;
+    private final ObjectMapper objectMapper;
+    private final BatchProperties batchProperties;
+    private final BatchExecutionStreamService batchExecutionStreamService;
+    private final ThreadPoolExecutor partitionPool;
+
+    // 청크 트랜잭션용 (커넥션을 바인딩하지 않음)
+    private final PlatformTransactionManager chunkTransactionManager = new ResourcelessTransactionManager();
+
+    // 이 서버에서 실행 중인 청크 Job (중지 요청 후 아직 끝나지 않은 Job 포함)
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public BatchChunkJobRunner(JobRepository jobRepository,
+                               JobLauncher jobLauncher,
+                               JobOperator jobOperator,
+                               BatchExecutionRepository batchExecutionRepository,
+                               ApiEndpointService apiEndpointService,
+                               ApiExecutionService apiExecutionService,
+                               ObjectMapper objectMapper,
+                               BatchProperties batchProperties,
+                               BatchExecutionStreamService batchExecutionStreamService,
+                               DataSource dataSource) {
+        this.jobRepository = jobRepository;
+        this.jobLauncher = jobLauncher;
+        this.jobOperator = jobOperator;
+        this.batchExecutionRepository = batchExecutionRepository;
+        this.apiEndpointService = apiEndpointService;
+        this.apiExecutionService = apiExecutionService;
+        this.objectMapper = objectMapper;
+        this.batchProperties = batchProperties;
+        this.batchExecutionStreamService = batchExecutionStreamService;
+
+        // 파티션은 대기열에서 순서를 기다림 (배치당 파티션 수는 max-partitions로 제한)
+        int poolSize = Math.min(batchProperties.getChunk().getPartitionPoolSize(), connectionLimit(dataSource));
+        this.partitionPool = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("batch-chunk-")
+        );
+        this.partitionPool.allowCoreThreadTimeOut(true);
+        if (poolSize < batchProperties.getChunk().getPartitionPoolSize()) {
+            log.warn("Chunk partition pool limited by connection pool: {} -> {}",
+                    batchProperties.getChunk().getPartitionPoolSize(), poolSize);
+        }
+    }
+
+    /**
+     * 파티션 스레드 상한 (커넥션 풀 최대 크기의 절반, 확인 불가 시 제한 없음)
+     */
+    static int connectionLimit(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read connection pool size: {}", e.getMessage());
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 청크 작업 실행 결과
+     */
+    public record Result(boolean success, long readCount, long writeCount, String errorMessage) {
+    }
+
+    /**
+     * 청크 작업 실행 (완료/실패/중지까지 대기)
+     *
+     * @param parameters 페이지 조회/쓰기 API 공통 파라미터
+     * @param stopHandle 취소 시 Job 중지 요청용 Future 등록 (cancel → 중지)
+     */
+    public Result run(BatchJob batchJob,
+                      BatchExecution execution,
+                      Map<String, Object> parameters,
+                      long deadlineAt,
+                      Consumer<CompletableFuture<?>> stopHandle) {
+        String jobName = jobName(batchJob);
+        if (!activeJobs.add(jobName)) {
+            throw new BatchException(BatchExceptionMessage.BATCH_ALREADY_RUNNING);
+        }
+
+        try {
+            String executionKey = execution.getOriginalExecutionId() != null
+                    ? execution.getOriginalExecutionId()
+                    : execution.getExecutionId();
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("executionKey", executionKey)
+                    .toJobParameters();
+            recoverStaleExecution(jobName, jobParameters);
+
+            AtomicReference<Long> jobExecutionId = new AtomicReference<>();
+            CompletableFuture<Void> stopSignal = new CompletableFuture<>();
+            stopSignal.whenComplete((ignored, e) -> {
+                if (stopSignal.isCancelled()) {
+                    stop(jobExecutionId.get());
+                }
+            });
+
+            Job job = buildJob(batchJob, execution, parameters, deadlineAt, jobExecutionId, stopSignal);
+            stopHandle.accept(stopSignal);
+
+            log.info("Launching chunk job: {} (instance {})", jobName, executionKey);
+            JobExecution jobExecution = jobLauncher.run(job, jobParameters);
+            return toResult(jobExecution);
+
+        } catch (JobInstanceAlreadyCompleteException e) {
+            // 이전 시도가 Job은 완료했으나 결과 기록 전에 실패/타임아웃된 경우
+            log.info("Chunk job already completed: {}", jobName);
+            return new Result(true, 0L, 0L, null);
+        } catch (BatchException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BatchException(BatchExceptionMessage.BATCH_EXECUTION_FAILED, e);
+        } finally {
+            activeJobs.remove(jobName);
+        }
+    }
+
+    /**
+     * Job 구성: 파티션별 스텝 (1개면 단일 스텝, 여러 개면 split 병렬 실행)
+     */
+    private Job buildJob(BatchJob batchJob,
+                         BatchExecution execution,
+                         Map<String, Object> parameters,
+                         long deadlineAt,
+                         AtomicReference<Long> jobExecutionId,
+                         CompletableFuture<?> stopSignal) {
+        ApiEndpoint readerEndpoint = apiEndpointService.getApiEndpointByCode(batchJob.getProxyApiCode());
+        ApiEndpoint writerEndpoint = apiEndpointService.getApiEndpointByCode(batchJob.getChunkWriterApiCode());
+        int chunkSize = batchJob.getChunkSize() != null
+                ? batchJob.getChunkSize()
+                : batchProperties.getChunk().getDefaultChunkSize();
+        int partitions = batchJob.getChunkPartitions() != null ? Math.max(1, batchJob.getChunkPartitions()) : 1;
+
+        ItemWriter<Map<String, Object>> writer = chunk -> {
+            Map<String, Object> writeParameters = new HashMap<>(parameters);
+            writeParameters.put("items", new ArrayList<>(chunk.getItems()));
+            callApi(writerEndpoint, writeParameters, execution, deadlineAt);
+        };
+        ChunkListener progressListener = new ChunkListener() {
+            @Override
+            public void afterChunk(ChunkContext context) {
+                recordProgress(execution, context.getStepContext().getStepExecution().getJobExecution(), partitions);
+            }
+        };
+
+        List<Step> steps = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            int partitionIndex = partition;
+            ProxyPagingItemReader reader = new ProxyPagingItemReader(
+                    page -> readPage(readerEndpoint, batchJob, parameters, page, chunkSize, partitionIndex, partitions,
+                            execution, deadlineAt),
+                    chunkSize, partitionIndex, partitions);
+
+            steps.add(new StepBuilder(jobName(batchJob) + ":p" + partition, jobRepository)
+                    .<Map<String, Object>, Map<String, Object>>chunk(chunkSize, chunkTransactionManager)
+                    .reader(reader)
+                    .writer(writer)
+                    .listener(progressListener)
+                    .build());
+        }
+
+        JobBuilder jobBuilder = new JobBuilder(jobName(batchJob), jobRepository)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void beforeJob(JobExecution jobExecution) {
+                        jobExecutionId.set(jobExecution.getId());
+                        // 실행 시작 전에 이미 취소된 경우
+                        if (stopSignal.isCancelled()) {
+                            jobExecution.setStatus(org.springframework.batch.core.BatchStatus.STOPPING);
+                        }
+                    }
+                });
+
+        if (steps.size() == 1) {
+            return jobBuilder.start(steps.get(0)).build();
+        }
+
+        List<Flow> flows = steps.stream()
+                .map(step -> new FlowBuilder<Flow>(step.getName()).start(step).build())
+                .toList();
+        Flow split = new FlowBuilder<Flow>(jobName(batchJob) + ":split")
+                .split(new TaskExecutorAdapter(partitionPool))
+                .add(flows.toArray(new Flow[0]))
+                .build();
+        return jobBuilder.start(split).end().build();
+    }
+
+    /**
+     * 페이지 조회 (page: 전역 페이지 번호)
+     */
+    private List<Map<String, Object>> readPage(ApiEndpoint endpoint,
+                                               BatchJob batchJob,
+                                               Map<String, Object> parameters,
+                                               int page,
+                                               int size,
+                                               int partition,
+                                               int partitions,
+                                               BatchExecution execution,
+                                               long deadlineAt) {
+        Map<String, Object> pageParameters = new HashMap<>(parameters);
+        pageParameters.put("page", page);
+        pageParameters.put("size", size);
+        pageParameters.put("partition", partition);
+        pageParameters.put("partitions", partitions);
+
+        ProxyExecutionResponse response = callApi(endpoint, pageParameters, execution, deadlineAt);
+        try {
+            JsonNode root = objectMapper.readTree(response.getResponseBody() != null ? response.getResponseBody() : "[]");
+            JsonNode items = batchJob.getChunkItemsPath() != null && !batchJob.getChunkItemsPath().isBlank()
+                    ? root.at(batchJob.getChunkItemsPath())
+                    : root;
+            if (items.isMissingNode() || items.isNull()) {
+                return List.of();
+            }
+            if (!items.isArray()) {
+                throw new IllegalStateException("Page items is not an array: " + batchJob.getChunkItemsPath());
+            }
+            return objectMapper.convertValue(items, new TypeReference<List<Map<String, Object>>>() {});
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse page " + page + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Proxy API 호출 (실패 응답은 예외 → 청크 롤백, 스텝 실패)
+     */
+    private ProxyExecutionResponse callApi(ApiEndpoint endpoint,
+                                           Map<String, Object> parameters,
+                                           BatchExecution execution,
+                                           long deadlineAt) {
+        ProxyExecutionResponse response = apiExecutionService.execute(endpoint, ProxyExecutionRequest.builder()
+                .apiCode(endpoint.getApiCode())
+                .parameters(parameters)
+                .executionTrigger("BATCH")
+                .executedBy(execution.getExecutedBy())
+                .deadlineAt(deadlineAt)
+                .build());
+        if (!Boolean.TRUE.equals(response.getIsSuccess())) {
+            throw new IllegalStateException("API " + endpoint.getApiCode() + " failed: " + response.getErrorMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 진행 상황 기록 (전체 파티션 합계, 실패해도 Job은 계속)
+     */
+    private void recordProgress(BatchExecution execution, JobExecution jobExecution, int partitions) {
+        try {
+            long readCount = 0L;
+            long writeCount = 0L;
+            int completedPartitions = 0;
+            for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+                readCount += stepExecution.getReadCount();
+                writeCount += stepExecution.getWriteCount();
+                if (stepExecution.getStatus() == org.springframework.batch.core.BatchStatus.COMPLETED) {
+                    completedPartitions++;
+                }
+            }
+            execution.setReadCount(readCount);
+            execution.setWriteCount(writeCount);
+            batchExecutionRepository.updateProgress(execution.getExecutionId(), readCount, writeCount);
+            batchExecutionStreamService.publishProgress(execution, completedPartitions * 100 / partitions);
+        } catch (Exception e) {
+            log.warn("Failed to record chunk progress: {} - {}", execution.getExecutionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 중단된 이전 실행 정리
+     * - 배치 임대를 보유한 상태에서만 호출되므로, 일정 시간 커밋이 없는 미종료 실행은 서버 중단으로 남은 것
+     * - FAILED로 바꿔야 같은 인스턴스를 재시작할 수 있음
+     */
+    private void recoverStaleExecution(String jobName, JobParameters jobParameters) {
+        JobExecution last = jobRepository.getLastJobExecution(jobName, jobParameters);
+        if (last == null || !last.isRunning()) {
+            return;
+        }
+
+        LocalDateTime staleBefore = LocalDateTime.now()
+                .minusSeconds(batchProperties.getChunk().getStaleAfterSeconds());
+        LocalDateTime lastUpdated = last.getLastUpdated();
+        for (StepExecution stepExecution : last.getStepExecutions()) {
+            if (stepExecution.getLastUpdated() != null
+                    && (lastUpdated == null || stepExecution.getLastUpdated().isAfter(lastUpdated))) {
+                lastUpdated = stepExecution.getLastUpdated();
+            }
+        }
+        if (lastUpdated != null && lastUpdated.isAfter(staleBefore)) {
+            throw new BatchException(BatchExceptionMessage.BATCH_ALREADY_RUNNING);
+        }
+
+        log.warn("Recovering stale chunk job execution: {} (id {}, last updated {})",
+                jobName, last.getId(), lastUpdated);
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : last.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(org.springframework.batch.core.BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription("Recovered stale execution"));
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        last.setStatus(org.springframework.batch.core.BatchStatus.FAILED);
+        last.setExitStatus(ExitStatus.FAILED.addExitDescription("Recovered stale execution"));
+        last.setEndTime(now);
+        jobRepository.update(last);
+    }
+
+    /**
+     * Job 중지 요청 (실행 중인 청크가 커밋/롤백된 뒤 중지)
+     */
+    private void stop(Long jobExecutionId) {
+        if (jobExecutionId == null) {
+            return;
+        }
+        try {
+            jobOperator.stop(jobExecutionId);
+            log.info("Chunk job stop requested: {}", jobExecutionId);
+        } catch (Exception e) {
+            log.warn("Failed to stop chunk job: {} - {}", jobExecutionId, e.getMessage());
+        }
+    }
+
+    private Result toResult(JobExecution jobExecution) {
+        long readCount = 0L;
+        long writeCount = 0L;
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            readCount += stepExecution.getReadCount();
+            writeCount += stepExecution.getWriteCount();
+        }
+
+        if (jobExecution.getStatus() == org.springframework.batch.core.BatchStatus.COMPLETED) {
+            log.info("Chunk job completed: {} (read {}, write {}, {}ms)",
+                    jobExecution.getJobInstance().getJobName(), readCount, writeCount,
+                    jobExecution.getStartTime() != null && jobExecution.getEndTime() != null
+                            ? Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime()).toMillis()
+                            : null);
+            return new Result(true, readCount, writeCount, null);
+        }
+
+        String errorMessage = jobExecution.getAllFailureExceptions().stream()
+                .map(Throwable::getMessage)
+                .findFirst()
+                .orElse("Chunk job " + jobExecution.getStatus());
+        return new Result(false, readCount, writeCount, errorMessage);
+    }
+
+    private static String jobName(BatchJob batchJob) {
+        return "chunk:" + batchJob.getBatchId();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitionPool.shutdown();
+        try {
+            if (!partitionPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                partitionPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            partitionPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
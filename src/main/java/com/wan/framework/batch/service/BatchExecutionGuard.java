@@ -0,0 +1,136 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.redis.dto.FencedLock;
+import com.wan.framework.redis.exception.RedisException;
+import com.wan.framework.redis.service.DistributedLockService;
+import com.wan.framework.redis.service.LockWatchDogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 실행 가드 (스케줄/수동 실행 공통)
+ * - 동시 실행 허용 배치는 잠금 없이 바로 실행
+ * - 그 외에는 Redis 임대(lease)를 1회 획득: SET NX + 펜싱 토큰 증가를 하나의 Lua Script로 처리
+ * - 임대 TTL은 짧게 두고 Watch Dog가 주기적으로 연장 → 서버 장애 시 TTL 이후 자동 해제
+ * - 펜싱 토큰은 실행 이력에 저장하고, 배치 마지막 실행 결과는 같거나 큰 토큰만 덮어씀
+ * - Redis 장애 시 로컬 락으로 대체하지 않고 실행하지 않음 (서버 간 상호 배제를 보장할 수 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchExecutionGuard {
+
+    private final DistributedLockService distributedLockService;
+    private final LockWatchDogService lockWatchDogService;
+    private final BatchJobRepository batchJobRepository;
+
+    private static final String LEASE_KEY_PREFIX = "batch:";
+    private static final String LEASE_KEY_SUFFIX = ":lease";
+    // Watch Dog 연장 TTL과 동일
+    private static final long LEASE_TTL_SECONDS = 30L;
+
+    /**
+     * 실행 임대 획득
+     *
+     * @return 임대 (동시 실행 허용 배치는 Lease.NONE)
+     * @throws BatchException 다른 실행이 임대 중(BATCH_ALREADY_RUNNING)이거나 Redis 장애(BATCH_LOCK_ACQUISITION_FAILED)
+     */
+    public Lease acquire(BatchJob batchJob) {
+        if (Boolean.TRUE.equals(batchJob.getAllowConcurrent())) {
+            return Lease.NONE;
+        }
+
+        String key = LEASE_KEY_PREFIX + batchJob.getBatchId() + LEASE_KEY_SUFFIX;
+        FencedLock lock;
+        try {
+            lock = distributedLockService.acquireFencedLock(key, LEASE_TTL_SECONDS);
+        } catch (RedisException e) {
+            log.warn("Batch already running: {}", batchJob.getBatchId());
+            throw new BatchException(BatchExceptionMessage.BATCH_ALREADY_RUNNING);
+        } catch (Exception e) {
+            log.warn("Failed to acquire batch lease: {} - {}", batchJob.getBatchId(), e.getMessage());
+            throw new BatchException(BatchExceptionMessage.BATCH_LOCK_ACQUISITION_FAILED, e);
+        }
+
+        lockWatchDogService.registerLock(key, lock.getLockValue());
+        log.debug("Batch lease acquired: {} (token {})", batchJob.getBatchId(), lock.getFencingToken());
+        return new Lease(key, lock.getLockValue(), lock.getFencingToken());
+    }
+
+    /**
+     * 실행 임대 반납
+     * - 이미 만료되어 다른 실행이 가져간 임대는 건드리지 않음
+     */
+    public void release(Lease lease) {
+        if (lease == null || lease.key() == null) {
+            return;
+        }
+
+        lockWatchDogService.unregisterLock(lease.key());
+        try {
+            distributedLockService.releaseLock(lease.key(), lease.lockValue());
+        } catch (Exception e) {
+            log.warn("Failed to release batch lease (expired or taken over): {} - {}", lease.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 마지막 실행 결과 기록 (펜싱)
+     *
+     * @return 기록 여부 (false면 더 최신 임대의 결과가 이미 기록됨)
+     */
+    @Transactional
+    public boolean recordResult(BatchJob batchJob, Lease lease, String status, LocalDateTime executedAt) {
+        int updated = batchJobRepository.updateLastExecution(batchJob.getId(), status, executedAt, lease.fencingToken());
+        if (updated == 0) {
+            log.warn("Stale batch lease, last execution not recorded: {} (token {})",
+                    batchJob.getBatchId(), lease.fencingToken());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 중단된 서버가 남긴 임대 정리 (BatchExecutionReaper)
+     * - 실행 이력의 펜싱 토큰이 마지막 발급 토큰일 때만 임대 삭제 (그 사이 다른 실행이 가져간 임대는 유지)
+     * - 같은 토큰 기준으로 배치 마지막 실행 결과 기록
+     */
+    @Transactional
+    public void releaseAbandoned(BatchExecution execution) {
+        if (execution.getFencingToken() == null) {
+            return;
+        }
+
+        String key = LEASE_KEY_PREFIX + execution.getBatchId() + LEASE_KEY_SUFFIX;
+        try {
+            if (distributedLockService.releaseFencedLock(key, execution.getFencingToken())) {
+                log.info("Abandoned batch lease released: {} (token {})", key, execution.getFencingToken());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release abandoned batch lease: {} - {}", key, e.getMessage());
+        }
+        batchJobRepository.updateLastExecution(execution.getBatchJobId(), execution.getStatus(),
+                execution.getEndTime(), execution.getFencingToken());
+    }
+
+    /**
+     * 실행 임대
+     *
+     * @param key          임대 키 (동시 실행 허용 배치는 null)
+     * @param lockValue    소유자 식별 값
+     * @param fencingToken 펜싱 토큰 (동시 실행 허용 배치는 null)
+     */
+    public record Lease(String key, String lockValue, Long fencingToken) {
+
+        public static final Lease NONE = new Lease(null, null, null);
+    }
+}
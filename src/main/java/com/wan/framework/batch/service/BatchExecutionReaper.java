@@ -0,0 +1,207 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRunRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRunRepository;
+import com.wan.framework.redis.exception.RedisException;
+import com.wan.framework.redis.service.DistributedLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 중단된 서버의 실행 정리
+ * - 생존 신호(BatchNodeHeartbeat)가 끊긴 서버(serverInfo)가 남긴 실행을 주기적으로 정리 (클러스터에서 한 서버만 수행)
+ *   - RUNNING 실행: FAIL 기록, 남은 임대 해제 (펜싱 토큰 기준), 설정 시 재시도 예약
+ *   - 선점 후 실행되지 못한 재시도(WAIT): RETRY로 되돌려 다른 서버가 선점
+ *   - RUNNING 워크플로우 실행: FAIL 기록 (재개 가능), 설정 시 재개
+ * - 상태가 그대로일 때만 갱신하여 그 사이 정상 종료된 실행은 건드리지 않음
+ * - Redis 장애로 생존 여부를 알 수 없으면 정리하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchExecutionReaper {
+
+    private final BatchExecutionRepository batchExecutionRepository;
+    private final BatchJobRepository batchJobRepository;
+    private final BatchWorkflowRunRepository batchWorkflowRunRepository;
+    private final BatchWorkflowStepRunRepository batchWorkflowStepRunRepository;
+    private final BatchNodeHeartbeat batchNodeHeartbeat;
+    private final BatchExecutionGuard batchExecutionGuard;
+    private final BatchExecutionService batchExecutionService;
+    private final BatchWorkflowService batchWorkflowService;
+    private final BatchExecutionStreamService batchExecutionStreamService;
+    private final DistributedLockService distributedLockService;
+    private final BatchProperties batchProperties;
+
+    private static final String REAPER_LOCK_KEY = "batch:reaper";
+    private static final String REAPER = "reaper";
+
+    /**
+     * 주기적 정리 (클러스터 락을 얻은 서버만 수행)
+     */
+    @Scheduled(fixedDelayString = "${batch.reaper.interval-ms:30000}",
+            initialDelayString = "${batch.reaper.interval-ms:30000}")
+    public void poll() {
+        if (!batchProperties.getReaper().isEnabled()) {
+            return;
+        }
+
+        String lockValue;
+        try {
+            long ttlSeconds = Math.max(1L, batchProperties.getReaper().getIntervalMs() / 1000);
+            lockValue = distributedLockService.acquireLock(REAPER_LOCK_KEY, ttlSeconds);
+        } catch (RedisException e) {
+            // 다른 서버가 정리 중
+            return;
+        } catch (Exception e) {
+            log.warn("Batch reaper skipped, Redis unavailable: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            reap();
+        } catch (Exception e) {
+            log.warn("Batch reaper failed: {}", e.getMessage());
+        } finally {
+            try {
+                distributedLockService.releaseLock(REAPER_LOCK_KEY, lockValue);
+            } catch (Exception e) {
+                log.debug("Batch reaper lock already expired: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 정리 1회 수행
+     *
+     * @return 정리한 실행 + 워크플로우 실행 수
+     */
+    int reap() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(batchProperties.getReaper().getGraceSeconds());
+        // 한 번의 정리에서 서버별 생존 여부는 한 번만 조회 (Redis 장애 시 예외 → 이번 정리 중단)
+        Map<String, Boolean> alive = new HashMap<>();
+
+        int reaped = 0;
+        List<BatchExecution> executions = batchExecutionRepository.findByStatusInAndStartTimeBefore(
+                List.of(BatchStatus.RUNNING.name(), BatchStatus.WAIT.name()), cutoff);
+        for (BatchExecution execution : executions) {
+            if (alive.computeIfAbsent(execution.getServerInfo(), batchNodeHeartbeat::isAlive)) {
+                continue;
+            }
+            if (BatchStatus.RUNNING.name().equals(execution.getStatus())
+                    ? abandonExecution(execution)
+                    : requeueClaimedRetry(execution)) {
+                reaped++;
+            }
+        }
+
+        List<BatchWorkflowRun> runs = batchWorkflowRunRepository.findByStatusAndStartTimeBefore(
+                BatchStatus.RUNNING.name(), cutoff);
+        for (BatchWorkflowRun run : runs) {
+            if (alive.computeIfAbsent(run.getServerInfo(), batchNodeHeartbeat::isAlive)) {
+                continue;
+            }
+            abandonWorkflowRun(run);
+            reaped++;
+        }
+
+        if (reaped > 0) {
+            log.info("Batch reaper cleaned up {} abandoned executions/workflow runs", reaped);
+        }
+        return reaped;
+    }
+
+    /**
+     * 중단된 RUNNING 실행 → FAIL
+     */
+    private boolean abandonExecution(BatchExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        String errorMessage = "Abandoned: server " + execution.getServerInfo() + " stopped responding";
+        Long executionTimeMs = execution.getStartTime() != null
+                ? Duration.between(execution.getStartTime(), now).toMillis()
+                : null;
+
+        int updated = batchExecutionRepository.finishIfStatus(execution.getExecutionId(),
+                BatchStatus.RUNNING.name(), BatchStatus.FAIL.name(), now, executionTimeMs, errorMessage);
+        if (updated == 0) {
+            return false;
+        }
+        log.warn("Abandoned batch execution marked as FAIL: {} ({}, server {})",
+                execution.getExecutionId(), execution.getBatchId(), execution.getServerInfo());
+
+        execution.setStatus(BatchStatus.FAIL.name());
+        execution.setEndTime(now);
+        execution.setExecutionTimeMs(executionTimeMs);
+        execution.setErrorMessage(errorMessage);
+
+        batchExecutionGuard.releaseAbandoned(execution);
+        batchExecutionStreamService.publishStatus(execution);
+
+        if (batchProperties.getReaper().isRequeue()) {
+            batchJobRepository.findById(execution.getBatchJobId())
+                    .ifPresent(batchJob -> batchExecutionService.scheduleRetry(batchJob, execution));
+        }
+        return true;
+    }
+
+    /**
+     * 선점 후 실행되지 못한 재시도 → RETRY (즉시)
+     */
+    private boolean requeueClaimedRetry(BatchExecution execution) {
+        int updated = batchExecutionRepository.requeueClaimedRetry(execution.getExecutionId(), LocalDateTime.now());
+        if (updated == 0) {
+            return false;
+        }
+        log.warn("Claimed batch retry requeued: {} ({}, server {})",
+                execution.getExecutionId(), execution.getBatchId(), execution.getServerInfo());
+
+        execution.setStatus(BatchStatus.RETRY.name());
+        batchExecutionStreamService.publishStatus(execution);
+        return true;
+    }
+
+    /**
+     * 중단된 워크플로우 실행 → FAIL (실행 중이던 단계도 FAIL, 이후 재개 가능)
+     */
+    private void abandonWorkflowRun(BatchWorkflowRun run) {
+        LocalDateTime now = LocalDateTime.now();
+        String errorMessage = "Abandoned: server " + run.getServerInfo() + " stopped responding";
+
+        for (BatchWorkflowStepRun stepRun : batchWorkflowStepRunRepository.findByRunIdOrderById(run.getRunId())) {
+            if (BatchStatus.RUNNING.name().equals(stepRun.getStatus())) {
+                stepRun.setStatus(BatchStatus.FAIL.name());
+                stepRun.setErrorMessage(errorMessage);
+                stepRun.setEndTime(now);
+                batchWorkflowStepRunRepository.save(stepRun);
+            }
+        }
+        run.setStatus(BatchStatus.FAIL.name());
+        run.setEndTime(now);
+        batchWorkflowRunRepository.save(run);
+        log.warn("Abandoned workflow run marked as FAIL: {} ({}, server {})",
+                run.getRunId(), run.getWorkflowId(), run.getServerInfo());
+
+        if (batchProperties.getReaper().isRequeue()) {
+            try {
+                batchWorkflowService.resumeWorkflowRun(run.getRunId(), REAPER);
+            } catch (Exception e) {
+                log.warn("Failed to resume abandoned workflow run: {} - {}", run.getRunId(), e.getMessage());
+            }
+        }
+    }
+}
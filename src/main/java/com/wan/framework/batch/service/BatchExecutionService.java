@@ -1,7 +1,10 @@
 package com.wan.framework.batch.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.batch.config.BatchExecutionExecutor;
+import com.wan.framework.batch.config.BatchProperties;
 import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchJobType;
 import com.wan.framework.batch.constant.BatchStatus;
 import com.wan.framework.batch.constant.BatchTriggerType;
 import com.wan.framework.batch.domain.BatchExecution;
@@ -11,28 +14,40 @@ import com.wan.framework.batch.dto.BatchExecutionRequest;
 import com.wan.framework.batch.exception.BatchException;
 import com.wan.framework.batch.mapper.BatchExecutionMapper;
 import com.wan.framework.batch.repository.BatchExecutionRepository;
+import com.wan.framework.batch.repository.BatchJobRepository;
 import com.wan.framework.proxy.dto.ProxyExecutionRequest;
 import com.wan.framework.proxy.dto.ProxyExecutionResponse;
 import com.wan.framework.proxy.service.ApiExecutionService;
 import com.wan.framework.proxy.service.ApiEndpointService;
-import com.wan.framework.redis.service.DistributedLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.net.InetAddress;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 배치 실행 서비스
  * - Proxy API 연계를 통한 배치 실행
- * - Redis 분산 락을 통한 중복 실행 방지
+ * - CHUNK 작업은 BatchChunkJobRunner (Spring Batch 청크 스텝)로 실행
+ * - 실행 임대(펜싱 토큰)를 통한 중복 실행 방지
  * - 실행 이력 관리
+ * - 실행 파라미터는 컴파일 캐시로 실행 시점에 평가, 평가된 값을 실행 이력에 기록
+ * - 전용 실행기 + 마감 시각으로 타임아웃 강제, 실행 중 취소
+ * - 실패/타임아웃 시 지수 백오프로 재시도 예약 (실행은 BatchRetryScheduler)
+ * - 상태 변경/로그는 BatchExecutionStreamService로 발행 (SSE)
  */
 @Slf4j
 @Service
@@ -41,104 +56,227 @@ public class BatchExecutionService {
 
     private final BatchExecutionRepository batchExecutionRepository;
     private final BatchExecutionMapper batchExecutionMapper;
-    private final DistributedLockService distributedLockService;
+    private final BatchExecutionGuard batchExecutionGuard;
     private final ApiEndpointService apiEndpointService;
     private final ApiExecutionService apiExecutionService;
     private final ObjectMapper objectMapper;
+    private final BatchExecutionExecutor batchExecutionExecutor;
+    private final BatchJobRepository batchJobRepository;
+    private final BatchProperties batchProperties;
+    private final BatchChunkJobRunner batchChunkJobRunner;
+    private final BatchParameterCache batchParameterCache;
+    private final BatchExecutionStreamService batchExecutionStreamService;
+    private final BatchNodeHeartbeat batchNodeHeartbeat;
 
-    private static final String LOCK_KEY_PREFIX = "batch:";
-    private static final String LOCK_KEY_SUFFIX = ":lock";
+    private final Map<String, RunningExecution> runningExecutions = new ConcurrentHashMap<>();
 
     /**
      * 배치 실행 (스케줄러용)
+     * - 대기 중 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (이력 저장은 건별 트랜잭션)
      */
-    @Transactional
     public BatchExecutionDTO executeBatch(BatchJob batchJob, BatchTriggerType triggerType, String executedBy) {
+        return executeBatch(batchJob, triggerType, executedBy, null);
+    }
+
+    /**
+     * 배치 실행 (파라미터 덮어쓰기)
+     * - 덮어쓸 값은 임대 획득 전에 선언된 타입으로 검증
+     */
+    public BatchExecutionDTO executeBatch(BatchJob batchJob, BatchTriggerType triggerType, String executedBy,
+                                          Map<String, Object> overrides) {
         log.info("Starting batch execution: {} ({})", batchJob.getBatchId(), triggerType);
 
-        // 실행 ID 생성
-        String executionId = UUID.randomUUID().toString();
-
-        // 동시 실행 체크
-        if (!batchJob.getAllowConcurrent()) {
-            // 실행 중인 작업 확인
-            batchExecutionRepository.findByBatchIdAndStatus(
-                    batchJob.getBatchId(),
-                    BatchStatus.RUNNING.name()
-            ).ifPresent(running -> {
-                log.warn("Batch already running: {}", batchJob.getBatchId());
-                throw new BatchException(BatchExceptionMessage.BATCH_ALREADY_RUNNING);
-            });
+        // 덮어쓰기 파라미터 검증
+        if (overrides != null && !overrides.isEmpty()) {
+            CompiledBatchParameters compiled = batchParameterCache.get(batchJob);
+            try {
+                compiled.validateOverrides(overrides);
+            } catch (IllegalArgumentException e) {
+                throw new BatchException(BatchExceptionMessage.INVALID_EXECUTION_PARAMETERS, e);
+            }
         }
 
-        // Redis 분산 락 획득
-        String lockKey = LOCK_KEY_PREFIX + batchJob.getBatchId() + LOCK_KEY_SUFFIX;
-        String lockValue = null;
+        // 실행 임대 획득 (동시 실행 허용 배치는 생략)
+        BatchExecutionGuard.Lease lease = batchExecutionGuard.acquire(batchJob);
+
+        // 실행 이력 생성
+        BatchExecution execution = createExecution(
+                batchJob, UUID.randomUUID().toString(), triggerType, executedBy, 0, null);
 
+        return runExecution(batchJob, execution, lease, overrides);
+    }
+
+    /**
+     * 예약된 재시도 실행 (재시도 스케줄러가 선점한 RETRY 이력)
+     * - 다른 실행이 임대 중이거나 임대를 얻지 못하면 회차를 소모하지 않고 재시도 간격 뒤로 미룸
+     * - 배치가 삭제/비활성화되었으면 CANCELLED 기록
+     */
+    public void executeRetry(BatchExecution retryExecution) {
+        BatchJob batchJob = batchJobRepository.findById(retryExecution.getBatchJobId()).orElse(null);
+        if (batchJob == null || !batchJob.getEnabled()) {
+            log.info("Retry skipped, batch job disabled or deleted: {}", retryExecution.getExecutionId());
+            finishExecution(retryExecution, BatchStatus.CANCELLED, "Retry skipped: batch job disabled or deleted", null);
+            return;
+        }
+
+        BatchExecutionGuard.Lease lease;
         try {
-            // TTL = timeout + 버퍼(10초)
-            long lockTtl = batchJob.getTimeoutSeconds() + 10;
-            lockValue = distributedLockService.acquireLock(lockKey, lockTtl);
+            lease = batchExecutionGuard.acquire(batchJob);
+        } catch (BatchException e) {
+            LocalDateTime nextRetryAt = LocalDateTime.now().plusSeconds(batchJob.getRetryIntervalSeconds());
+            log.info("Retry postponed: {} until {} ({})",
+                    retryExecution.getExecutionId(), nextRetryAt, e.getMessage());
+            retryExecution.setStatus(BatchStatus.RETRY.name());
+            retryExecution.setNextRetryAt(nextRetryAt);
+            batchExecutionRepository.save(retryExecution);
+            batchExecutionStreamService.publishLog(retryExecution, "Retry postponed until " + nextRetryAt);
+            return;
+        }
 
-            if (lockValue == null) {
-                log.warn("Failed to acquire lock for batch: {}", batchJob.getBatchId());
-                throw new BatchException(BatchExceptionMessage.BATCH_LOCK_ACQUISITION_FAILED);
-            }
+        log.info("Starting batch retry: {} ({}/{})",
+                batchJob.getBatchId(), retryExecution.getRetryCount(), batchJob.getMaxRetryCount());
+        retryExecution.setServerInfo(batchNodeHeartbeat.getNodeId());
+        retryExecution.setStartTime(LocalDateTime.now());
+        try {
+            runExecution(batchJob, retryExecution, lease, null);
+        } catch (BatchException e) {
+            // 실패/타임아웃은 이력에 기록되고 다음 회차가 예약됨
+            log.warn("Batch retry failed: {} - {}", retryExecution.getExecutionId(), e.getMessage());
+        }
+    }
 
-            // 실행 이력 생성
-            BatchExecution execution = createExecution(batchJob, executionId, triggerType, executedBy, 0, null);
-            execution.setStatus(BatchStatus.RUNNING.name());
-            BatchExecution savedExecution = batchExecutionRepository.save(execution);
-
-            // Proxy API 실행 (타임아웃 체크 포함)
-            ProxyExecutionResponse proxyResponse = executeProxyApiWithTimeout(
-                    batchJob,
-                    executionId,
-                    executedBy,
-                    savedExecution
-            );
+    /**
+     * 실행 이력 기준 배치 실행 (임대 획득 후)
+     * - 종료 후 임대 반납, 실패/타임아웃이면 다음 재시도 예약
+     */
+    private BatchExecutionDTO runExecution(BatchJob batchJob, BatchExecution execution, BatchExecutionGuard.Lease lease,
+                                           Map<String, Object> overrides) {
+        try {
+            // 실행 파라미터 평가 (평가 결과를 이력에 기록)
+            Map<String, Object> parameters = resolveExecutionParameters(batchJob, execution, overrides);
+            execution.setExecutionParameters(objectMapper.writeValueAsString(parameters));
 
-            // 실행 완료 처리
-            completeExecution(savedExecution, proxyResponse);
+            execution.setStatus(BatchStatus.RUNNING.name());
+            execution.setFencingToken(lease.fencingToken());
+            execution = batchExecutionRepository.save(execution);
+            batchExecutionStreamService.publishStatus(execution);
+            batchExecutionStreamService.publishLog(execution, String.format("Started on %s (%s, retry %d)",
+                    execution.getServerInfo(), execution.getTriggerType(), execution.getRetryCount()));
+
+            if (BatchJobType.CHUNK.name().equals(batchJob.getJobType())) {
+                // 청크 작업 실행 (마감 시각 적용)
+                BatchExecution chunkExecution = execution;
+                BatchChunkJobRunner.Result result = executeWithDeadline(batchJob, execution,
+                        (deadlineAt, running) -> batchChunkJobRunner.run(
+                                batchJob,
+                                chunkExecution,
+                                parameters,
+                                deadlineAt,
+                                running::attachProxy));
+                completeChunkExecution(execution, result);
+            } else {
+                // Proxy API 실행 (마감 시각 적용)
+                String executedBy = execution.getExecutedBy();
+                ProxyExecutionResponse proxyResponse = executeWithDeadline(batchJob, execution,
+                        (deadlineAt, running) -> executeProxyApi(
+                                batchJob, parameters, executedBy, deadlineAt, running));
+
+                // 실행 완료 처리
+                completeExecution(execution, proxyResponse);
+            }
 
-            return batchExecutionMapper.toDto(savedExecution);
+            return batchExecutionMapper.toDto(execution);
 
         } catch (Exception e) {
+            // 타임아웃/취소는 이미 종료 상태가 기록됨
+            if (e instanceof BatchException batchException && isFinished(batchException)) {
+                throw batchException;
+            }
             log.error("Batch execution failed: {} - {}", batchJob.getBatchId(), e.getMessage());
 
             // 실패 이력 저장
-            BatchExecution failedExecution = batchExecutionRepository.findByExecutionId(executionId)
-                    .orElse(createExecution(batchJob, executionId, triggerType, executedBy, 0, null));
-
-            failedExecution.setStatus(BatchStatus.FAIL.name());
-            failedExecution.setEndTime(LocalDateTime.now());
-            failedExecution.setExecutionTimeMs(
-                    Duration.between(failedExecution.getStartTime(), LocalDateTime.now()).toMillis()
+            execution.setStatus(BatchStatus.FAIL.name());
+            execution.setEndTime(LocalDateTime.now());
+            execution.setExecutionTimeMs(
+                    Duration.between(execution.getStartTime(), execution.getEndTime()).toMillis()
             );
-            failedExecution.setErrorMessage(e.getMessage());
-            failedExecution.setStackTrace(getStackTrace(e));
+            execution.setErrorMessage(e.getMessage());
+            execution.setStackTrace(getStackTrace(e));
 
-            batchExecutionRepository.save(failedExecution);
+            execution = batchExecutionRepository.save(execution);
+            batchExecutionStreamService.publishStatus(execution);
 
             throw new BatchException(BatchExceptionMessage.BATCH_EXECUTION_FAILED, e);
 
         } finally {
-            // Redis 락 해제
-            if (lockValue != null) {
-                try {
-                    distributedLockService.releaseLock(lockKey, lockValue);
-                    log.info("Released lock for batch: {}", batchJob.getBatchId());
-                } catch (Exception e) {
-                    log.error("Failed to release lock: {}", e.getMessage());
-                }
-            }
+            recordLastExecution(batchJob, lease, execution);
+            batchExecutionGuard.release(lease);
+            scheduleRetry(batchJob, execution);
+        }
+    }
+
+    /**
+     * 다음 재시도 예약 (실패/타임아웃 + 재시도 횟수 남음)
+     * - 예약 시각: retryIntervalSeconds * 2^(회차-1), 상한 batch.retry.max-backoff-seconds
+     */
+    void scheduleRetry(BatchJob batchJob, BatchExecution execution) {
+        // 워크플로우 단계는 워크플로우가 재시도
+        if (!batchProperties.getRetry().isEnabled()
+                || BatchTriggerType.WORKFLOW.name().equals(execution.getTriggerType())) {
+            return;
+        }
+        if (!BatchStatus.FAIL.name().equals(execution.getStatus())
+                && !BatchStatus.TIMEOUT.name().equals(execution.getStatus())) {
+            return;
+        }
+        int nextRetryCount = execution.getRetryCount() + 1;
+        if (nextRetryCount > batchJob.getMaxRetryCount()) {
+            log.info("Max retry reached: {} ({})", batchJob.getBatchId(), execution.getExecutionId());
+            return;
+        }
+
+        try {
+            LocalDateTime nextRetryAt = LocalDateTime.now().plusSeconds(backoffSeconds(batchJob, nextRetryCount));
+            BatchExecution retryExecution = createRetryExecution(execution, execution.getExecutedBy(), nextRetryAt);
+            log.info("Retry scheduled: {} ({}/{}) at {}",
+                    retryExecution.getExecutionId(), nextRetryCount, batchJob.getMaxRetryCount(), nextRetryAt);
+            batchExecutionStreamService.publishLog(execution, String.format("Retry %d/%d scheduled at %s: %s",
+                    nextRetryCount, batchJob.getMaxRetryCount(), nextRetryAt, retryExecution.getExecutionId()));
+        } catch (Exception e) {
+            log.warn("Failed to schedule retry: {} - {}", execution.getExecutionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 지연 시간 (초)
+     */
+    long backoffSeconds(BatchJob batchJob, int retryCount) {
+        return backoffSeconds(batchJob.getRetryIntervalSeconds(), retryCount);
+    }
+
+    long backoffSeconds(int retryIntervalSeconds, int retryCount) {
+        long interval = Math.max(1L, retryIntervalSeconds);
+        int shift = Math.min(Math.max(0, retryCount - 1), 20);
+        return Math.min(interval << shift, Math.max(interval, batchProperties.getRetry().getMaxBackoffSeconds()));
+    }
+
+    /**
+     * 배치 마지막 실행 결과 기록 (만료된 임대의 늦은 결과는 무시)
+     */
+    private void recordLastExecution(BatchJob batchJob, BatchExecutionGuard.Lease lease, BatchExecution execution) {
+        if (execution == null || execution.getEndTime() == null) {
+            return;
+        }
+        try {
+            batchExecutionGuard.recordResult(batchJob, lease, execution.getStatus(), execution.getEndTime());
+        } catch (Exception e) {
+            log.warn("Failed to record last execution: {} - {}", batchJob.getBatchId(), e.getMessage());
         }
     }
 
     /**
      * 배치 수동 실행
      */
-    @Transactional
     public BatchExecutionDTO executeManual(BatchJob batchJob, BatchExecutionRequest request) {
         log.info("Manual batch execution: {}", batchJob.getBatchId());
 
@@ -147,11 +285,12 @@ public class BatchExecutionService {
             throw new BatchException(BatchExceptionMessage.BATCH_JOB_DISABLED);
         }
 
-        return executeBatch(batchJob, BatchTriggerType.MANUAL, request.getExecutedBy());
+        return executeBatch(batchJob, BatchTriggerType.MANUAL, request.getExecutedBy(), request.getParameters());
     }
 
     /**
-     * 배치 재시도
+     * 배치 재시도 (수동)
+     * - 즉시 실행되도록 RETRY 이력을 예약하고, 실제 실행은 재시도 스케줄러가 선점하여 처리
      */
     @Transactional
     public BatchExecutionDTO retryBatch(String originalExecutionId, String executedBy) {
@@ -173,168 +312,209 @@ public class BatchExecutionService {
             throw new BatchException(BatchExceptionMessage.RETRY_NOT_ALLOWED);
         }
 
-        // 최대 재시도 횟수 초과 체크
-        // BatchJob을 조회하여 maxRetryCount 확인 필요
-        // 여기서는 간단히 retryCount만 체크 (실제로는 BatchJob 조회 필요)
-        if (originalExecution.getRetryCount() >= 3) {
+        // 최대 재시도 횟수 초과 체크 (배치 작업 설정 기준)
+        BatchJob batchJob = batchJobRepository.findById(originalExecution.getBatchJobId())
+                .orElseThrow(() -> new BatchException(BatchExceptionMessage.BATCH_JOB_NOT_FOUND));
+        if (originalExecution.getRetryCount() >= batchJob.getMaxRetryCount()) {
             throw new BatchException(BatchExceptionMessage.MAX_RETRY_EXCEEDED);
         }
 
-        // 배치 작업 조회 (실제로는 BatchJobService에서 조회해야 하지만 여기서는 간단히 처리)
-        // 실제 구현 시 BatchJobService 주입 필요
+        // 재시도 실행 이력 예약 (즉시)
+        BatchExecution retryExecution = createRetryExecution(originalExecution, executedBy, LocalDateTime.now());
+        log.info("Retry execution created: {}", retryExecution.getExecutionId());
 
-        // 새 실행 ID 생성
-        String newExecutionId = UUID.randomUUID().toString();
+        return batchExecutionMapper.toDto(retryExecution);
+    }
+
+    /**
+     * 재시도 실행 이력 생성 (RETRY 상태)
+     * - 원본 실행 ID는 체인의 최초 실행, 회차는 실패한 실행의 회차 + 1
+     * - (원본 실행 ID, 회차) 유니크 → 자동/수동 재시도가 겹쳐도 한 회차는 한 번만 예약
+     */
+    private BatchExecution createRetryExecution(BatchExecution failedExecution, String executedBy, LocalDateTime nextRetryAt) {
+        String rootExecutionId = failedExecution.getOriginalExecutionId() != null
+                ? failedExecution.getOriginalExecutionId()
+                : failedExecution.getExecutionId();
+        int retryCount = failedExecution.getRetryCount() + 1;
+
+        if (batchExecutionRepository.existsByOriginalExecutionIdAndRetryCount(rootExecutionId, retryCount)) {
+            throw new BatchException(BatchExceptionMessage.RETRY_ALREADY_SCHEDULED);
+        }
 
-        // 재시도 실행 이력 생성
         BatchExecution retryExecution = BatchExecution.builder()
-                .executionId(newExecutionId)
-                .batchJobId(originalExecution.getBatchJobId())
-                .batchId(originalExecution.getBatchId())
-                .batchName(originalExecution.getBatchName())
+                .executionId(UUID.randomUUID().toString())
+                .batchJobId(failedExecution.getBatchJobId())
+                .batchId(failedExecution.getBatchId())
+                .batchName(failedExecution.getBatchName())
                 .status(BatchStatus.RETRY.name())
                 .triggerType(BatchTriggerType.RETRY.name())
-                .executionParameters(originalExecution.getExecutionParameters())
-                .retryCount(originalExecution.getRetryCount() + 1)
-                .originalExecutionId(originalExecutionId)
-                .serverInfo(getServerInfo())
+                .executionParameters(failedExecution.getExecutionParameters())
+                .retryCount(retryCount)
+                .originalExecutionId(rootExecutionId)
+                .nextRetryAt(nextRetryAt)
+                .serverInfo(batchNodeHeartbeat.getNodeId())
                 .executedBy(executedBy)
                 .startTime(LocalDateTime.now())
                 .build();
 
-        batchExecutionRepository.save(retryExecution);
-
-        // 재시도 로직은 스케줄러에서 처리
-        log.info("Retry execution created: {}", newExecutionId);
-
-        return batchExecutionMapper.toDto(retryExecution);
+        try {
+            BatchExecution saved = batchExecutionRepository.save(retryExecution);
+            batchExecutionStreamService.publishStatus(saved);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw new BatchException(BatchExceptionMessage.RETRY_ALREADY_SCHEDULED, e);
+        }
     }
 
     /**
-     * Proxy API 실행 (타임아웃 체크 포함)
+     * 배치 작업 실행 (마감 시각 적용)
+     * - 전용 실행기에서 실행하고 호출 스레드는 마감 시각까지만 대기
+     * - 마감 시각은 실행기 스레드에서 시작될 때부터 계산 (실행기 대기열 대기 시간은 타임아웃에 미포함)
+     * - 대기열에서 타임아웃 시간 안에 시작되지 못하면 실행하지 않고 TIMEOUT
+     * - 마감 시각은 Proxy 요청에 전달되어 HTTP 타임아웃과 재시도도 마감 안으로 제한
+     * - 마감이 지나면 즉시 TIMEOUT 기록 후 Proxy 호출(청크 작업은 Job) 취소
+     * - cancelExecution으로 취소되면 CANCELLED 기록
      */
-    private ProxyExecutionResponse executeProxyApiWithTimeout(
-            BatchJob batchJob,
-            String executionId,
-            String executedBy,
-            BatchExecution execution) {
-
-        LocalDateTime startTime = LocalDateTime.now();
+    private <T> T executeWithDeadline(BatchJob batchJob, BatchExecution execution, DeadlineTask<T> work) {
+        String executionId = execution.getExecutionId();
         long timeoutMillis = batchJob.getTimeoutSeconds() * 1000L;
+        RunningExecution running = new RunningExecution();
+        runningExecutions.put(executionId, running);
 
         try {
-            // 실행 파라미터 준비
-            Map<String, Object> parameters = prepareExecutionParameters(batchJob, executionId);
-
-            // Proxy API 요청 생성
-            ProxyExecutionRequest proxyRequest = ProxyExecutionRequest.builder()
-                    .apiCode(batchJob.getProxyApiCode())
-                    .parameters(parameters)
-                    .executionTrigger("BATCH")
-                    .executedBy(executedBy)
-                    .build();
-
-            // API 엔드포인트 조회
-            var endpoint = apiEndpointService.getApiEndpointByCode(batchJob.getProxyApiCode());
-
-            // API 실행
-            ProxyExecutionResponse response = apiExecutionService.execute(endpoint, proxyRequest);
-
-            // 실행 시간 체크
-            long executionTime = Duration.between(startTime, LocalDateTime.now()).toMillis();
-            if (executionTime > timeoutMillis) {
-                log.warn("Batch execution timeout: {} ({}ms > {}ms)",
-                        batchJob.getBatchId(), executionTime, timeoutMillis);
-
-                // 타임아웃 상태로 업데이트
-                execution.setStatus(BatchStatus.TIMEOUT.name());
-                execution.setEndTime(LocalDateTime.now());
-                execution.setExecutionTimeMs(executionTime);
-                execution.setErrorMessage(String.format("Execution timeout: %dms exceeded limit of %dms",
-                        executionTime, timeoutMillis));
-                batchExecutionRepository.save(execution);
-
-                throw new BatchException(BatchExceptionMessage.BATCH_TIMEOUT);
-            }
-
-            return response;
+            CompletableFuture<Long> started = new CompletableFuture<>();
+            CompletableFuture<T> task = batchExecutionExecutor.submit(() -> {
+                long deadlineAt = System.currentTimeMillis() + timeoutMillis;
+                started.complete(deadlineAt);
+                return work.run(deadlineAt, running);
+            });
+            running.attachTask(task);
+
+            // 실행기 스레드에서 시작될 때까지 대기 (시작 전 취소되면 CancellationException, 타임아웃만큼 시작되지 않으면 TIMEOUT)
+            CompletableFuture.anyOf(started, task).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            long deadlineAt = started.getNow(System.currentTimeMillis() + timeoutMillis);
+            return task.get(Math.max(0L, deadlineAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+
+        } catch (RejectedExecutionException e) {
+            throw new BatchException(BatchExceptionMessage.BATCH_EXECUTION_REJECTED, e);
+
+        } catch (TimeoutException e) {
+            running.cancel(null);
+            log.warn("Batch execution timeout: {} (limit {}ms)", batchJob.getBatchId(), timeoutMillis);
+            finishExecution(execution, BatchStatus.TIMEOUT,
+                    String.format("Execution timeout: exceeded limit of %dms", timeoutMillis), null);
+            throw new BatchException(BatchExceptionMessage.BATCH_TIMEOUT);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.cancel(null);
+            throw new BatchException(BatchExceptionMessage.PROXY_API_EXECUTION_FAILED, e);
 
-        } catch (Exception e) {
-            // 실행 시간 체크
-            long executionTime = Duration.between(startTime, LocalDateTime.now()).toMillis();
-            if (executionTime > timeoutMillis) {
-                log.error("Batch execution timeout during error: {} ({}ms > {}ms)",
-                        batchJob.getBatchId(), executionTime, timeoutMillis);
-
-                // 타임아웃 상태로 업데이트
-                execution.setStatus(BatchStatus.TIMEOUT.name());
-                execution.setEndTime(LocalDateTime.now());
-                execution.setExecutionTimeMs(executionTime);
-                execution.setErrorMessage(String.format("Execution timeout with error: %dms exceeded limit of %dms - %s",
-                        executionTime, timeoutMillis, e.getMessage()));
-                execution.setStackTrace(getStackTrace(e));
-                batchExecutionRepository.save(execution);
-
-                throw new BatchException(BatchExceptionMessage.BATCH_TIMEOUT, e);
+        } catch (CancellationException | ExecutionException e) {
+            if (running.isCancelled()) {
+                log.info("Batch execution cancelled: {} by {}", executionId, running.getCancelledBy());
+                finishExecution(execution, BatchStatus.CANCELLED,
+                        "Execution cancelled by " + running.getCancelledBy(), null);
+                throw new BatchException(BatchExceptionMessage.BATCH_CANCELLED);
             }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof BatchException batchException) {
+                throw batchException;
+            }
+            log.error("Proxy API execution failed: {}", cause.getMessage());
+            throw new BatchException(BatchExceptionMessage.PROXY_API_EXECUTION_FAILED, cause);
 
-            log.error("Proxy API execution failed: {}", e.getMessage());
-            throw new BatchException(BatchExceptionMessage.PROXY_API_EXECUTION_FAILED, e);
+        } finally {
+            runningExecutions.remove(executionId);
         }
     }
 
     /**
-     * Proxy API 실행
+     * Proxy API 실행 (배치 실행기 워커 스레드)
      */
-    private ProxyExecutionResponse executeProxyApi(BatchJob batchJob, String executionId, String executedBy) {
-        try {
-            // 실행 파라미터 준비
-            Map<String, Object> parameters = prepareExecutionParameters(batchJob, executionId);
+    private ProxyExecutionResponse executeProxyApi(
+            BatchJob batchJob,
+            Map<String, Object> parameters,
+            String executedBy,
+            long deadlineAt,
+            RunningExecution running) {
+
+        // Proxy API 요청 생성
+        ProxyExecutionRequest proxyRequest = ProxyExecutionRequest.builder()
+                .apiCode(batchJob.getProxyApiCode())
+                .parameters(parameters)
+                .executionTrigger("BATCH")
+                .executedBy(executedBy)
+                .deadlineAt(deadlineAt)
+                .build();
+
+        // API 엔드포인트 조회
+        var endpoint = apiEndpointService.getApiEndpointByCode(batchJob.getProxyApiCode());
 
-            // Proxy API 요청 생성
-            ProxyExecutionRequest proxyRequest = ProxyExecutionRequest.builder()
-                    .apiCode(batchJob.getProxyApiCode())
-                    .parameters(parameters)
-                    .executionTrigger("BATCH")
-                    .executedBy(executedBy)
-                    .build();
+        // API 실행 (취소 시 남은 재시도 중단)
+        CompletableFuture<ProxyExecutionResponse> proxyFuture = apiExecutionService.executeAsync(endpoint, proxyRequest);
+        running.attachProxy(proxyFuture);
+        return proxyFuture.join();
+    }
 
-            // API 엔드포인트 조회
-            var endpoint = apiEndpointService.getApiEndpointByCode(batchJob.getProxyApiCode());
+    /**
+     * 실행 취소
+     * - 이 서버에서 실행 중인 배치만 취소 가능 (Proxy 호출 취소, 실행 스레드가 CANCELLED 기록)
+     */
+    public void cancelExecution(String executionId, String cancelledBy) {
+        RunningExecution running = runningExecutions.get(executionId);
+        if (running == null) {
+            BatchExecution execution = batchExecutionRepository.findByExecutionId(executionId)
+                    .orElseThrow(() -> new BatchException(BatchExceptionMessage.BATCH_EXECUTION_NOT_FOUND));
+            throw new BatchException(BatchStatus.RUNNING.name().equals(execution.getStatus())
+                    ? BatchExceptionMessage.BATCH_RUNNING_ON_OTHER_SERVER
+                    : BatchExceptionMessage.BATCH_EXECUTION_NOT_RUNNING);
+        }
 
-            // API 실행
-            return apiExecutionService.execute(endpoint, proxyRequest);
+        log.info("Cancelling batch execution: {} by {}", executionId, cancelledBy);
+        running.cancel(cancelledBy);
+    }
 
-        } catch (Exception e) {
-            log.error("Proxy API execution failed: {}", e.getMessage());
-            throw new BatchException(BatchExceptionMessage.PROXY_API_EXECUTION_FAILED, e);
+    /**
+     * 실행 종료 상태 기록 (타임아웃/취소)
+     */
+    private void finishExecution(BatchExecution execution, BatchStatus status, String errorMessage, Exception e) {
+        execution.setStatus(status.name());
+        execution.setEndTime(LocalDateTime.now());
+        execution.setExecutionTimeMs(Duration.between(execution.getStartTime(), execution.getEndTime()).toMillis());
+        execution.setErrorMessage(errorMessage);
+        if (e != null) {
+            execution.setStackTrace(getStackTrace(e));
         }
+        batchExecutionRepository.save(execution);
+        batchExecutionStreamService.publishStatus(execution);
     }
 
     /**
-     * 실행 파라미터 준비
-     * - JSON 파라미터 파싱 및 템플릿 변수 치환
+     * 실행 파라미터 평가
+     * - 최초 실행: 배치 작업의 컴파일된 파라미터를 현재 시각으로 평가 (덮어쓰기 적용)
+     * - 재시도: 원본 실행에서 평가된 스냅샷을 그대로 사용 (${now-1d} 등이 재시도 시각으로 바뀌지 않도록)
+     * - executionId, batchId는 항상 현재 실행 기준
      */
-    private Map<String, Object> prepareExecutionParameters(BatchJob batchJob, String executionId) {
+    private Map<String, Object> resolveExecutionParameters(
+            BatchJob batchJob, BatchExecution execution, Map<String, Object> overrides) {
+        CompiledBatchParameters compiled = execution.getRetryCount() > 0 && execution.getExecutionParameters() != null
+                ? batchParameterCache.compile(execution.getExecutionParameters())
+                : batchParameterCache.get(batchJob);
+
         Map<String, Object> parameters = new HashMap<>();
+        try {
+            parameters.putAll(compiled.resolve(
+                    new CompiledBatchParameters.Context(
+                            execution.getExecutionId(), batchJob.getBatchId(), LocalDateTime.now()),
+                    overrides));
+        } catch (IllegalArgumentException e) {
+            throw new BatchException(BatchExceptionMessage.INVALID_EXECUTION_PARAMETERS, e);
+        }
 
         // 기본 파라미터
-        parameters.put("executionId", executionId);
+        parameters.put("executionId", execution.getExecutionId());
         parameters.put("batchId", batchJob.getBatchId());
-
-        // 배치 작업에 정의된 파라미터 병합
-        if (batchJob.getExecutionParameters() != null && !batchJob.getExecutionParameters().isEmpty()) {
-            try {
-                Map<String, Object> customParams = objectMapper.readValue(
-                        batchJob.getExecutionParameters(),
-                        Map.class
-                );
-                parameters.putAll(customParams);
-            } catch (Exception e) {
-                log.warn("Failed to parse execution parameters: {}", e.getMessage());
-            }
-        }
-
         return parameters;
     }
 
@@ -354,9 +534,32 @@ public class BatchExecutionService {
         }
 
         batchExecutionRepository.save(execution);
+        batchExecutionStreamService.publishStatus(execution);
         log.info("Batch execution completed: {} - {}", execution.getExecutionId(), execution.getStatus());
     }
 
+    /**
+     * 청크 작업 완료 처리 (읽기/쓰기 건수 포함)
+     */
+    private void completeChunkExecution(BatchExecution execution, BatchChunkJobRunner.Result result) {
+        execution.setReadCount(result.readCount());
+        execution.setWriteCount(result.writeCount());
+        execution.setEndTime(LocalDateTime.now());
+        execution.setExecutionTimeMs(Duration.between(execution.getStartTime(), execution.getEndTime()).toMillis());
+
+        if (result.success()) {
+            execution.setStatus(BatchStatus.SUCCESS.name());
+        } else {
+            execution.setStatus(BatchStatus.FAIL.name());
+            execution.setErrorMessage(result.errorMessage());
+        }
+
+        batchExecutionRepository.save(execution);
+        batchExecutionStreamService.publishStatus(execution);
+        log.info("Chunk batch execution completed: {} - {} (read {}, write {})",
+                execution.getExecutionId(), execution.getStatus(), result.readCount(), result.writeCount());
+    }
+
     /**
      * 실행 이력 생성
      */
@@ -378,21 +581,18 @@ public class BatchExecutionService {
                 .executionParameters(batchJob.getExecutionParameters())
                 .retryCount(retryCount)
                 .originalExecutionId(originalExecutionId)
-                .serverInfo(getServerInfo())
+                .serverInfo(batchNodeHeartbeat.getNodeId())
                 .executedBy(executedBy)
                 .startTime(LocalDateTime.now())
                 .build();
     }
 
     /**
-     * 서버 정보 조회
+     * 종료 상태가 이미 기록된 예외인지 여부
      */
-    private String getServerInfo() {
-        try {
-            return InetAddress.getLocalHost().getHostName();
-        } catch (Exception e) {
-            return "unknown";
-        }
+    private boolean isFinished(BatchException e) {
+        return e.getBatchExceptionMessage() == BatchExceptionMessage.BATCH_TIMEOUT
+                || e.getBatchExceptionMessage() == BatchExceptionMessage.BATCH_CANCELLED;
     }
 
     /**
@@ -406,4 +606,59 @@ public class BatchExecutionService {
         }
         return sb.toString();
     }
+
+    /**
+     * 마감 시각 안에서 실행할 작업 (배치 실행기 워커 스레드)
+     */
+    @FunctionalInterface
+    private interface DeadlineTask<T> {
+        T run(long deadlineAt, RunningExecution running);
+    }
+
+    /**
+     * 이 서버에서 실행 중인 배치 (취소 대상)
+     * - 실행 Future와 Proxy Future를 함께 취소하여 대기 스레드와 남은 재시도를 즉시 해제
+     */
+    private static class RunningExecution {
+        private CompletableFuture<?> task;
+        private CompletableFuture<?> proxyFuture;
+        private boolean cancelled;
+        private String cancelledBy;
+
+        private synchronized void attachTask(CompletableFuture<?> task) {
+            this.task = task;
+            if (cancelled) {
+                task.cancel(true);
+            }
+        }
+
+        private synchronized void attachProxy(CompletableFuture<?> proxyFuture) {
+            this.proxyFuture = proxyFuture;
+            if (cancelled) {
+                proxyFuture.cancel(true);
+            }
+        }
+
+        private synchronized void cancel(String cancelledBy) {
+            if (cancelled) {
+                return;
+            }
+            this.cancelled = true;
+            this.cancelledBy = cancelledBy;
+            if (proxyFuture != null) {
+                proxyFuture.cancel(true);
+            }
+            if (task != null) {
+                task.cancel(true);
+            }
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled && cancelledBy != null;
+        }
+
+        private synchronized String getCancelledBy() {
+            return cancelledBy;
+        }
+    }
 }
@@ -0,0 +1,277 @@
+package com.wan.framework.batch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchExecutionEventType;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.dto.BatchExecutionEvent;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배치 실행 이벤트 스트림 (SSE)
+ * - 실행 상태 변경/진행 상황/로그를 Redis Pub/Sub으로 발행 → 모든 서버가 수신하여 자기 SSE 구독자에게 전달
+ * - 어느 서버에 연결해도 다른 서버에서 실행 중인 배치 이벤트를 받을 수 있음 (DB 폴링 대체)
+ * - 실행 단위 구독은 연결 시 DB의 현재 상태를 먼저 전송하고, 종료 상태가 되면 스트림 종료
+ * - 발행 실패는 실행에 영향을 주지 않음 (이 서버 구독자에게만 직접 전달)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchExecutionStreamService {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BatchExecutionRepository batchExecutionRepository;
+    private final BatchProperties batchProperties;
+    private final BatchNodeHeartbeat batchNodeHeartbeat;
+
+    private static final String CHANNEL_EXECUTION_EVENTS = "batch:execution:events";
+    private static final Set<BatchStatus> TERMINAL_STATUSES = EnumSet.of(
+            BatchStatus.SUCCESS, BatchStatus.FAIL, BatchStatus.TIMEOUT, BatchStatus.CANCELLED, BatchStatus.SKIPPED);
+
+    // 이 서버의 SSE 구독 (executionId가 있으면 실행 단위, 없으면 전체 또는 batchId 단위)
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    // 실행 ID -> 마지막 진행 이벤트 발행 시각 (발행량 제한)
+    private final Map<String, Long> lastProgressAt = new ConcurrentHashMap<>();
+
+    private String serverInfo;
+
+    private record Subscription(SseEmitter emitter, String executionId, String batchId) {
+        boolean matches(BatchExecutionEvent event) {
+            if (executionId != null) {
+                return executionId.equals(event.getExecutionId());
+            }
+            return batchId == null || batchId.equals(event.getBatchId());
+        }
+    }
+
+    /**
+     * Redis Pub/Sub 리스너 초기화
+     */
+    @PostConstruct
+    public void init() {
+        serverInfo = batchNodeHeartbeat.getNodeId();
+        listenerContainer.addMessageListener(
+                new MessageListener() {
+                    @Override
+                    public void onMessage(Message message, byte[] pattern) {
+                        try {
+                            dispatch(objectMapper.readValue(message.getBody(), BatchExecutionEvent.class));
+                        } catch (Exception e) {
+                            log.warn("Failed to handle batch execution event: {}", e.getMessage());
+                        }
+                    }
+                },
+                new ChannelTopic(CHANNEL_EXECUTION_EVENTS)
+        );
+        log.info("BatchExecutionStreamService initialized with Redis Pub/Sub");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+        subscriptions.clear();
+    }
+
+    /**
+     * 실행 단위 구독
+     * - 현재 상태를 먼저 전송, 이미 종료된 실행이면 바로 스트림 종료
+     */
+    public SseEmitter subscribe(String executionId) {
+        // 조회 중 발생한 이벤트를 놓치지 않도록 먼저 등록
+        Subscription subscription = register(executionId, null);
+        BatchExecution execution = batchExecutionRepository.findByExecutionId(executionId).orElse(null);
+        if (execution == null) {
+            remove(subscription);
+            throw new BatchException(BatchExceptionMessage.BATCH_EXECUTION_NOT_FOUND);
+        }
+
+        send(subscription, statusEvent(execution));
+        if (isTerminal(execution.getStatus())) {
+            remove(subscription);
+            subscription.emitter().complete();
+        }
+        return subscription.emitter();
+    }
+
+    /**
+     * 전체 실행 구독 (batchId 지정 시 해당 배치만)
+     */
+    public SseEmitter subscribeAll(String batchId) {
+        return register(null, batchId).emitter();
+    }
+
+    /**
+     * 상태 변경 발행
+     */
+    public void publishStatus(BatchExecution execution) {
+        if (isTerminal(execution.getStatus())) {
+            lastProgressAt.remove(execution.getExecutionId());
+        }
+        publish(statusEvent(execution));
+    }
+
+    /**
+     * 진행 상황 발행 (실행별 progress-interval-ms 간격으로 제한)
+     */
+    public void publishProgress(BatchExecution execution, Integer progress) {
+        long now = System.currentTimeMillis();
+        long interval = batchProperties.getStream().getProgressIntervalMs();
+        Long last = lastProgressAt.get(execution.getExecutionId());
+        if (last != null && now - last < interval) {
+            return;
+        }
+        lastProgressAt.put(execution.getExecutionId(), now);
+
+        publish(BatchExecutionEvent.builder()
+                .eventType(BatchExecutionEventType.PROGRESS.name())
+                .executionId(execution.getExecutionId())
+                .batchId(execution.getBatchId())
+                .status(execution.getStatus())
+                .progress(progress)
+                .readCount(execution.getReadCount())
+                .writeCount(execution.getWriteCount())
+                .serverInfo(serverInfo)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 실행 로그 발행
+     */
+    public void publishLog(BatchExecution execution, String message) {
+        publish(BatchExecutionEvent.builder()
+                .eventType(BatchExecutionEventType.LOG.name())
+                .executionId(execution.getExecutionId())
+                .batchId(execution.getBatchId())
+                .status(execution.getStatus())
+                .message(message)
+                .serverInfo(serverInfo)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 유휴 연결 유지 (프록시 타임아웃 방지) 및 끊긴 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${batch.stream.heartbeat-ms:15000}",
+            initialDelayString = "${batch.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.emitter().send(SseEmitter.event().comment("ping"));
+            } catch (Exception e) {
+                remove(subscription);
+            }
+        }
+    }
+
+    /**
+     * 수신 이벤트를 이 서버 구독자에게 전달
+     * - 실행 단위 구독은 종료 상태 이벤트 후 스트림 종료
+     */
+    void dispatch(BatchExecutionEvent event) {
+        boolean terminal = BatchExecutionEventType.STATUS.name().equals(event.getEventType())
+                && isTerminal(event.getStatus());
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.matches(event)) {
+                continue;
+            }
+            if (send(subscription, event) && terminal && subscription.executionId() != null) {
+                remove(subscription);
+                subscription.emitter().complete();
+            }
+        }
+    }
+
+    int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void publish(BatchExecutionEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_EXECUTION_EVENTS, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("Failed to publish batch execution event: {} - {}", event.getExecutionId(), e.getMessage());
+            // 다른 서버에는 전달되지 않지만 이 서버 구독자에게는 전달
+            dispatch(event);
+        }
+    }
+
+    private Subscription register(String executionId, String batchId) {
+        if (subscriptions.size() >= batchProperties.getStream().getMaxSubscribers()) {
+            throw new BatchException(BatchExceptionMessage.STREAM_SUBSCRIBER_LIMIT);
+        }
+
+        SseEmitter emitter = new SseEmitter(batchProperties.getStream().getEmitterTimeoutSeconds() * 1000L);
+        Subscription subscription = new Subscription(emitter, executionId, batchId);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    private boolean send(Subscription subscription, BatchExecutionEvent event) {
+        try {
+            subscription.emitter().send(SseEmitter.event()
+                    .name(event.getEventType())
+                    .data(event));
+            return true;
+        } catch (Exception e) {
+            log.debug("SSE subscriber disconnected: {}", e.getMessage());
+            remove(subscription);
+            return false;
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    private BatchExecutionEvent statusEvent(BatchExecution execution) {
+        boolean terminal = isTerminal(execution.getStatus());
+        return BatchExecutionEvent.builder()
+                .eventType(BatchExecutionEventType.STATUS.name())
+                .executionId(execution.getExecutionId())
+                .batchId(execution.getBatchId())
+                .status(execution.getStatus())
+                .progress(terminal ? 100 : BatchStatus.RUNNING.name().equals(execution.getStatus()) ? null : 0)
+                .readCount(execution.getReadCount())
+                .writeCount(execution.getWriteCount())
+                .message(execution.getErrorMessage())
+                .serverInfo(execution.getServerInfo() != null ? execution.getServerInfo() : serverInfo)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private boolean isTerminal(String status) {
+        try {
+            return status != null && TERMINAL_STATUSES.contains(BatchStatus.valueOf(status));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
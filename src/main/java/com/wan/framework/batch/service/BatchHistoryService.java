@@ -1,11 +1,16 @@
 package com.wan.framework.batch.service;
 
+import com.wan.framework.base.dto.CursorPage;
+import com.wan.framework.base.dto.KeysetCursor;
 import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchStatus;
 import com.wan.framework.batch.domain.BatchExecution;
 import com.wan.framework.batch.dto.BatchExecutionDTO;
 import com.wan.framework.batch.exception.BatchException;
 import com.wan.framework.batch.mapper.BatchExecutionMapper;
 import com.wan.framework.batch.repository.BatchExecutionRepository;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.service.ExecutionRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +36,7 @@ public class BatchHistoryService {
 
     private final BatchExecutionRepository batchExecutionRepository;
     private final BatchExecutionMapper batchExecutionMapper;
+    private final ExecutionRollupService executionRollupService;
 
     /**
      * 실행 이력 조회 (ID)
@@ -96,6 +102,54 @@ public class BatchHistoryService {
         return entities.map(batchExecutionMapper::toDto);
     }
 
+    /**
+     * 배치 작업별 실행 이력 조회 (커서)
+     */
+    public CursorPage<BatchExecutionDTO> getHistoryByBatchJob(Long batchJobId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<BatchExecution> entities = batchExecutionRepository
+                .findByBatchJobIdBefore(batchJobId, position.time(), position.id(), CursorPage.limit(size));
+
+        return CursorPage.of(entities, size, BatchExecution::getStartTime, BatchExecution::getId,
+                batchExecutionMapper::toDto);
+    }
+
+    /**
+     * 배치 ID별 실행 이력 조회 (커서)
+     */
+    public CursorPage<BatchExecutionDTO> getHistoryByBatchId(String batchId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<BatchExecution> entities = batchExecutionRepository
+                .findByBatchIdBefore(batchId, position.time(), position.id(), CursorPage.limit(size));
+
+        return CursorPage.of(entities, size, BatchExecution::getStartTime, BatchExecution::getId,
+                batchExecutionMapper::toDto);
+    }
+
+    /**
+     * 상태별 실행 이력 조회 (커서)
+     */
+    public CursorPage<BatchExecutionDTO> getHistoryByStatus(String status, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<BatchExecution> entities = batchExecutionRepository
+                .findByStatusBefore(status, position.time(), position.id(), CursorPage.limit(size));
+
+        return CursorPage.of(entities, size, BatchExecution::getStartTime, BatchExecution::getId,
+                batchExecutionMapper::toDto);
+    }
+
+    /**
+     * 트리거 타입별 실행 이력 조회 (커서)
+     */
+    public CursorPage<BatchExecutionDTO> getHistoryByTriggerType(String triggerType, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<BatchExecution> entities = batchExecutionRepository
+                .findByTriggerTypeBefore(triggerType, position.time(), position.id(), CursorPage.limit(size));
+
+        return CursorPage.of(entities, size, BatchExecution::getStartTime, BatchExecution::getId,
+                batchExecutionMapper::toDto);
+    }
+
     /**
      * 기간별 실행 이력 조회
      */
@@ -122,16 +176,19 @@ public class BatchHistoryService {
 
     /**
      * 배치 실행 통계 조회
+     * - 롤업 합계 + 아직 롤업되지 않은 최근/실행 중 이력
      */
     public Object getExecutionStats(Long batchJobId) {
-        return batchExecutionRepository.getExecutionStats(batchJobId);
+        return executionRollupService.getExecutionStats(RollupSource.BATCH_EXECUTION, batchJobId);
     }
 
     /**
      * 재시도 대상 조회
+     * - 재시도 횟수가 남았지만 다음 재시도가 예약되지 않은 실패/타임아웃 실행 (예약 실패 등)
      */
     public List<BatchExecutionDTO> getRetryTargets() {
-        List<BatchExecution> entities = batchExecutionRepository.findRetryTargets("FAIL");
+        List<BatchExecution> entities = batchExecutionRepository.findRetryTargets(
+                List.of(BatchStatus.FAIL.name(), BatchStatus.TIMEOUT.name()));
 
         return entities.stream()
                 .map(batchExecutionMapper::toDto)
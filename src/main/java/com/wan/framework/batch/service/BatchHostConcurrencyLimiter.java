@@ -0,0 +1,131 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.proxy.service.ApiEndpointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Proxy 대상 호스트별 스케줄 실행 동시성 제한 (클러스터 전체)
+ * - 호스트별 Redis Sorted Set 세마포어: 멤버 = 실행 허가, 점수 = 만료 시각
+ * - 만료 시각은 배치 타임아웃 + 여유 시간 → 서버가 중단되어 반납하지 못한 허가도 자동 회수
+ * - 만료 정리 / 개수 확인 / 추가를 하나의 Lua Script로 처리
+ * - 상한 미설정, 호스트 확인 불가(템플릿 URL 등), Redis 장애 시에는 제한 없이 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchHostConcurrencyLimiter {
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ApiEndpointService apiEndpointService;
+    private final BatchProperties batchProperties;
+
+    private static final String PERMIT_KEY_PREFIX = "batch:host:";
+    private static final String PERMIT_KEY_SUFFIX = ":permits";
+    private static final long PERMIT_MARGIN_MILLIS = 60_000L;
+
+    // Lua Script: 만료 허가 정리 후 상한 미만이면 허가 추가 (1), 아니면 0
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('zremrangebyscore', KEYS[1], '-inf', ARGV[1])
+            if redis.call('zcard', KEYS[1]) < tonumber(ARGV[2]) then
+                redis.call('zadd', KEYS[1], ARGV[3], ARGV[4])
+                redis.call('pexpire', KEYS[1], ARGV[5])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 실행 허가
+     *
+     * @param key    허가 키 (제한 없음이면 null)
+     * @param member 허가 식별 값
+     */
+    public record Permit(String key, String member) {
+
+        public static final Permit NONE = new Permit(null, null);
+    }
+
+    /**
+     * 실행 허가 획득 시도
+     *
+     * @return 허가 (제한 없음이면 Permit.NONE), 호스트 상한에 도달했으면 empty
+     */
+    public Optional<Permit> tryAcquire(BatchJob batchJob) {
+        String host = resolveHost(batchJob);
+        if (host == null) {
+            return Optional.of(Permit.NONE);
+        }
+        int limit = limitOf(host);
+        if (limit <= 0) {
+            return Optional.of(Permit.NONE);
+        }
+
+        String key = PERMIT_KEY_PREFIX + host + PERMIT_KEY_SUFFIX;
+        String member = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        long timeoutSeconds = batchJob.getTimeoutSeconds() != null ? batchJob.getTimeoutSeconds() : 300L;
+        long ttlMillis = timeoutSeconds * 1000L + PERMIT_MARGIN_MILLIS;
+        try {
+            Long acquired = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(key),
+                    String.valueOf(now), String.valueOf(limit), String.valueOf(now + ttlMillis), member,
+                    String.valueOf(ttlMillis));
+            if (acquired == null || acquired == 0) {
+                log.debug("Host concurrency limit reached: {} ({}), batch {}", host, limit, batchJob.getBatchId());
+                return Optional.empty();
+            }
+            return Optional.of(new Permit(key, member));
+        } catch (Exception e) {
+            log.warn("Failed to acquire host permit, running without limit: {} - {}", host, e.getMessage());
+            return Optional.of(Permit.NONE);
+        }
+    }
+
+    /**
+     * 실행 허가 반납
+     */
+    public void release(Permit permit) {
+        if (permit == null || permit.key() == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForZSet().remove(permit.key(), permit.member());
+        } catch (Exception e) {
+            // 반납하지 못한 허가는 만료 시각에 회수됨
+            log.warn("Failed to release host permit: {} - {}", permit.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * Proxy 대상 호스트 (소문자, 확인 불가 시 null)
+     */
+    String resolveHost(BatchJob batchJob) {
+        if (batchJob.getProxyApiCode() == null) {
+            return null;
+        }
+        try {
+            String targetUrl = apiEndpointService.getApiEndpointByCode(batchJob.getProxyApiCode()).getTargetUrl();
+            String host = URI.create(targetUrl).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (Exception e) {
+            // 엔드포인트 없음 / 템플릿 변수가 포함된 URL
+            return null;
+        }
+    }
+
+    private int limitOf(String host) {
+        Integer hostLimit = batchProperties.getSchedule().getHostLimits().get(host);
+        return hostLimit != null ? hostLimit : batchProperties.getSchedule().getMaxConcurrentPerHost();
+    }
+}
@@ -1,8 +1,11 @@
 package com.wan.framework.batch.service;
 
 import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.batch.config.BatchProperties;
 import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchJobType;
 import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.constant.MisfirePolicy;
 import com.wan.framework.batch.constant.ScheduleType;
 import com.wan.framework.batch.domain.BatchJob;
 import com.wan.framework.batch.dto.BatchJobDTO;
@@ -27,6 +30,7 @@ import java.util.stream.Collectors;
  * 배치 작업 서비스
  * - 배치 작업 CRUD
  * - 스케줄 검증
+ * - 실행 파라미터 검증 (저장 시점 컴파일)
  * - 활성화/비활성화 관리
  */
 @Slf4j
@@ -39,6 +43,8 @@ public class BatchJobService {
     private final BatchJobMapper batchJobMapper;
     private final BatchSchedulerService batchSchedulerService;
     private final BatchExecutionRepository batchExecutionRepository;
+    private final BatchProperties batchProperties;
+    private final BatchParameterCache batchParameterCache;
 
     /**
      * 배치 작업 생성
@@ -54,6 +60,10 @@ public class BatchJobService {
 
         // 스케줄 표현식 검증
         validateScheduleExpression(dto.getScheduleType(), dto.getScheduleExpression());
+        validateMisfirePolicy(dto.getMisfirePolicy());
+        validateSpread(dto.getSpreadSeconds(), dto.getScheduleType(), dto.getScheduleExpression());
+        validateJobType(dto.getJobType(), dto.getChunkWriterApiCode(), dto.getChunkSize(), dto.getChunkPartitions());
+        batchParameterCache.compile(dto.getExecutionParameters());
 
         // Proxy API 코드 검증은 실제 실행 시 수행
         BatchJob entity = batchJobMapper.toEntity(dto);
@@ -101,6 +111,22 @@ public class BatchJobService {
             );
         }
 
+        validateMisfirePolicy(dto.getMisfirePolicy());
+        validateSpread(
+                dto.getSpreadSeconds() != null ? dto.getSpreadSeconds() : entity.getSpreadSeconds(),
+                dto.getScheduleType() != null ? dto.getScheduleType() : entity.getScheduleType(),
+                dto.getScheduleExpression() != null ? dto.getScheduleExpression() : entity.getScheduleExpression()
+        );
+        validateJobType(
+                dto.getJobType() != null ? dto.getJobType() : entity.getJobType(),
+                dto.getChunkWriterApiCode() != null ? dto.getChunkWriterApiCode() : entity.getChunkWriterApiCode(),
+                dto.getChunkSize() != null ? dto.getChunkSize() : entity.getChunkSize(),
+                dto.getChunkPartitions() != null ? dto.getChunkPartitions() : entity.getChunkPartitions()
+        );
+        if (dto.getExecutionParameters() != null) {
+            batchParameterCache.compile(dto.getExecutionParameters());
+        }
+
         // 기존 스케줄 제거
         try {
             batchSchedulerService.unscheduleBatchJob(entity.getBatchId());
@@ -157,6 +183,7 @@ public class BatchJobService {
         entity.setDataState(DataStateCode.D);
         entity.setEnabled(false);
         batchJobRepository.save(entity);
+        batchParameterCache.evict(entity.getId());
 
         log.info("Batch job deleted: {}", id);
     }
@@ -262,7 +289,7 @@ public class BatchJobService {
     /**
      * 스케줄 표현식 검증
      */
-    private void validateScheduleExpression(String scheduleType, String expression) {
+    void validateScheduleExpression(String scheduleType, String expression) {
         try {
             if (ScheduleType.CRON.name().equals(scheduleType)) {
                 // CRON 표현식 검증
@@ -283,6 +310,69 @@ public class BatchJobService {
         }
     }
 
+    /**
+     * Misfire 정책 검증 (미지정 시 기본값 사용)
+     */
+    private void validateMisfirePolicy(String misfirePolicy) {
+        if (misfirePolicy == null) {
+            return;
+        }
+        try {
+            MisfirePolicy.valueOf(misfirePolicy);
+        } catch (IllegalArgumentException e) {
+            throw new BatchException(BatchExceptionMessage.INVALID_MISFIRE_POLICY);
+        }
+    }
+
+    /**
+     * 실행 분산 구간 검증 (미지정/0이면 분산 없음)
+     * - 설정 상한 이내, INTERVAL 스케줄은 실행 주기 미만 (다음 실행과 겹치지 않도록)
+     * - 스케줄 표현식 검증 이후 호출
+     */
+    private void validateSpread(Integer spreadSeconds, String scheduleType, String scheduleExpression) {
+        if (spreadSeconds == null) {
+            return;
+        }
+        if (spreadSeconds < 0 || spreadSeconds > batchProperties.getSchedule().getMaxSpreadSeconds()) {
+            throw new BatchException(BatchExceptionMessage.INVALID_SCHEDULE_SPREAD);
+        }
+        if (spreadSeconds > 0 && ScheduleType.INTERVAL.name().equals(scheduleType)) {
+            try {
+                if (spreadSeconds * 1000L >= Long.parseLong(scheduleExpression)) {
+                    throw new BatchException(BatchExceptionMessage.INVALID_SCHEDULE_SPREAD);
+                }
+            } catch (NumberFormatException e) {
+                throw new BatchException(BatchExceptionMessage.INVALID_SCHEDULE_EXPRESSION);
+            }
+        }
+    }
+
+    /**
+     * 작업 유형 검증 (미지정 시 API)
+     * - CHUNK: 쓰기 API 필수, 청크 크기/파티션 수는 설정 상한 이내
+     */
+    private void validateJobType(String jobType, String chunkWriterApiCode, Integer chunkSize, Integer chunkPartitions) {
+        if (jobType == null) {
+            return;
+        }
+        BatchJobType type;
+        try {
+            type = BatchJobType.valueOf(jobType);
+        } catch (IllegalArgumentException e) {
+            throw new BatchException(BatchExceptionMessage.INVALID_JOB_TYPE);
+        }
+        if (type != BatchJobType.CHUNK) {
+            return;
+        }
+
+        BatchProperties.Chunk chunk = batchProperties.getChunk();
+        if (chunkWriterApiCode == null || chunkWriterApiCode.isBlank()
+                || (chunkSize != null && (chunkSize < 1 || chunkSize > chunk.getMaxChunkSize()))
+                || (chunkPartitions != null && (chunkPartitions < 1 || chunkPartitions > chunk.getMaxPartitions()))) {
+            throw new BatchException(BatchExceptionMessage.INVALID_CHUNK_CONFIG);
+        }
+    }
+
     /**
      * 배치 실행 중 여부 확인
      */
@@ -0,0 +1,90 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배치 서버 생존 신호 (Redis)
+ * - 서버 식별 값 = 호스트명 + 기동 시 생성한 인스턴스 ID (실행 이력의 serverInfo와 같은 값)
+ *   → 같은 호스트에서 재시작한 서버나 한 호스트의 여러 서버를 이전 실행과 구분
+ *     (재시작 전 프로세스가 남긴 실행은 그 인스턴스의 신호가 끊기므로 정리 대상)
+ * - heartbeat-ms 주기로 TTL(node-ttl-seconds) 키를 갱신, 키가 없으면 중단된 서버로 판단
+ * - 정상 종료 시에도 키를 지우지 않음 (종료 중 마무리되는 실행이 정리되지 않도록 TTL 만료에 맡김)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchNodeHeartbeat {
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final BatchProperties batchProperties;
+
+    private static final String NODE_KEY_PREFIX = "batch:node:";
+    private static final String UNKNOWN_NODE = "unknown";
+    private static final int HOST_NAME_LENGTH = 80;
+
+    // 다른 Bean 초기화 중에도 조회할 수 있도록 생성 시 결정
+    private final String nodeId = resolveNodeId();
+
+    @PostConstruct
+    public void init() {
+        beat();
+    }
+
+    /**
+     * 생존 신호 갱신
+     */
+    @Scheduled(fixedDelayString = "${batch.reaper.heartbeat-ms:10000}",
+            initialDelayString = "${batch.reaper.heartbeat-ms:10000}")
+    public void beat() {
+        try {
+            stringRedisTemplate.opsForValue().set(NODE_KEY_PREFIX + nodeId, LocalDateTime.now().toString(),
+                    Duration.ofSeconds(batchProperties.getReaper().getNodeTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("Failed to send batch node heartbeat: {} - {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 생존 여부 (이 프로세스, 식별 불가 서버는 항상 생존으로 판단)
+     * - 같은 호스트의 다른 인스턴스(재시작 전 프로세스 포함)는 자신의 생존 신호로만 판단
+     *
+     * @throws org.springframework.dao.DataAccessException Redis 장애 (판단 불가)
+     */
+    public boolean isAlive(String serverInfo) {
+        if (serverInfo == null || serverInfo.equals(nodeId) || UNKNOWN_NODE.equals(serverInfo)) {
+            return true;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(NODE_KEY_PREFIX + serverInfo));
+    }
+
+    /**
+     * 이 프로세스의 서버 식별 값 (실행 이력 serverInfo에 기록)
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String resolveNodeId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            hostName = UNKNOWN_NODE;
+        }
+        if (hostName.length() > HOST_NAME_LENGTH) {
+            hostName = hostName.substring(0, HOST_NAME_LENGTH);
+        }
+        return hostName + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,77 @@
+package com.wan.framework.batch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.exception.BatchException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배치 실행 파라미터 캐시
+ * - executionParameters JSON을 배치 작업 ID + 버전(수정일시) 단위로 한 번만 컴파일
+ * - 배치 작업이 수정되면 버전이 바뀌어 다음 실행 시 재컴파일
+ * - 컴파일 오류는 INVALID_EXECUTION_PARAMETERS (원인 메시지는 로그에 기록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchParameterCache {
+
+    private final ObjectMapper objectMapper;
+
+    // 배치 작업 ID -> 최신 버전 컴파일 결과
+    private final Map<Long, VersionedParameters> cache = new ConcurrentHashMap<>();
+
+    private record VersionedParameters(LocalDateTime version, CompiledBatchParameters parameters) {
+    }
+
+    /**
+     * 배치 작업 컴파일 파라미터 조회
+     */
+    public CompiledBatchParameters get(BatchJob batchJob) {
+        if (batchJob.getId() == null) {
+            return compile(batchJob.getExecutionParameters());
+        }
+
+        LocalDateTime version = versionOf(batchJob);
+        VersionedParameters cached = cache.get(batchJob.getId());
+        if (cached != null && Objects.equals(cached.version(), version)) {
+            return cached.parameters();
+        }
+
+        CompiledBatchParameters compiled = compile(batchJob.getExecutionParameters());
+        cache.put(batchJob.getId(), new VersionedParameters(version, compiled));
+        log.debug("Execution parameters compiled: {} (version: {})", batchJob.getBatchId(), version);
+        return compiled;
+    }
+
+    /**
+     * 파라미터 JSON 컴파일 (캐시 미사용, 저장 시 검증 / 재시도 스냅샷 평가용)
+     */
+    public CompiledBatchParameters compile(String executionParameters) {
+        try {
+            return CompiledBatchParameters.compile(executionParameters, objectMapper);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid execution parameters: {}", e.getMessage());
+            throw new BatchException(BatchExceptionMessage.INVALID_EXECUTION_PARAMETERS, e);
+        }
+    }
+
+    /**
+     * 배치 작업 캐시 제거
+     */
+    public void evict(Long batchJobId) {
+        cache.remove(batchJobId);
+    }
+
+    private LocalDateTime versionOf(BatchJob batchJob) {
+        return batchJob.getUpdatedAt() != null ? batchJob.getUpdatedAt() : batchJob.getCreatedAt();
+    }
+}
@@ -0,0 +1,130 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배치 재시도 스케줄러
+ * - 실행 시각이 된 RETRY 이력을 SELECT ... FOR UPDATE SKIP LOCKED로 선점 → 여러 서버가 중복 없이 나눠 실행
+ * - 선점과 상태 변경(RETRY → WAIT)은 한 트랜잭션, 실행은 트랜잭션 밖에서 처리
+ * - 서버당 동시 재시도 수만큼만 선점하여 남는 대상은 다른 서버가 가져감
+ * - 선점한 서버를 serverInfo에 기록 → 선점 후 서버가 중단되면 BatchExecutionReaper가 RETRY로 되돌림
+ */
+@Slf4j
+@Service
+public class BatchRetryScheduler {
+
+    private final BatchExecutionRepository batchExecutionRepository;
+    private final BatchExecutionService batchExecutionService;
+    private final BatchProperties batchProperties;
+    private final BatchNodeHeartbeat batchNodeHeartbeat;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor retryPool;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public BatchRetryScheduler(BatchExecutionRepository batchExecutionRepository,
+                               BatchExecutionService batchExecutionService,
+                               BatchProperties batchProperties,
+                               BatchNodeHeartbeat batchNodeHeartbeat,
+                               PlatformTransactionManager transactionManager) {
+        this.batchExecutionRepository = batchExecutionRepository;
+        this.batchExecutionService = batchExecutionService;
+        this.batchProperties = batchProperties;
+        this.batchNodeHeartbeat = batchNodeHeartbeat;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int maxConcurrent = Math.max(1, batchProperties.getRetry().getMaxConcurrent());
+        this.retryPool = new ThreadPoolExecutor(
+                maxConcurrent, maxConcurrent,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("batch-retry-")
+        );
+    }
+
+    /**
+     * 주기적 재시도 선점 및 실행
+     */
+    @Scheduled(fixedDelayString = "${batch.retry.poll-interval-ms:5000}",
+            initialDelayString = "${batch.retry.poll-interval-ms:5000}")
+    public void poll() {
+        if (!batchProperties.getRetry().isEnabled()) {
+            return;
+        }
+
+        int slots = retryPool.getMaximumPoolSize() - inFlight.get();
+        if (slots <= 0) {
+            return;
+        }
+
+        try {
+            for (BatchExecution retryExecution : claimDueRetries(slots)) {
+                dispatch(retryExecution);
+            }
+        } catch (Exception e) {
+            log.warn("Batch retry poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 시각이 된 재시도 선점 (RETRY → WAIT)
+     */
+    List<BatchExecution> claimDueRetries(int limit) {
+        String serverInfo = batchNodeHeartbeat.getNodeId();
+        List<BatchExecution> claimed = transactionTemplate.execute(status -> {
+            List<BatchExecution> due = batchExecutionRepository.findDueRetriesForUpdate(
+                    BatchStatus.RETRY.name(), LocalDateTime.now(), limit);
+            due.forEach(execution -> {
+                execution.setStatus(BatchStatus.WAIT.name());
+                execution.setServerInfo(serverInfo);
+            });
+            return batchExecutionRepository.saveAll(due);
+        });
+        if (claimed != null && !claimed.isEmpty()) {
+            log.debug("Claimed {} batch retries", claimed.size());
+        }
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void dispatch(BatchExecution retryExecution) {
+        inFlight.incrementAndGet();
+        retryPool.execute(() -> {
+            try {
+                batchExecutionService.executeRetry(retryExecution);
+            } catch (Exception e) {
+                log.warn("Batch retry execution failed: {} - {}", retryExecution.getExecutionId(), e.getMessage());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryPool.shutdown();
+        try {
+            if (!retryPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                retryPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            retryPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package com.wan.framework.batch.service;
 
+import com.wan.framework.batch.constant.MisfirePolicy;
 import com.wan.framework.batch.constant.ScheduleType;
 import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.domain.BatchWorkflow;
 import com.wan.framework.batch.job.QuartzBatchJob;
+import com.wan.framework.batch.job.QuartzWorkflowJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+
 /**
  * 배치 스케줄러 서비스
  * - Quartz 스케줄러 관리
  * - 배치 작업 등록/해제
+ * - 배치 워크플로우 등록/해제 (WORKFLOW_GROUP)
+ * - 실행 분산 / 대기 실행 등록 (같은 Job에 1회성 Trigger 추가)
  */
 @Slf4j
 @Service
@@ -20,6 +27,16 @@ public class BatchSchedulerService {
 
     private final Scheduler scheduler;
 
+    /**
+     * 미뤄진 실행 여부 (1회성 Trigger의 JobData)
+     */
+    public static final String DEFERRED_KEY = "deferred";
+
+    /**
+     * 최초 예정 실행 시각 (epoch ms, 1회성 Trigger의 JobData)
+     */
+    public static final String QUEUED_SINCE_KEY = "queuedSince";
+
     /**
      * 배치 작업 스케줄 등록
      */
@@ -35,7 +52,8 @@ public class BatchSchedulerService {
                 .build();
 
         // Trigger 생성
-        Trigger trigger = createTrigger(batchJob);
+        Trigger trigger = createTrigger(batchJob.getBatchId(), "BATCH_GROUP", batchJob.getBatchName(),
+                batchJob.getScheduleType(), batchJob.getScheduleExpression(), resolveMisfirePolicy(batchJob));
 
         // 스케줄러에 등록
         if (scheduler.checkExists(jobDetail.getKey())) {
@@ -63,34 +81,132 @@ public class BatchSchedulerService {
         }
     }
 
+    /**
+     * 실행 분산 지연 (ms)
+     * - 분산 구간 내에서 batchId 해시로 정해지는 고정 지연 → 같은 시각의 스케줄이 구간 전체에 고르게 분산
+     * - 같은 배치는 항상 같은 지연 (실행 간격 유지)
+     */
+    public long spreadDelayMillis(BatchJob batchJob) {
+        Integer spreadSeconds = batchJob.getSpreadSeconds();
+        if (spreadSeconds == null || spreadSeconds <= 0) {
+            return 0L;
+        }
+        return Math.floorMod(batchJob.getBatchId().hashCode(), spreadSeconds * 1000L);
+    }
+
+    /**
+     * 배치 실행 미루기
+     * - 같은 Job에 1회성 Trigger 추가 (클러스터 JobStore에 저장되어 서버 재시작에도 유지)
+     * - 스케줄 해제/재등록 시 Job과 함께 삭제
+     *
+     * @param fireAt      실행 시각
+     * @param queuedSince 최초 예정 실행 시각 (대기 시간 상한 판단용)
+     */
+    public void deferBatchJob(String batchId, Date fireAt, long queuedSince) throws SchedulerException {
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(batchId + "_deferred_" + fireAt.getTime(), "BATCH_GROUP")
+                .forJob(JobKey.jobKey(batchId, "BATCH_GROUP"))
+                .usingJobData(DEFERRED_KEY, true)
+                .usingJobData(QUEUED_SINCE_KEY, queuedSince)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .startAt(fireAt)
+                .build();
+
+        try {
+            scheduler.scheduleJob(trigger);
+            log.debug("Batch job deferred: {} to {}", batchId, fireAt);
+        } catch (ObjectAlreadyExistsException e) {
+            // 같은 시각으로 이미 미뤄짐
+            log.debug("Batch job already deferred: {} to {}", batchId, fireAt);
+        }
+    }
+
+    /**
+     * 배치 워크플로우 스케줄 등록
+     * - Misfire는 DO_NOTHING (누락된 워크플로우 실행은 다음 주기로)
+     */
+    public void scheduleWorkflow(BatchWorkflow workflow) throws SchedulerException {
+        log.info("Scheduling batch workflow: {}", workflow.getWorkflowId());
+
+        JobDetail jobDetail = JobBuilder.newJob(QuartzWorkflowJob.class)
+                .withIdentity(workflow.getWorkflowId(), "WORKFLOW_GROUP")
+                .withDescription(workflow.getWorkflowName())
+                .usingJobData("workflowId", workflow.getWorkflowId())
+                .storeDurably(false)
+                .build();
+
+        Trigger trigger = createTrigger(workflow.getWorkflowId(), "WORKFLOW_GROUP", workflow.getWorkflowName(),
+                workflow.getScheduleType(), workflow.getScheduleExpression(), MisfirePolicy.DO_NOTHING);
+
+        if (scheduler.checkExists(jobDetail.getKey())) {
+            scheduler.deleteJob(jobDetail.getKey());
+        }
+
+        scheduler.scheduleJob(jobDetail, trigger);
+        log.info("Batch workflow scheduled: {} with trigger: {}", workflow.getWorkflowId(), trigger.getKey());
+    }
+
+    /**
+     * 배치 워크플로우 스케줄 해제
+     */
+    public void unscheduleWorkflow(String workflowId) throws SchedulerException {
+        JobKey jobKey = JobKey.jobKey(workflowId, "WORKFLOW_GROUP");
+
+        if (scheduler.checkExists(jobKey)) {
+            scheduler.deleteJob(jobKey);
+            log.info("Batch workflow unscheduled: {}", workflowId);
+        }
+    }
+
     /**
      * Trigger 생성
+     * - 배치별 Misfire 정책 적용
      */
-    private Trigger createTrigger(BatchJob batchJob) {
+    private Trigger createTrigger(String name, String group, String description,
+                                  String scheduleType, String scheduleExpression, MisfirePolicy misfirePolicy) {
         TriggerBuilder<Trigger> triggerBuilder = TriggerBuilder.newTrigger()
-                .withIdentity(batchJob.getBatchId() + "_trigger", "BATCH_GROUP")
-                .withDescription(batchJob.getBatchName());
+                .withIdentity(name + "_trigger", group)
+                .withDescription(description);
 
-        if (ScheduleType.CRON.name().equals(batchJob.getScheduleType())) {
+        if (ScheduleType.CRON.name().equals(scheduleType)) {
             // CRON 스케줄
-            triggerBuilder.withSchedule(
-                    CronScheduleBuilder.cronSchedule(batchJob.getScheduleExpression())
-                            .withMisfireHandlingInstructionDoNothing()
-            );
-        } else if (ScheduleType.INTERVAL.name().equals(batchJob.getScheduleType())) {
+            CronScheduleBuilder schedule = CronScheduleBuilder.cronSchedule(scheduleExpression);
+            triggerBuilder.withSchedule(switch (misfirePolicy) {
+                case FIRE_ONCE_NOW -> schedule.withMisfireHandlingInstructionFireAndProceed();
+                case IGNORE_MISFIRES -> schedule.withMisfireHandlingInstructionIgnoreMisfires();
+                case DO_NOTHING -> schedule.withMisfireHandlingInstructionDoNothing();
+            });
+        } else if (ScheduleType.INTERVAL.name().equals(scheduleType)) {
             // INTERVAL 스케줄
-            long intervalMs = Long.parseLong(batchJob.getScheduleExpression());
-            triggerBuilder.withSchedule(
-                    SimpleScheduleBuilder.simpleSchedule()
-                            .withIntervalInMilliseconds(intervalMs)
-                            .repeatForever()
-                            .withMisfireHandlingInstructionNextWithRemainingCount()
-            );
+            long intervalMs = Long.parseLong(scheduleExpression);
+            SimpleScheduleBuilder schedule = SimpleScheduleBuilder.simpleSchedule()
+                    .withIntervalInMilliseconds(intervalMs)
+                    .repeatForever();
+            triggerBuilder.withSchedule(switch (misfirePolicy) {
+                case FIRE_ONCE_NOW -> schedule.withMisfireHandlingInstructionNowWithRemainingCount();
+                case IGNORE_MISFIRES -> schedule.withMisfireHandlingInstructionIgnoreMisfires();
+                case DO_NOTHING -> schedule.withMisfireHandlingInstructionNextWithRemainingCount();
+            });
         }
 
         return triggerBuilder.startNow().build();
     }
 
+    /**
+     * Misfire 정책 조회 (미지정/알 수 없는 값은 DO_NOTHING)
+     */
+    private MisfirePolicy resolveMisfirePolicy(BatchJob batchJob) {
+        if (batchJob.getMisfirePolicy() == null) {
+            return MisfirePolicy.DO_NOTHING;
+        }
+        try {
+            return MisfirePolicy.valueOf(batchJob.getMisfirePolicy());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown misfire policy: {} ({}), using DO_NOTHING", batchJob.getMisfirePolicy(), batchJob.getBatchId());
+            return MisfirePolicy.DO_NOTHING;
+        }
+    }
+
     /**
      * 모든 활성화된 배치 작업 스케줄 등록
      */
@@ -108,6 +224,21 @@ public class BatchSchedulerService {
         log.info("All enabled batch jobs scheduled");
     }
 
+    /**
+     * 스케줄이 있는 활성화된 워크플로우 스케줄 등록
+     */
+    public void scheduleAllEnabledWorkflows(java.util.List<BatchWorkflow> workflows) {
+        log.info("Scheduling enabled batch workflows: {} workflows", workflows.size());
+
+        for (BatchWorkflow workflow : workflows) {
+            try {
+                scheduleWorkflow(workflow);
+            } catch (Exception e) {
+                log.error("Failed to schedule batch workflow: {} - {}", workflow.getWorkflowId(), e.getMessage());
+            }
+        }
+    }
+
     /**
      * 스케줄러 상태 조회
      */
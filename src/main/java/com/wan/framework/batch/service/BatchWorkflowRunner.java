@@ -0,0 +1,305 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.constant.BatchTriggerType;
+import com.wan.framework.batch.constant.WorkflowEdgeCondition;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.domain.BatchWorkflowEdge;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.dto.BatchExecutionDTO;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRunRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 워크플로우 실행기 (DAG)
+ * - 선행 단계가 모두 끝나고 연결 조건이 충족된 단계를 단계 워커 풀에 제출 → 독립 분기는 병렬 실행
+ * - 연결 조건이 하나라도 불충족이면 단계를 건너뜀 (SKIPPED, 후행 단계에 전파)
+ * - 단계는 배치 실행(임대/마감 시각 포함)을 재시도 횟수만큼 반복, 재시도 간격은 지수 백오프
+ * - 단계 전이마다 상태를 저장하고, 재개 시 SUCCESS가 아닌 단계만 다시 실행
+ * - 단계 완료 이벤트로 진행하므로 워크플로우 전체를 대기하는 스레드는 없음
+ */
+@Slf4j
+@Service
+public class BatchWorkflowRunner {
+
+    private final BatchWorkflowRunRepository batchWorkflowRunRepository;
+    private final BatchWorkflowStepRunRepository batchWorkflowStepRunRepository;
+    private final BatchJobRepository batchJobRepository;
+    private final BatchExecutionService batchExecutionService;
+    private final ThreadPoolExecutor stepPool;
+
+    public BatchWorkflowRunner(BatchWorkflowRunRepository batchWorkflowRunRepository,
+                               BatchWorkflowStepRunRepository batchWorkflowStepRunRepository,
+                               BatchJobRepository batchJobRepository,
+                               BatchExecutionService batchExecutionService,
+                               BatchProperties batchProperties) {
+        this.batchWorkflowRunRepository = batchWorkflowRunRepository;
+        this.batchWorkflowStepRunRepository = batchWorkflowStepRunRepository;
+        this.batchJobRepository = batchJobRepository;
+        this.batchExecutionService = batchExecutionService;
+
+        BatchProperties.Workflow workflow = batchProperties.getWorkflow();
+        this.stepPool = new ThreadPoolExecutor(
+                workflow.getStepPoolSize(), workflow.getStepPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workflow.getQueueCapacity()),
+                new CustomizableThreadFactory("batch-workflow-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.stepPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 워크플로우 실행 시작/재개
+     * - 실행 이력과 단계 상태(WAIT/SUCCESS/...)는 호출 전에 저장되어 있어야 함
+     * - 실행 가능한 단계를 제출하고 바로 반환
+     */
+    public void start(BatchWorkflowRun run,
+                      List<BatchWorkflowStep> steps,
+                      List<BatchWorkflowEdge> edges,
+                      List<BatchWorkflowStepRun> stepRuns) {
+        RunState state = new RunState(run, steps, edges, stepRuns);
+        log.info("Workflow run started: {} ({} steps)", run.getRunId(), steps.size());
+        advance(state);
+    }
+
+    /**
+     * 실행 가능한 단계 제출 / 조건 불충족 단계 건너뜀 / 모든 단계 종료 시 실행 완료 처리
+     */
+    private void advance(RunState state) {
+        List<Submission> submissions = new ArrayList<>();
+
+        synchronized (state) {
+            if (state.finished) {
+                return;
+            }
+
+            boolean changed;
+            do {
+                changed = false;
+                for (BatchWorkflowStep step : state.steps) {
+                    BatchWorkflowStepRun stepRun = state.stepRuns.get(step.getStepKey());
+                    if (!BatchStatus.WAIT.name().equals(stepRun.getStatus())) {
+                        continue;
+                    }
+
+                    Readiness readiness = evaluate(state, step.getStepKey());
+                    if (readiness == Readiness.BLOCKED) {
+                        continue;
+                    }
+                    if (readiness == Readiness.SKIP) {
+                        stepRun.setStatus(BatchStatus.SKIPPED.name());
+                        stepRun.setEndTime(LocalDateTime.now());
+                        batchWorkflowStepRunRepository.save(stepRun);
+                        log.info("Workflow step skipped: {} / {}", state.run.getRunId(), step.getStepKey());
+                        changed = true;
+                        continue;
+                    }
+
+                    stepRun.setStatus(BatchStatus.RUNNING.name());
+                    stepRun.setStartTime(LocalDateTime.now());
+                    stepRun.setEndTime(null);
+                    stepRun.setErrorMessage(null);
+                    batchWorkflowStepRunRepository.save(stepRun);
+                    state.running++;
+                    submissions.add(new Submission(step, stepRun));
+                }
+            } while (changed);
+
+            if (state.running == 0 && submissions.isEmpty()) {
+                finish(state);
+                return;
+            }
+        }
+
+        // 제출은 락 밖에서 (거부 시 단계 실패로 기록 후 다시 진행)
+        for (Submission submission : submissions) {
+            try {
+                stepPool.execute(() -> runStep(state, submission.step(), submission.stepRun()));
+            } catch (RejectedExecutionException e) {
+                log.warn("Workflow step rejected: {} / {}", state.run.getRunId(), submission.step().getStepKey());
+                completeStep(state, submission.stepRun(), BatchStatus.FAIL, "Workflow step queue is full");
+            }
+        }
+    }
+
+    /**
+     * 들어오는 연결 평가
+     */
+    private Readiness evaluate(RunState state, String stepKey) {
+        boolean satisfied = true;
+        for (BatchWorkflowEdge edge : state.incoming.getOrDefault(stepKey, List.of())) {
+            String upstream = state.stepRuns.get(edge.getFromStepKey()).getStatus();
+            if (!isTerminal(upstream)) {
+                return Readiness.BLOCKED;
+            }
+            satisfied &= switch (WorkflowEdgeCondition.valueOf(edge.getCondition())) {
+                case ON_SUCCESS -> BatchStatus.SUCCESS.name().equals(upstream);
+                case ON_FAILURE -> BatchStatus.FAIL.name().equals(upstream);
+                case ALWAYS -> true;
+            };
+        }
+        return satisfied ? Readiness.READY : Readiness.SKIP;
+    }
+
+    /**
+     * 단계 실행 (단계 워커 스레드)
+     */
+    private void runStep(RunState state, BatchWorkflowStep step, BatchWorkflowStepRun stepRun) {
+        BatchJob batchJob = batchJobRepository.findById(step.getBatchJobId()).orElse(null);
+        if (batchJob == null) {
+            completeStep(state, stepRun, BatchStatus.FAIL, "Batch job not found: " + step.getBatchJobId());
+            return;
+        }
+
+        int maxRetryCount = step.getMaxRetryCount() != null ? step.getMaxRetryCount() : batchJob.getMaxRetryCount();
+        String executedBy = "WORKFLOW:" + state.run.getRunId();
+        String errorMessage = null;
+
+        for (int retry = 0; retry <= maxRetryCount; retry++) {
+            if (retry > 0 && !sleepBackoff(step, batchJob, retry)) {
+                break;
+            }
+            stepRun.setAttempt(stepRun.getAttempt() + 1);
+
+            try {
+                BatchExecutionDTO execution = batchExecutionService.executeBatch(
+                        batchJob, BatchTriggerType.WORKFLOW, executedBy);
+                stepRun.setExecutionId(execution.getExecutionId());
+                if (BatchStatus.SUCCESS.name().equals(execution.getStatus())) {
+                    completeStep(state, stepRun, BatchStatus.SUCCESS, null);
+                    return;
+                }
+                errorMessage = execution.getErrorMessage();
+            } catch (Exception e) {
+                errorMessage = e.getMessage();
+            }
+            log.warn("Workflow step attempt failed: {} / {} ({}/{}) - {}",
+                    state.run.getRunId(), step.getStepKey(), retry + 1, maxRetryCount + 1, errorMessage);
+        }
+
+        completeStep(state, stepRun, BatchStatus.FAIL, errorMessage);
+    }
+
+    /**
+     * 단계 재시도 대기 (단계 설정 우선, 없으면 배치 작업 설정)
+     *
+     * @return false면 종료 중이라 재시도 중단
+     */
+    private boolean sleepBackoff(BatchWorkflowStep step, BatchJob batchJob, int retry) {
+        int retryIntervalSeconds = step.getRetryIntervalSeconds() != null
+                ? step.getRetryIntervalSeconds() : batchJob.getRetryIntervalSeconds();
+        try {
+            Thread.sleep(batchExecutionService.backoffSeconds(retryIntervalSeconds, retry) * 1000L);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void completeStep(RunState state, BatchWorkflowStepRun stepRun, BatchStatus status, String errorMessage) {
+        synchronized (state) {
+            stepRun.setStatus(status.name());
+            stepRun.setEndTime(LocalDateTime.now());
+            stepRun.setErrorMessage(truncate(errorMessage));
+            try {
+                batchWorkflowStepRunRepository.save(stepRun);
+            } catch (Exception e) {
+                log.warn("Failed to save workflow step state: {} / {} - {}",
+                        state.run.getRunId(), stepRun.getStepKey(), e.getMessage());
+            }
+            state.running--;
+            log.info("Workflow step finished: {} / {} - {}", state.run.getRunId(), stepRun.getStepKey(), status);
+        }
+        advance(state);
+    }
+
+    /**
+     * 실행 완료 (실패 단계가 하나라도 있으면 FAIL → 재개 가능)
+     */
+    private void finish(RunState state) {
+        boolean failed = state.stepRuns.values().stream()
+                .anyMatch(stepRun -> BatchStatus.FAIL.name().equals(stepRun.getStatus()));
+
+        state.finished = true;
+        state.run.setStatus(failed ? BatchStatus.FAIL.name() : BatchStatus.SUCCESS.name());
+        state.run.setEndTime(LocalDateTime.now());
+        batchWorkflowRunRepository.save(state.run);
+        log.info("Workflow run finished: {} - {}", state.run.getRunId(), state.run.getStatus());
+    }
+
+    private static boolean isTerminal(String status) {
+        return BatchStatus.SUCCESS.name().equals(status)
+                || BatchStatus.FAIL.name().equals(status)
+                || BatchStatus.SKIPPED.name().equals(status);
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 2000 ? value.substring(0, 2000) : value;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stepPool.shutdown();
+        try {
+            if (!stepPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                stepPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            stepPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private enum Readiness {
+        READY, BLOCKED, SKIP
+    }
+
+    private record Submission(BatchWorkflowStep step, BatchWorkflowStepRun stepRun) {
+    }
+
+    /**
+     * 실행 중인 워크플로우 상태 (실행 단위 락)
+     */
+    private static class RunState {
+        private final BatchWorkflowRun run;
+        private final List<BatchWorkflowStep> steps;
+        private final Map<String, List<BatchWorkflowEdge>> incoming = new HashMap<>();
+        private final Map<String, BatchWorkflowStepRun> stepRuns = new HashMap<>();
+        private int running;
+        private boolean finished;
+
+        private RunState(BatchWorkflowRun run,
+                         List<BatchWorkflowStep> steps,
+                         List<BatchWorkflowEdge> edges,
+                         List<BatchWorkflowStepRun> stepRuns) {
+            this.run = run;
+            this.steps = steps;
+            for (BatchWorkflowEdge edge : edges) {
+                incoming.computeIfAbsent(edge.getToStepKey(), key -> new ArrayList<>()).add(edge);
+            }
+            for (BatchWorkflowStepRun stepRun : stepRuns) {
+                this.stepRuns.put(stepRun.getStepKey(), stepRun);
+            }
+        }
+    }
+}
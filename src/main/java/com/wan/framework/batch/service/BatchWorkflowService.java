@@ -0,0 +1,397 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.constant.BatchTriggerType;
+import com.wan.framework.batch.constant.WorkflowEdgeCondition;
+import com.wan.framework.batch.domain.BatchWorkflow;
+import com.wan.framework.batch.domain.BatchWorkflowEdge;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.dto.BatchWorkflowDTO;
+import com.wan.framework.batch.dto.BatchWorkflowEdgeDTO;
+import com.wan.framework.batch.dto.BatchWorkflowRunDTO;
+import com.wan.framework.batch.dto.BatchWorkflowStepDTO;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.mapper.BatchWorkflowMapper;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowEdgeRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRunRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 배치 워크플로우 서비스
+ * - 워크플로우(DAG) 정의 관리: 단계/연결 검증 (중복 키, 미존재 단계/배치, 순환)
+ * - 실행 시작/재개: 실행 이력과 단계 상태를 저장한 뒤 BatchWorkflowRunner에 위임
+ * - 재개는 같은 실행 ID로 SUCCESS가 아닌 단계부터 다시 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchWorkflowService {
+
+    private final BatchWorkflowRepository batchWorkflowRepository;
+    private final BatchWorkflowStepRepository batchWorkflowStepRepository;
+    private final BatchWorkflowEdgeRepository batchWorkflowEdgeRepository;
+    private final BatchWorkflowRunRepository batchWorkflowRunRepository;
+    private final BatchWorkflowStepRunRepository batchWorkflowStepRunRepository;
+    private final BatchJobRepository batchJobRepository;
+    private final BatchWorkflowMapper batchWorkflowMapper;
+    private final BatchJobService batchJobService;
+    private final BatchSchedulerService batchSchedulerService;
+    private final BatchWorkflowRunner batchWorkflowRunner;
+    private final BatchNodeHeartbeat batchNodeHeartbeat;
+
+    /**
+     * 워크플로우 생성
+     */
+    @Transactional
+    public BatchWorkflowDTO createWorkflow(BatchWorkflowDTO dto) {
+        log.info("Creating batch workflow: {}", dto.getWorkflowId());
+
+        if (batchWorkflowRepository.existsByWorkflowIdAndDataStateNot(dto.getWorkflowId(), DataStateCode.D)) {
+            throw new BatchException(BatchExceptionMessage.WORKFLOW_ID_ALREADY_EXISTS);
+        }
+        validateSchedule(dto.getScheduleType(), dto.getScheduleExpression());
+        validateDefinition(dto.getSteps(), dto.getEdges());
+
+        BatchWorkflow saved = batchWorkflowRepository.save(batchWorkflowMapper.toEntity(dto));
+        replaceDefinition(saved.getId(), dto.getSteps(), dto.getEdges());
+        schedule(saved);
+
+        log.info("Batch workflow created: {} (ID: {})", saved.getWorkflowId(), saved.getId());
+        return toDto(saved);
+    }
+
+    /**
+     * 워크플로우 수정
+     * - 단계/연결을 전달하면 정의 전체를 교체 (진행 중인 실행은 기존 정의로 계속)
+     */
+    @Transactional
+    public BatchWorkflowDTO updateWorkflow(Long id, BatchWorkflowDTO dto) {
+        log.info("Updating batch workflow: {}", id);
+
+        BatchWorkflow entity = findWorkflow(id);
+        validateSchedule(
+                dto.getScheduleType() != null ? dto.getScheduleType() : entity.getScheduleType(),
+                dto.getScheduleExpression() != null ? dto.getScheduleExpression() : entity.getScheduleExpression());
+
+        if (dto.getSteps() != null) {
+            List<BatchWorkflowEdgeDTO> edges = dto.getEdges() != null ? dto.getEdges() : List.of();
+            validateDefinition(dto.getSteps(), edges);
+            replaceDefinition(entity.getId(), dto.getSteps(), edges);
+        }
+
+        batchWorkflowMapper.updateEntityFromDto(dto, entity);
+        BatchWorkflow updated = batchWorkflowRepository.save(entity);
+        schedule(updated);
+
+        log.info("Batch workflow updated: {}", id);
+        return toDto(updated);
+    }
+
+    /**
+     * 워크플로우 삭제 (논리적 삭제)
+     */
+    @Transactional
+    public void deleteWorkflow(Long id) {
+        log.info("Deleting batch workflow: {}", id);
+
+        BatchWorkflow entity = findWorkflow(id);
+        unschedule(entity.getWorkflowId());
+
+        entity.setDataState(DataStateCode.D);
+        entity.setEnabled(false);
+        batchWorkflowRepository.save(entity);
+    }
+
+    /**
+     * 워크플로우 조회
+     */
+    public BatchWorkflowDTO getWorkflow(Long id) {
+        return toDto(findWorkflow(id));
+    }
+
+    /**
+     * 워크플로우 목록 조회
+     */
+    public Page<BatchWorkflowDTO> getAllWorkflows(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return batchWorkflowRepository.findByDataStateNot(DataStateCode.D, pageable)
+                .map(batchWorkflowMapper::toDto);
+    }
+
+    /**
+     * 워크플로우 실행 (워크플로우 ID)
+     * - 실행 이력과 단계 상태를 저장하고 바로 반환 (단계는 백그라운드에서 진행)
+     */
+    public BatchWorkflowRunDTO startWorkflow(String workflowId, BatchTriggerType triggerType, String executedBy) {
+        BatchWorkflow workflow = batchWorkflowRepository.findByWorkflowIdAndDataStateNot(workflowId, DataStateCode.D)
+                .orElseThrow(() -> new BatchException(BatchExceptionMessage.WORKFLOW_NOT_FOUND));
+        if (!workflow.getEnabled()) {
+            throw new BatchException(BatchExceptionMessage.WORKFLOW_DISABLED);
+        }
+        if (batchWorkflowRunRepository.existsByBatchWorkflowIdAndStatus(workflow.getId(), BatchStatus.RUNNING.name())) {
+            throw new BatchException(BatchExceptionMessage.WORKFLOW_ALREADY_RUNNING);
+        }
+
+        List<BatchWorkflowStep> steps = batchWorkflowStepRepository.findByBatchWorkflowIdOrderById(workflow.getId());
+        List<BatchWorkflowEdge> edges = batchWorkflowEdgeRepository.findByBatchWorkflowIdOrderById(workflow.getId());
+
+        BatchWorkflowRun run = batchWorkflowRunRepository.save(BatchWorkflowRun.builder()
+                .runId(UUID.randomUUID().toString())
+                .batchWorkflowId(workflow.getId())
+                .workflowId(workflow.getWorkflowId())
+                .status(BatchStatus.RUNNING.name())
+                .triggerType(triggerType.name())
+                .serverInfo(batchNodeHeartbeat.getNodeId())
+                .executedBy(executedBy)
+                .startTime(LocalDateTime.now())
+                .build());
+
+        List<BatchWorkflowStepRun> stepRuns = batchWorkflowStepRunRepository.saveAll(steps.stream()
+                .map(step -> newStepRun(run.getRunId(), step))
+                .collect(Collectors.toList()));
+
+        log.info("Starting batch workflow: {} (run {})", workflowId, run.getRunId());
+        batchWorkflowRunner.start(run, steps, edges, stepRuns);
+        return toRunDto(run);
+    }
+
+    /**
+     * 워크플로우 실행 재개
+     * - 실패한 실행만 가능, SUCCESS 단계는 유지하고 나머지는 WAIT으로 되돌려 다시 실행
+     * - 실행 후 정의가 바뀌었으면 추가된 단계는 새로 만들고, 삭제된 단계는 무시
+     */
+    public BatchWorkflowRunDTO resumeWorkflowRun(String runId, String executedBy) {
+        BatchWorkflowRun run = batchWorkflowRunRepository.findByRunId(runId)
+                .orElseThrow(() -> new BatchException(BatchExceptionMessage.WORKFLOW_RUN_NOT_FOUND));
+        if (!BatchStatus.FAIL.name().equals(run.getStatus())) {
+            throw new BatchException(BatchExceptionMessage.WORKFLOW_RUN_NOT_RESUMABLE);
+        }
+        if (batchWorkflowRunRepository.existsByBatchWorkflowIdAndStatus(run.getBatchWorkflowId(), BatchStatus.RUNNING.name())) {
+            throw new BatchException(BatchExceptionMessage.WORKFLOW_ALREADY_RUNNING);
+        }
+
+        List<BatchWorkflowStep> steps = batchWorkflowStepRepository.findByBatchWorkflowIdOrderById(run.getBatchWorkflowId());
+        List<BatchWorkflowEdge> edges = batchWorkflowEdgeRepository.findByBatchWorkflowIdOrderById(run.getBatchWorkflowId());
+        Map<String, BatchWorkflowStepRun> previous = batchWorkflowStepRunRepository.findByRunIdOrderById(runId).stream()
+                .collect(Collectors.toMap(BatchWorkflowStepRun::getStepKey, Function.identity()));
+
+        List<BatchWorkflowStepRun> stepRuns = new ArrayList<>();
+        for (BatchWorkflowStep step : steps) {
+            BatchWorkflowStepRun stepRun = previous.get(step.getStepKey());
+            if (stepRun == null) {
+                stepRun = newStepRun(runId, step);
+            } else if (!BatchStatus.SUCCESS.name().equals(stepRun.getStatus())) {
+                stepRun.setStatus(BatchStatus.WAIT.name());
+                stepRun.setBatchJobId(step.getBatchJobId());
+                stepRun.setAttempt(0);
+                stepRun.setErrorMessage(null);
+                stepRun.setStartTime(null);
+                stepRun.setEndTime(null);
+            }
+            stepRuns.add(stepRun);
+        }
+        stepRuns = batchWorkflowStepRunRepository.saveAll(stepRuns);
+
+        run.setStatus(BatchStatus.RUNNING.name());
+        run.setResumeCount(run.getResumeCount() + 1);
+        run.setServerInfo(batchNodeHeartbeat.getNodeId());
+        run.setExecutedBy(executedBy);
+        run.setEndTime(null);
+        run = batchWorkflowRunRepository.save(run);
+
+        log.info("Resuming batch workflow run: {} ({} steps already succeeded)", runId,
+                stepRuns.stream().filter(s -> BatchStatus.SUCCESS.name().equals(s.getStatus())).count());
+        batchWorkflowRunner.start(run, steps, edges, stepRuns);
+        return toRunDto(run);
+    }
+
+    /**
+     * 워크플로우 실행 조회 (단계 상태 포함)
+     */
+    public BatchWorkflowRunDTO getWorkflowRun(String runId) {
+        return toRunDto(batchWorkflowRunRepository.findByRunId(runId)
+                .orElseThrow(() -> new BatchException(BatchExceptionMessage.WORKFLOW_RUN_NOT_FOUND)));
+    }
+
+    /**
+     * 워크플로우별 실행 이력 조회
+     */
+    public Page<BatchWorkflowRunDTO> getWorkflowRuns(Long id, int page, int size) {
+        return batchWorkflowRunRepository.findByBatchWorkflowIdOrderByStartTimeDesc(id, PageRequest.of(page, size))
+                .map(batchWorkflowMapper::toRunDto);
+    }
+
+    /**
+     * 워크플로우 정의 검증
+     * - 단계 1개 이상, 단계 키 중복 없음, 배치 작업 존재
+     * - 연결은 정의된 단계 사이만, 자기 자신 연결 불가, 조건 값 유효
+     * - 순환 없음 (위상 정렬로 모든 단계 방문 가능해야 함)
+     */
+    void validateDefinition(List<BatchWorkflowStepDTO> steps, List<BatchWorkflowEdgeDTO> edges) {
+        if (steps == null || steps.isEmpty()) {
+            throw new BatchException(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+        }
+
+        Set<String> stepKeys = new HashSet<>();
+        for (BatchWorkflowStepDTO step : steps) {
+            if (step.getStepKey() == null || step.getStepKey().isBlank() || !stepKeys.add(step.getStepKey())) {
+                throw new BatchException(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+            }
+            if (step.getBatchJobId() == null || batchJobRepository.findById(step.getBatchJobId())
+                    .filter(job -> job.getDataState() != DataStateCode.D)
+                    .isEmpty()) {
+                throw new BatchException(BatchExceptionMessage.BATCH_JOB_NOT_FOUND);
+            }
+        }
+
+        Map<String, List<String>> outgoing = new HashMap<>();
+        Map<String, Integer> inDegree = new HashMap<>();
+        stepKeys.forEach(key -> inDegree.put(key, 0));
+        for (BatchWorkflowEdgeDTO edge : edges != null ? edges : List.<BatchWorkflowEdgeDTO>of()) {
+            if (!stepKeys.contains(edge.getFromStepKey()) || !stepKeys.contains(edge.getToStepKey())
+                    || edge.getFromStepKey().equals(edge.getToStepKey())) {
+                throw new BatchException(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+            }
+            if (edge.getCondition() == null) {
+                edge.setCondition(WorkflowEdgeCondition.ON_SUCCESS.name());
+            }
+            try {
+                WorkflowEdgeCondition.valueOf(edge.getCondition());
+            } catch (IllegalArgumentException e) {
+                throw new BatchException(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+            }
+            outgoing.computeIfAbsent(edge.getFromStepKey(), key -> new ArrayList<>()).add(edge.getToStepKey());
+            inDegree.merge(edge.getToStepKey(), 1, Integer::sum);
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        inDegree.forEach((key, degree) -> {
+            if (degree == 0) {
+                ready.add(key);
+            }
+        });
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            String key = ready.poll();
+            visited++;
+            for (String next : outgoing.getOrDefault(key, List.of())) {
+                if (inDegree.merge(next, -1, Integer::sum) == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+        if (visited != stepKeys.size()) {
+            throw new BatchException(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+        }
+    }
+
+    private void validateSchedule(String scheduleType, String scheduleExpression) {
+        if (scheduleType == null && scheduleExpression == null) {
+            return;
+        }
+        batchJobService.validateScheduleExpression(scheduleType, scheduleExpression);
+    }
+
+    private void replaceDefinition(Long batchWorkflowId, List<BatchWorkflowStepDTO> steps, List<BatchWorkflowEdgeDTO> edges) {
+        batchWorkflowEdgeRepository.deleteByBatchWorkflowId(batchWorkflowId);
+        batchWorkflowStepRepository.deleteByBatchWorkflowId(batchWorkflowId);
+
+        batchWorkflowStepRepository.saveAll(steps.stream()
+                .map(dto -> {
+                    BatchWorkflowStep step = batchWorkflowMapper.toStepEntity(dto);
+                    step.setBatchWorkflowId(batchWorkflowId);
+                    return step;
+                })
+                .collect(Collectors.toList()));
+        batchWorkflowEdgeRepository.saveAll((edges != null ? edges : List.<BatchWorkflowEdgeDTO>of()).stream()
+                .map(dto -> {
+                    BatchWorkflowEdge edge = batchWorkflowMapper.toEdgeEntity(dto);
+                    edge.setBatchWorkflowId(batchWorkflowId);
+                    return edge;
+                })
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 스케줄 등록/해제 (스케줄이 있고 활성화된 경우만 등록)
+     */
+    private void schedule(BatchWorkflow workflow) {
+        unschedule(workflow.getWorkflowId());
+        if (!workflow.getEnabled() || workflow.getScheduleType() == null) {
+            return;
+        }
+        try {
+            batchSchedulerService.scheduleWorkflow(workflow);
+        } catch (Exception e) {
+            log.error("Failed to schedule batch workflow: {} - {}", workflow.getWorkflowId(), e.getMessage());
+            throw new BatchException(BatchExceptionMessage.INVALID_SCHEDULE_EXPRESSION, e);
+        }
+    }
+
+    private void unschedule(String workflowId) {
+        try {
+            batchSchedulerService.unscheduleWorkflow(workflowId);
+        } catch (Exception e) {
+            log.warn("Failed to unschedule batch workflow: {}", e.getMessage());
+        }
+    }
+
+    private BatchWorkflow findWorkflow(Long id) {
+        return batchWorkflowRepository.findById(id)
+                .filter(e -> e.getDataState() != DataStateCode.D)
+                .orElseThrow(() -> new BatchException(BatchExceptionMessage.WORKFLOW_NOT_FOUND));
+    }
+
+    private BatchWorkflowStepRun newStepRun(String runId, BatchWorkflowStep step) {
+        return BatchWorkflowStepRun.builder()
+                .runId(runId)
+                .stepKey(step.getStepKey())
+                .batchJobId(step.getBatchJobId())
+                .status(BatchStatus.WAIT.name())
+                .build();
+    }
+
+    private BatchWorkflowDTO toDto(BatchWorkflow entity) {
+        BatchWorkflowDTO dto = batchWorkflowMapper.toDto(entity);
+        dto.setSteps(batchWorkflowMapper.toStepDtoList(
+                batchWorkflowStepRepository.findByBatchWorkflowIdOrderById(entity.getId())));
+        dto.setEdges(batchWorkflowMapper.toEdgeDtoList(
+                batchWorkflowEdgeRepository.findByBatchWorkflowIdOrderById(entity.getId())));
+        return dto;
+    }
+
+    private BatchWorkflowRunDTO toRunDto(BatchWorkflowRun run) {
+        BatchWorkflowRunDTO dto = batchWorkflowMapper.toRunDto(run);
+        dto.setSteps(batchWorkflowMapper.toStepRunDtoList(
+                batchWorkflowStepRunRepository.findByRunIdOrderById(run.getRunId())));
+        return dto;
+    }
+}
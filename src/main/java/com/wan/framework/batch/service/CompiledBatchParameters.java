@@ -0,0 +1,397 @@
+package com.wan.framework.batch.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일된 배치 실행 파라미터
+ * - executionParameters JSON을 저장 시점에 한 번 파싱/검증하고, 실행 시점에는 값만 계산
+ * - 값: 리터럴 또는 "${식}"이 포함된 문자열 (실행 시점 평가)
+ *   - 식: now, today, executionId, batchId / 날짜 오프셋 (+1d, -2h, -30m, +10s, -1w, +1M, -1y) / ":패턴" 출력 형식
+ *   - 예: "${now-1d}", "${today:yyyyMMdd}", "report_${today-1d:yyyy-MM-dd}.csv"
+ * - 타입 지정: {"$type": "DATE", "default": "${today-1d}", "format": "yyyyMMdd", "required": true}
+ *   - STRING, INTEGER, LONG, DECIMAL, BOOLEAN, DATE, DATETIME
+ *   - 수동 실행 파라미터로 덮어쓸 때도 같은 타입으로 변환/검증
+ * - 컴파일/평가 오류는 IllegalArgumentException (파라미터 이름과 원인 포함)
+ */
+public final class CompiledBatchParameters {
+
+    private static final String TYPE_KEY = "$type";
+    private static final String EXPRESSION_START = "${";
+    private static final char EXPRESSION_END = '}';
+    private static final Pattern EXPRESSION = Pattern.compile("^(\\w+)((?:[+-]\\d+[smhdwMy])*)(?::(.+))?$");
+    private static final Pattern OFFSET = Pattern.compile("([+-]\\d+)([smhdwMy])");
+    private static final DateTimeFormatter DEFAULT_DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter DEFAULT_DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * 파라미터 타입
+     */
+    public enum ParameterType {
+        STRING, INTEGER, LONG, DECIMAL, BOOLEAN, DATE, DATETIME
+    }
+
+    /**
+     * 평가 컨텍스트 (실행 시점)
+     */
+    public record Context(String executionId, String batchId, LocalDateTime now) {
+    }
+
+    private interface Value {
+        Object resolve(Context context);
+    }
+
+    private record Literal(Object value) implements Value {
+        @Override
+        public Object resolve(Context context) {
+            return value;
+        }
+    }
+
+    /**
+     * 식이 포함된 문자열 (식 하나로만 이루어지면 날짜 값 그대로 반환 → 타입 지정 형식 적용)
+     */
+    private record Interpolated(Object[] parts) implements Value {
+        @Override
+        public Object resolve(Context context) {
+            if (parts.length == 1 && parts[0] instanceof Expression expression) {
+                return expression.resolve(context);
+            }
+            StringBuilder builder = new StringBuilder();
+            for (Object part : parts) {
+                builder.append(part instanceof Expression expression
+                        ? format(expression.resolve(context), null)
+                        : part);
+            }
+            return builder.toString();
+        }
+    }
+
+    private record Offset(long amount, ChronoUnit unit) {
+    }
+
+    private record Expression(String base, List<Offset> offsets, DateTimeFormatter formatter) implements Value {
+        @Override
+        public Object resolve(Context context) {
+            Object value = switch (base) {
+                case "executionId" -> context.executionId();
+                case "batchId" -> context.batchId();
+                case "today" -> applyOffsets(context.now().toLocalDate());
+                default -> applyOffsets(context.now());
+            };
+            return formatter != null ? format(value, formatter) : value;
+        }
+
+        private Temporal applyOffsets(Temporal value) {
+            for (Offset offset : offsets) {
+                value = value.plus(offset.amount(), offset.unit());
+            }
+            return value;
+        }
+    }
+
+    private record Parameter(String name, ParameterType type, boolean required, DateTimeFormatter format, Value value) {
+    }
+
+    private final List<Parameter> parameters;
+
+    private CompiledBatchParameters(List<Parameter> parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * 파라미터 JSON 컴파일 (null/빈 문자열은 파라미터 없음)
+     *
+     * @throws IllegalArgumentException JSON 객체가 아니거나 식/타입 정의가 잘못된 경우
+     */
+    public static CompiledBatchParameters compile(String json, ObjectMapper objectMapper) {
+        if (json == null || json.isBlank()) {
+            return new CompiledBatchParameters(List.of());
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Execution parameters are not valid JSON: " + e.getMessage(), e);
+        }
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("Execution parameters must be a JSON object");
+        }
+
+        List<Parameter> parameters = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> field : root.properties()) {
+            try {
+                parameters.add(compileParameter(field.getKey(), field.getValue(), objectMapper));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Parameter '" + field.getKey() + "': " + e.getMessage(), e);
+            }
+        }
+        return new CompiledBatchParameters(List.copyOf(parameters));
+    }
+
+    private static Parameter compileParameter(String name, JsonNode node, ObjectMapper objectMapper) {
+        if (!node.isObject() || !node.has(TYPE_KEY)) {
+            return new Parameter(name, null, false, null, compileValue(node, objectMapper));
+        }
+
+        ParameterType type;
+        try {
+            type = ParameterType.valueOf(node.get(TYPE_KEY).asText());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown type: " + node.get(TYPE_KEY).asText());
+        }
+        DateTimeFormatter format = node.hasNonNull("format") ? formatter(node.get("format").asText()) : null;
+        if (format != null && type != ParameterType.DATE && type != ParameterType.DATETIME) {
+            throw new IllegalArgumentException("format is only allowed for DATE/DATETIME");
+        }
+        boolean required = node.path("required").asBoolean(false);
+        Value value = node.hasNonNull("default") ? compileValue(node.get("default"), objectMapper) : null;
+
+        Parameter parameter = new Parameter(name, type, required, format, value);
+        // 식이 없는 기본값은 저장 시점에 타입 검증
+        if (value instanceof Literal literal) {
+            coerce(parameter, literal.value());
+        }
+        return parameter;
+    }
+
+    private static Value compileValue(JsonNode node, ObjectMapper objectMapper) {
+        if (!node.isTextual()) {
+            return new Literal(objectMapper.convertValue(node, Object.class));
+        }
+
+        String text = node.asText();
+        List<Object> parts = new ArrayList<>();
+        int position = 0;
+        while (position < text.length()) {
+            int start = text.indexOf(EXPRESSION_START, position);
+            if (start < 0) {
+                break;
+            }
+            int end = text.indexOf(EXPRESSION_END, start + EXPRESSION_START.length());
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed expression: " + text.substring(start));
+            }
+            if (start > position) {
+                parts.add(text.substring(position, start));
+            }
+            parts.add(compileExpression(text.substring(start + EXPRESSION_START.length(), end)));
+            position = end + 1;
+        }
+
+        if (parts.isEmpty()) {
+            return new Literal(text);
+        }
+        if (position < text.length()) {
+            parts.add(text.substring(position));
+        }
+        return new Interpolated(parts.toArray());
+    }
+
+    private static Expression compileExpression(String source) {
+        Matcher matcher = EXPRESSION.matcher(source.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid expression: ${" + source + "}");
+        }
+        String base = matcher.group(1);
+        String offsetText = matcher.group(2);
+        String pattern = matcher.group(3);
+
+        switch (base) {
+            case "now", "today" -> {
+            }
+            case "executionId", "batchId" -> {
+                if (!offsetText.isEmpty() || pattern != null) {
+                    throw new IllegalArgumentException("Offset/format not allowed: ${" + source + "}");
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown expression: ${" + source + "}");
+        }
+
+        List<Offset> offsets = new ArrayList<>();
+        Matcher offsetMatcher = OFFSET.matcher(offsetText);
+        while (offsetMatcher.find()) {
+            ChronoUnit unit = switch (offsetMatcher.group(2)) {
+                case "s" -> ChronoUnit.SECONDS;
+                case "m" -> ChronoUnit.MINUTES;
+                case "h" -> ChronoUnit.HOURS;
+                case "d" -> ChronoUnit.DAYS;
+                case "w" -> ChronoUnit.WEEKS;
+                case "M" -> ChronoUnit.MONTHS;
+                default -> ChronoUnit.YEARS;
+            };
+            if ("today".equals(base) && !unit.isDateBased()) {
+                throw new IllegalArgumentException("Time offset not allowed for today: ${" + source + "}");
+            }
+            offsets.add(new Offset(Long.parseLong(offsetMatcher.group(1)), unit));
+        }
+
+        DateTimeFormatter formatter = pattern != null ? formatter(pattern) : null;
+        if (formatter != null) {
+            // 날짜/시각 필드가 패턴과 맞는지 저장 시점에 확인 (today에 시각 패턴 등)
+            try {
+                format("today".equals(base) ? LocalDate.now() : LocalDateTime.now(), formatter);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("Format does not match ${" + source + "}: " + e.getMessage());
+            }
+        }
+        return new Expression(base, List.copyOf(offsets), formatter);
+    }
+
+    private static DateTimeFormatter formatter(String pattern) {
+        try {
+            return DateTimeFormatter.ofPattern(pattern);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid date format: " + pattern);
+        }
+    }
+
+    /**
+     * 실행 파라미터 계산
+     *
+     * @param overrides 덮어쓸 값 (수동 실행 파라미터, 선언된 타입으로 변환)
+     * @throws IllegalArgumentException 필수 파라미터 누락 또는 타입 변환 실패
+     */
+    public Map<String, Object> resolve(Context context, Map<String, Object> overrides) {
+        Map<String, Object> resolved = new LinkedHashMap<>();
+        for (Parameter parameter : parameters) {
+            Object value;
+            if (overrides != null && overrides.containsKey(parameter.name())) {
+                value = overrides.get(parameter.name());
+            } else {
+                value = parameter.value() != null ? parameter.value().resolve(context) : null;
+            }
+
+            try {
+                value = coerce(parameter, value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Parameter '" + parameter.name() + "': " + e.getMessage(), e);
+            }
+            if (value == null) {
+                if (parameter.required()) {
+                    throw new IllegalArgumentException("Parameter '" + parameter.name() + "' is required");
+                }
+                continue;
+            }
+            resolved.put(parameter.name(), value);
+        }
+
+        // 선언되지 않은 덮어쓰기 값은 그대로 전달
+        if (overrides != null) {
+            overrides.forEach(resolved::putIfAbsent);
+        }
+        return resolved;
+    }
+
+    /**
+     * 덮어쓰기 값 검증 (실행 전, 선언된 타입으로 변환 가능한지)
+     */
+    public void validateOverrides(Map<String, Object> overrides) {
+        if (overrides == null) {
+            return;
+        }
+        for (Parameter parameter : parameters) {
+            if (overrides.containsKey(parameter.name())) {
+                try {
+                    coerce(parameter, overrides.get(parameter.name()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Parameter '" + parameter.name() + "': " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static Object coerce(Parameter parameter, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (parameter.type() == null) {
+            return value instanceof Temporal ? format(value, null) : value;
+        }
+
+        try {
+            return switch (parameter.type()) {
+                case STRING -> value instanceof Temporal ? format(value, null) : String.valueOf(value);
+                case INTEGER -> value instanceof Number number
+                        ? Math.toIntExact(number.longValue())
+                        : Integer.parseInt(String.valueOf(value).trim());
+                case LONG -> value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value).trim());
+                case DECIMAL -> new BigDecimal(String.valueOf(value).trim());
+                case BOOLEAN -> {
+                    if (value instanceof Boolean bool) {
+                        yield bool;
+                    }
+                    String text = String.valueOf(value).trim();
+                    if (!"true".equalsIgnoreCase(text) && !"false".equalsIgnoreCase(text)) {
+                        throw new IllegalArgumentException("not a boolean: " + text);
+                    }
+                    yield Boolean.parseBoolean(text);
+                }
+                case DATE -> {
+                    DateTimeFormatter format = parameter.format() != null ? parameter.format() : DEFAULT_DATE_FORMAT;
+                    yield format(value instanceof LocalDate || value instanceof LocalDateTime
+                            ? toDate(value)
+                            : parse(String.valueOf(value).trim(), format, LocalDate::from, LocalDate::parse), format);
+                }
+                case DATETIME -> {
+                    DateTimeFormatter format = parameter.format() != null ? parameter.format() : DEFAULT_DATETIME_FORMAT;
+                    yield format(value instanceof LocalDate || value instanceof LocalDateTime
+                            ? toDateTime(value)
+                            : parse(String.valueOf(value).trim(), format, LocalDateTime::from, LocalDateTime::parse), format);
+                }
+            };
+        } catch (NumberFormatException | ArithmeticException | DateTimeException e) {
+            throw new IllegalArgumentException("cannot convert '" + value + "' to " + parameter.type(), e);
+        }
+    }
+
+    /**
+     * 날짜/시각 문자열 파싱 (지정 형식 우선, 실패 시 ISO 형식)
+     */
+    private static <T> T parse(String text, DateTimeFormatter format,
+                               TemporalQuery<T> query, Function<String, T> isoParser) {
+        try {
+            return format.parse(text, query);
+        } catch (DateTimeException e) {
+            return isoParser.apply(text);
+        }
+    }
+
+    private static LocalDate toDate(Object value) {
+        return value instanceof LocalDateTime dateTime ? dateTime.toLocalDate() : (LocalDate) value;
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        return value instanceof LocalDate date ? date.atStartOfDay() : (LocalDateTime) value;
+    }
+
+    /**
+     * 날짜/시각 문자열 변환 (형식 미지정 시 날짜는 yyyy-MM-dd, 시각은 yyyy-MM-dd'T'HH:mm:ss)
+     */
+    private static Object format(Object value, DateTimeFormatter formatter) {
+        if (value instanceof LocalDate date) {
+            return (formatter != null ? formatter : DEFAULT_DATE_FORMAT).format(date);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return (formatter != null ? formatter : DEFAULT_DATETIME_FORMAT).format(dateTime);
+        }
+        return value;
+    }
+}
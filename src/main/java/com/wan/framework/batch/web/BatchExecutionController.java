@@ -1,16 +1,20 @@
 package com.wan.framework.batch.web;
 
+import com.wan.framework.base.dto.CursorPage;
 import com.wan.framework.batch.dto.BatchExecutionDTO;
 import com.wan.framework.batch.dto.BatchExecutionRequest;
 import com.wan.framework.batch.service.BatchExecutionService;
+import com.wan.framework.batch.service.BatchExecutionStreamService;
 import com.wan.framework.batch.service.BatchHistoryService;
 import com.wan.framework.batch.service.BatchJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,7 +23,9 @@ import java.util.List;
  * 배치 실행 컨트롤러
  * - 수동 실행
  * - 재시도
+ * - 실행 취소
  * - 실행 이력 조회
+ * - 실행 이벤트 스트림 (SSE, 상태 폴링 대체)
  */
 @Slf4j
 @RestController
@@ -30,6 +36,7 @@ public class BatchExecutionController {
     private final BatchExecutionService batchExecutionService;
     private final BatchHistoryService batchHistoryService;
     private final BatchJobService batchJobService;
+    private final BatchExecutionStreamService batchExecutionStreamService;
 
     /**
      * 배치 수동 실행 (Run Now)
@@ -57,6 +64,38 @@ public class BatchExecutionController {
         return ResponseEntity.ok(execution);
     }
 
+    /**
+     * 실행 취소
+     * - 이 서버에서 실행 중인 배치만 취소 가능
+     * - 실행 스레드가 CANCELLED 상태를 기록하므로 응답 직후 조회 시 아직 RUNNING일 수 있음
+     */
+    @PostMapping("/cancel/{executionId}")
+    public ResponseEntity<Void> cancelExecution(
+            @PathVariable String executionId,
+            @RequestParam String cancelledBy) {
+        log.info("Batch cancel requested: {} by {}", executionId, cancelledBy);
+
+        batchExecutionService.cancelExecution(executionId, cancelledBy);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 실행 이벤트 스트림 (실행 단위)
+     * - 현재 상태를 먼저 전송하고 상태 변경/진행/로그 이벤트 전달, 종료 상태 후 스트림 종료
+     */
+    @GetMapping(value = "/execution-id/{executionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExecution(@PathVariable String executionId) {
+        return batchExecutionStreamService.subscribe(executionId);
+    }
+
+    /**
+     * 실행 이벤트 스트림 (전체, batchId 지정 시 해당 배치만)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExecutions(@RequestParam(required = false) String batchId) {
+        return batchExecutionStreamService.subscribeAll(batchId);
+    }
+
     /**
      * 실행 이력 조회 (ID)
      */
@@ -123,6 +162,50 @@ public class BatchExecutionController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * 배치 작업별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/batch-job/{batchJobId}/cursor")
+    public ResponseEntity<CursorPage<BatchExecutionDTO>> getHistoryByBatchJobCursor(
+            @PathVariable Long batchJobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(batchHistoryService.getHistoryByBatchJob(batchJobId, cursor, size));
+    }
+
+    /**
+     * 배치 ID별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/batch-id/{batchId}/cursor")
+    public ResponseEntity<CursorPage<BatchExecutionDTO>> getHistoryByBatchIdCursor(
+            @PathVariable String batchId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(batchHistoryService.getHistoryByBatchId(batchId, cursor, size));
+    }
+
+    /**
+     * 상태별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/status/{status}/cursor")
+    public ResponseEntity<CursorPage<BatchExecutionDTO>> getHistoryByStatusCursor(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(batchHistoryService.getHistoryByStatus(status, cursor, size));
+    }
+
+    /**
+     * 트리거 타입별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/trigger-type/{triggerType}/cursor")
+    public ResponseEntity<CursorPage<BatchExecutionDTO>> getHistoryByTriggerTypeCursor(
+            @PathVariable String triggerType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(batchHistoryService.getHistoryByTriggerType(triggerType, cursor, size));
+    }
+
     /**
      * 기간별 실행 이력 조회
      */
@@ -0,0 +1,124 @@
+package com.wan.framework.batch.web;
+
+import com.wan.framework.batch.constant.BatchTriggerType;
+import com.wan.framework.batch.dto.BatchWorkflowDTO;
+import com.wan.framework.batch.dto.BatchWorkflowRunDTO;
+import com.wan.framework.batch.service.BatchWorkflowService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 배치 워크플로우 컨트롤러
+ * - 워크플로우(DAG) 정의 CRUD
+ * - 실행/재개 및 실행 이력 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/batch-workflows")
+@RequiredArgsConstructor
+public class BatchWorkflowController {
+
+    private final BatchWorkflowService batchWorkflowService;
+
+    /**
+     * 워크플로우 생성
+     */
+    @PostMapping
+    public ResponseEntity<BatchWorkflowDTO> createWorkflow(@RequestBody BatchWorkflowDTO dto) {
+        log.info("Creating batch workflow: {}", dto.getWorkflowId());
+        BatchWorkflowDTO created = batchWorkflowService.createWorkflow(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * 워크플로우 수정
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<BatchWorkflowDTO> updateWorkflow(
+            @PathVariable Long id,
+            @RequestBody BatchWorkflowDTO dto) {
+        log.info("Updating batch workflow: {}", id);
+        BatchWorkflowDTO updated = batchWorkflowService.updateWorkflow(id, dto);
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * 워크플로우 삭제
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWorkflow(@PathVariable Long id) {
+        log.info("Deleting batch workflow: {}", id);
+        batchWorkflowService.deleteWorkflow(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 워크플로우 조회 (단계/연결 포함)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<BatchWorkflowDTO> getWorkflow(@PathVariable Long id) {
+        BatchWorkflowDTO dto = batchWorkflowService.getWorkflow(id);
+        return ResponseEntity.ok(dto);
+    }
+
+    /**
+     * 워크플로우 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<Page<BatchWorkflowDTO>> getAllWorkflows(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<BatchWorkflowDTO> workflows = batchWorkflowService.getAllWorkflows(page, size);
+        return ResponseEntity.ok(workflows);
+    }
+
+    /**
+     * 워크플로우 수동 실행
+     * - 단계는 백그라운드에서 진행되므로 실행 ID로 진행 상황 조회
+     */
+    @PostMapping("/workflow-id/{workflowId}/run")
+    public ResponseEntity<BatchWorkflowRunDTO> runWorkflow(
+            @PathVariable String workflowId,
+            @RequestParam String executedBy) {
+        log.info("Manual workflow run: {} by {}", workflowId, executedBy);
+        BatchWorkflowRunDTO run = batchWorkflowService.startWorkflow(workflowId, BatchTriggerType.MANUAL, executedBy);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
+    }
+
+    /**
+     * 실패한 워크플로우 실행 재개 (성공한 단계는 건너뜀)
+     */
+    @PostMapping("/runs/{runId}/resume")
+    public ResponseEntity<BatchWorkflowRunDTO> resumeWorkflowRun(
+            @PathVariable String runId,
+            @RequestParam String executedBy) {
+        log.info("Resuming workflow run: {} by {}", runId, executedBy);
+        BatchWorkflowRunDTO run = batchWorkflowService.resumeWorkflowRun(runId, executedBy);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
+    }
+
+    /**
+     * 워크플로우 실행 조회 (단계 상태 포함)
+     */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<BatchWorkflowRunDTO> getWorkflowRun(@PathVariable String runId) {
+        BatchWorkflowRunDTO run = batchWorkflowService.getWorkflowRun(runId);
+        return ResponseEntity.ok(run);
+    }
+
+    /**
+     * 워크플로우별 실행 이력 조회
+     */
+    @GetMapping("/{id}/runs")
+    public ResponseEntity<Page<BatchWorkflowRunDTO>> getWorkflowRuns(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<BatchWorkflowRunDTO> runs = batchWorkflowService.getWorkflowRuns(id, page, size);
+        return ResponseEntity.ok(runs);
+    }
+}
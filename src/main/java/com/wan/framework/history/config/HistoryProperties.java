@@ -0,0 +1,69 @@
+package com.wan.framework.history.config;
+
+import com.wan.framework.history.constant.PartitionUnit;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이력 관리 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "history")
+public class HistoryProperties {
+
+    private Rollup rollup = new Rollup();
+    private Retention retention = new Retention();
+    private Export export = new Export();
+    private ErrorRecording errorRecording = new ErrorRecording();
+
+    @Data
+    public static class Rollup {
+        private boolean enabled = true;         // 롤업 집계 사용 여부
+        private long intervalMs = 60000;        // 집계 주기
+        private int lagSeconds = 120;           // 현재 시각에서 이만큼 이전까지만 집계 (늦게 저장되는 이력 대기)
+        private int maxSliceMinutes = 60;       // 한 트랜잭션에서 집계할 최대 구간
+        private int maxSlicesPerRun = 24;       // 한 주기에서 처리할 최대 구간 수 (초기 적재 시 분할)
+    }
+
+    @Data
+    public static class Retention {
+        private boolean enabled = true;                 // 보관 기간 정리 사용 여부
+        private String cron = "0 30 3 * * ?";           // 정리 주기 (Quartz cron)
+        private String archiveDir = "archive/history";  // 아카이브 파일 경로 (테이블별 하위 디렉토리)
+        private int chunkSize = 5000;                   // 아카이브/삭제 청크 크기
+        private int partitionsAhead = 3;                // 미리 만들어 둘 파티션 수
+        private Map<String, Table> tables = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Table {
+        private String tableName;                       // 대상 테이블
+        private String idColumn = "id";                 // PK 컬럼
+        private String timeColumn;                      // 보관 기간 기준 시각 컬럼
+        private int retentionDays = 90;                 // 보관 기간 (일)
+        private boolean archive = true;                 // 삭제 전 압축 NDJSON 아카이브 여부
+        private PartitionUnit partitionUnit = PartitionUnit.NONE;
+    }
+
+    @Data
+    public static class Export {
+        private int fetchSize = 1000;           // JDBC 스트리밍 fetch 크기 (MariaDB는 0보다 크면 행 단위 스트리밍)
+        private int maxRangeDays = 31;          // 한 번에 내보낼 수 있는 최대 기간
+        private int bufferBytes = 65536;        // 응답 출력 버퍼 크기
+    }
+
+    @Data
+    public static class ErrorRecording {
+        private boolean asyncEnabled = true;            // 에러 이력 비동기 집계 저장
+        private int bucketSeconds = 60;                 // 같은 에러를 한 행으로 합치는 시간 버킷
+        private long flushIntervalMs = 1000;            // 집계분 저장 주기
+        private int maxPendingFingerprints = 10000;     // 저장 대기 중인 고유 에러 최대 수 (초과분은 버림)
+        private int fingerprintFrames = 5;              // 지문에 포함할 상위 스택 프레임 수
+        private int idBlockSize = 100;                  // ID 사전 할당 블록 크기
+    }
+}
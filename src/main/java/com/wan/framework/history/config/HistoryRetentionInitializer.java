@@ -0,0 +1,55 @@
+package com.wan.framework.history.config;
+
+import com.wan.framework.history.job.HistoryRetentionJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.*;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 이력 보관 기간 정리 스케줄 등록
+ * - 애플리케이션 시작 시 history.retention.cron으로 Quartz 트리거 등록 (기존 트리거 교체)
+ * - 비활성화 시 등록된 Job 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryRetentionInitializer implements ApplicationRunner {
+
+    private final Scheduler scheduler;
+    private final HistoryProperties historyProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        HistoryProperties.Retention config = historyProperties.getRetention();
+        try {
+            if (!config.isEnabled()) {
+                if (scheduler.checkExists(HistoryRetentionJob.JOB_KEY)) {
+                    scheduler.deleteJob(HistoryRetentionJob.JOB_KEY);
+                }
+                return;
+            }
+
+            JobDetail jobDetail = JobBuilder.newJob(HistoryRetentionJob.class)
+                    .withIdentity(HistoryRetentionJob.JOB_KEY)
+                    .withDescription("History retention and archival")
+                    .storeDurably(true)
+                    .build();
+
+            Trigger trigger = TriggerBuilder.newTrigger()
+                    .withIdentity(HistoryRetentionJob.JOB_KEY.getName() + "_trigger", HistoryRetentionJob.JOB_KEY.getGroup())
+                    .withSchedule(CronScheduleBuilder.cronSchedule(config.getCron())
+                            .withMisfireHandlingInstructionDoNothing())
+                    .build();
+
+            scheduler.scheduleJob(jobDetail, Set.of(trigger), true);
+            log.info("History retention job scheduled: {}", config.getCron());
+        } catch (Exception e) {
+            log.error("Failed to schedule history retention job: {}", e.getMessage(), e);
+        }
+    }
+}
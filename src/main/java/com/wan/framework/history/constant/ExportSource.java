@@ -0,0 +1,22 @@
+package com.wan.framework.history.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이력 내보내기 대상
+ * - timeColumn: 기간 필터 및 정렬 기준 (인덱스 컬럼)
+ * - SQL 조각은 내부 상수만 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportSource {
+
+    API_EXECUTION("t_api_execution_history", "executed_at"),
+    API_KEY_USAGE("t_api_key_usage_history", "used_at"),
+    BATCH_EXECUTION("t_batch_execution", "start_time"),
+    SESSION_AUDIT("t_session_audit", "event_time");
+
+    private final String tableName;
+    private final String timeColumn;
+}
@@ -0,0 +1,26 @@
+package com.wan.framework.history.constant;
+
+import lombok.Getter;
+
+/**
+ * 이력 관리 예외 메시지
+ */
+@Getter
+public enum HistoryExceptionMessage {
+
+    // 내보내기 관련
+    INVALID_EXPORT_RANGE("HISTORY_001", "내보내기 기간이 올바르지 않습니다. (시작 시각 필수, 시작 < 종료)"),
+    EXPORT_RANGE_TOO_LONG("HISTORY_002", "내보내기 기간이 최대 허용 기간을 초과했습니다."),
+
+    // 보관 기간 정리 관련
+    PARTITION_UNIT_MISSING("HISTORY_003", "파티션 단위가 설정되지 않은 이력 테이블입니다."),
+    UNSUPPORTED_PARTITIONING("HISTORY_004", "RANGE COLUMNS 이외의 방식으로 파티션된 테이블은 전환할 수 없습니다.");
+
+    private final String code;
+    private final String message;
+
+    HistoryExceptionMessage(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
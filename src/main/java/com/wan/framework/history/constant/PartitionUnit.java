@@ -0,0 +1,45 @@
+package com.wan.framework.history.constant;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 이력 테이블 파티션 단위
+ * - NONE: 파티션 없이 기간 초과 행을 청크 단위로 삭제
+ * - DAY / MONTH: 시각 컬럼 RANGE COLUMNS 파티션 (파티션 이름은 구간 시작일)
+ */
+public enum PartitionUnit {
+
+    NONE(null),
+    DAY(DateTimeFormatter.ofPattern("'p'yyyyMMdd")),
+    MONTH(DateTimeFormatter.ofPattern("'p'yyyyMM"));
+
+    private final DateTimeFormatter nameFormat;
+
+    PartitionUnit(DateTimeFormatter nameFormat) {
+        this.nameFormat = nameFormat;
+    }
+
+    /**
+     * 구간 시작 시각
+     */
+    public LocalDateTime floor(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return this == MONTH ? day.withDayOfMonth(1) : day;
+    }
+
+    /**
+     * 다음 구간 시작 시각
+     */
+    public LocalDateTime next(LocalDateTime start) {
+        return this == MONTH ? start.plusMonths(1) : start.plusDays(1);
+    }
+
+    /**
+     * 구간 파티션 이름
+     */
+    public String partitionName(LocalDateTime start) {
+        return nameFormat.format(start);
+    }
+}
@@ -0,0 +1,19 @@
+package com.wan.framework.history.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 롤업 집계 단위
+ * - bucketFormat: 원본 시각을 버킷 시작 시각으로 자르는 DATE_FORMAT 패턴
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupGranularity {
+
+    MINUTE("%Y-%m-%d %H:%i:00"),
+    HOUR("%Y-%m-%d %H:00:00"),
+    DAY("%Y-%m-%d 00:00:00");
+
+    private final String bucketFormat;
+}
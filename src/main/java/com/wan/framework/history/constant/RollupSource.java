@@ -0,0 +1,42 @@
+package com.wan.framework.history.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 롤업 대상 이력 테이블
+ * - 집계 키는 통계 API가 받는 ID (apiCode/batchId는 변경될 수 있으므로 대리키 사용)
+ * - timeColumn: 완료 시각 (이 시각 기준으로 구간을 나누어 한 번씩만 집계)
+ * - openCondition: 아직 완료 시각이 없는 행 (롤업되지 않으므로 통계 조회 시 원본에서 합산)
+ * - SQL 조각은 내부 상수만 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupSource {
+
+    /**
+     * Proxy API 실행 이력 (API 엔드포인트별)
+     */
+    API_EXECUTION("t_api_execution_history", "api_endpoint_id", "executed_at",
+            "is_success = 1", "is_success = 0", "execution_time_ms", null),
+
+    /**
+     * 배치 실행 이력 (배치 Job별, 종료된 실행만 롤업)
+     */
+    BATCH_EXECUTION("t_batch_execution", "batch_job_id", "end_time",
+            "status = 'SUCCESS'", "status = 'FAIL'", "execution_time_ms", "end_time IS NULL"),
+
+    /**
+     * API Key 사용 이력 (API Key별, 지연 시간 없음)
+     */
+    API_KEY_USAGE("t_api_key_usage_history", "api_key_id", "used_at",
+            "is_success = 1", "is_success = 0", "NULL", null);
+
+    private final String tableName;
+    private final String keyColumn;
+    private final String timeColumn;
+    private final String successCondition;
+    private final String failureCondition;
+    private final String latencyColumn;
+    private final String openCondition;
+}
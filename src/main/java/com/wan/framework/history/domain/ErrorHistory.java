@@ -9,7 +9,11 @@ import static com.wan.framework.base.constant.AbleState.ABLE;
 import static com.wan.framework.base.constant.DataStateCode.I;
 
 @Entity
-@Table(name = "t_error_history")
+@Table(name = "t_error_history", indexes = {
+        @Index(name = "idx_event_time_error_id", columnList = "event_time, error_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_error_fingerprint_bucket", columnNames = {"fingerprint", "bucket_start"})
+})
 @Setter
 @Getter
 @RequiredArgsConstructor
@@ -37,6 +41,30 @@ public class ErrorHistory {
     @Column(name = "stack_trace", length = 5000)
     private String stackTrace;
 
+    /**
+     * 에러 지문 (예외 타입 + 상위 스택 프레임 SHA-256)
+     */
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
+    @Column(name = "exception_type", length = 255)
+    private String exceptionType;
+
+    /**
+     * 집계 시간 버킷 시작 시각
+     */
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    /**
+     * 버킷 내 발생 횟수 (요청 정보/스택은 첫 발생 샘플)
+     */
+    @Column(name = "occurrence_count")
+    private Long occurrenceCount;
+
+    @Column(name = "last_event_time")
+    private LocalDateTime lastEventTime;
+
     @PrePersist
     protected void onCreate() {
         this.eventTime = LocalDateTime.now();
@@ -0,0 +1,90 @@
+package com.wan.framework.history.domain;
+
+import com.wan.framework.history.constant.RollupGranularity;
+import com.wan.framework.history.constant.RollupSource;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 이력 롤업 (분/시/일 단위 집계)
+ * - ExecutionRollupService가 원본 이력을 구간별로 한 번씩 읽어 누적 (INSERT ... ON DUPLICATE KEY UPDATE)
+ * - 지연 시간 버킷은 누적 개수 (le100 = 100ms 이하 전체)
+ */
+@Entity
+@Table(name = "t_execution_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_execution_rollup",
+                columnNames = {"source_type", "target_id", "granularity", "bucket_start"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 원본 이력 구분
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 30)
+    private RollupSource sourceType;
+
+    /**
+     * 집계 키 (API 엔드포인트 ID / 배치 Job ID / API Key ID)
+     */
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    /**
+     * 집계 단위
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    /**
+     * 버킷 시작 시각
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "total_count", nullable = false)
+    private Long totalCount;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private Long failureCount;
+
+    /**
+     * 지연 시간이 기록된 건수
+     */
+    @Column(name = "latency_count", nullable = false)
+    private Long latencyCount;
+
+    @Column(name = "latency_sum_ms", nullable = false)
+    private Long latencySumMs;
+
+    @Column(name = "latency_max_ms", nullable = false)
+    private Long latencyMaxMs;
+
+    @Column(name = "latency_le100_count", nullable = false)
+    private Long latencyLe100Count;
+
+    @Column(name = "latency_le500_count", nullable = false)
+    private Long latencyLe500Count;
+
+    @Column(name = "latency_le1000_count", nullable = false)
+    private Long latencyLe1000Count;
+
+    @Column(name = "latency_le5000_count", nullable = false)
+    private Long latencyLe5000Count;
+}
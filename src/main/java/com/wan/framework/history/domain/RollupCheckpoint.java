@@ -0,0 +1,36 @@
+package com.wan.framework.history.domain;
+
+import com.wan.framework.history.constant.RollupSource;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 롤업 진행 위치
+ * - 원본 이력 중 processedUntil 이전 완료분은 롤업에 반영됨
+ * - 행 잠금(FOR UPDATE)으로 서버 간 같은 구간 중복 집계 방지
+ */
+@Entity
+@Table(name = "t_rollup_checkpoint")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupCheckpoint {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", length = 30)
+    private RollupSource sourceType;
+
+    /**
+     * 반영 완료 시각 (미포함 경계)
+     */
+    @Column(name = "processed_until", nullable = false)
+    private LocalDateTime processedUntil;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -18,4 +18,9 @@ public class ErrorHistoryDTO {
     private String errorMessage;
     private LocalDateTime eventTime;
     private String stackTrace;
+    private String fingerprint;
+    private String exceptionType;
+    private LocalDateTime bucketStart;
+    private Long occurrenceCount;
+    private LocalDateTime lastEventTime;
 }
@@ -0,0 +1,35 @@
+package com.wan.framework.history.dto;
+
+import com.wan.framework.history.constant.RollupGranularity;
+import com.wan.framework.history.constant.RollupSource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 이력 롤업 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionRollupDTO {
+
+    private RollupSource sourceType;
+    private Long targetId;
+    private RollupGranularity granularity;
+    private LocalDateTime bucketStart;
+    private Long totalCount;
+    private Long successCount;
+    private Long failureCount;
+    private Long latencyCount;
+    private Long latencySumMs;
+    private Long latencyMaxMs;
+    private Long latencyLe100Count;
+    private Long latencyLe500Count;
+    private Long latencyLe1000Count;
+    private Long latencyLe5000Count;
+}
@@ -0,0 +1,44 @@
+package com.wan.framework.history.exception;
+
+import com.wan.framework.base.exception.ExceptionResponse;
+import com.wan.framework.base.exception.FrameworkException;
+import com.wan.framework.history.constant.HistoryExceptionMessage;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이력 관리 관련 예외
+ * - 요청 값 검증 실패가 대부분이므로 응답에 상세 코드/메시지를 그대로 전달
+ */
+@Slf4j
+@Getter
+public class HistoryException extends IllegalArgumentException implements FrameworkException {
+
+    private final HistoryExceptionMessage historyExceptionMessage;
+
+    public HistoryException(HistoryExceptionMessage message) {
+        super(message.getMessage());
+        this.historyExceptionMessage = message;
+        log.error("history exception: {} - {}", message.getCode(), message.getMessage());
+    }
+
+    public HistoryException(HistoryExceptionMessage message, Throwable cause) {
+        super(message.getMessage(), cause);
+        this.historyExceptionMessage = message;
+        log.error("history exception: {} - {} / cause: {}",
+                message.getCode(),
+                message.getMessage(),
+                cause.getMessage());
+    }
+
+    @Override
+    public ExceptionResponse getResponse() {
+        return ExceptionResponse.builder()
+                .errorCode(historyExceptionMessage.getCode())
+                .eventTime(LocalDateTime.now())
+                .responseMessage(historyExceptionMessage.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.wan.framework.history.job;
+
+import com.wan.framework.history.service.HistoryRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이력 보관 기간 정리 Job
+ * - 클러스터 Quartz Job Store를 사용하므로 한 번의 트리거는 한 서버에서만 실행
+ * - 이전 실행이 끝나지 않았으면 다음 트리거는 대기
+ */
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+public class HistoryRetentionJob implements Job {
+
+    public static final JobKey JOB_KEY = JobKey.jobKey("HISTORY_RETENTION", "SYSTEM_GROUP");
+
+    @Autowired
+    private HistoryRetentionService historyRetentionService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("History retention job triggered");
+        try {
+            historyRetentionService.runRetention();
+        } catch (Exception e) {
+            log.error("History retention job failed: {}", e.getMessage());
+            throw new JobExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.wan.framework.history.mapper;
+
+import com.wan.framework.history.domain.ExecutionRollup;
+import com.wan.framework.history.dto.ExecutionRollupDTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ExecutionRollupMapper {
+
+    ExecutionRollupDTO toDTO(ExecutionRollup executionRollup);
+
+}
@@ -1,7 +1,23 @@
 package com.wan.framework.history.repository;
 
 import com.wan.framework.history.domain.ErrorHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ErrorHistoryRepository extends JpaRepository<ErrorHistory, Long> {
+
+    /**
+     * 에러 이력 키셋 조회 (eventTime, errorId 역순)
+     */
+    @Query("SELECT e FROM ErrorHistory e " +
+            "WHERE (e.eventTime < :cursorTime OR (e.eventTime = :cursorTime AND e.errorId < :cursorId)) " +
+            "ORDER BY e.eventTime DESC, e.errorId DESC")
+    List<ErrorHistory> findAllBefore(@Param("cursorTime") LocalDateTime cursorTime,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable limit);
 }
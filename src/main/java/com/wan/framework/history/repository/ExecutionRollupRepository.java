@@ -0,0 +1,19 @@
+package com.wan.framework.history.repository;
+
+import com.wan.framework.history.constant.RollupGranularity;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.domain.ExecutionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ExecutionRollupRepository extends JpaRepository<ExecutionRollup, Long> {
+
+    /**
+     * 구간 롤업 조회 (버킷 시작 시각 [from, to))
+     */
+    List<ExecutionRollup> findBySourceTypeAndTargetIdAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            RollupSource sourceType, Long targetId, RollupGranularity granularity,
+            LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,286 @@
+package com.wan.framework.history.service;
+
+import com.wan.framework.base.service.SequenceIdAllocator;
+import com.wan.framework.history.config.HistoryProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 이력 비동기 집계 저장
+ * - 예외 타입 + 상위 스택 프레임(클래스#메서드, 라인 제외)으로 지문 생성
+ * - 같은 지문은 시간 버킷마다 한 행으로 합쳐 발생 횟수만 증가 (요청 정보/스택은 첫 발생 샘플)
+ * - 스택 문자열은 버킷의 첫 발생 때만 생성
+ * - 백그라운드 스레드가 주기적으로 JDBC 배치 UPSERT → 에러 폭증 시에도 쓰기 수는 고유 에러 수에 비례
+ * - 저장 대기 중인 고유 에러 수가 상한을 넘거나 저장에 실패하면 버림 (요청 처리에 영향 없음)
+ * - ID는 시퀀스 할당기로만 발급 (AUTO_INCREMENT 혼용 시 ID 충돌) → 할당 실패 시 해당 집계는 버림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ErrorHistoryRecorder {
+
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final HistoryProperties historyProperties;
+
+    private static final String SEQUENCE_NAME = "error_history";
+    private static final String TABLE_NAME = "t_error_history";
+    private static final String ID_COLUMN = "error_id";
+    private static final int STACK_TRACE_LENGTH = 5000;
+    private static final int MESSAGE_LENGTH = 2500;
+    private static final int URL_LENGTH = 255;
+
+    // 지문 + 버킷 UNIQUE 키 충돌일 때만 합산 (PK 충돌 시 다른 지문의 행을 변경하지 않음)
+    private static final String SAME_BUCKET = "fingerprint = VALUES(fingerprint) AND bucket_start = VALUES(bucket_start)";
+
+    private static final String UPSERT_SQL = "INSERT INTO " + TABLE_NAME
+            + " (error_id, fingerprint, exception_type, bucket_start, occurrence_count, request_url, request_param,"
+            + " error_message, stack_trace, event_time, last_event_time)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE"
+            + " occurrence_count = IF(" + SAME_BUCKET + ", occurrence_count + VALUES(occurrence_count), occurrence_count),"
+            + " last_event_time = IF(" + SAME_BUCKET + ", GREATEST(last_event_time, VALUES(last_event_time)), last_event_time)";
+
+    private final Map<Key, Aggregate> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        HistoryProperties.ErrorRecording config = historyProperties.getErrorRecording();
+        if (!config.isAsyncEnabled()) {
+            return;
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("error-history-"));
+        flusher.scheduleWithFixedDelay(this::flushSafely,
+                config.getFlushIntervalMs(), config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("Async error history recorder started (bucket: {}s, interval: {}ms)",
+                config.getBucketSeconds(), config.getFlushIntervalMs());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 집계 저장
+        flushSafely();
+    }
+
+    /**
+     * 에러 기록
+     * - 요청 정보는 호출 스레드에서 추출 (요청 객체는 응답 후 재사용됨)
+     * - 비동기 모드: 집계만 하고 반환 / 동기 모드: 즉시 저장
+     */
+    public void record(Exception exception, HttpServletRequest request) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Key key = new Key(fingerprint(exception), bucketStart(now));
+
+            while (true) {
+                Aggregate aggregate = pending.get(key);
+                if (aggregate == null) {
+                    if (pending.size() >= historyProperties.getErrorRecording().getMaxPendingFingerprints()) {
+                        log.warn("Error history pending limit reached, dropping: {}", exception.getClass().getName());
+                        return;
+                    }
+                    aggregate = pending.computeIfAbsent(key, k -> new Aggregate(exception, request, now));
+                }
+                // flush가 가져간 집계에는 더하지 않고 새 집계로 재시도
+                if (aggregate.increment(now)) {
+                    break;
+                }
+                pending.remove(key, aggregate);
+            }
+
+            if (flusher == null) {
+                flush();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record error history: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 대기 중인 고유 에러 수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Error history flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 집계를 꺼내 배치 UPSERT
+     */
+    void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Key, Aggregate> entry : pending.entrySet()) {
+            if (!pending.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            Aggregate aggregate = entry.getValue();
+            aggregate.close();
+            Long errorId = nextId();
+            if (errorId == null) {
+                log.warn("Error history dropped, id allocation failed: {}", aggregate.exceptionType);
+                continue;
+            }
+            batch.add(toRow(errorId, entry.getKey(), aggregate));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        } catch (Exception e) {
+            log.warn("Failed to write error history ({} fingerprints dropped): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 에러 이력 ID 할당 (실패 시 null)
+     */
+    private Long nextId() {
+        try {
+            return sequenceIdAllocator.nextId(SEQUENCE_NAME, TABLE_NAME, ID_COLUMN,
+                    historyProperties.getErrorRecording().getIdBlockSize());
+        } catch (Exception e) {
+            log.warn("Failed to allocate error history id: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Object[] toRow(long errorId, Key key, Aggregate aggregate) {
+        return new Object[]{
+                errorId,
+                key.fingerprint(),
+                aggregate.exceptionType,
+                Timestamp.valueOf(key.bucketStart()),
+                aggregate.count,
+                aggregate.requestURL,
+                aggregate.requestParam,
+                aggregate.errorMessage,
+                aggregate.stackTrace,
+                Timestamp.valueOf(aggregate.firstEventTime),
+                Timestamp.valueOf(aggregate.lastEventTime)
+        };
+    }
+
+    /**
+     * 에러 지문 (예외 타입 + 상위 N개 프레임의 SHA-256)
+     * - 라인 번호와 메시지는 제외하여 배포/입력값이 달라도 같은 에러로 집계
+     */
+    String fingerprint(Throwable exception) {
+        StringBuilder source = new StringBuilder(exception.getClass().getName());
+        StackTraceElement[] frames = exception.getStackTrace();
+        int limit = Math.min(frames.length, historyProperties.getErrorRecording().getFingerprintFrames());
+        for (int i = 0; i < limit; i++) {
+            source.append('|').append(frames[i].getClassName()).append('#').append(frames[i].getMethodName());
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    LocalDateTime bucketStart(LocalDateTime time) {
+        long bucketSeconds = Math.max(1, historyProperties.getErrorRecording().getBucketSeconds());
+        long epochSecond = time.atZone(ZoneId.systemDefault()).toEpochSecond();
+        long floored = epochSecond - Math.floorMod(epochSecond, bucketSeconds);
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(floored), ZoneId.systemDefault());
+    }
+
+    private static String getStackTrace(Throwable exception) {
+        StringWriter sw = new StringWriter();
+        exception.printStackTrace(new PrintWriter(sw));
+        return truncate(sw.toString(), STACK_TRACE_LENGTH);
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
+    private record Key(String fingerprint, LocalDateTime bucketStart) {
+    }
+
+    /**
+     * 지문 + 버킷별 집계 (첫 발생 샘플 보관)
+     */
+    private static class Aggregate {
+        private final String exceptionType;
+        private final String requestURL;
+        private final String requestParam;
+        private final String errorMessage;
+        private final String stackTrace;
+        private final LocalDateTime firstEventTime;
+        private LocalDateTime lastEventTime;
+        private long count;
+        private boolean closed;
+
+        private Aggregate(Exception exception, HttpServletRequest request, LocalDateTime now) {
+            this.exceptionType = exception.getClass().getName();
+            this.requestURL = truncate(request.getRequestURI(), URL_LENGTH);
+            this.requestParam = truncate(request.getQueryString(), MESSAGE_LENGTH);
+            this.errorMessage = truncate(exception.getMessage(), MESSAGE_LENGTH);
+            this.stackTrace = getStackTrace(exception);
+            this.firstEventTime = now;
+            this.lastEventTime = now;
+        }
+
+        private synchronized boolean increment(LocalDateTime now) {
+            if (closed) {
+                return false;
+            }
+            count++;
+            if (now.isAfter(lastEventTime)) {
+                lastEventTime = now;
+            }
+            return true;
+        }
+
+        private synchronized void close() {
+            closed = true;
+        }
+    }
+}
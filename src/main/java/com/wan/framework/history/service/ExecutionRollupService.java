@@ -0,0 +1,284 @@
+package com.wan.framework.history.service;
+
+import com.wan.framework.history.config.HistoryProperties;
+import com.wan.framework.history.constant.RollupGranularity;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.dto.ExecutionRollupDTO;
+import com.wan.framework.history.mapper.ExecutionRollupMapper;
+import com.wan.framework.history.repository.ExecutionRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행 이력 롤업 서비스
+ * - 원본 이력을 완료 시각 구간 [processedUntil, 현재 - lag) 단위로 읽어 분/시/일 롤업에 누적
+ * - 구간 집계와 진행 위치 갱신을 한 트랜잭션에서 처리하여 같은 구간을 두 번 집계하지 않음
+ * - 통계 조회는 일 롤업 합계 + 아직 롤업되지 않은 원본 구간 합계 (같은 스냅샷에서 조회)
+ * - lag보다 늦게 저장된 이력(디스크 spill 재처리 등)은 롤업에서 누락될 수 있음
+ */
+@Slf4j
+@Service
+public class ExecutionRollupService {
+
+    private final HistoryProperties historyProperties;
+    private final ExecutionRollupRepository executionRollupRepository;
+    private final ExecutionRollupMapper executionRollupMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExecutionRollupService(HistoryProperties historyProperties,
+                                  ExecutionRollupRepository executionRollupRepository,
+                                  ExecutionRollupMapper executionRollupMapper,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.historyProperties = historyProperties;
+        this.executionRollupRepository = executionRollupRepository;
+        this.executionRollupMapper = executionRollupMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적 롤업 집계
+     */
+    @Scheduled(fixedDelayString = "${history.rollup.interval-ms:60000}",
+            initialDelayString = "${history.rollup.interval-ms:60000}")
+    public void rollup() {
+        HistoryProperties.Rollup config = historyProperties.getRollup();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now()
+                .minusSeconds(config.getLagSeconds())
+                .truncatedTo(ChronoUnit.MINUTES);
+
+        for (RollupSource source : RollupSource.values()) {
+            try {
+                int slices = 0;
+                while (slices < config.getMaxSlicesPerRun() && rollupSlice(source, cutoff)) {
+                    slices++;
+                }
+            } catch (Exception e) {
+                log.warn("Execution rollup failed: {} - {}", source, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다음 구간 집계
+     *
+     * @return 집계한 구간이 있으면 true
+     */
+    boolean rollupSlice(RollupSource source, LocalDateTime cutoff) {
+        Boolean processed = transactionTemplate.execute(status -> {
+            LocalDateTime from = lockCheckpoint(source, cutoff);
+            LocalDateTime to = from.plusMinutes(Math.max(1, historyProperties.getRollup().getMaxSliceMinutes()));
+            if (to.isAfter(cutoff)) {
+                to = cutoff;
+            }
+            if (!to.isAfter(from)) {
+                return false;
+            }
+
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                jdbcTemplate.update(upsertSql(source, granularity),
+                        source.name(), granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+            }
+            jdbcTemplate.update(
+                    "UPDATE t_rollup_checkpoint SET processed_until = ?, updated_at = ? WHERE source_type = ?",
+                    Timestamp.valueOf(to), Timestamp.valueOf(LocalDateTime.now()), source.name());
+
+            log.debug("Execution rollup: {} [{}, {})", source, from, to);
+            return true;
+        });
+        return Boolean.TRUE.equals(processed);
+    }
+
+    /**
+     * 진행 위치 잠금 조회 (없으면 원본 최초 시각부터 시작)
+     */
+    private LocalDateTime lockCheckpoint(RollupSource source, LocalDateTime cutoff) {
+        List<Timestamp> current = jdbcTemplate.queryForList(
+                "SELECT processed_until FROM t_rollup_checkpoint WHERE source_type = ? FOR UPDATE",
+                Timestamp.class, source.name());
+        if (!current.isEmpty()) {
+            return current.get(0).toLocalDateTime();
+        }
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(" + source.getTimeColumn() + ") FROM " + source.getTableName(), Timestamp.class);
+        LocalDateTime start = oldest != null
+                ? oldest.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES)
+                : cutoff;
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO t_rollup_checkpoint (source_type, processed_until, updated_at) VALUES (?, ?, ?)",
+                    source.name(), Timestamp.valueOf(start), Timestamp.valueOf(LocalDateTime.now()));
+            return start;
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 먼저 생성한 경우 다시 잠금
+            return jdbcTemplate.queryForObject(
+                    "SELECT processed_until FROM t_rollup_checkpoint WHERE source_type = ? FOR UPDATE",
+                    Timestamp.class, source.name()).toLocalDateTime();
+        }
+    }
+
+    /**
+     * 구간 집계 SQL (원본 → 롤업 누적)
+     */
+    static String upsertSql(RollupSource source, RollupGranularity granularity) {
+        String time = source.getTimeColumn();
+        String latency = source.getLatencyColumn();
+        String bucket = "CAST(DATE_FORMAT(" + time + ", '" + granularity.getBucketFormat() + "') AS DATETIME)";
+
+        return "INSERT INTO t_execution_rollup (source_type, target_id, granularity, bucket_start, " +
+                "total_count, success_count, failure_count, latency_count, latency_sum_ms, latency_max_ms, " +
+                "latency_le100_count, latency_le500_count, latency_le1000_count, latency_le5000_count) " +
+                "SELECT ?, " + source.getKeyColumn() + ", ?, " + bucket + ", " +
+                "COUNT(*), " +
+                "SUM(CASE WHEN " + source.getSuccessCondition() + " THEN 1 ELSE 0 END), " +
+                "SUM(CASE WHEN " + source.getFailureCondition() + " THEN 1 ELSE 0 END), " +
+                "COUNT(" + latency + "), " +
+                "COALESCE(SUM(" + latency + "), 0), " +
+                "COALESCE(MAX(" + latency + "), 0), " +
+                latencyBucket(latency, 100) + ", " +
+                latencyBucket(latency, 500) + ", " +
+                latencyBucket(latency, 1000) + ", " +
+                latencyBucket(latency, 5000) + " " +
+                "FROM " + source.getTableName() + " " +
+                "WHERE " + time + " >= ? AND " + time + " < ? " +
+                "GROUP BY " + source.getKeyColumn() + ", " + bucket + " " +
+                "ON DUPLICATE KEY UPDATE " +
+                "total_count = total_count + VALUES(total_count), " +
+                "success_count = success_count + VALUES(success_count), " +
+                "failure_count = failure_count + VALUES(failure_count), " +
+                "latency_count = latency_count + VALUES(latency_count), " +
+                "latency_sum_ms = latency_sum_ms + VALUES(latency_sum_ms), " +
+                "latency_max_ms = GREATEST(latency_max_ms, VALUES(latency_max_ms)), " +
+                "latency_le100_count = latency_le100_count + VALUES(latency_le100_count), " +
+                "latency_le500_count = latency_le500_count + VALUES(latency_le500_count), " +
+                "latency_le1000_count = latency_le1000_count + VALUES(latency_le1000_count), " +
+                "latency_le5000_count = latency_le5000_count + VALUES(latency_le5000_count)";
+    }
+
+    private static String latencyBucket(String latency, long upperMs) {
+        return "SUM(CASE WHEN " + latency + " <= " + upperMs + " THEN 1 ELSE 0 END)";
+    }
+
+    /**
+     * 대상별 누적 통계 (총 건수, 성공 건수, 실패 건수, 평균 실행 시간)
+     * - 기존 JPQL 통계 조회와 같은 순서의 배열로 반환
+     */
+    @Transactional(readOnly = true)
+    public Object getExecutionStats(RollupSource source, Long targetId) {
+        Totals totals = totals(source, targetId);
+        Double avgExecutionTime = totals.latencyCount() > 0
+                ? (double) totals.latencySumMs() / totals.latencyCount()
+                : null;
+        return new Object[]{totals.totalCount(), totals.successCount(), totals.failureCount(), avgExecutionTime};
+    }
+
+    /**
+     * 대상별 누적 건수
+     *
+     * @param success null이면 전체, true/false면 성공/실패 건수
+     */
+    @Transactional(readOnly = true)
+    public long countExecutions(RollupSource source, Long targetId, Boolean success) {
+        Totals totals = totals(source, targetId);
+        if (success == null) {
+            return totals.totalCount();
+        }
+        return success ? totals.successCount() : totals.failureCount();
+    }
+
+    /**
+     * 구간 롤업 조회 (시계열)
+     */
+    @Transactional(readOnly = true)
+    public List<ExecutionRollupDTO> getRollups(RollupSource source, Long targetId, RollupGranularity granularity,
+                                               LocalDateTime from, LocalDateTime to) {
+        return executionRollupRepository
+                .findBySourceTypeAndTargetIdAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+                        source, targetId, granularity, from, to)
+                .stream()
+                .map(executionRollupMapper::toDTO)
+                .toList();
+    }
+
+    /**
+     * 일 롤업 합계 + 진행 위치 이후 원본 합계
+     * - 호출 트랜잭션 안에서 조회하여 롤업 진행과 겹쳐도 같은 스냅샷 기준으로 합산
+     */
+    private Totals totals(RollupSource source, Long targetId) {
+        List<Timestamp> checkpoint = jdbcTemplate.queryForList(
+                "SELECT processed_until FROM t_rollup_checkpoint WHERE source_type = ?",
+                Timestamp.class, source.name());
+
+        Totals rolled = Totals.ZERO;
+        List<Object> rawArgs = new ArrayList<>();
+        rawArgs.add(targetId);
+        String rawCondition = source.getKeyColumn() + " = ?";
+
+        if (!checkpoint.isEmpty()) {
+            rolled = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(total_count), 0), COALESCE(SUM(success_count), 0), " +
+                            "COALESCE(SUM(failure_count), 0), COALESCE(SUM(latency_count), 0), " +
+                            "COALESCE(SUM(latency_sum_ms), 0) " +
+                            "FROM t_execution_rollup " +
+                            "WHERE source_type = ? AND target_id = ? AND granularity = ?",
+                    (rs, rowNum) -> new Totals(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)),
+                    source.name(), targetId, RollupGranularity.DAY.name());
+
+            String pending = source.getTimeColumn() + " >= ?";
+            if (source.getOpenCondition() != null) {
+                pending = "(" + pending + " OR " + source.getOpenCondition() + ")";
+            }
+            rawCondition += " AND " + pending;
+            rawArgs.add(checkpoint.get(0));
+        }
+
+        String latency = source.getLatencyColumn();
+        Totals raw = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), " +
+                        "COALESCE(SUM(CASE WHEN " + source.getSuccessCondition() + " THEN 1 ELSE 0 END), 0), " +
+                        "COALESCE(SUM(CASE WHEN " + source.getFailureCondition() + " THEN 1 ELSE 0 END), 0), " +
+                        "COUNT(" + latency + "), COALESCE(SUM(" + latency + "), 0) " +
+                        "FROM " + source.getTableName() + " WHERE " + rawCondition,
+                (rs, rowNum) -> new Totals(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)),
+                rawArgs.toArray());
+
+        return rolled.plus(raw);
+    }
+
+    /**
+     * 합계
+     */
+    record Totals(long totalCount, long successCount, long failureCount, long latencyCount, long latencySumMs) {
+
+        static final Totals ZERO = new Totals(0L, 0L, 0L, 0L, 0L);
+
+        Totals plus(Totals other) {
+            if (other == null) {
+                return this;
+            }
+            return new Totals(totalCount + other.totalCount, successCount + other.successCount,
+                    failureCount + other.failureCount, latencyCount + other.latencyCount,
+                    latencySumMs + other.latencySumMs);
+        }
+    }
+}
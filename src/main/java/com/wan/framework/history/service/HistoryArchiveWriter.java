@@ -0,0 +1,73 @@
+package com.wan.framework.history.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 이력 아카이브 파일 기록 (gzip NDJSON)
+ * - 청크마다 독립된 gzip 멤버를 파일 끝에 추가 (이어 붙인 gzip도 일반 도구로 한 번에 해제 가능)
+ * - 청크 기록 후 fsync 하므로 호출자는 반환 이후에 원본 행을 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryArchiveWriter {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 청크 추가
+     */
+    public void append(Path file, List<Map<String, Object>> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 65536);
+            for (Map<String, Object> row : rows) {
+                gzip.write(objectMapper.writeValueAsBytes(normalize(row)));
+                gzip.write('\n');
+            }
+            gzip.finish();
+            gzip.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * JDBC 값 정리 (시각은 ISO 문자열, 바이너리는 UTF-8 문자열)
+     */
+    private Map<String, Object> normalize(Map<String, Object> row) {
+        Map<String, Object> normalized = new LinkedHashMap<>(row.size());
+        row.forEach((column, value) -> {
+            if (value instanceof Timestamp timestamp) {
+                normalized.put(column, timestamp.toLocalDateTime().toString());
+            } else if (value instanceof byte[] bytes) {
+                normalized.put(column, new String(bytes, StandardCharsets.UTF_8));
+            } else {
+                normalized.put(column, value);
+            }
+        });
+        return normalized;
+    }
+}
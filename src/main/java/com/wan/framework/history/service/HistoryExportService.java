@@ -0,0 +1,256 @@
+package com.wan.framework.history.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.history.config.HistoryProperties;
+import com.wan.framework.history.constant.ExportFormat;
+import com.wan.framework.history.constant.ExportSource;
+import com.wan.framework.history.constant.HistoryExceptionMessage;
+import com.wan.framework.history.exception.HistoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 이력 내보내기 서비스 (CSV / NDJSON 스트리밍)
+ * - 전방 전용 JDBC 커서(fetchSize)로 한 행씩 읽어 바로 출력 스트림에 기록 (결과 전체를 메모리에 올리지 않음)
+ * - 기간 필터는 시각 컬럼 인덱스 범위 조회, 시각 순서로 출력
+ * - gzip 압축은 호출자가 출력 스트림으로 감싸서 처리
+ */
+@Slf4j
+@Service
+public class HistoryExportService {
+
+    private final HistoryProperties historyProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public HistoryExportService(HistoryProperties historyProperties, JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper) {
+        this.historyProperties = historyProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 기간 검증 (종료 시각이 없으면 현재)
+     *
+     * @return 종료 시각
+     * @throws HistoryException 시작 시각이 없거나 기간이 잘못된 경우
+     */
+    public LocalDateTime validateRange(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        if (from == null || !from.isBefore(end)) {
+            throw new HistoryException(HistoryExceptionMessage.INVALID_EXPORT_RANGE);
+        }
+        if (from.plusDays(historyProperties.getExport().getMaxRangeDays()).isBefore(end)) {
+            throw new HistoryException(HistoryExceptionMessage.EXPORT_RANGE_TOO_LONG);
+        }
+        return end;
+    }
+
+    /**
+     * 이력 내보내기
+     *
+     * @return 기록한 행 수
+     */
+    public long export(ExportSource source, ExportFormat format, LocalDateTime from, LocalDateTime to,
+                       OutputStream out) throws IOException {
+        LocalDateTime end = validateRange(from, to);
+        HistoryProperties.Export config = historyProperties.getExport();
+        String sql = "SELECT * FROM " + source.getTableName() +
+                " WHERE " + source.getTimeColumn() + " >= ? AND " + source.getTimeColumn() + " < ?" +
+                " ORDER BY " + source.getTimeColumn();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), config.getBufferBytes());
+        RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        long[] count = {0L};
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(config.getFetchSize());
+                statement.setTimestamp(1, Timestamp.valueOf(from));
+                statement.setTimestamp(2, Timestamp.valueOf(end));
+                return statement;
+            }, rs -> {
+                try {
+                    if (count[0] == 0) {
+                        rowWriter.header(rs.getMetaData());
+                    }
+                    rowWriter.row(rs);
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등
+            throw e.getCause();
+        }
+
+        rowWriter.finish();
+        writer.flush();
+        log.info("History exported: {} {} [{}, {}) - {} rows", source, format, from, end, count[0]);
+        return count[0];
+    }
+
+    /**
+     * 컬럼 값 (시각은 ISO 문자열, 바이너리는 UTF-8 문자열)
+     */
+    private static Object columnValue(ResultSet rs, int index) throws SQLException {
+        Object value = JdbcUtils.getResultSetValue(rs, index);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * 행 출력
+     */
+    private interface RowWriter {
+
+        void header(ResultSetMetaData metaData) throws SQLException, IOException;
+
+        void row(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * CSV (RFC 4180, 첫 행은 컬럼명)
+     */
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private int columnCount;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header(ResultSetMetaData metaData) throws SQLException, IOException {
+            columnCount = metaData.getColumnCount();
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writeField(JdbcUtils.lookupColumnName(metaData, i));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = columnValue(rs, i);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * NDJSON (행마다 JSON 객체 한 줄)
+     */
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private String[] columns;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void header(ResultSetMetaData metaData) throws SQLException {
+            columns = new String[metaData.getColumnCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+            }
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                generator.writeFieldName(columns[i]);
+                writeValue(columnValue(rs, i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+
+        /**
+         * 스칼라 값 기록 (값마다 flush 하지 않도록 ObjectMapper를 거치지 않음)
+         */
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Boolean bool) {
+                generator.writeBoolean(bool);
+            } else if (value instanceof BigDecimal decimal) {
+                generator.writeNumber(decimal);
+            } else if (value instanceof BigInteger integer) {
+                generator.writeNumber(integer);
+            } else if (value instanceof Double || value instanceof Float) {
+                generator.writeNumber(((Number) value).doubleValue());
+            } else if (value instanceof Number number) {
+                generator.writeNumber(number.longValue());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+    }
+}
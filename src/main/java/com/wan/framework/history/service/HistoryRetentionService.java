@@ -0,0 +1,363 @@
+package com.wan.framework.history.service;
+
+import com.wan.framework.history.config.HistoryProperties;
+import com.wan.framework.history.constant.HistoryExceptionMessage;
+import com.wan.framework.history.constant.PartitionUnit;
+import com.wan.framework.history.exception.HistoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이력 보관 기간 정리 서비스
+ * - 테이블별 보관 기간(history.retention.tables)을 넘은 이력을 아카이브 후 제거
+ * - 파티션 단위(DAY/MONTH) 테이블: 이미 RANGE COLUMNS 파티션인 경우에만 미래 파티션을 미리 추가, 만료 파티션은 DROP
+ * - 파티션이 없는 테이블은 청크 단위 DELETE로 처리 (정기 정리에서 파티션 전환은 하지 않음)
+ * - 파티션 전환은 테이블 전체를 복사하며 쓰기를 차단하므로 운영자가 convertToPartitions로 명시적으로 수행
+ * - 아카이브는 archiveDir/테이블명/ 아래 gzip NDJSON (원본 삭제 전에 기록)
+ * - Quartz HistoryRetentionJob에서 호출 (클러스터 내 한 서버만 실행)
+ */
+@Slf4j
+@Service
+public class HistoryRetentionService {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter FILE_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final HistoryProperties historyProperties;
+    private final HistoryArchiveWriter archiveWriter;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * RANGE COLUMNS 이외의 방식으로 파티션된 테이블 (재시작 전까지 DELETE 방식 사용)
+     */
+    private final Set<String> partitionUnsupported = ConcurrentHashMap.newKeySet();
+
+    public HistoryRetentionService(HistoryProperties historyProperties,
+                                   HistoryArchiveWriter archiveWriter,
+                                   JdbcTemplate jdbcTemplate) {
+        this.historyProperties = historyProperties;
+        this.archiveWriter = archiveWriter;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 전체 테이블 정리
+     */
+    public List<RetentionResult> runRetention() {
+        HistoryProperties.Retention config = historyProperties.getRetention();
+        if (!config.isEnabled()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RetentionResult> results = new ArrayList<>();
+        config.getTables().forEach((name, table) -> {
+            try {
+                RetentionResult result = applyRetention(table, now);
+                log.info("History retention completed: {} - mode={}, archivedRows={}, removedRows={}, droppedPartitions={}",
+                        name, result.mode(), result.archivedRows(), result.removedRows(), result.droppedPartitions());
+                results.add(result);
+            } catch (Exception e) {
+                log.warn("History retention failed: {} - {}", name, e.getMessage());
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 테이블 정리
+     */
+    RetentionResult applyRetention(HistoryProperties.Table table, LocalDateTime now) throws IOException {
+        LocalDateTime cutoff = now.truncatedTo(ChronoUnit.DAYS).minusDays(table.getRetentionDays());
+
+        if (table.getPartitionUnit() != PartitionUnit.NONE && !partitionUnsupported.contains(table.getTableName())) {
+            List<PartitionInfo> partitions = loadPartitions(table.getTableName());
+            if (partitions.isEmpty()) {
+                log.info("History table is not partitioned, using chunked delete: {}", table.getTableName());
+            } else {
+                partitions = addAheadPartitions(table, partitions, now);
+                return dropExpiredPartitions(table, partitions, cutoff);
+            }
+        }
+        return deleteExpiredRows(table, cutoff);
+    }
+
+    // ==================== 파티션 ====================
+
+    /**
+     * 파티션 목록 (RANGE COLUMNS 파티션이 아니면 빈 목록)
+     */
+    List<PartitionInfo> loadPartitions(String tableName) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME, PARTITION_METHOD, PARTITION_DESCRIPTION " +
+                        "FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                tableName);
+
+        List<PartitionInfo> partitions = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            if (!"RANGE COLUMNS".equals(row.get("PARTITION_METHOD"))) {
+                log.warn("Unsupported partitioning on {}: {}", tableName, row.get("PARTITION_METHOD"));
+                partitionUnsupported.add(tableName);
+                return List.of();
+            }
+            partitions.add(new PartitionInfo((String) row.get("PARTITION_NAME"),
+                    parseBoundary((String) row.get("PARTITION_DESCRIPTION"))));
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션 테이블로 전환 (운영자가 명시적으로 실행)
+     * - ALTER TABLE이 테이블 전체를 복사하며 완료될 때까지 쓰기가 차단됨 → 쓰기가 적은 시간대에 실행
+     *   (그동안 비동기 실행 이력 저장은 디스크 spill 후 재적재)
+     * - PK에 시각 컬럼을 추가해야 하므로 FK나 다른 UNIQUE 키가 있으면 실패
+     * - 이미 RANGE COLUMNS 파티션이면 아무것도 하지 않음
+     *
+     * @param name history.retention.tables 키
+     * @return 파티션 수
+     */
+    public int convertToPartitions(String name) {
+        HistoryProperties.Table table = historyProperties.getRetention().getTables().get(name);
+        if (table == null || table.getPartitionUnit() == PartitionUnit.NONE) {
+            throw new HistoryException(HistoryExceptionMessage.PARTITION_UNIT_MISSING);
+        }
+
+        List<PartitionInfo> partitions = loadPartitions(table.getTableName());
+        if (partitionUnsupported.contains(table.getTableName())) {
+            throw new HistoryException(HistoryExceptionMessage.UNSUPPORTED_PARTITIONING);
+        }
+        if (!partitions.isEmpty()) {
+            log.info("History table already partitioned: {} ({} partitions)", table.getTableName(), partitions.size());
+            return partitions.size();
+        }
+        return createPartitions(table, LocalDateTime.now()).size();
+    }
+
+    /**
+     * 파티션 테이블로 전환 (보관 기간 이전 행은 첫 파티션에 모여 다음 정리 때 함께 제거됨)
+     */
+    private List<PartitionInfo> createPartitions(HistoryProperties.Table table, LocalDateTime now) {
+        PartitionUnit unit = table.getPartitionUnit();
+        LocalDateTime start = unit.floor(now.minusDays(table.getRetentionDays()));
+        LocalDateTime end = aheadBoundary(unit, now);
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDateTime period = start; period.isBefore(end); period = unit.next(period)) {
+            definitions.add(partitionDefinition(unit, period));
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        String sql = "ALTER TABLE " + table.getTableName() +
+                " DROP PRIMARY KEY, ADD PRIMARY KEY (" + table.getIdColumn() + ", " + table.getTimeColumn() + ")" +
+                " PARTITION BY RANGE COLUMNS(" + table.getTimeColumn() + ") (" +
+                String.join(", ", definitions) + ")";
+        log.info("Partitioning history table: {} ({} partitions)", table.getTableName(), definitions.size());
+        jdbcTemplate.execute(sql);
+        log.info("History table partitioned: {}", table.getTableName());
+        return loadPartitions(table.getTableName());
+    }
+
+    /**
+     * 미래 파티션 추가 (현재 구간 이후 partitionsAhead개까지)
+     */
+    private List<PartitionInfo> addAheadPartitions(HistoryProperties.Table table, List<PartitionInfo> partitions,
+                                                   LocalDateTime now) {
+        PartitionUnit unit = table.getPartitionUnit();
+        LocalDateTime end = aheadBoundary(unit, now);
+        LocalDateTime last = partitions.stream()
+                .map(PartitionInfo::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(unit.floor(now));
+        if (!last.isBefore(end)) {
+            return partitions;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDateTime period = last; period.isBefore(end); period = unit.next(period)) {
+            definitions.add(partitionDefinition(unit, period));
+        }
+
+        boolean hasFuture = partitions.stream().anyMatch(partition -> partition.upperBound() == null);
+        String sql = hasFuture
+                ? "ALTER TABLE " + table.getTableName() + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                String.join(", ", definitions) + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))"
+                : "ALTER TABLE " + table.getTableName() + " ADD PARTITION (" + String.join(", ", definitions) + ")";
+        jdbcTemplate.execute(sql);
+        log.info("History partitions added: {} ({} partitions)", table.getTableName(), definitions.size());
+        return loadPartitions(table.getTableName());
+    }
+
+    /**
+     * 만료 파티션 아카이브 후 DROP (상한이 기준 시각 이하인 파티션)
+     */
+    private RetentionResult dropExpiredPartitions(HistoryProperties.Table table, List<PartitionInfo> partitions,
+                                                  LocalDateTime cutoff) throws IOException {
+        long archived = 0L;
+        int dropped = 0;
+        for (PartitionInfo partition : partitions) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+            if (table.isArchive()) {
+                Path file = archiveFile(table, partition.name());
+                // 이전 시도에서 일부만 기록된 파일은 다시 작성
+                Files.deleteIfExists(file);
+                archived += archivePartition(table, partition.name(), file);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table.getTableName() + " DROP PARTITION " + partition.name());
+            dropped++;
+        }
+        return new RetentionResult(table.getTableName(), table.getPartitionUnit().name(), archived, 0L, dropped);
+    }
+
+    /**
+     * 파티션 행 스트리밍 아카이브
+     */
+    private long archivePartition(HistoryProperties.Table table, String partitionName, Path file) {
+        int chunkSize = Math.max(1, historyProperties.getRetention().getChunkSize());
+        ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+        List<Map<String, Object>> buffer = new ArrayList<>(chunkSize);
+        long[] count = {0L};
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT * FROM " + table.getTableName() + " PARTITION (" + partitionName + ")");
+            statement.setFetchSize(chunkSize);
+            return statement;
+        }, rs -> {
+            buffer.add(rowMapper.mapRow(rs, (int) count[0]));
+            count[0]++;
+            if (buffer.size() >= chunkSize) {
+                appendChunk(file, buffer);
+            }
+        });
+        appendChunk(file, buffer);
+        return count[0];
+    }
+
+    private void appendChunk(Path file, List<Map<String, Object>> buffer) {
+        try {
+            archiveWriter.append(file, buffer);
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== 청크 삭제 ====================
+
+    /**
+     * 만료 행 청크 단위 아카이브 후 삭제 (PK 순서)
+     */
+    private RetentionResult deleteExpiredRows(HistoryProperties.Table table, LocalDateTime cutoff) throws IOException {
+        int chunkSize = Math.max(1, historyProperties.getRetention().getChunkSize());
+        String idColumn = table.getIdColumn();
+        Path file = table.isArchive()
+                ? archiveFile(table, LocalDateTime.now().format(FILE_SUFFIX_FORMAT))
+                : null;
+
+        long removed = 0L;
+        long lastId = Long.MIN_VALUE;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT * FROM " + table.getTableName() +
+                            " WHERE " + table.getTimeColumn() + " < ? AND " + idColumn + " > ?" +
+                            " ORDER BY " + idColumn + " LIMIT ?",
+                    Timestamp.valueOf(cutoff), lastId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            if (file != null) {
+                archiveWriter.append(file, rows);
+            }
+
+            List<Object> ids = rows.stream().map(row -> row.get(idColumn)).toList();
+            jdbcTemplate.update(
+                    "DELETE FROM " + table.getTableName() + " WHERE " + idColumn + " IN (" +
+                            String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+                    ids.toArray());
+
+            removed += rows.size();
+            lastId = ((Number) ids.get(ids.size() - 1)).longValue();
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        return new RetentionResult(table.getTableName(), PartitionUnit.NONE.name(), file != null ? removed : 0L,
+                removed, 0);
+    }
+
+    // ==================== 공통 ====================
+
+    private LocalDateTime aheadBoundary(PartitionUnit unit, LocalDateTime now) {
+        LocalDateTime boundary = unit.next(unit.floor(now));
+        for (int i = 0; i < historyProperties.getRetention().getPartitionsAhead(); i++) {
+            boundary = unit.next(boundary);
+        }
+        return boundary;
+    }
+
+    private String partitionDefinition(PartitionUnit unit, LocalDateTime start) {
+        return "PARTITION " + unit.partitionName(start) +
+                " VALUES LESS THAN ('" + unit.next(start).format(BOUNDARY_FORMAT) + "')";
+    }
+
+    private Path archiveFile(HistoryProperties.Table table, String suffix) {
+        return Paths.get(historyProperties.getRetention().getArchiveDir(), table.getTableName(),
+                table.getTableName() + "-" + suffix + ".ndjson.gz");
+    }
+
+    /**
+     * 파티션 상한 파싱 ('2026-01-02 00:00:00' 또는 MAXVALUE)
+     */
+    static LocalDateTime parseBoundary(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        if (value.length() > 19) {
+            value = value.substring(0, 19);
+        }
+        return LocalDateTime.parse(value, BOUNDARY_FORMAT);
+    }
+
+    /**
+     * 파티션 정보
+     *
+     * @param name       파티션 이름
+     * @param upperBound 상한 (미포함, MAXVALUE면 null)
+     */
+    record PartitionInfo(String name, LocalDateTime upperBound) {
+    }
+
+    /**
+     * 테이블 정리 결과
+     */
+    public record RetentionResult(String tableName, String mode, long archivedRows, long removedRows,
+                                  int droppedPartitions) {
+    }
+}
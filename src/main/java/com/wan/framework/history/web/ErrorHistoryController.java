@@ -0,0 +1,35 @@
+package com.wan.framework.history.web;
+
+import com.wan.framework.base.dto.CursorPage;
+import com.wan.framework.history.dto.ErrorHistoryDTO;
+import com.wan.framework.history.service.ErrorHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 에러 이력 컨트롤러
+ * - 에러 이력 조회 (커서)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/error-history")
+@RequiredArgsConstructor
+public class ErrorHistoryController {
+
+    private final ErrorHistoryService errorHistoryService;
+
+    /**
+     * 에러 이력 조회 (최신순, 커서, 건수 미집계)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ErrorHistoryDTO>> getErrorHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(errorHistoryService.findAll(cursor, size));
+    }
+}
@@ -0,0 +1,42 @@
+package com.wan.framework.history.web;
+
+import com.wan.framework.history.constant.RollupGranularity;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.dto.ExecutionRollupDTO;
+import com.wan.framework.history.service.ExecutionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실행 이력 롤업 컨트롤러
+ * - 분/시/일 단위 시계열 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/execution-rollups")
+@RequiredArgsConstructor
+public class ExecutionRollupController {
+
+    private final ExecutionRollupService executionRollupService;
+
+    /**
+     * 구간 롤업 조회
+     */
+    @GetMapping("/{sourceType}/{targetId}")
+    public ResponseEntity<List<ExecutionRollupDTO>> getRollups(
+            @PathVariable RollupSource sourceType,
+            @PathVariable Long targetId,
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        List<ExecutionRollupDTO> rollups = executionRollupService.getRollups(
+                sourceType, targetId, granularity, startDate, endDate);
+        return ResponseEntity.ok(rollups);
+    }
+}
@@ -0,0 +1,64 @@
+package com.wan.framework.history.web;
+
+import com.wan.framework.history.constant.ExportFormat;
+import com.wan.framework.history.constant.ExportSource;
+import com.wan.framework.history.service.HistoryExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 이력 내보내기 컨트롤러
+ * - Proxy 실행 / API Key 사용 / 배치 실행 / 세션 감사 이력을 CSV 또는 NDJSON 파일로 스트리밍
+ * - 요청 스레드에서 응답 스트림에 바로 기록 (비동기 요청 타임아웃 영향 없음)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/history-export")
+@RequiredArgsConstructor
+public class HistoryExportController {
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final HistoryExportService historyExportService;
+
+    /**
+     * 이력 내보내기
+     */
+    @GetMapping("/{source}")
+    public void export(
+            @PathVariable ExportSource source,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "true") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        LocalDateTime end = historyExportService.validateRange(startDate, endDate);
+
+        String filename = source.name().toLowerCase(Locale.ROOT) + "-" + startDate.format(FILE_TIME_FORMAT) +
+                "-" + end.format(FILE_TIME_FORMAT) + "." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        OutputStream out = response.getOutputStream();
+        if (!gzip) {
+            historyExportService.export(source, format, startDate, end, out);
+            return;
+        }
+        GZIPOutputStream gzipOut = new GZIPOutputStream(out, 65536);
+        historyExportService.export(source, format, startDate, end, gzipOut);
+        gzipOut.finish();
+    }
+}
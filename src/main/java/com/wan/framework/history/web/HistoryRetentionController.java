@@ -0,0 +1,54 @@
+package com.wan.framework.history.web;
+
+import com.wan.framework.history.job.HistoryRetentionJob;
+import com.wan.framework.history.service.HistoryRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이력 보관 기간 정리 컨트롤러
+ * - 정리 Job 즉시 실행 (Quartz 트리거, 클러스터 내 한 서버에서 실행)
+ * - 테이블 파티션 전환 (일회성 운영 작업)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/history-retention")
+@RequiredArgsConstructor
+public class HistoryRetentionController {
+
+    private final Scheduler scheduler;
+    private final HistoryRetentionService historyRetentionService;
+
+    /**
+     * 정리 즉시 실행
+     */
+    @PostMapping("/run")
+    public ResponseEntity<Void> runRetention() throws SchedulerException {
+        if (!scheduler.checkExists(HistoryRetentionJob.JOB_KEY)) {
+            return ResponseEntity.notFound().build();
+        }
+        scheduler.triggerJob(HistoryRetentionJob.JOB_KEY);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 테이블 파티션 전환
+     * - 테이블 전체를 복사하며 완료될 때까지 쓰기가 차단되므로 쓰기가 적은 시간대에 실행
+     * - 요청 스레드에서 완료까지 실행 (이미 파티션된 테이블은 그대로 반환)
+     *
+     * @param name history.retention.tables 키 (예: api-execution-history)
+     * @return 파티션 수
+     */
+    @PostMapping("/tables/{name}/partition")
+    public ResponseEntity<Integer> convertToPartitions(@PathVariable String name) {
+        log.warn("History table partition conversion requested: {}", name);
+        return ResponseEntity.ok(historyRetentionService.convertToPartitions(name));
+    }
+}
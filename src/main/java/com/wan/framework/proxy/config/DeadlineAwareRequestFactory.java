@@ -0,0 +1,40 @@
+package com.wan.framework.proxy.config;
+
+import com.wan.framework.proxy.service.RequestDeadline;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+
+/**
+ * 호출 마감 시각을 반영하는 HTTP 요청 팩토리
+ * - 마감이 있는 호출은 연결/읽기 타임아웃을 남은 시간 이하로 설정
+ * - 이미 마감이 지났으면 연결하지 않고 타임아웃 처리 (ResourceAccessException)
+ * - 읽기 타임아웃은 읽기 1회 기준이므로 바디를 조금씩 보내는 대상은 호출자 마감에서 중단
+ */
+public class DeadlineAwareRequestFactory extends SimpleClientHttpRequestFactory {
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+
+        Long remaining = RequestDeadline.remainingMillis();
+        if (remaining == null) {
+            return;
+        }
+        if (remaining <= 0) {
+            throw new SocketTimeoutException("Request deadline exceeded");
+        }
+        int limit = (int) Math.min(Integer.MAX_VALUE, remaining);
+        connection.setConnectTimeout(cap(connection.getConnectTimeout(), limit));
+        connection.setReadTimeout(cap(connection.getReadTimeout(), limit));
+    }
+
+    /**
+     * 0(무제한)이면 남은 시간, 아니면 둘 중 작은 값
+     */
+    private int cap(int timeout, int limit) {
+        return timeout == 0 ? limit : Math.min(timeout, limit);
+    }
+}
@@ -0,0 +1,105 @@
+package com.wan.framework.proxy.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy API 비동기 실행기
+ * - HTTP 호출 전용 워커 풀 (요청 스레드/DB 커넥션과 분리)
+ * - 재시도는 Thread.sleep 대신 타이머로 예약
+ * - Java 17 환경이므로 가상 스레드 대신 bounded 플랫폼 스레드 풀 사용
+ * - 기본 스레드 수 = 최대 스레드 수 (ThreadPoolExecutor는 대기열이 가득 찬 뒤에만 기본 수 이상으로 늘리므로)
+ *   유휴 스레드는 회수, 모든 스레드가 실행 중일 때만 대기열 사용
+ * - @Scheduled/@Async 기본 실행기와 충돌하지 않도록 Bean으로 노출하지 않음
+ */
+@Slf4j
+@Component
+public class ProxyAsyncExecutor {
+
+    private final ThreadPoolExecutor workerPool;
+    private final ScheduledExecutorService retryScheduler;
+
+    public ProxyAsyncExecutor(ProxyProperties proxyProperties) {
+        ProxyProperties.Async async = proxyProperties.getAsync();
+
+        this.workerPool = new ThreadPoolExecutor(
+                async.getMaxPoolSize(),
+                async.getMaxPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(async.getQueueCapacity()),
+                new CustomizableThreadFactory("proxy-exec-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.workerPool.allowCoreThreadTimeOut(true);
+        this.retryScheduler = Executors.newScheduledThreadPool(
+                async.getRetrySchedulerPoolSize(),
+                new CustomizableThreadFactory("proxy-retry-")
+        );
+
+        log.info("ProxyAsyncExecutor initialized (max: {}, queue: {})",
+                async.getMaxPoolSize(), async.getQueueCapacity());
+    }
+
+    /**
+     * 워커 풀에서 즉시 실행
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 대기열 초과 시
+     */
+    public void execute(Runnable task) {
+        workerPool.execute(task);
+    }
+
+    /**
+     * 지연 후 실행 예약 (재시도용 타이머)
+     *
+     * @param task    실행할 작업
+     * @param delayMs 지연 시간 (밀리초)
+     */
+    public void schedule(Runnable task, long delayMs) {
+        retryScheduler.schedule(task, Math.max(0L, delayMs), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return workerPool.getActiveCount();
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public int getQueueSize() {
+        return workerPool.getQueue().size();
+    }
+
+    /**
+     * 현재 스레드 수
+     */
+    public int getPoolSize() {
+        return workerPool.getPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Shutting down ProxyAsyncExecutor");
+        retryScheduler.shutdown();
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.wan.framework.proxy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Proxy API 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "proxy")
+public class ProxyProperties {
+
+    private Async async = new Async();
+    private Retry retry = new Retry();
+    private ResponseCache responseCache = new ResponseCache();
+    private Capture capture = new Capture();
+    private History history = new History();
+    private Coalescing coalescing = new Coalescing();
+    private Stats stats = new Stats();
+
+    @Data
+    public static class Async {
+        private int maxPoolSize = 32;           // 실행 워커 최대 스레드 수 (동시 호출 상한, 유휴 스레드는 회수)
+        private int queueCapacity = 500;        // 모든 워커가 실행 중일 때 대기열 크기 (초과 시 실행 거부)
+        private int retrySchedulerPoolSize = 2; // 재시도 타이머 스레드 수
+        private long resultTtlSeconds = 600;    // 비동기 실행 결과 보관 시간 (초)
+    }
+
+    @Data
+    public static class Retry {
+        private int budgetWindowSeconds = 10;   // 재시도 예산 집계 윈도우 (초)
+        private int minRetriesPerWindow = 10;   // 트래픽이 적을 때 보장되는 윈도우당 최소 재시도 수
+    }
+
+    @Data
+    public static class ResponseCache {
+        private int localMaxEntries = 1000;     // 로컬 LRU 최대 항목 수
+        private int maxBodyBytes = 1048576;     // 캐시 대상 응답 바디 최대 크기 (byte)
+    }
+
+    @Data
+    public static class Capture {
+        private int maxBodyBytes = 16384;       // 이력에 저장할 바디 최대 크기 (초과분은 해시만 기록)
+        private boolean compress = false;       // 저장 바디 gzip 압축 여부
+        private int compressMinBytes = 1024;    // 압축 적용 최소 크기
+    }
+
+    @Data
+    public static class History {
+        private boolean asyncEnabled = true;    // 실행 이력 비동기 배치 저장 여부
+        private int queueCapacity = 10000;      // 저장 대기열 크기 (초과분은 디스크 spill)
+        private int batchSize = 200;            // JDBC 배치 INSERT 크기
+        private long flushIntervalMs = 500;     // 대기열 flush 주기
+        private int idBlockSize = 100;          // ID 사전 할당 블록 크기
+        private String spillDir = "spill/proxy-history"; // DB 지연/장애 시 spill 파일 디렉토리
+    }
+
+    @Data
+    public static class Coalescing {
+        private boolean enabled = true;         // 동일 GET/HEAD 동시 요청 병합 여부 (서버 내)
+        private boolean clusterEnabled = false; // Redis 락 + 결과 키 기반 서버 간 병합 여부
+        private long lockTtlMs = 10000;         // 대표 호출 락 TTL (대상 API 최대 응답 시간 이상)
+        private long resultTtlMs = 3000;        // 대표 호출 결과 보관 시간
+        private long pollIntervalMs = 50;       // 대기 서버의 결과 확인 주기
+        private long maxWaitMs = 10000;         // 대기 최대 시간 (초과 시 직접 호출)
+    }
+
+    @Data
+    public static class Stats {
+        private int bucketSeconds = 60;         // 지연 통계 롤링 버킷 크기 (초)
+        private int maxWindowBuckets = 15;      // 조회 가능한 최대 윈도우 (버킷 수)
+        private long highestTrackableMs = 600000; // 히스토그램 최대 기록 값 (초과 값은 최대값으로 기록)
+        private boolean publishPercentiles = true; // Micrometer 타이머에 p50/p95/p99 게시 여부
+    }
+}
@@ -0,0 +1,46 @@
+package com.wan.framework.proxy.config;
+
+import com.wan.framework.proxy.service.ProxyPhaseTimer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Proxy 호출 구간 측정 인터셉터
+ * - DNS: 연결 전에 호스트 이름을 먼저 해석하여 측정 (이후 연결은 JVM DNS 캐시 사용)
+ * - TTFB: 응답 상태 코드 수신 시점 (HttpURLConnection은 연결 시간을 따로 노출하지 않아 연결 시간 포함)
+ * - ProxyPhaseTimer가 시작되지 않은 호출은 측정하지 않음
+ */
+public class ProxyTimingInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ProxyPhaseTimer timer = ProxyPhaseTimer.current();
+        if (timer == null) {
+            return execution.execute(request, body);
+        }
+
+        String host = request.getURI().getHost();
+        if (host != null) {
+            long dnsStart = System.nanoTime();
+            try {
+                InetAddress.getByName(host);
+            } catch (UnknownHostException e) {
+                // 해석 실패는 실제 연결 시 예외로 처리됨
+            }
+            timer.recordDns(System.nanoTime() - dnsStart);
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        // 요청 바디가 있는 경우 상태 코드 조회 시점에 응답 헤더를 수신
+        response.getStatusCode();
+        timer.recordFirstByte();
+        return response;
+    }
+}
@@ -10,19 +10,22 @@ import org.springframework.web.client.RestTemplate;
  * RestTemplate 설정
  * - Proxy API 호출용 HTTP 클라이언트
  * - 타임아웃 설정 개선 (Deprecated 메서드 제거)
+ * - 호출 구간(DNS/TTFB) 측정 인터셉터 등록
+ * - 호출 마감 시각이 있으면 타임아웃을 남은 시간으로 축소
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        // SimpleClientHttpRequestFactory를 사용한 타임아웃 설정
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        // SimpleClientHttpRequestFactory 기반 타임아웃 설정
+        SimpleClientHttpRequestFactory factory = new DeadlineAwareRequestFactory();
         factory.setConnectTimeout(5000);     // 연결 타임아웃: 5초
         factory.setReadTimeout(30000);       // 읽기 타임아웃: 30초
 
         return builder
                 .requestFactory(() -> factory)
+                .additionalInterceptors(new ProxyTimingInterceptor())
                 .build();
     }
 }
@@ -0,0 +1,22 @@
+package com.wan.framework.proxy.constant;
+
+/**
+ * 비동기 API 실행 상태
+ */
+public enum AsyncExecutionStatus {
+
+    /**
+     * 실행 중 (재시도 대기 포함)
+     */
+    RUNNING,
+
+    /**
+     * 실행 완료 (API 응답의 성공/실패와 무관)
+     */
+    COMPLETED,
+
+    /**
+     * 실행 불가 (대기열 초과, 내부 오류 등)
+     */
+    FAILED
+}
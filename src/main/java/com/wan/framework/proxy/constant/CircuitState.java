@@ -0,0 +1,22 @@
+package com.wan.framework.proxy.constant;
+
+/**
+ * 서킷 브레이커 상태
+ */
+public enum CircuitState {
+
+    /**
+     * 정상 (모든 호출 허용, 실패율 집계)
+     */
+    CLOSED,
+
+    /**
+     * 차단 (모든 호출 즉시 거부)
+     */
+    OPEN,
+
+    /**
+     * 시험 (제한된 수의 호출만 허용하여 복구 여부 확인)
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,27 @@
+package com.wan.framework.proxy.constant;
+
+/**
+ * Proxy 실행 지연 측정 구간
+ */
+public enum LatencyPhase {
+
+    /**
+     * 대상 호스트 이름 해석 (JVM DNS 캐시 포함)
+     */
+    DNS,
+
+    /**
+     * 요청 시작부터 응답 헤더 수신까지 (연결 + 요청 전송 + 대상 처리)
+     */
+    TTFB,
+
+    /**
+     * 단일 호출 시도 전체 (응답 바디 수신 포함)
+     */
+    ATTEMPT,
+
+    /**
+     * 실행 전체 (재시도 대기 및 이력 저장 요청 포함, 호출자 체감 시간)
+     */
+    TOTAL
+}
@@ -30,7 +30,21 @@ public enum ProxyExceptionMessage {
     MAX_RETRY_EXCEEDED("PROXY_013", "최대 재시도 횟수를 초과했습니다."),
 
     // 히스토리 관련
-    EXECUTION_HISTORY_NOT_FOUND("PROXY_014", "실행 이력을 찾을 수 없습니다.");
+    EXECUTION_HISTORY_NOT_FOUND("PROXY_014", "실행 이력을 찾을 수 없습니다."),
+
+    // 비동기 실행 관련
+    ASYNC_EXECUTION_NOT_FOUND("PROXY_015", "비동기 실행 정보를 찾을 수 없습니다."),
+    EXECUTION_REJECTED("PROXY_016", "실행 대기열이 가득 차 요청이 거부되었습니다."),
+
+    // 장애 격리 관련
+    CIRCUIT_BREAKER_OPEN("PROXY_017", "대상 API 장애로 서킷 브레이커가 열려 호출이 차단되었습니다."),
+    BULKHEAD_FULL("PROXY_018", "API 동시 호출 한도를 초과했습니다."),
+
+    // 복합 API 관련
+    API_COMPOSITE_NOT_FOUND("PROXY_019", "복합 API를 찾을 수 없습니다."),
+    API_COMPOSITE_DISABLED("PROXY_020", "비활성화된 복합 API입니다."),
+    COMPOSITE_CODE_ALREADY_EXISTS("PROXY_021", "이미 존재하는 복합 API 코드입니다."),
+    INVALID_COMPOSITE_DEFINITION("PROXY_022", "복합 API 구성이 올바르지 않습니다.");
 
     private final String code;
     private final String message;
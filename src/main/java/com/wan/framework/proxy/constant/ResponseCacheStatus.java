@@ -0,0 +1,22 @@
+package com.wan.framework.proxy.constant;
+
+/**
+ * Proxy 응답 캐시 상태
+ */
+public enum ResponseCacheStatus {
+
+    /**
+     * 유효한 캐시 응답 사용 (대상 API 호출 없음)
+     */
+    HIT,
+
+    /**
+     * 만료된 캐시를 If-None-Match로 재검증 (304 Not Modified)
+     */
+    REVALIDATED,
+
+    /**
+     * 캐시 없음 또는 변경됨 (대상 API 응답 사용)
+     */
+    MISS
+}
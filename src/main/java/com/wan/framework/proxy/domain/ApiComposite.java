@@ -0,0 +1,92 @@
+package com.wan.framework.proxy.domain;
+
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.base.domain.BaseAuditEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복합 API 정보
+ * - 등록된 여러 API 엔드포인트를 한 번의 요청으로 병렬 호출 (scatter-gather)
+ * - 브랜치 간 의존 관계로 선행 응답 값을 후행 호출 파라미터로 전달 (DAG)
+ */
+@Entity
+@Table(name = "t_api_composite")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiComposite extends BaseAuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 복합 API 식별 코드 (고유, /proxy/composites/{compositeCode}/execute 호출 시 사용)
+     */
+    @Column(nullable = false, unique = true, length = 100)
+    private String compositeCode;
+
+    /**
+     * 복합 API 이름
+     */
+    @Column(nullable = false, length = 200)
+    private String compositeName;
+
+    /**
+     * 복합 API 설명
+     */
+    @Column(length = 500)
+    private String description;
+
+    /**
+     * 브랜치 구성 (JSON 배열)
+     * 예: [{"key": "user", "apiCode": "USER_GET"},
+     *      {"key": "orders", "apiCode": "ORDER_LIST", "dependsOn": ["user"],
+     *       "parameterMappings": {"customerId": "user:/data/customerId"}}]
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String branchDefinitions;
+
+    /**
+     * 전체 실행 제한 시간 (밀리초, 모든 브랜치 공통 deadline)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer timeoutMs = 10000;
+
+    /**
+     * 활성화 여부
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean isEnabled = true;
+
+    /**
+     * 데이터 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 1)
+    @Builder.Default
+    private DataStateCode dataState = DataStateCode.I;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.dataState == null) {
+            this.dataState = DataStateCode.I;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        if (this.dataState == DataStateCode.I) {
+            this.dataState = DataStateCode.U;
+        }
+    }
+}
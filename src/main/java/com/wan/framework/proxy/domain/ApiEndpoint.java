@@ -89,11 +89,134 @@ public class ApiEndpoint extends BaseAuditEntity {
 
     /**
      * 재시도 간격 (밀리초)
+     * - 지수 백오프의 기본 간격
      */
     @Column(nullable = false)
     @Builder.Default
     private Integer retryIntervalMs = 1000;
 
+    /**
+     * 재시도 백오프 배수
+     * - n번째 재시도 상한 = retryIntervalMs * multiplier^(n-1), 실제 대기는 0 ~ 상한 사이 랜덤 (Full Jitter)
+     */
+    @Builder.Default
+    private Double retryBackoffMultiplier = 2.0;
+
+    /**
+     * 재시도 최대 간격 (밀리초)
+     */
+    @Builder.Default
+    private Integer retryMaxIntervalMs = 30000;
+
+    /**
+     * 재시도 최대 경과 시간 (밀리초)
+     * - 최초 시도부터 이 시간을 넘기면 더 이상 재시도하지 않음
+     */
+    @Builder.Default
+    private Integer retryMaxElapsedMs = 60000;
+
+    /**
+     * 재시도 대상 HTTP 상태 코드 (콤마 구분, 5xx 형태 지원)
+     * 예: "408,429,502,503,504"
+     */
+    @Column(length = 200)
+    @Builder.Default
+    private String retryableStatusCodes = "408,429,502,503,504";
+
+    /**
+     * 재시도 대상 예외 클래스 (콤마 구분, 단순 클래스명 또는 FQCN)
+     * - 원인 체인 및 상위 클래스까지 비교
+     */
+    @Column(length = 500)
+    @Builder.Default
+    private String retryableExceptions = "ResourceAccessException,SocketTimeoutException,ConnectException";
+
+    /**
+     * 재시도 예산 (%)
+     * - 클러스터 전체 기준, 최근 요청 수 대비 허용되는 재시도 비율
+     */
+    @Builder.Default
+    private Integer retryBudgetPercent = 20;
+
+    /**
+     * 서킷 브레이커 사용 여부
+     */
+    @Builder.Default
+    private Boolean circuitBreakerEnabled = true;
+
+    /**
+     * 서킷 오픈 실패율 임계치 (%)
+     * - 최근 호출 윈도우의 실패율(연결 실패, 5xx)이 임계치 이상이면 OPEN
+     */
+    @Builder.Default
+    private Integer circuitFailureRateThreshold = 50;
+
+    /**
+     * 서킷 실패율 집계 윈도우 크기 (최근 호출 수)
+     */
+    @Builder.Default
+    private Integer circuitSlidingWindowSize = 20;
+
+    /**
+     * 실패율 계산 최소 호출 수
+     */
+    @Builder.Default
+    private Integer circuitMinimumCalls = 10;
+
+    /**
+     * 서킷 OPEN 유지 시간 (밀리초)
+     * - 경과 후 HALF_OPEN으로 전환되어 시험 호출 허용
+     */
+    @Builder.Default
+    private Integer circuitOpenDurationMs = 30000;
+
+    /**
+     * HALF_OPEN 상태 시험 호출 수
+     * - 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+     */
+    @Builder.Default
+    private Integer circuitHalfOpenCalls = 3;
+
+    /**
+     * 최대 동시 호출 수 (Bulkhead, 0 이하 = 제한 없음)
+     */
+    @Builder.Default
+    private Integer maxConcurrentCalls = 20;
+
+    /**
+     * 응답 캐시 사용 여부 (GET/HEAD만 적용)
+     */
+    @Builder.Default
+    private Boolean responseCacheEnabled = false;
+
+    /**
+     * 응답 캐시 기본 TTL (초)
+     * - 대상 응답에 Cache-Control max-age가 없을 때 사용
+     * - ETag가 있는 응답은 만료 후에도 이 시간 동안 보관하여 If-None-Match로 재검증
+     */
+    @Builder.Default
+    private Integer responseCacheTtlSeconds = 60;
+
+    /**
+     * 캐시 키에 포함할 요청 헤더 (콤마 구분)
+     * 예: "Authorization,Accept-Language"
+     */
+    @Column(length = 200)
+    private String responseCacheVaryHeaders;
+
+    /**
+     * 실행 이력에 요청/응답 헤더 저장 여부
+     */
+    @Builder.Default
+    private Boolean captureHeaders = true;
+
+    /**
+     * 실행 이력에 요청/응답 바디 저장 여부
+     * - 저장 시에도 proxy.capture.max-body-bytes까지만 보관
+     */
+    @Builder.Default
+    private Boolean captureBodies = true;
+
     /**
      * 내부 API 여부
      */
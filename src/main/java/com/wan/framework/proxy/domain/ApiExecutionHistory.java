@@ -18,7 +18,10 @@ import java.time.LocalDateTime;
 @Table(name = "t_api_execution_history", indexes = {
         @Index(name = "idx_api_endpoint_id", columnList = "api_endpoint_id"),
         @Index(name = "idx_executed_at", columnList = "executed_at"),
-        @Index(name = "idx_is_success", columnList = "is_success")
+        @Index(name = "idx_is_success", columnList = "is_success"),
+        @Index(name = "idx_endpoint_executed_at_id", columnList = "api_endpoint_id, executed_at, id"),
+        @Index(name = "idx_api_code_executed_at_id", columnList = "api_code, executed_at, id"),
+        @Index(name = "idx_success_executed_at_id", columnList = "is_success, executed_at, id")
 })
 @Data
 @Builder
@@ -119,6 +122,33 @@ public class ApiExecutionHistory {
     @Column(length = 50)
     private String executedBy;
 
+    /**
+     * 응답 캐시 상태 (HIT, REVALIDATED, MISS, 캐시 미적용 시 null)
+     */
+    @Column(length = 20)
+    private String cacheStatus;
+
+    /**
+     * 원본 요청 바디 크기 (byte)
+     */
+    private Long requestBodySize;
+
+    /**
+     * 원본 응답 바디 크기 (byte)
+     */
+    private Long responseBodySize;
+
+    /**
+     * 저장 한도를 넘어 잘린 응답 바디 나머지의 SHA-256
+     */
+    @Column(length = 64)
+    private String responseBodyHash;
+
+    /**
+     * 저장된 바디 압축 여부 (gzip + Base64)
+     */
+    private Boolean bodyCompressed;
+
     /**
      * 실행 일시
      */
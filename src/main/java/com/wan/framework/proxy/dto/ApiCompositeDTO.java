@@ -0,0 +1,32 @@
+package com.wan.framework.proxy.dto;
+
+import com.wan.framework.base.constant.DataStateCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 복합 API DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiCompositeDTO {
+
+    private Long id;
+    private String compositeCode;
+    private String compositeName;
+    private String description;
+    private String branchDefinitions;
+    private Integer timeoutMs;
+    private Boolean isEnabled;
+    private DataStateCode dataState;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private String updatedBy;
+    private LocalDateTime updatedAt;
+}
@@ -28,6 +28,24 @@ public class ApiEndpointDTO {
     private Integer timeoutSeconds;
     private Integer retryCount;
     private Integer retryIntervalMs;
+    private Double retryBackoffMultiplier;
+    private Integer retryMaxIntervalMs;
+    private Integer retryMaxElapsedMs;
+    private String retryableStatusCodes;
+    private String retryableExceptions;
+    private Integer retryBudgetPercent;
+    private Boolean circuitBreakerEnabled;
+    private Integer circuitFailureRateThreshold;
+    private Integer circuitSlidingWindowSize;
+    private Integer circuitMinimumCalls;
+    private Integer circuitOpenDurationMs;
+    private Integer circuitHalfOpenCalls;
+    private Integer maxConcurrentCalls;
+    private Boolean responseCacheEnabled;
+    private Integer responseCacheTtlSeconds;
+    private String responseCacheVaryHeaders;
+    private Boolean captureHeaders;
+    private Boolean captureBodies;
     private Boolean isInternal;
     private Boolean isEnabled;
     private DataStateCode dataState;
@@ -32,5 +32,10 @@ public class ApiExecutionHistoryDTO {
     private Integer retryAttempt;
     private String executionTrigger;
     private String executedBy;
+    private String cacheStatus;
+    private Long requestBodySize;
+    private Long responseBodySize;
+    private String responseBodyHash;
+    private Boolean bodyCompressed;
     private LocalDateTime executedAt;
 }
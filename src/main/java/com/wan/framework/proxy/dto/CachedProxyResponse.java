@@ -0,0 +1,50 @@
+package com.wan.framework.proxy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Proxy 응답 캐시 항목
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedProxyResponse {
+
+    private Integer statusCode;
+    private String responseBody;
+
+    /**
+     * 응답 헤더 (JSON)
+     */
+    private String responseHeaders;
+
+    /**
+     * 대상 응답 ETag (재검증용)
+     */
+    private String etag;
+
+    /**
+     * 유효 만료 시각 (epoch 밀리초), 이후에는 재검증 필요
+     */
+    private long freshUntil;
+
+    /**
+     * 보관 만료 시각 (epoch 밀리초)
+     */
+    private long retainUntil;
+
+    @JsonIgnore
+    public boolean isFresh(long now) {
+        return now < freshUntil;
+    }
+
+    @JsonIgnore
+    public boolean isRetained(long now) {
+        return now < retainUntil;
+    }
+}
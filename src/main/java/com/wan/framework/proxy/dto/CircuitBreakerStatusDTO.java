@@ -0,0 +1,60 @@
+package com.wan.framework.proxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * API 엔드포인트 서킷 브레이커 / Bulkhead 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerStatusDTO {
+
+    private String apiCode;
+
+    /**
+     * 서킷 상태 (CLOSED, OPEN, HALF_OPEN)
+     */
+    private String state;
+
+    /**
+     * 최근 윈도우 실패율 (%)
+     */
+    private Integer failureRate;
+
+    /**
+     * 최근 윈도우 집계 호출 수
+     */
+    private Integer bufferedCalls;
+
+    /**
+     * 최근 윈도우 실패 호출 수
+     */
+    private Integer failedCalls;
+
+    /**
+     * 서킷 OPEN으로 거부된 누적 호출 수
+     */
+    private Long notPermittedCalls;
+
+    /**
+     * 현재 동시 호출 수
+     */
+    private Integer concurrentCalls;
+
+    /**
+     * Bulkhead 한도 초과로 거부된 누적 호출 수
+     */
+    private Long bulkheadRejectedCalls;
+
+    /**
+     * 마지막 OPEN 전환 일시
+     */
+    private LocalDateTime openedAt;
+}
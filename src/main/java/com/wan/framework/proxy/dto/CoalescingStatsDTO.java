@@ -0,0 +1,41 @@
+package com.wan.framework.proxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Proxy 동시 요청 병합 통계 DTO (서버 기동 후 누적)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingStatsDTO {
+
+    /**
+     * 현재 진행 중인 대표 호출 수
+     */
+    private Integer inFlight;
+
+    /**
+     * 대표 호출로 실행된 요청 수
+     */
+    private Long leaderExecutions;
+
+    /**
+     * 서버 내 진행 중인 호출에 병합된 요청 수
+     */
+    private Long localCollapsed;
+
+    /**
+     * 다른 서버의 대표 호출 결과로 응답한 요청 수
+     */
+    private Long remoteCollapsed;
+
+    /**
+     * 다른 서버 결과 대기 중 시간 초과/장애로 직접 호출한 요청 수
+     */
+    private Long remoteFallbacks;
+}
@@ -0,0 +1,50 @@
+package com.wan.framework.proxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복합 API 브랜치 정의 (ApiComposite.branchDefinitions 항목)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompositeBranch {
+
+    /**
+     * 브랜치 키 (복합 응답 바디의 필드명, 복합 API 내 고유)
+     */
+    private String key;
+
+    /**
+     * 호출할 API 코드
+     */
+    private String apiCode;
+
+    /**
+     * 선행 브랜치 키 목록 (모두 완료된 후 호출)
+     */
+    private List<String> dependsOn;
+
+    /**
+     * 고정 파라미터 (요청 파라미터보다 우선)
+     */
+    private Map<String, Object> parameters;
+
+    /**
+     * 선행 응답 값 파라미터 매핑
+     * 예: {"customerId": "user:/data/customerId"} → user 브랜치 응답 JSON의 /data/customerId 값
+     */
+    private Map<String, String> parameterMappings;
+
+    /**
+     * 선택 브랜치 여부 (실패해도 복합 실행은 성공 처리)
+     */
+    private Boolean optional;
+}
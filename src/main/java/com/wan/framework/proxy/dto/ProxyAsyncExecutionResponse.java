@@ -0,0 +1,48 @@
+package com.wan.framework.proxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proxy API 비동기 실행 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyAsyncExecutionResponse {
+
+    /**
+     * 비동기 실행 ID (UUID)
+     */
+    private String executionId;
+
+    /**
+     * API 코드
+     */
+    private String apiCode;
+
+    /**
+     * 실행 상태 (RUNNING, COMPLETED, FAILED)
+     */
+    private String status;
+
+    /**
+     * 실행 결과 (COMPLETED인 경우)
+     */
+    private ProxyExecutionResponse result;
+
+    /**
+     * 에러 메시지 (FAILED인 경우)
+     */
+    private String errorMessage;
+
+    /**
+     * 접수 일시
+     */
+    private LocalDateTime acceptedAt;
+}
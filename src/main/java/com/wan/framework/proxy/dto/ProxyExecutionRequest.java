@@ -1,5 +1,6 @@
 package com.wan.framework.proxy.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,4 +39,11 @@ public class ProxyExecutionRequest {
      * 실행자
      */
     private String executedBy;
+
+    /**
+     * 호출 마감 시각 (epoch 밀리초, 내부 호출 전용)
+     * - 마감 이후에는 재시도하지 않고, HTTP 타임아웃은 남은 시간 이하로 제한
+     */
+    @JsonIgnore
+    private Long deadlineAt;
 }
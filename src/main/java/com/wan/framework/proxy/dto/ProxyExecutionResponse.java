@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Proxy API 실행 응답
@@ -60,4 +61,14 @@ public class ProxyExecutionResponse {
      * 실행 일시
      */
     private LocalDateTime executedAt;
+
+    /**
+     * 응답 캐시 상태 (HIT, REVALIDATED, MISS, 캐시 미적용 시 null)
+     */
+    private String cacheStatus;
+
+    /**
+     * 브랜치별 실행 결과 (복합 API 실행 시, 키: 브랜치 키)
+     */
+    private Map<String, ProxyExecutionResponse> branches;
 }
@@ -0,0 +1,49 @@
+package com.wan.framework.proxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Proxy 실행 지연 / 오류율 통계 DTO (서버 메모리 롤링 윈도우 기준)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyLatencyStatsDTO {
+
+    private String apiCode;
+
+    /**
+     * 측정 구간 (TOTAL)
+     */
+    private String phase;
+
+    /**
+     * 집계 윈도우 (초)
+     */
+    private Long windowSeconds;
+
+    /**
+     * 호출 수
+     */
+    private Long calls;
+
+    /**
+     * 실패 수
+     */
+    private Long failures;
+
+    /**
+     * 오류율 (%)
+     */
+    private Double errorRate;
+
+    private Double p50Ms;
+    private Double p95Ms;
+    private Double p99Ms;
+    private Double meanMs;
+    private Double maxMs;
+}
@@ -0,0 +1,28 @@
+package com.wan.framework.proxy.mapper;
+
+import com.wan.framework.proxy.domain.ApiComposite;
+import com.wan.framework.proxy.dto.ApiCompositeDTO;
+import org.mapstruct.*;
+
+/**
+ * 복합 API Mapper
+ */
+@Mapper(componentModel = "spring")
+public interface ApiCompositeMapper {
+
+    /**
+     * Entity -> DTO
+     */
+    ApiCompositeDTO toDto(ApiComposite entity);
+
+    /**
+     * DTO -> Entity
+     */
+    ApiComposite toEntity(ApiCompositeDTO dto);
+
+    /**
+     * DTO로 Entity 업데이트
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void updateEntityFromDto(ApiCompositeDTO dto, @MappingTarget ApiComposite entity);
+}
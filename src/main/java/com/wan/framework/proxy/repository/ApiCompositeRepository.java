@@ -0,0 +1,32 @@
+package com.wan.framework.proxy.repository;
+
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.proxy.domain.ApiComposite;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 복합 API Repository
+ */
+@Repository
+public interface ApiCompositeRepository extends JpaRepository<ApiComposite, Long> {
+
+    /**
+     * 복합 API 코드로 조회
+     */
+    Optional<ApiComposite> findByCompositeCodeAndDataStateNot(String compositeCode, DataStateCode dataState);
+
+    /**
+     * 전체 복합 API 목록 조회 (페이징)
+     */
+    Page<ApiComposite> findByDataStateNot(DataStateCode dataState, Pageable pageable);
+
+    /**
+     * 복합 API 코드 존재 여부 확인
+     */
+    boolean existsByCompositeCodeAndDataStateNot(String compositeCode, DataStateCode dataState);
+}
@@ -41,16 +41,40 @@ public interface ApiExecutionHistoryRepository extends JpaRepository<ApiExecutio
     Page<ApiExecutionHistory> findByIsSuccessOrderByExecutedAtDesc(Boolean isSuccess, Pageable pageable);
 
     /**
-     * API 엔드포인트별 성공률 통계
-     */
-    @Query("SELECT " +
-            "COUNT(h) as totalCount, " +
-            "SUM(CASE WHEN h.isSuccess = true THEN 1 ELSE 0 END) as successCount, " +
-            "SUM(CASE WHEN h.isSuccess = false THEN 1 ELSE 0 END) as failureCount, " +
-            "AVG(h.executionTimeMs) as avgExecutionTime " +
-            "FROM ApiExecutionHistory h " +
-            "WHERE h.apiEndpointId = :apiEndpointId")
-    Object getExecutionStats(@Param("apiEndpointId") Long apiEndpointId);
+     * API 엔드포인트별 실행 이력 키셋 조회 (executedAt, id 역순)
+     */
+    @Query("SELECT h FROM ApiExecutionHistory h " +
+            "WHERE h.apiEndpointId = :apiEndpointId " +
+            "AND (h.executedAt < :cursorTime OR (h.executedAt = :cursorTime AND h.id < :cursorId)) " +
+            "ORDER BY h.executedAt DESC, h.id DESC")
+    List<ApiExecutionHistory> findByApiEndpointIdBefore(@Param("apiEndpointId") Long apiEndpointId,
+                                                        @Param("cursorTime") LocalDateTime cursorTime,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable limit);
+
+    /**
+     * API 코드별 실행 이력 키셋 조회 (executedAt, id 역순)
+     */
+    @Query("SELECT h FROM ApiExecutionHistory h " +
+            "WHERE h.apiCode = :apiCode " +
+            "AND (h.executedAt < :cursorTime OR (h.executedAt = :cursorTime AND h.id < :cursorId)) " +
+            "ORDER BY h.executedAt DESC, h.id DESC")
+    List<ApiExecutionHistory> findByApiCodeBefore(@Param("apiCode") String apiCode,
+                                                  @Param("cursorTime") LocalDateTime cursorTime,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable limit);
+
+    /**
+     * 성공/실패별 실행 이력 키셋 조회 (executedAt, id 역순)
+     */
+    @Query("SELECT h FROM ApiExecutionHistory h " +
+            "WHERE h.isSuccess = :isSuccess " +
+            "AND (h.executedAt < :cursorTime OR (h.executedAt = :cursorTime AND h.id < :cursorId)) " +
+            "ORDER BY h.executedAt DESC, h.id DESC")
+    List<ApiExecutionHistory> findByIsSuccessBefore(@Param("isSuccess") Boolean isSuccess,
+                                                    @Param("cursorTime") LocalDateTime cursorTime,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable limit);
 
     /**
      * 최근 실행 이력 조회
@@ -0,0 +1,256 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.wan.framework.proxy.domain.ApiComposite;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CompositeBranch;
+import com.wan.framework.proxy.dto.ProxyExecutionRequest;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복합 API 실행 서비스 (scatter-gather)
+ * - 선행 브랜치가 없는 브랜치는 즉시 병렬 호출, 의존 브랜치는 선행 완료 후 호출
+ * - 모든 브랜치에 공통 deadline 적용
+ *   - 브랜치 요청에 마감 시각 전달 (HTTP 타임아웃은 남은 시간 이하, 마감 이후 재시도 없음)
+ *   - 마감 시 끝나지 않은 브랜치는 실패 처리하고 호출 취소 (예약된 재시도 중단)
+ * - 각 브랜치는 ApiExecutionService로 실행되어 브랜치별 실행 이력이 저장됨
+ * - 결과는 브랜치 키별 응답 바디를 합친 하나의 응답으로 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiCompositeExecutionService {
+
+    private final ApiCompositeService apiCompositeService;
+    private final ApiEndpointService apiEndpointService;
+    private final ApiExecutionService apiExecutionService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 복합 API 실행
+     * - 필수 브랜치(optional=false)가 모두 성공하면 성공 (200), 하나라도 실패하면 실패 (502)
+     */
+    public ProxyExecutionResponse execute(ApiComposite composite, ProxyExecutionRequest request) {
+        log.info("Executing API composite: {} ({})", composite.getCompositeCode(), composite.getCompositeName());
+
+        LocalDateTime executedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        long timeoutMs = composite.getTimeoutMs() != null ? composite.getTimeoutMs() : 10000L;
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        long deadlineAt = System.currentTimeMillis() + timeoutMs;
+
+        List<CompositeBranch> branches = apiCompositeService.parseBranches(composite.getBranchDefinitions());
+
+        // 엔드포인트는 요청 스레드에서 미리 조회 (워커 스레드에서 DB 조회 방지)
+        Map<String, ApiEndpoint> endpoints = new HashMap<>();
+        for (CompositeBranch branch : branches) {
+            endpoints.computeIfAbsent(branch.getApiCode(), apiEndpointService::getApiEndpointByCode);
+        }
+
+        // 위상 정렬 순서로 구성하므로 선행 브랜치 future가 항상 먼저 존재 (워커 스레드에서 동시 조회)
+        Map<String, CompletableFuture<BranchResult>> futures = new ConcurrentHashMap<>();
+        // 브랜치별 진행 중인 API 호출 (마감 시 취소)
+        Map<String, CompletableFuture<ProxyExecutionResponse>> calls = new ConcurrentHashMap<>();
+        for (CompositeBranch branch : branches) {
+            List<String> dependsOn = ApiCompositeService.dependenciesOf(branch);
+            CompletableFuture<?>[] dependencies = dependsOn.stream().map(futures::get).toArray(CompletableFuture[]::new);
+
+            long remainingMs = Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+            CompletableFuture<BranchResult> future = CompletableFuture.allOf(dependencies)
+                    .thenCompose(ignored -> runBranch(branch, endpoints.get(branch.getApiCode()), request, futures,
+                            deadlineAt, calls))
+                    .exceptionally(e -> failed(branch, errorMessageOf(e)))
+                    .completeOnTimeout(failed(branch, "Composite deadline exceeded (" + timeoutMs + "ms)"),
+                            remainingMs, TimeUnit.MILLISECONDS);
+            futures.put(branch.getKey(), future);
+        }
+
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+
+        // 마감으로 실패 처리된 브랜치의 호출 취소
+        calls.forEach((key, call) -> {
+            if (call.cancel(false)) {
+                log.warn("Composite branch cancelled at deadline: {}.{}", composite.getCompositeCode(), key);
+            }
+        });
+
+        return merge(composite, branches, futures, executedAt, startNanos);
+    }
+
+    /**
+     * 브랜치 실행
+     * - 선행 브랜치 실패 시 호출하지 않음
+     * - 파라미터 우선순위: 요청 파라미터 < 브랜치 고정 파라미터 < 선행 응답 매핑
+     * - 마감 이후에는 호출하지 않음 (선행 브랜치가 마감으로 완료된 경우)
+     */
+    private CompletableFuture<BranchResult> runBranch(CompositeBranch branch, ApiEndpoint endpoint,
+                                                      ProxyExecutionRequest request,
+                                                      Map<String, CompletableFuture<BranchResult>> futures,
+                                                      long deadlineAt,
+                                                      Map<String, CompletableFuture<ProxyExecutionResponse>> calls) {
+        Map<String, Object> parameters = new HashMap<>();
+        if (request.getParameters() != null) {
+            parameters.putAll(request.getParameters());
+        }
+        if (branch.getParameters() != null) {
+            parameters.putAll(branch.getParameters());
+        }
+
+        for (String dependency : ApiCompositeService.dependenciesOf(branch)) {
+            if (!futures.get(dependency).join().isSuccess()) {
+                return CompletableFuture.completedFuture(failed(branch, "Dependency failed: " + dependency));
+            }
+        }
+
+        if (branch.getParameterMappings() != null) {
+            branch.getParameterMappings().forEach((name, source) -> {
+                int separator = source.indexOf(':');
+                JsonNode value = futures.get(source.substring(0, separator)).join().body()
+                        .at(source.substring(separator + 1));
+                if (!value.isMissingNode()) {
+                    parameters.put(name, toParameter(value));
+                } else {
+                    log.debug("Composite parameter mapping not resolved: {}.{} <- {}", branch.getKey(), name, source);
+                }
+            });
+        }
+
+        if (!endpoint.getIsEnabled()) {
+            return CompletableFuture.completedFuture(failed(branch, "API endpoint disabled: " + branch.getApiCode()));
+        }
+        if (RequestDeadline.isExpired(deadlineAt)) {
+            return CompletableFuture.completedFuture(failed(branch, "Composite deadline exceeded"));
+        }
+
+        ProxyExecutionRequest branchRequest = ProxyExecutionRequest.builder()
+                .apiCode(endpoint.getApiCode())
+                .parameters(parameters)
+                .executionTrigger(request.getExecutionTrigger())
+                .executedBy(request.getExecutedBy())
+                .deadlineAt(deadlineAt)
+                .build();
+
+        CompletableFuture<ProxyExecutionResponse> call = apiExecutionService.executeAsync(endpoint, branchRequest);
+        calls.put(branch.getKey(), call);
+        return call.thenApply(this::toResult);
+    }
+
+    /**
+     * 브랜치 결과 병합
+     */
+    private ProxyExecutionResponse merge(ApiComposite composite, List<CompositeBranch> branches,
+                                         Map<String, CompletableFuture<BranchResult>> futures,
+                                         LocalDateTime executedAt, long startNanos) {
+        ObjectNode mergedBody = objectMapper.createObjectNode();
+        Map<String, ProxyExecutionResponse> branchResponses = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        boolean success = true;
+
+        for (CompositeBranch branch : branches) {
+            BranchResult result = futures.get(branch.getKey()).join();
+            mergedBody.set(branch.getKey(), result.body());
+
+            // 응답 바디는 병합 바디에만 포함
+            ProxyExecutionResponse response = result.response();
+            response.setResponseBody(null);
+            branchResponses.put(branch.getKey(), response);
+
+            if (!result.isSuccess()) {
+                errors.add(branch.getKey() + ": " + response.getErrorMessage());
+                if (!Boolean.TRUE.equals(branch.getOptional())) {
+                    success = false;
+                }
+            }
+        }
+
+        long executionTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("API composite execution completed: {} (success: {}, {}ms)",
+                composite.getCompositeCode(), success, executionTimeMs);
+
+        return ProxyExecutionResponse.builder()
+                .apiCode(composite.getCompositeCode())
+                .isSuccess(success)
+                .statusCode(success ? HttpStatus.OK.value() : HttpStatus.BAD_GATEWAY.value())
+                .responseBody(mergedBody.toString())
+                .errorMessage(errors.isEmpty() ? null : String.join("; ", errors))
+                .executionTimeMs(executionTimeMs)
+                .retryAttempt(0)
+                .executedAt(executedAt)
+                .branches(branchResponses)
+                .build();
+    }
+
+    private BranchResult toResult(ProxyExecutionResponse response) {
+        String body = response.getResponseBody();
+        if (body == null || body.isEmpty()) {
+            return new BranchResult(response, NullNode.getInstance());
+        }
+        try {
+            return new BranchResult(response, objectMapper.readTree(body));
+        } catch (Exception e) {
+            // JSON이 아닌 응답은 문자열로 병합
+            return new BranchResult(response, TextNode.valueOf(body));
+        }
+    }
+
+    private BranchResult failed(CompositeBranch branch, String errorMessage) {
+        ProxyExecutionResponse response = ProxyExecutionResponse.builder()
+                .apiCode(branch.getApiCode())
+                .isSuccess(false)
+                .errorMessage(errorMessage)
+                .retryAttempt(0)
+                .executedAt(LocalDateTime.now())
+                .build();
+        return new BranchResult(response, NullNode.getInstance());
+    }
+
+    private Object toParameter(JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (value.isTextual()) {
+            return value.asText();
+        }
+        if (value.isNumber()) {
+            return value.numberValue();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        return objectMapper.convertValue(value, Object.class);
+    }
+
+    private String errorMessageOf(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage();
+    }
+
+    /**
+     * 브랜치 실행 결과 (응답 + 파싱된 바디)
+     */
+    private record BranchResult(ProxyExecutionResponse response, JsonNode body) {
+
+        boolean isSuccess() {
+            return Boolean.TRUE.equals(response.getIsSuccess());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiComposite;
+import com.wan.framework.proxy.dto.ApiCompositeDTO;
+import com.wan.framework.proxy.dto.CompositeBranch;
+import com.wan.framework.proxy.exception.ProxyException;
+import com.wan.framework.proxy.mapper.ApiCompositeMapper;
+import com.wan.framework.proxy.repository.ApiCompositeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복합 API 서비스
+ * - 복합 API 메타 정보 CRUD
+ * - 브랜치 구성 검증 (키 중복, 의존 대상, 매핑 형식, 순환 의존, API 코드 존재)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApiCompositeService {
+
+    private final ApiCompositeRepository apiCompositeRepository;
+    private final ApiCompositeMapper apiCompositeMapper;
+    private final ApiEndpointService apiEndpointService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 복합 API 생성
+     */
+    @Transactional
+    public ApiCompositeDTO createApiComposite(ApiCompositeDTO dto) {
+        log.info("Creating API composite: {}", dto.getCompositeCode());
+
+        // 복합 API 코드 중복 체크
+        if (apiCompositeRepository.existsByCompositeCodeAndDataStateNot(dto.getCompositeCode(), DataStateCode.D)) {
+            throw new ProxyException(ProxyExceptionMessage.COMPOSITE_CODE_ALREADY_EXISTS);
+        }
+
+        // 브랜치 구성 검증
+        validateBranches(dto.getBranchDefinitions());
+
+        ApiComposite entity = apiCompositeMapper.toEntity(dto);
+        ApiComposite saved = apiCompositeRepository.save(entity);
+
+        log.info("API composite created: {} (ID: {})", saved.getCompositeCode(), saved.getId());
+        return apiCompositeMapper.toDto(saved);
+    }
+
+    /**
+     * 복합 API 수정
+     */
+    @Transactional
+    public ApiCompositeDTO updateApiComposite(Long id, ApiCompositeDTO dto) {
+        log.info("Updating API composite: {}", id);
+
+        ApiComposite entity = findActive(id);
+
+        // 브랜치 구성 검증
+        if (dto.getBranchDefinitions() != null) {
+            validateBranches(dto.getBranchDefinitions());
+        }
+
+        apiCompositeMapper.updateEntityFromDto(dto, entity);
+        ApiComposite updated = apiCompositeRepository.save(entity);
+
+        log.info("API composite updated: {}", id);
+        return apiCompositeMapper.toDto(updated);
+    }
+
+    /**
+     * 복합 API 삭제 (논리적 삭제)
+     */
+    @Transactional
+    public void deleteApiComposite(Long id) {
+        log.info("Deleting API composite: {}", id);
+
+        ApiComposite entity = findActive(id);
+        entity.setDataState(DataStateCode.D);
+        apiCompositeRepository.save(entity);
+
+        log.info("API composite deleted: {}", id);
+    }
+
+    /**
+     * 복합 API 조회 (ID)
+     */
+    public ApiCompositeDTO getApiComposite(Long id) {
+        return apiCompositeMapper.toDto(findActive(id));
+    }
+
+    /**
+     * 복합 API 조회 (복합 API 코드)
+     */
+    public ApiComposite getApiCompositeByCode(String compositeCode) {
+        return apiCompositeRepository.findByCompositeCodeAndDataStateNot(compositeCode, DataStateCode.D)
+                .orElseThrow(() -> new ProxyException(ProxyExceptionMessage.API_COMPOSITE_NOT_FOUND));
+    }
+
+    /**
+     * 복합 API 목록 조회
+     */
+    public Page<ApiCompositeDTO> getAllApiComposites(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return apiCompositeRepository.findByDataStateNot(DataStateCode.D, pageable)
+                .map(apiCompositeMapper::toDto);
+    }
+
+    /**
+     * 브랜치 구성 파싱 및 정렬
+     * - 의존 관계 기준 위상 정렬 순서로 반환 (선행 브랜치가 항상 앞)
+     */
+    public List<CompositeBranch> parseBranches(String branchDefinitions) {
+        List<CompositeBranch> branches;
+        try {
+            branches = objectMapper.readValue(branchDefinitions, new TypeReference<List<CompositeBranch>>() {});
+        } catch (Exception e) {
+            throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION, e);
+        }
+        if (branches == null || branches.isEmpty()) {
+            throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+        }
+
+        Map<String, CompositeBranch> byKey = new LinkedHashMap<>();
+        for (CompositeBranch branch : branches) {
+            if (isBlank(branch.getKey()) || isBlank(branch.getApiCode())
+                    || byKey.putIfAbsent(branch.getKey(), branch) != null) {
+                throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+            }
+        }
+
+        for (CompositeBranch branch : branches) {
+            List<String> dependsOn = dependenciesOf(branch);
+            for (String dependency : dependsOn) {
+                if (!byKey.containsKey(dependency) || dependency.equals(branch.getKey())) {
+                    throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+                }
+            }
+            // 매핑은 선행 브랜치 응답만 참조 가능 (형식: branchKey:/json/pointer)
+            if (branch.getParameterMappings() != null) {
+                for (String source : branch.getParameterMappings().values()) {
+                    int separator = source != null ? source.indexOf(':') : -1;
+                    if (separator <= 0 || !dependsOn.contains(source.substring(0, separator))) {
+                        throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+                    }
+                }
+            }
+        }
+
+        return topologicalOrder(byKey);
+    }
+
+    /**
+     * 선행 브랜치 키 목록
+     */
+    public static List<String> dependenciesOf(CompositeBranch branch) {
+        return branch.getDependsOn() != null ? branch.getDependsOn() : List.of();
+    }
+
+    /**
+     * 브랜치 구성 검증 (저장 시)
+     */
+    private void validateBranches(String branchDefinitions) {
+        if (isBlank(branchDefinitions)) {
+            throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+        }
+        for (CompositeBranch branch : parseBranches(branchDefinitions)) {
+            // 존재하지 않는 API 코드면 API_ENDPOINT_NOT_FOUND
+            apiEndpointService.getApiEndpointByCode(branch.getApiCode());
+        }
+    }
+
+    /**
+     * 위상 정렬 (Kahn) - 순환 의존 시 예외
+     */
+    private List<CompositeBranch> topologicalOrder(Map<String, CompositeBranch> byKey) {
+        Map<String, Integer> inDegree = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (CompositeBranch branch : byKey.values()) {
+            inDegree.putIfAbsent(branch.getKey(), 0);
+            for (String dependency : dependenciesOf(branch)) {
+                inDegree.merge(branch.getKey(), 1, Integer::sum);
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(branch.getKey());
+            }
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        byKey.keySet().stream().filter(key -> inDegree.get(key) == 0).forEach(ready::add);
+
+        List<CompositeBranch> ordered = new ArrayList<>(byKey.size());
+        while (!ready.isEmpty()) {
+            String key = ready.poll();
+            ordered.add(byKey.get(key));
+            for (String dependent : dependents.getOrDefault(key, List.of())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ordered.size() != byKey.size()) {
+            throw new ProxyException(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+        }
+        return ordered;
+    }
+
+    private ApiComposite findActive(Long id) {
+        return apiCompositeRepository.findById(id)
+                .filter(e -> e.getDataState() != DataStateCode.D)
+                .orElseThrow(() -> new ProxyException(ProxyExceptionMessage.API_COMPOSITE_NOT_FOUND));
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -28,6 +28,7 @@ public class ApiEndpointService {
 
     private final ApiEndpointRepository apiEndpointRepository;
     private final ApiEndpointMapper apiEndpointMapper;
+    private final RequestTemplateCache requestTemplateCache;
 
     /**
      * API 엔드포인트 생성
@@ -87,6 +88,7 @@ public class ApiEndpointService {
 
         entity.setDataState(DataStateCode.D);
         apiEndpointRepository.save(entity);
+        requestTemplateCache.evict(id);
 
         log.info("API endpoint deleted: {}", id);
     }
@@ -1,5 +1,9 @@
 package com.wan.framework.proxy.service;
 
+import com.wan.framework.base.dto.CursorPage;
+import com.wan.framework.base.dto.KeysetCursor;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.service.ExecutionRollupService;
 import com.wan.framework.proxy.constant.ProxyExceptionMessage;
 import com.wan.framework.proxy.domain.ApiExecutionHistory;
 import com.wan.framework.proxy.dto.ApiExecutionHistoryDTO;
@@ -20,6 +24,7 @@ import java.util.stream.Collectors;
 
 /**
  * API 실행 이력 서비스
+ * - 실행 이력 저장
  * - 실행 이력 조회
  * - 통계 조회
  */
@@ -31,6 +36,7 @@ public class ApiExecutionHistoryService {
 
     private final ApiExecutionHistoryRepository executionHistoryRepository;
     private final ApiExecutionHistoryMapper executionHistoryMapper;
+    private final ExecutionRollupService executionRollupService;
 
     /**
      * 실행 이력 조회 (ID)
@@ -39,7 +45,7 @@ public class ApiExecutionHistoryService {
         ApiExecutionHistory entity = executionHistoryRepository.findById(id)
                 .orElseThrow(() -> new ProxyException(ProxyExceptionMessage.EXECUTION_HISTORY_NOT_FOUND));
 
-        return executionHistoryMapper.toDto(entity);
+        return toDto(entity);
     }
 
     /**
@@ -50,7 +56,7 @@ public class ApiExecutionHistoryService {
         Page<ApiExecutionHistory> entities = executionHistoryRepository
                 .findByApiEndpointIdOrderByExecutedAtDesc(apiEndpointId, pageable);
 
-        return entities.map(executionHistoryMapper::toDto);
+        return entities.map(this::toDto);
     }
 
     /**
@@ -61,7 +67,29 @@ public class ApiExecutionHistoryService {
         Page<ApiExecutionHistory> entities = executionHistoryRepository
                 .findByApiCodeOrderByExecutedAtDesc(apiCode, pageable);
 
-        return entities.map(executionHistoryMapper::toDto);
+        return entities.map(this::toDto);
+    }
+
+    /**
+     * API 엔드포인트별 실행 이력 조회 (커서)
+     */
+    public CursorPage<ApiExecutionHistoryDTO> getHistoryByEndpoint(Long apiEndpointId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ApiExecutionHistory> entities = executionHistoryRepository.findByApiEndpointIdBefore(
+                apiEndpointId, position.time(), position.id(), CursorPage.limit(size));
+
+        return toCursorPage(entities, size);
+    }
+
+    /**
+     * API 코드별 실행 이력 조회 (커서)
+     */
+    public CursorPage<ApiExecutionHistoryDTO> getHistoryByApiCode(String apiCode, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ApiExecutionHistory> entities = executionHistoryRepository.findByApiCodeBefore(
+                apiCode, position.time(), position.id(), CursorPage.limit(size));
+
+        return toCursorPage(entities, size);
     }
 
     /**
@@ -72,7 +100,7 @@ public class ApiExecutionHistoryService {
                 .findByExecutedAtBetweenOrderByExecutedAtDesc(startDate, endDate);
 
         return entities.stream()
-                .map(executionHistoryMapper::toDto)
+                .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -84,7 +112,18 @@ public class ApiExecutionHistoryService {
         Page<ApiExecutionHistory> entities = executionHistoryRepository
                 .findByIsSuccessOrderByExecutedAtDesc(isSuccess, pageable);
 
-        return entities.map(executionHistoryMapper::toDto);
+        return entities.map(this::toDto);
+    }
+
+    /**
+     * 성공/실패별 실행 이력 조회 (커서)
+     */
+    public CursorPage<ApiExecutionHistoryDTO> getHistoryBySuccess(Boolean isSuccess, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ApiExecutionHistory> entities = executionHistoryRepository.findByIsSuccessBefore(
+                isSuccess, position.time(), position.id(), CursorPage.limit(size));
+
+        return toCursorPage(entities, size);
     }
 
     /**
@@ -95,14 +134,32 @@ public class ApiExecutionHistoryService {
                 .findTop10ByApiCodeOrderByExecutedAtDesc(apiCode);
 
         return entities.stream()
-                .map(executionHistoryMapper::toDto)
+                .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
     /**
      * API 엔드포인트 실행 통계 조회
+     * - 롤업 합계 + 아직 롤업되지 않은 최근 이력
      */
     public Object getExecutionStats(Long apiEndpointId) {
-        return executionHistoryRepository.getExecutionStats(apiEndpointId);
+        return executionRollupService.getExecutionStats(RollupSource.API_EXECUTION, apiEndpointId);
+    }
+
+    private CursorPage<ApiExecutionHistoryDTO> toCursorPage(List<ApiExecutionHistory> entities, int size) {
+        return CursorPage.of(entities, size, ApiExecutionHistory::getExecutedAt, ApiExecutionHistory::getId, this::toDto);
+    }
+
+    /**
+     * 엔티티 -> DTO 변환 (압축 저장된 바디 복원)
+     */
+    private ApiExecutionHistoryDTO toDto(ApiExecutionHistory entity) {
+        ApiExecutionHistoryDTO dto = executionHistoryMapper.toDto(entity);
+        if (Boolean.TRUE.equals(dto.getBodyCompressed())) {
+            dto.setRequestBody(BodyCapture.decode(dto.getRequestBody(), true));
+            dto.setResponseBody(BodyCapture.decode(dto.getResponseBody(), true));
+            dto.setBodyCompressed(false);
+        }
+        return dto;
     }
 }
@@ -0,0 +1,375 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.base.service.SequenceIdAllocator;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.domain.ApiExecutionHistory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * API 실행 이력 비동기 배치 저장
+ * - 이력 ID는 시퀀스 블록에서 사전 할당하여 저장 전에 응답에 포함
+ * - ID는 동기/비동기 모드 모두 시퀀스 블록에서만 발급 (AUTO_INCREMENT 저장분이 다른 서버가 보유한 블록과 충돌하지 않도록)
+ * - 제한된 대기열에 적재 후 백그라운드 스레드가 JDBC 배치 INSERT (배치 단위 트랜잭션)
+ * - ID 충돌 시 배치 전체를 버리지 않고 행 단위로 다시 저장, 충돌한 행은 새 ID로 저장
+ * - 대기열 초과, INSERT 실패, ID 할당 실패 시 디스크 spill 파일(NDJSON)에 기록하고 DB 회복 후 재적재
+ *   (ID 할당 실패분은 ID 없이 기록되어 재적재 시 할당)
+ * - 저장은 최대 flush 주기만큼 지연되므로 실행 직후 이력 조회 시 아직 없을 수 있음
+ */
+@Slf4j
+@Service
+public class ApiExecutionHistoryWriter {
+
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProxyProperties proxyProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String SEQUENCE_NAME = "api_execution_history";
+    private static final String TABLE_NAME = "t_api_execution_history";
+    private static final String COLUMNS = "id, api_endpoint_id, api_code, executed_url, http_method, "
+            + "request_headers, request_body, response_status_code, response_headers, response_body, "
+            + "execution_time_ms, is_success, error_message, retry_attempt, execution_trigger, executed_by, "
+            + "cache_status, request_body_size, response_body_size, response_body_hash, body_compressed, executed_at";
+    private static final String VALUES = "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE_NAME + " (" + COLUMNS + ") VALUES (" + VALUES + ")";
+    // spill 재적재 시 이미 저장된 ID는 건너뜀
+    private static final String REPLAY_SQL = "INSERT IGNORE INTO " + TABLE_NAME + " (" + COLUMNS + ") VALUES (" + VALUES + ")";
+
+    private static final String SPILL_FILE = "history-current.ndjson";
+    private static final String REPLAY_SUFFIX = ".replay";
+    private static final long REPLAY_BACKOFF_MS = 30000L;
+
+    private BlockingQueue<ApiExecutionHistory> queue;
+    private ScheduledExecutorService flusher;
+    private final Object spillLock = new Object();
+    private volatile long nextReplayAt;
+    // 재적재 중단 시 이미 저장한 건수 (재시도 때 건너뜀 → ID 없던 행이 새 ID로 중복 저장되지 않음)
+    private final Map<Path, Long> replayProgress = new ConcurrentHashMap<>();
+
+    public ApiExecutionHistoryWriter(SequenceIdAllocator sequenceIdAllocator, JdbcTemplate jdbcTemplate,
+                                     ObjectMapper objectMapper, ProxyProperties proxyProperties,
+                                     PlatformTransactionManager transactionManager) {
+        this.sequenceIdAllocator = sequenceIdAllocator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.proxyProperties = proxyProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        ProxyProperties.History config = proxyProperties.getHistory();
+        if (!config.isAsyncEnabled()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("proxy-history-"));
+        flusher.scheduleWithFixedDelay(this::flushSafely,
+                config.getFlushIntervalMs(), config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("Async execution history writer started (queue: {}, batch: {}, interval: {}ms)",
+                config.getQueueCapacity(), config.getBatchSize(), config.getFlushIntervalMs());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 이력 저장 (실패 시 spill)
+        drainQueue();
+    }
+
+    /**
+     * 실행 이력 저장 요청
+     * - 비동기 모드: ID 사전 할당 후 대기열 적재 (DB INSERT 대기 없음), ID 할당 실패 시 ID 없이 spill
+     * - 동기 모드: ID 할당 후 즉시 저장 (실패 시 예외)
+     *
+     * @return ID가 설정된 이력 (비동기 모드에서 ID 할당 실패 시 ID 없음)
+     */
+    public ApiExecutionHistory write(ApiExecutionHistory history) {
+        if (history.getExecutedAt() == null) {
+            history.setExecutedAt(LocalDateTime.now());
+        }
+
+        if (queue == null) {
+            if (history.getId() == null) {
+                history.setId(nextId());
+            }
+            insertBatch(List.of(history));
+            return history;
+        }
+
+        if (history.getId() == null) {
+            try {
+                history.setId(nextId());
+            } catch (Exception e) {
+                log.warn("Failed to pre-allocate execution history id, spilling to disk: {}", e.getMessage());
+                spill(List.of(history));
+                return history;
+            }
+        }
+
+        if (!queue.offer(history)) {
+            log.warn("Execution history queue full, spilling to disk: {}", history.getId());
+            spill(List.of(history));
+        }
+        return history;
+    }
+
+    /**
+     * 대기 중인 이력 수
+     */
+    public int getPendingCount() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    private void flushSafely() {
+        try {
+            boolean healthy = drainQueue();
+            if (healthy && queue.isEmpty() && System.currentTimeMillis() >= nextReplayAt) {
+                replaySpillFiles();
+            }
+        } catch (Exception e) {
+            log.error("Execution history flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기열 배치 INSERT
+     *
+     * @return 모든 배치 저장 성공 여부
+     */
+    private boolean drainQueue() {
+        int batchSize = proxyProperties.getHistory().getBatchSize();
+        List<ApiExecutionHistory> batch = new ArrayList<>(batchSize);
+        boolean healthy = true;
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                insertBatch(batch);
+            } catch (Exception e) {
+                log.warn("Execution history batch insert failed, spilling {} rows: {}", batch.size(), e.getMessage());
+                spill(batch);
+                healthy = false;
+            }
+            batch.clear();
+        }
+        return healthy;
+    }
+
+    /**
+     * 배치 INSERT (한 트랜잭션)
+     * - ID 충돌 시 롤백 후 행 단위로 다시 저장 (충돌하지 않은 행까지 spill하지 않음)
+     */
+    private void insertBatch(List<ApiExecutionHistory> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(INSERT_SQL, batch));
+        } catch (DuplicateKeyException e) {
+            log.warn("Execution history id collision in batch, inserting {} rows one by one", batch.size());
+            for (ApiExecutionHistory history : batch) {
+                insertOne(history);
+            }
+        }
+    }
+
+    /**
+     * 단건 INSERT, ID 충돌 시 새 ID로 저장 (응답에 포함된 기존 ID는 기록으로 남김)
+     */
+    private void insertOne(ApiExecutionHistory history) {
+        try {
+            insertRows(INSERT_SQL, List.of(history));
+        } catch (DuplicateKeyException e) {
+            Long collidedId = history.getId();
+            history.setId(nextId());
+            log.error("Execution history id {} already in use, stored as {} ({}, {})",
+                    collidedId, history.getId(), history.getApiCode(), history.getExecutedAt());
+            insertRows(INSERT_SQL, List.of(history));
+        }
+    }
+
+    private int[][] insertRows(String sql, List<ApiExecutionHistory> batch) {
+        return jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, h) -> {
+            ps.setObject(1, h.getId());
+            ps.setObject(2, h.getApiEndpointId());
+            ps.setString(3, h.getApiCode());
+            ps.setString(4, h.getExecutedUrl());
+            ps.setString(5, h.getHttpMethod());
+            ps.setString(6, h.getRequestHeaders());
+            ps.setString(7, h.getRequestBody());
+            ps.setObject(8, h.getResponseStatusCode());
+            ps.setString(9, h.getResponseHeaders());
+            ps.setString(10, h.getResponseBody());
+            ps.setObject(11, h.getExecutionTimeMs());
+            ps.setObject(12, h.getIsSuccess());
+            ps.setString(13, h.getErrorMessage());
+            ps.setObject(14, h.getRetryAttempt() != null ? h.getRetryAttempt() : 0);
+            ps.setString(15, h.getExecutionTrigger());
+            ps.setString(16, h.getExecutedBy());
+            ps.setString(17, h.getCacheStatus());
+            ps.setObject(18, h.getRequestBodySize());
+            ps.setObject(19, h.getResponseBodySize());
+            ps.setString(20, h.getResponseBodyHash());
+            ps.setObject(21, h.getBodyCompressed());
+            ps.setObject(22, h.getExecutedAt());
+        });
+    }
+
+    /**
+     * 디스크 spill (NDJSON 추가 기록)
+     */
+    private void spill(List<ApiExecutionHistory> histories) {
+        synchronized (spillLock) {
+            Path file = spillDirectory().resolve(SPILL_FILE);
+            try {
+                Files.createDirectories(file.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (ApiExecutionHistory history : histories) {
+                        writer.write(objectMapper.writeValueAsString(history));
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                log.error("Failed to spill {} execution histories to disk: {}", histories.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * spill 파일 재적재
+     * - 현재 spill 파일을 .replay로 교체 후 배치 INSERT IGNORE, 성공 시 삭제
+     * - 실패 시 파일을 남기고 일정 시간 후 재시도
+     */
+    private void replaySpillFiles() {
+        Path directory = spillDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        synchronized (spillLock) {
+            Path current = directory.resolve(SPILL_FILE);
+            if (Files.exists(current)) {
+                try {
+                    Files.move(current, directory.resolve("history-" + System.currentTimeMillis() + REPLAY_SUFFIX));
+                } catch (IOException e) {
+                    log.warn("Failed to rotate spill file: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        List<Path> replayFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            replayFiles = files.filter(path -> path.getFileName().toString().endsWith(REPLAY_SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            log.warn("Failed to list spill files: {}", e.getMessage());
+            return;
+        }
+
+        int batchSize = proxyProperties.getHistory().getBatchSize();
+        for (Path file : replayFiles) {
+            long stored = replayProgress.getOrDefault(file, 0L);
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                List<ApiExecutionHistory> batch = new ArrayList<>(batchSize);
+                long record = 0;
+                int skipped = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || record++ < stored) {
+                        continue;
+                    }
+                    batch.add(objectMapper.readValue(line, ApiExecutionHistory.class));
+                    if (batch.size() >= batchSize) {
+                        skipped += replayBatch(batch);
+                        stored += batch.size();
+                        replayProgress.put(file, stored);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    skipped += replayBatch(batch);
+                    stored += batch.size();
+                }
+                reader.close();
+                Files.delete(file);
+                replayProgress.remove(file);
+                log.info("Spilled execution histories replayed: {} ({} rows, {} already stored)",
+                        file.getFileName(), stored, skipped);
+            } catch (Exception e) {
+                log.warn("Failed to replay spill file, will retry later: {} - {}", file.getFileName(), e.getMessage());
+                nextReplayAt = System.currentTimeMillis() + REPLAY_BACKOFF_MS;
+                return;
+            }
+        }
+    }
+
+    /**
+     * spill 배치 재적재 (INSERT IGNORE)
+     * - ID 없이 기록된 행은 이때 할당
+     * - 이미 저장된 ID(저장 후 spill된 행)는 건너뜀
+     *
+     * @return 건너뛴 행 수 (드라이버가 행별 결과를 알려주는 경우)
+     */
+    private int replayBatch(List<ApiExecutionHistory> batch) {
+        for (ApiExecutionHistory history : batch) {
+            if (history.getId() == null) {
+                history.setId(nextId());
+            }
+        }
+        int skipped = 0;
+        for (int[] counts : insertRows(REPLAY_SQL, batch)) {
+            for (int count : counts) {
+                if (count == 0) {
+                    skipped++;
+                }
+            }
+        }
+        return skipped;
+    }
+
+    private long nextId() {
+        return sequenceIdAllocator.nextId(SEQUENCE_NAME, TABLE_NAME, proxyProperties.getHistory().getIdBlockSize());
+    }
+
+    private Path spillDirectory() {
+        return Paths.get(proxyProperties.getHistory().getSpillDir());
+    }
+}
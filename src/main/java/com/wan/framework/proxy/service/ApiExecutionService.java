@@ -1,109 +1,532 @@
 package com.wan.framework.proxy.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.config.ProxyAsyncExecutor;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.constant.LatencyPhase;
 import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.constant.ResponseCacheStatus;
 import com.wan.framework.proxy.domain.ApiEndpoint;
 import com.wan.framework.proxy.domain.ApiExecutionHistory;
+import com.wan.framework.proxy.dto.CachedProxyResponse;
 import com.wan.framework.proxy.dto.ProxyExecutionRequest;
 import com.wan.framework.proxy.dto.ProxyExecutionResponse;
 import com.wan.framework.proxy.exception.ProxyException;
-import com.wan.framework.proxy.repository.ApiExecutionHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * API 실행 서비스
  * - HTTP 클라이언트를 통한 실제 API 호출
- * - 재시도 로직
- * - 실행 이력 저장
+ * - 재시도 로직 (타이머 기반 비동기 재시도, 지수 백오프 + Jitter, 재시도 예산)
+ * - 서킷 브레이커 / Bulkhead를 통한 장애 대상 호출 차단
+ * - GET/HEAD 응답 캐시 (Cache-Control / ETag 재검증)
+ * - 실행 이력 저장 (헤더/바디 캡처 정책 적용)
+ * - 요청에 마감 시각이 있으면 마감 이후 재시도하지 않고, 호출자가 결과 Future를 취소하면 남은 시도를 중단
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApiExecutionService {
 
-    private final ApiExecutionHistoryRepository executionHistoryRepository;
+    private final ApiExecutionHistoryWriter executionHistoryWriter;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ProxyAsyncExecutor proxyAsyncExecutor;
+    private final RetryBudgetService retryBudgetService;
+    private final CircuitBreakerService circuitBreakerService;
+    private final RequestTemplateCache requestTemplateCache;
+    private final ProxyResponseCacheService responseCacheService;
+    private final RequestCoalescer requestCoalescer;
+    private final ProxyLatencyRecorder latencyRecorder;
+    private final ProxyProperties proxyProperties;
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
 
     /**
-     * API 실행
+     * API 실행 (동기)
+     * - executeAsync 결과를 대기
+     * - HTTP 호출 및 재시도 대기 중 DB 커넥션을 점유하지 않음
      */
-    @Transactional
     public ProxyExecutionResponse execute(ApiEndpoint endpoint, ProxyExecutionRequest request) {
+        try {
+            return executeAsync(endpoint, request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ProxyException proxyException) {
+                throw proxyException;
+            }
+            throw new ProxyException(ProxyExceptionMessage.API_EXECUTION_FAILED, e.getCause());
+        }
+    }
+
+    /**
+     * API 실행 (비동기)
+     * - 워커 풀에서 HTTP 호출
+     * - 재시도는 타이머로 예약 (스레드 sleep 없음)
+     * - 최종 결과만 짧은 트랜잭션으로 이력 저장
+     * - 동일한 GET/HEAD 동시 요청은 하나의 호출로 병합
+     *   (마감 시각이 있는 요청은 병합하지 않음 → 마감/취소가 다른 호출자와 섞이지 않고 실제 호출에 적용됨)
+     */
+    public CompletableFuture<ProxyExecutionResponse> executeAsync(ApiEndpoint endpoint, ProxyExecutionRequest request) {
         log.info("Executing API: {} ({})", endpoint.getApiCode(), endpoint.getApiName());
 
-        LocalDateTime startTime = LocalDateTime.now();
-        int retryAttempt = 0;
-        ApiExecutionHistory history = null;
+        if (request.getDeadlineAt() == null && requestCoalescer.isCoalescible(endpoint)) {
+            return requestCoalescer.execute(endpoint, request, () -> startExecution(endpoint, request));
+        }
+        return startExecution(endpoint, request);
+    }
+
+    private CompletableFuture<ProxyExecutionResponse> startExecution(ApiEndpoint endpoint, ProxyExecutionRequest request) {
+        CompletableFuture<ProxyExecutionResponse> future = new CompletableFuture<>();
+        submitAttempt(endpoint, request, 0, System.nanoTime(), future);
+        return future;
+    }
+
+    /**
+     * API 실행 (스트리밍)
+     * - 대상 응답 바디를 메모리에 모으지 않고 호출자 출력 스트림으로 그대로 전달
+     * - 이력에는 캡처 정책(앞부분 + 나머지 해시)만 저장
+     * - 전송된 스트림은 되돌릴 수 없으므로 재시도 / 응답 캐시를 적용하지 않음
+     * - 호출자 쓰기 실패(연결 끊김)는 대상 API 장애로 집계하지 않음
+     * - 모든 종료 경로에서 이력 저장, 응답 전송이 시작된 뒤에는 예외 대신 실패 결과 반환
+     *
+     * @param onResponseStart 바디 전송 전 대상 응답 상태 코드/헤더 전달
+     * @param target          응답 바디 출력 스트림
+     */
+    public ProxyExecutionResponse executeStreaming(
+            ApiEndpoint endpoint,
+            ProxyExecutionRequest request,
+            BiConsumer<Integer, HttpHeaders> onResponseStart,
+            OutputStream target) {
+
+        log.info("Executing API (streaming): {} ({})", endpoint.getApiCode(), endpoint.getApiName());
+        long startNanos = System.nanoTime();
+
+        RequestTemplateCache.EndpointTemplates templates = requestTemplateCache.get(endpoint);
+        String executedUrl = templates.renderUrl(request.getParameters());
+        String requestBody = templates.renderBody(request.getParameters());
+        HttpHeaders headers = buildHeaders(templates, request.getParameters());
+        HttpMethod method = HttpMethod.valueOf(endpoint.getHttpMethod().toUpperCase());
+
+        boolean captureBodies = !Boolean.FALSE.equals(endpoint.getCaptureBodies());
+        BodyCapture responseCapture = captureBodies ? new BodyCapture(proxyProperties.getCapture().getMaxBodyBytes()) : null;
+
+        ApiExecutionHistory history = ApiExecutionHistory.builder()
+                .apiEndpointId(endpoint.getId())
+                .apiCode(endpoint.getApiCode())
+                .executedUrl(executedUrl)
+                .httpMethod(endpoint.getHttpMethod())
+                .retryAttempt(0)
+                .executionTrigger(request.getExecutionTrigger())
+                .executedBy(request.getExecutedBy())
+                .executedAt(LocalDateTime.now())
+                .build();
+
+        ClientOutputStream client = new ClientOutputStream(target);
+        boolean[] responseStarted = new boolean[1];
+        ProxyException failure = null;
+        try {
+            history.setRequestHeaders(headersToJson(endpoint, headers));
 
-        while (retryAttempt <= endpoint.getRetryCount()) {
+            HttpHeaders responseHeaders = callTarget(endpoint, () -> restTemplate.execute(
+                    URI.create(executedUrl),
+                    method,
+                    restTemplate.httpEntityCallback(new HttpEntity<>(requestBody, headers)),
+                    response -> {
+                        history.setResponseStatusCode(response.getStatusCode().value());
+                        responseStarted[0] = true;
+                        onResponseStart.accept(response.getStatusCode().value(), response.getHeaders());
+                        transfer(response.getBody(), client, responseCapture);
+                        return response.getHeaders();
+                    }));
+
+            history.setIsSuccess(true);
+            history.setResponseHeaders(headersToJson(endpoint, responseHeaders));
+
+        } catch (RestClientResponseException e) {
+            // HTTP 에러 응답도 상태 코드와 바디를 그대로 전달
+            log.error("HTTP error (streaming): {} - {}", e.getStatusCode(), endpoint.getApiCode());
+            history.setIsSuccess(false);
+            history.setResponseStatusCode(e.getStatusCode().value());
+            history.setErrorMessage(e.getMessage());
+            responseStarted[0] = true;
+            onResponseStart.accept(e.getStatusCode().value(), e.getResponseHeaders());
             try {
-                // 실행
-                history = executeRequest(endpoint, request, retryAttempt);
+                transfer(new ByteArrayInputStream(e.getResponseBodyAsByteArray()), client, responseCapture);
+            } catch (ClientAbortedException clientAborted) {
+                log.warn("Failed to write error response to client: {}", clientAborted.getMessage());
+            } catch (IOException ioException) {
+                log.warn("Failed to read error response: {}", ioException.getMessage());
+            }
 
-                // 성공 시 응답 반환
-                if (history.getIsSuccess()) {
-                    long executionTimeMs = Duration.between(startTime, history.getExecutedAt()).toMillis();
-                    history.setExecutionTimeMs(executionTimeMs);
+        } catch (ClientAbortedException e) {
+            // 호출자 연결 끊김: 대상 API 장애가 아니므로 서킷 브레이커에 집계하지 않음, 대상 응답 결과는 그대로 기록
+            log.warn("Client disconnected during streaming: {} - {}", endpoint.getApiCode(), e.getMessage());
+            history.setIsSuccess(isSuccessStatus(history.getResponseStatusCode()));
+            history.setErrorMessage("Client disconnected during streaming: " + e.getMessage());
 
-                    ApiExecutionHistory savedHistory = executionHistoryRepository.save(history);
+        } catch (ResourceAccessException e) {
+            log.error("Connection error (streaming): {}", e.getMessage());
+            history.setIsSuccess(false);
+            history.setErrorMessage(e.getMessage());
+            failure = new ProxyException(ProxyExceptionMessage.API_CONNECTION_FAILED, e);
 
-                    return buildSuccessResponse(savedHistory);
-                }
+        } catch (ProxyException e) {
+            // 서킷 브레이커 / Bulkhead 차단, 템플릿 오류
+            history.setIsSuccess(false);
+            history.setErrorMessage(e.getMessage());
+            failure = e;
+
+        } catch (Exception e) {
+            log.error("Unexpected error during streaming API execution: {}", e.getMessage());
+            history.setIsSuccess(false);
+            history.setErrorMessage(e.getMessage());
+            failure = new ProxyException(ProxyExceptionMessage.API_EXECUTION_FAILED, e);
+        }
+
+        ApiExecutionHistory saved = saveStreamingHistory(endpoint, history, requestBody, responseCapture, startNanos);
+        // 응답 전송이 시작된 뒤에는 상태 코드를 바꿀 수 없으므로 예외 대신 실패 결과 반환
+        if (failure != null && !responseStarted[0]) {
+            throw failure;
+        }
+        return Boolean.TRUE.equals(saved.getIsSuccess()) ? buildSuccessResponse(saved) : buildFailureResponse(saved);
+    }
+
+    private static boolean isSuccessStatus(Integer statusCode) {
+        return statusCode != null && statusCode >= 200 && statusCode < 300;
+    }
 
-                // 실패 시 재시도
-                if (retryAttempt < endpoint.getRetryCount()) {
-                    log.warn("API execution failed, retrying... (attempt {}/{})",
-                            retryAttempt + 1, endpoint.getRetryCount());
-                    Thread.sleep(endpoint.getRetryIntervalMs());
-                    retryAttempt++;
+    /**
+     * 스트리밍 실행 이력 저장 (응답 바디는 전송 중 캡처한 내용만 저장)
+     */
+    private ApiExecutionHistory saveStreamingHistory(
+            ApiEndpoint endpoint,
+            ApiExecutionHistory history,
+            String requestBody,
+            BodyCapture responseCapture,
+            long startNanos) {
+
+        if (responseCapture != null) {
+            history.setRequestBody(requestBody);
+            applyBodyCapture(endpoint, history);
+
+            BodyCapture.Captured responseBody = responseCapture.finish(proxyProperties.getCapture().isCompress());
+            history.setResponseBody(responseBody.stored());
+            history.setResponseBodySize(responseBody.size());
+            history.setResponseBodyHash(responseBody.remainderHash());
+            history.setBodyCompressed(Boolean.TRUE.equals(history.getBodyCompressed()) || responseBody.compressed());
+        }
+        return saveHistory(history, startNanos);
+    }
+
+    /**
+     * 호출자 출력 스트림 쓰기 실패 (연결 끊김 등)
+     * - RestTemplate은 응답 처리 중 IOException을 ResourceAccessException(대상 장애)으로 감싸므로 unchecked로 구분
+     */
+    static class ClientAbortedException extends UncheckedIOException {
+
+        ClientAbortedException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 호출자 출력 스트림 (쓰기 실패를 ClientAbortedException으로 변환)
+     */
+    static class ClientOutputStream extends FilterOutputStream {
+
+        ClientOutputStream(OutputStream target) {
+            super(target);
+        }
+
+        @Override
+        public void write(int b) {
+            try {
+                out.write(b);
+            } catch (IOException e) {
+                throw new ClientAbortedException(e);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                throw new ClientAbortedException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new ClientAbortedException(e);
+            }
+        }
+    }
+
+    /**
+     * 스트림 전달 (전달하면서 캡처)
+     */
+    private void transfer(InputStream source, OutputStream target, BodyCapture capture) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int read;
+        while ((read = source.read(buffer)) != -1) {
+            target.write(buffer, 0, read);
+            if (capture != null) {
+                capture.write(buffer, 0, read);
+            }
+        }
+        target.flush();
+    }
+
+    /**
+     * 실행 시도 제출
+     */
+    private void submitAttempt(
+            ApiEndpoint endpoint,
+            ProxyExecutionRequest request,
+            int retryAttempt,
+            long startNanos,
+            CompletableFuture<ProxyExecutionResponse> future) {
+
+        try {
+            proxyAsyncExecutor.execute(() -> runAttempt(endpoint, request, retryAttempt, startNanos, future));
+        } catch (RejectedExecutionException e) {
+            log.error("API execution rejected: {} (queue: {})", endpoint.getApiCode(), proxyAsyncExecutor.getQueueSize());
+            future.completeExceptionally(new ProxyException(ProxyExceptionMessage.EXECUTION_REJECTED, e));
+        }
+    }
+
+    /**
+     * 실행 시도 (워커 스레드)
+     * - 호출자가 취소했으면 실행하지 않음
+     * - 마감 시각이 지났으면 호출 없이 타임아웃 실패 처리
+     * - 성공: 이력 저장 후 완료
+     * - 실패 + 재시도 가능: 백오프 대기 후 다음 시도 예약
+     * - 실패 + 재시도 불가/소진: 실패 이력 저장 후 완료
+     */
+    private void runAttempt(
+            ApiEndpoint endpoint,
+            ProxyExecutionRequest request,
+            int retryAttempt,
+            long startNanos,
+            CompletableFuture<ProxyExecutionResponse> future) {
+
+        if (future.isDone()) {
+            log.info("API execution cancelled by caller: {} (attempt {})", endpoint.getApiCode(), retryAttempt);
+            return;
+        }
+
+        try {
+            if (retryAttempt == 0) {
+                retryBudgetService.recordRequest(endpoint.getApiCode());
+            }
+
+            ApiExecutionHistory history = null;
+            Exception failure = null;
+
+            try {
+                if (RequestDeadline.isExpired(request.getDeadlineAt())) {
+                    failure = new ProxyException(ProxyExceptionMessage.API_TIMEOUT);
                 } else {
-                    break;
+                    history = RequestDeadline.call(request.getDeadlineAt(),
+                            () -> executeRequest(endpoint, request, retryAttempt));
                 }
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new ProxyException(ProxyExceptionMessage.API_EXECUTION_FAILED, e);
             } catch (Exception e) {
                 log.error("API execution error: {}", e.getMessage());
+                failure = e;
+            }
 
-                if (retryAttempt < endpoint.getRetryCount()) {
-                    retryAttempt++;
-                    try {
-                        Thread.sleep(endpoint.getRetryIntervalMs());
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new ProxyException(ProxyExceptionMessage.API_EXECUTION_FAILED, ie);
-                    }
-                } else {
-                    history = buildFailedHistory(endpoint, request, e, retryAttempt);
-                    break;
+            // 서킷 OPEN 또는 동시 호출 한도 초과 시 재시도/이력 저장 없이 즉시 종료
+            if (isShortCircuited(failure)) {
+                future.completeExceptionally(failure);
+                return;
+            }
+
+            // 성공 시 응답 반환
+            if (history != null && history.getIsSuccess()) {
+                future.complete(saveAndRespond(endpoint, history, startNanos));
+                return;
+            }
+
+            // 실패 시 재시도 예약
+            RetryPolicy retryPolicy = RetryPolicy.of(endpoint);
+            if (shouldRetry(endpoint, retryPolicy, retryAttempt, history, failure)) {
+                long delayMs = retryPolicy.nextDelayMs(retryAttempt);
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+                if (!retryPolicy.withinMaxElapsed(elapsedMs, delayMs)) {
+                    log.warn("Retry skipped, max elapsed time exceeded: {} ({}ms + {}ms)",
+                            endpoint.getApiCode(), elapsedMs, delayMs);
+                } else if (!RequestDeadline.allows(request.getDeadlineAt(), delayMs)) {
+                    log.warn("Retry skipped, request deadline would be exceeded: {} (delay {}ms)",
+                            endpoint.getApiCode(), delayMs);
+                } else if (retryBudgetService.tryAcquireRetry(endpoint.getApiCode(), endpoint.getRetryBudgetPercent())) {
+                    log.warn("API execution failed, retrying in {}ms... (attempt {}/{})",
+                            delayMs, retryAttempt + 1, endpoint.getRetryCount());
+                    proxyAsyncExecutor.schedule(
+                            () -> submitAttempt(endpoint, request, retryAttempt + 1, startNanos, future),
+                            delayMs
+                    );
+                    return;
                 }
             }
+
+            // 최종 실패 처리
+            if (history == null) {
+                history = buildFailedHistory(endpoint, request, failure, retryAttempt);
+            }
+            future.complete(saveAndRespond(endpoint, history, startNanos));
+
+        } catch (Exception e) {
+            log.error("API execution could not be completed: {} - {}", endpoint.getApiCode(), e.getMessage());
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 서킷 브레이커 / Bulkhead에 의해 호출이 차단되었는지 여부
+     */
+    private boolean isShortCircuited(Exception failure) {
+        return failure instanceof ProxyException proxyException
+                && (proxyException.getProxyExceptionMessage() == ProxyExceptionMessage.CIRCUIT_BREAKER_OPEN
+                || proxyException.getProxyExceptionMessage() == ProxyExceptionMessage.BULKHEAD_FULL);
+    }
+
+    /**
+     * 재시도 대상 여부 판단
+     * - 재시도 횟수가 남아 있고
+     * - HTTP 에러 응답이면 재시도 대상 상태 코드, 예외면 재시도 대상 예외인 경우
+     */
+    private boolean shouldRetry(
+            ApiEndpoint endpoint,
+            RetryPolicy retryPolicy,
+            int retryAttempt,
+            ApiExecutionHistory history,
+            Exception failure) {
+
+        if (!retryPolicy.hasRetriesLeft(retryAttempt)) {
+            return false;
+        }
+
+        boolean retryable = history != null
+                ? retryPolicy.isRetryableStatus(history.getResponseStatusCode())
+                : retryPolicy.isRetryableException(failure);
+
+        if (!retryable) {
+            log.info("Non-retryable failure: {} (status: {}, error: {})",
+                    endpoint.getApiCode(),
+                    history != null ? history.getResponseStatusCode() : null,
+                    failure != null ? failure.getClass().getSimpleName() : null);
+        }
+        return retryable;
+    }
+
+    /**
+     * 이력 저장 후 응답 생성
+     * - 호출자에게는 원본 응답 바디를 반환하고, 이력에는 캡처 정책을 적용한 바디만 저장
+     */
+    private ProxyExecutionResponse saveAndRespond(
+            ApiEndpoint endpoint,
+            ApiExecutionHistory history,
+            long startNanos) {
+
+        String responseBody = history.getResponseBody();
+        applyBodyCapture(endpoint, history);
+
+        ApiExecutionHistory saved = saveHistory(history, startNanos);
+        ProxyExecutionResponse response = Boolean.TRUE.equals(saved.getIsSuccess())
+                ? buildSuccessResponse(saved)
+                : buildFailureResponse(saved);
+        response.setResponseBody(responseBody);
+        return response;
+    }
+
+    /**
+     * 바디 캡처 정책 적용
+     * - 엔드포인트에서 바디 저장을 끈 경우 저장하지 않음
+     * - 최대 크기까지만 저장하고 나머지는 해시로 기록, 설정 시 gzip 압축
+     */
+    private void applyBodyCapture(ApiEndpoint endpoint, ApiExecutionHistory history) {
+        if (Boolean.FALSE.equals(endpoint.getCaptureBodies())) {
+            history.setRequestBody(null);
+            history.setResponseBody(null);
+            return;
+        }
+
+        BodyCapture.Captured requestBody = captureBody(history.getRequestBody());
+        if (requestBody != null) {
+            history.setRequestBody(requestBody.stored());
+            history.setRequestBodySize(requestBody.size());
         }
 
-        // 최종 실패 처리
-        if (history != null) {
-            long executionTimeMs = Duration.between(startTime, LocalDateTime.now()).toMillis();
-            history.setExecutionTimeMs(executionTimeMs);
+        BodyCapture.Captured responseBody = captureBody(history.getResponseBody());
+        if (responseBody != null) {
+            history.setResponseBody(responseBody.stored());
+            history.setResponseBodySize(responseBody.size());
+            history.setResponseBodyHash(responseBody.remainderHash());
+        }
+
+        history.setBodyCompressed((requestBody != null && requestBody.compressed())
+                || (responseBody != null && responseBody.compressed()));
+    }
+
+    private BodyCapture.Captured captureBody(String body) {
+        if (body == null) {
+            return null;
+        }
+        ProxyProperties.Capture capture = proxyProperties.getCapture();
+        boolean compress = capture.isCompress() && body.length() >= capture.getCompressMinBytes();
+        return BodyCapture.capture(body, capture.getMaxBodyBytes(), compress);
+    }
 
-            ApiExecutionHistory savedHistory = executionHistoryRepository.save(history);
-            return buildFailureResponse(savedHistory);
+    /**
+     * 헤더 JSON 직렬화 (엔드포인트에서 헤더 저장을 끈 경우 null)
+     */
+    private String headersToJson(ApiEndpoint endpoint, HttpHeaders headers) throws JsonProcessingException {
+        if (Boolean.FALSE.equals(endpoint.getCaptureHeaders()) || headers == null) {
+            return null;
         }
+        return objectMapper.writeValueAsString(headers.toSingleValueMap());
+    }
 
-        throw new ProxyException(ProxyExceptionMessage.API_EXECUTION_FAILED);
+    /**
+     * 실행 시간 기록 후 이력 저장
+     */
+    private ApiExecutionHistory saveHistory(ApiExecutionHistory history, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        history.setExecutionTimeMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        latencyRecorder.record(history.getApiCode(), LatencyPhase.TOTAL, elapsedNanos,
+                Boolean.TRUE.equals(history.getIsSuccess()));
+
+        return executionHistoryWriter.write(history);
     }
 
     /**
@@ -115,16 +538,28 @@ public class ApiExecutionService {
             int retryAttempt) {
 
         try {
-            // URL 및 바디 템플릿 처리
-            String executedUrl = replaceTemplateVariables(endpoint.getTargetUrl(), request.getParameters());
-            String requestBody = null;
-
-            if (endpoint.getRequestBodyTemplate() != null && !endpoint.getRequestBodyTemplate().isEmpty()) {
-                requestBody = replaceTemplateVariables(endpoint.getRequestBodyTemplate(), request.getParameters());
-            }
+            // URL 및 바디 템플릿 처리 (엔드포인트 버전별 컴파일 템플릿 사용)
+            RequestTemplateCache.EndpointTemplates templates = requestTemplateCache.get(endpoint);
+            String executedUrl = templates.renderUrl(request.getParameters());
+            String requestBody = templates.renderBody(request.getParameters());
 
             // 헤더 설정
-            HttpHeaders headers = buildHeaders(endpoint.getRequestHeaders(), request.getParameters());
+            HttpHeaders headers = buildHeaders(templates, request.getParameters());
+
+            // 응답 캐시 조회 (유효하면 호출 생략, 만료되었으면 ETag로 재검증)
+            String cacheKey = null;
+            CachedProxyResponse cached = null;
+            if (responseCacheService.isCacheable(endpoint)) {
+                cacheKey = responseCacheService.buildKey(endpoint, executedUrl, headers);
+                cached = responseCacheService.get(cacheKey);
+                if (cached != null && cached.isFresh(System.currentTimeMillis())) {
+                    return buildCachedHistory(endpoint, request, executedUrl, headers, cached,
+                            ResponseCacheStatus.HIT, retryAttempt);
+                }
+                if (cached != null && cached.getEtag() != null) {
+                    headers.setIfNoneMatch(cached.getEtag());
+                }
+            }
 
             // HTTP 엔티티 생성
             HttpEntity<String> httpEntity = new HttpEntity<>(requestBody, headers);
@@ -134,12 +569,20 @@ public class ApiExecutionService {
 
             log.debug("Executing {} {} with body: {}", method, executedUrl, requestBody);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    executedUrl,
-                    method,
-                    httpEntity,
-                    String.class
-            );
+            ResponseEntity<String> response = exchange(endpoint, executedUrl, method, httpEntity);
+
+            // 304 Not Modified: 캐시 응답 사용
+            String cacheStatus = null;
+            if (cacheKey != null) {
+                if (cached != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                    CachedProxyResponse refreshed = responseCacheService.revalidate(
+                            cacheKey, endpoint, cached, response.getHeaders());
+                    return buildCachedHistory(endpoint, request, executedUrl, headers, refreshed,
+                            ResponseCacheStatus.REVALIDATED, retryAttempt);
+                }
+                responseCacheService.put(cacheKey, endpoint, response);
+                cacheStatus = ResponseCacheStatus.MISS.name();
+            }
 
             // 성공 응답 기록
             return ApiExecutionHistory.builder()
@@ -147,15 +590,16 @@ public class ApiExecutionService {
                     .apiCode(endpoint.getApiCode())
                     .executedUrl(executedUrl)
                     .httpMethod(endpoint.getHttpMethod())
-                    .requestHeaders(objectMapper.writeValueAsString(headers.toSingleValueMap()))
+                    .requestHeaders(headersToJson(endpoint, headers))
                     .requestBody(requestBody)
                     .responseStatusCode(response.getStatusCode().value())
-                    .responseHeaders(objectMapper.writeValueAsString(response.getHeaders().toSingleValueMap()))
+                    .responseHeaders(headersToJson(endpoint, response.getHeaders()))
                     .responseBody(response.getBody())
                     .isSuccess(true)
                     .retryAttempt(retryAttempt)
                     .executionTrigger(request.getExecutionTrigger())
                     .executedBy(request.getExecutedBy())
+                    .cacheStatus(cacheStatus)
                     .executedAt(LocalDateTime.now())
                     .build();
 
@@ -183,12 +627,92 @@ public class ApiExecutionService {
             log.error("Connection error: {}", e.getMessage());
             throw new ProxyException(ProxyExceptionMessage.API_CONNECTION_FAILED, e);
 
+        } catch (ProxyException e) {
+            // 서킷 브레이커 / Bulkhead 차단, 템플릿 오류는 그대로 전달
+            throw e;
+
         } catch (Exception e) {
             log.error("Unexpected error during API execution: {}", e.getMessage());
             throw new ProxyException(ProxyExceptionMessage.API_EXECUTION_FAILED, e);
         }
     }
 
+    /**
+     * 서킷 브레이커 / Bulkhead 보호 하에 HTTP 호출
+     * - 값은 이미 인코딩되었으므로 URI로 전달하여 이중 인코딩 방지
+     */
+    private ResponseEntity<String> exchange(
+            ApiEndpoint endpoint,
+            String executedUrl,
+            HttpMethod method,
+            HttpEntity<String> httpEntity) {
+
+        return callTarget(endpoint,
+                () -> restTemplate.exchange(URI.create(executedUrl), method, httpEntity, String.class));
+    }
+
+    /**
+     * 서킷 브레이커 / Bulkhead 보호 하에 대상 호출
+     * - 연결 실패/타임아웃, 5xx 응답만 대상 API 장애로 집계 (4xx는 요청 측 문제)
+     */
+    private <T> T callTarget(ApiEndpoint endpoint, Supplier<T> call) {
+        circuitBreakerService.acquirePermission(endpoint);
+        boolean targetFailure = false;
+        boolean success = false;
+        ProxyPhaseTimer timer = ProxyPhaseTimer.start();
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } catch (HttpServerErrorException | ResourceAccessException e) {
+            targetFailure = true;
+            throw e;
+        } finally {
+            long attemptNanos = timer.stop();
+            circuitBreakerService.onResult(endpoint, targetFailure);
+            recordPhases(endpoint.getApiCode(), timer, attemptNanos, success);
+        }
+    }
+
+    /**
+     * 호출 구간 지연 시간 기록 (DNS, TTFB, 시도 전체)
+     */
+    private void recordPhases(String apiCode, ProxyPhaseTimer timer, long attemptNanos, boolean success) {
+        latencyRecorder.record(apiCode, LatencyPhase.DNS, timer.getDnsNanos(), success);
+        latencyRecorder.record(apiCode, LatencyPhase.TTFB, timer.getTtfbNanos(), success);
+        latencyRecorder.record(apiCode, LatencyPhase.ATTEMPT, attemptNanos, success);
+    }
+
+    /**
+     * 캐시 응답 이력 생성
+     */
+    private ApiExecutionHistory buildCachedHistory(
+            ApiEndpoint endpoint,
+            ProxyExecutionRequest request,
+            String executedUrl,
+            HttpHeaders headers,
+            CachedProxyResponse cached,
+            ResponseCacheStatus cacheStatus,
+            int retryAttempt) throws JsonProcessingException {
+
+        return ApiExecutionHistory.builder()
+                .apiEndpointId(endpoint.getId())
+                .apiCode(endpoint.getApiCode())
+                .executedUrl(executedUrl)
+                .httpMethod(endpoint.getHttpMethod())
+                .requestHeaders(headersToJson(endpoint, headers))
+                .responseStatusCode(cached.getStatusCode())
+                .responseHeaders(Boolean.FALSE.equals(endpoint.getCaptureHeaders()) ? null : cached.getResponseHeaders())
+                .responseBody(cached.getResponseBody())
+                .isSuccess(true)
+                .retryAttempt(retryAttempt)
+                .executionTrigger(request.getExecutionTrigger())
+                .executedBy(request.getExecutedBy())
+                .cacheStatus(cacheStatus.name())
+                .executedAt(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * 실패 이력 생성
      */
@@ -212,44 +736,13 @@ public class ApiExecutionService {
                 .build();
     }
 
-    /**
-     * 템플릿 변수 치환
-     * 예: "https://api.example.com/users/${userId}" -> "https://api.example.com/users/12345"
-     */
-    private String replaceTemplateVariables(String template, Map<String, Object> parameters) {
-        if (template == null || parameters == null) {
-            return template;
-        }
-
-        String result = template;
-        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            String placeholder = "${" + entry.getKey() + "}";
-            String value = String.valueOf(entry.getValue());
-            result = result.replace(placeholder, value);
-        }
-
-        return result;
-    }
-
     /**
      * HTTP 헤더 빌드
      */
-    private HttpHeaders buildHeaders(String headerTemplate, Map<String, Object> parameters) {
+    private HttpHeaders buildHeaders(RequestTemplateCache.EndpointTemplates templates, Map<String, Object> parameters) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-
-        if (headerTemplate != null && !headerTemplate.isEmpty()) {
-            try {
-                String replacedHeaders = replaceTemplateVariables(headerTemplate, parameters);
-                Map<String, String> headerMap = objectMapper.readValue(replacedHeaders, Map.class);
-
-                headerMap.forEach(headers::add);
-            } catch (Exception e) {
-                log.error("Failed to parse header template: {} - Template: {}", e.getMessage(), headerTemplate);
-                throw new ProxyException(ProxyExceptionMessage.TEMPLATE_PARSING_FAILED, e);
-            }
-        }
-
+        templates.renderHeaders(parameters).forEach(headers::add);
         return headers;
     }
 
@@ -266,6 +759,7 @@ public class ApiExecutionService {
                 .executionTimeMs(history.getExecutionTimeMs())
                 .retryAttempt(history.getRetryAttempt())
                 .executedAt(history.getExecutedAt())
+                .cacheStatus(history.getCacheStatus())
                 .build();
     }
 
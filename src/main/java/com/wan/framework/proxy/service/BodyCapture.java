@@ -0,0 +1,122 @@
+package com.wan.framework.proxy.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 요청/응답 바디 저장용 캡처
+ * - 앞부분 maxBytes만 보관하고 나머지는 SHA-256 해시로만 기록
+ * - 스트리밍 중 청크 단위로 write 가능 (전체 바디를 메모리에 두지 않음)
+ * - 선택적으로 gzip 압축 후 Base64로 저장
+ */
+public final class BodyCapture {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final int maxBytes;
+    private final ByteArrayOutputStream head;
+    private MessageDigest remainderDigest;
+    private long size;
+
+    public BodyCapture(int maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+        this.head = new ByteArrayOutputStream(Math.min(this.maxBytes, 8192));
+    }
+
+    /**
+     * 문자열 바디 캡처
+     */
+    public static Captured capture(String body, int maxBytes, boolean compress) {
+        if (body == null) {
+            return null;
+        }
+        BodyCapture capture = new BodyCapture(maxBytes);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        capture.write(bytes, 0, bytes.length);
+        return capture.finish(compress);
+    }
+
+    /**
+     * 저장된 바디 복원 (압축된 경우 해제)
+     */
+    public static String decode(String stored, boolean compressed) {
+        if (stored == null || !compressed) {
+            return stored;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(stored)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException | IllegalArgumentException e) {
+            return stored;
+        }
+    }
+
+    /**
+     * 청크 기록
+     */
+    public void write(byte[] buffer, int offset, int length) {
+        size += length;
+
+        int headRemaining = maxBytes - head.size();
+        int toHead = Math.min(Math.max(headRemaining, 0), length);
+        if (toHead > 0) {
+            head.write(buffer, offset, toHead);
+        }
+        if (length > toHead) {
+            digest().update(buffer, offset + toHead, length - toHead);
+        }
+    }
+
+    /**
+     * 캡처 완료
+     */
+    public Captured finish(boolean compress) {
+        String text = head.toString(StandardCharsets.UTF_8);
+        String remainderHash = remainderDigest != null ? HexFormat.of().formatHex(remainderDigest.digest()) : null;
+
+        if (compress && !text.isEmpty()) {
+            return new Captured(gzip(text), size, remainderHash, true);
+        }
+        return new Captured(text, size, remainderHash, false);
+    }
+
+    private MessageDigest digest() {
+        if (remainderDigest == null) {
+            try {
+                remainderDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return remainderDigest;
+    }
+
+    private static String gzip(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(text.length() / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    /**
+     * 캡처 결과
+     *
+     * @param stored        저장할 바디 (앞부분, 압축 시 gzip + Base64)
+     * @param size          원본 바디 크기 (byte)
+     * @param remainderHash 잘린 나머지 부분의 SHA-256 (잘리지 않았으면 null)
+     * @param compressed    압축 여부
+     */
+    public record Captured(String stored, long size, String remainderHash, boolean compressed) {
+    }
+}
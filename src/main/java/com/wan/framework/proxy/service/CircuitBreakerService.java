@@ -0,0 +1,249 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.constant.CircuitState;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CircuitBreakerStatusDTO;
+import com.wan.framework.proxy.exception.ProxyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * API 엔드포인트 서킷 브레이커 / Bulkhead 서비스
+ * - apiCode 단위 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN → CLOSED)
+ * - apiCode 단위 동시 호출 수 제한 (Bulkhead)
+ * - 설정은 호출 시점의 ApiEndpoint 값을 사용하므로 엔드포인트 수정이 즉시 반영됨
+ * - 상태는 서버 인스턴스별로 관리 (각 인스턴스가 대상 API 상태를 독립적으로 판단)
+ */
+@Slf4j
+@Service
+public class CircuitBreakerService {
+
+    private final Map<String, EndpointGuard> guards = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public CircuitBreakerService() {
+        this(System::currentTimeMillis);
+    }
+
+    CircuitBreakerService(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허가 획득
+     * - Bulkhead 슬롯 확보 후 서킷 상태 확인
+     * - 허가된 호출은 반드시 onResult로 결과를 기록해야 함
+     *
+     * @throws ProxyException BULKHEAD_FULL, CIRCUIT_BREAKER_OPEN
+     */
+    public void acquirePermission(ApiEndpoint endpoint) {
+        EndpointGuard guard = guardOf(endpoint.getApiCode());
+
+        int maxConcurrent = endpoint.getMaxConcurrentCalls() != null ? endpoint.getMaxConcurrentCalls() : 0;
+        int concurrent = guard.concurrentCalls.incrementAndGet();
+        if (maxConcurrent > 0 && concurrent > maxConcurrent) {
+            guard.concurrentCalls.decrementAndGet();
+            guard.bulkheadRejectedCalls.incrementAndGet();
+            log.warn("Bulkhead full: {} (max: {})", endpoint.getApiCode(), maxConcurrent);
+            throw new ProxyException(ProxyExceptionMessage.BULKHEAD_FULL);
+        }
+
+        if (isCircuitBreakerEnabled(endpoint) && !guard.tryAcquire(endpoint, clock.getAsLong())) {
+            guard.concurrentCalls.decrementAndGet();
+            guard.notPermittedCalls.incrementAndGet();
+            log.warn("Circuit breaker open, call not permitted: {}", endpoint.getApiCode());
+            throw new ProxyException(ProxyExceptionMessage.CIRCUIT_BREAKER_OPEN);
+        }
+    }
+
+    /**
+     * 호출 결과 기록 및 Bulkhead 슬롯 반환
+     *
+     * @param failed 대상 API 장애 여부 (연결 실패, 5xx 등)
+     */
+    public void onResult(ApiEndpoint endpoint, boolean failed) {
+        EndpointGuard guard = guardOf(endpoint.getApiCode());
+        guard.concurrentCalls.decrementAndGet();
+
+        if (isCircuitBreakerEnabled(endpoint)) {
+            guard.record(endpoint, failed, clock.getAsLong());
+        }
+    }
+
+    /**
+     * 서킷 브레이커 상태 조회
+     */
+    public CircuitBreakerStatusDTO getStatus(String apiCode) {
+        return guardOf(apiCode).toStatus(apiCode);
+    }
+
+    /**
+     * 호출 이력이 있는 전체 서킷 브레이커 상태 조회
+     */
+    public List<CircuitBreakerStatusDTO> getAllStatuses() {
+        return guards.entrySet().stream()
+                .map(entry -> entry.getValue().toStatus(entry.getKey()))
+                .sorted(Comparator.comparing(CircuitBreakerStatusDTO::getApiCode))
+                .toList();
+    }
+
+    /**
+     * 서킷 브레이커 초기화 (CLOSED, 집계 초기화)
+     * - 진행 중인 호출 수는 유지
+     */
+    public CircuitBreakerStatusDTO reset(String apiCode) {
+        EndpointGuard guard = guardOf(apiCode);
+        guard.reset();
+        log.info("Circuit breaker reset: {}", apiCode);
+        return guard.toStatus(apiCode);
+    }
+
+    private EndpointGuard guardOf(String apiCode) {
+        return guards.computeIfAbsent(apiCode, key -> new EndpointGuard());
+    }
+
+    private boolean isCircuitBreakerEnabled(ApiEndpoint endpoint) {
+        return !Boolean.FALSE.equals(endpoint.getCircuitBreakerEnabled());
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * apiCode 단위 서킷 브레이커 + Bulkhead 상태
+     */
+    private static class EndpointGuard {
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicLong bulkheadRejectedCalls = new AtomicLong();
+        private final AtomicLong notPermittedCalls = new AtomicLong();
+
+        private CircuitState state = CircuitState.CLOSED;
+        private boolean[] outcomes = new boolean[0];   // 최근 호출 결과 (true = 실패)
+        private int nextIndex;
+        private int bufferedCalls;
+        private int failedCalls;
+        private long openedAt;
+        private int halfOpenPermits;
+        private int halfOpenSuccesses;
+
+        private synchronized boolean tryAcquire(ApiEndpoint endpoint, long now) {
+            if (state == CircuitState.OPEN) {
+                if (now - openedAt < valueOrDefault(endpoint.getCircuitOpenDurationMs(), 30000)) {
+                    return false;
+                }
+                transitionTo(CircuitState.HALF_OPEN, endpoint.getApiCode());
+            }
+
+            if (state == CircuitState.HALF_OPEN) {
+                if (halfOpenPermits >= valueOrDefault(endpoint.getCircuitHalfOpenCalls(), 3)) {
+                    return false;
+                }
+                halfOpenPermits++;
+            }
+            return true;
+        }
+
+        private synchronized void record(ApiEndpoint endpoint, boolean failed, long now) {
+            if (state == CircuitState.HALF_OPEN) {
+                if (failed) {
+                    open(now, endpoint.getApiCode());
+                } else if (++halfOpenSuccesses >= valueOrDefault(endpoint.getCircuitHalfOpenCalls(), 3)) {
+                    transitionTo(CircuitState.CLOSED, endpoint.getApiCode());
+                    clearWindow();
+                }
+                return;
+            }
+
+            if (state == CircuitState.OPEN) {
+                // OPEN 전환 이전에 시작된 호출의 늦은 결과는 무시
+                return;
+            }
+
+            int windowSize = valueOrDefault(endpoint.getCircuitSlidingWindowSize(), 20);
+            if (outcomes.length != windowSize) {
+                outcomes = new boolean[windowSize];
+                clearWindow();
+            }
+
+            if (bufferedCalls == windowSize) {
+                if (outcomes[nextIndex]) {
+                    failedCalls--;
+                }
+            } else {
+                bufferedCalls++;
+            }
+            outcomes[nextIndex] = failed;
+            if (failed) {
+                failedCalls++;
+            }
+            nextIndex = (nextIndex + 1) % windowSize;
+
+            int minimumCalls = Math.min(valueOrDefault(endpoint.getCircuitMinimumCalls(), 10), windowSize);
+            if (bufferedCalls >= minimumCalls
+                    && failureRate() >= valueOrDefault(endpoint.getCircuitFailureRateThreshold(), 50)) {
+                open(now, endpoint.getApiCode());
+            }
+        }
+
+        private synchronized void reset() {
+            state = CircuitState.CLOSED;
+            openedAt = 0;
+            clearWindow();
+        }
+
+        private synchronized CircuitBreakerStatusDTO toStatus(String apiCode) {
+            return CircuitBreakerStatusDTO.builder()
+                    .apiCode(apiCode)
+                    .state(state.name())
+                    .failureRate(failureRate())
+                    .bufferedCalls(bufferedCalls)
+                    .failedCalls(failedCalls)
+                    .notPermittedCalls(notPermittedCalls.get())
+                    .concurrentCalls(concurrentCalls.get())
+                    .bulkheadRejectedCalls(bulkheadRejectedCalls.get())
+                    .openedAt(openedAt > 0
+                            ? LocalDateTime.ofInstant(Instant.ofEpochMilli(openedAt), ZoneId.systemDefault())
+                            : null)
+                    .build();
+        }
+
+        private void open(long now, String apiCode) {
+            openedAt = now;
+            transitionTo(CircuitState.OPEN, apiCode);
+            log.warn("Circuit breaker opened: {} (failure rate: {}%, calls: {})",
+                    apiCode, failureRate(), bufferedCalls);
+        }
+
+        private void transitionTo(CircuitState newState, String apiCode) {
+            log.info("Circuit breaker state changed: {} {} -> {}", apiCode, state, newState);
+            state = newState;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+
+        private void clearWindow() {
+            Arrays.fill(outcomes, false);
+            nextIndex = 0;
+            bufferedCalls = 0;
+            failedCalls = 0;
+        }
+
+        private int failureRate() {
+            return bufferedCalls == 0 ? 0 : failedCalls * 100 / bufferedCalls;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 요청 템플릿
+ * - "${name}" 플레이스홀더를 리터럴/변수 세그먼트 목록으로 한 번만 파싱
+ * - 렌더링은 미리 계산한 크기의 StringBuilder로 단일 패스 처리
+ * - 변수 위치(URL 경로/쿼리, JSON 문자열 내부/외부)에 맞는 이스케이프 적용
+ * - URL 템플릿의 리터럴 부분은 컴파일 시 URI에 쓸 수 없는 문자(공백, 비ASCII, '|' 등)만 인코딩
+ *   (구분자와 이미 인코딩된 %XX는 유지)
+ * - 파라미터에 없는 변수는 플레이스홀더를 그대로 유지
+ */
+public final class CompiledTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+    private static final String URI_LEGAL_CHARACTERS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~:/?#[]@!$&'()*+,;=";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * 템플릿 용도별 이스케이프 방식
+     */
+    public enum Escaping {
+        NONE, URL, JSON
+    }
+
+    /**
+     * 변수 세그먼트의 출력 위치
+     */
+    private enum Context {
+        LITERAL, RAW, URL_PATH, URL_QUERY, JSON_STRING, JSON_VALUE
+    }
+
+    private record Segment(String text, Context context) {
+    }
+
+    private final Segment[] segments;
+    private final int literalLength;
+    private final int variableCount;
+    private final ObjectMapper objectMapper;
+
+    private CompiledTemplate(List<Segment> segments, ObjectMapper objectMapper) {
+        this.segments = segments.toArray(new Segment[0]);
+        this.objectMapper = objectMapper;
+
+        int length = 0;
+        int variables = 0;
+        for (Segment segment : this.segments) {
+            if (segment.context == Context.LITERAL) {
+                length += segment.text.length();
+            } else {
+                variables++;
+            }
+        }
+        this.literalLength = length;
+        this.variableCount = variables;
+    }
+
+    /**
+     * 템플릿 컴파일
+     *
+     * @param template     원본 템플릿 (null 불가)
+     * @param escaping     이스케이프 방식
+     * @param objectMapper JSON 값 직렬화용 (JSON 방식에서 Map/Collection 값 처리)
+     */
+    public static CompiledTemplate compile(String template, Escaping escaping, ObjectMapper objectMapper) {
+        List<Segment> segments = new ArrayList<>();
+        UrlScanner urlScanner = new UrlScanner();
+        JsonScanner jsonScanner = new JsonScanner();
+
+        int position = 0;
+        while (position < template.length()) {
+            int start = template.indexOf(PLACEHOLDER_START, position);
+            int end = start < 0 ? -1 : template.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (start < 0 || end < 0) {
+                break;
+            }
+
+            if (start > position) {
+                String literal = template.substring(position, start);
+                segments.add(new Segment(escaping == Escaping.URL ? encodeUriLiteral(literal) : literal, Context.LITERAL));
+                urlScanner.scan(literal);
+                jsonScanner.scan(literal);
+            }
+
+            String name = template.substring(start + PLACEHOLDER_START.length(), end);
+            Context context = switch (escaping) {
+                case URL -> urlScanner.context();
+                case JSON -> jsonScanner.context();
+                case NONE -> Context.RAW;
+            };
+            segments.add(new Segment(name, context));
+            position = end + 1;
+        }
+
+        if (position < template.length()) {
+            String literal = template.substring(position);
+            segments.add(new Segment(escaping == Escaping.URL ? encodeUriLiteral(literal) : literal, Context.LITERAL));
+        }
+
+        return new CompiledTemplate(segments, objectMapper);
+    }
+
+    /**
+     * 템플릿 렌더링
+     */
+    public String render(Map<String, Object> parameters) {
+        if (variableCount == 0) {
+            return segments.length == 0 ? "" : segments[0].text;
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + variableCount * ESTIMATED_VALUE_LENGTH);
+        for (Segment segment : segments) {
+            if (segment.context == Context.LITERAL) {
+                builder.append(segment.text);
+            } else if (parameters == null || !parameters.containsKey(segment.text)) {
+                builder.append(PLACEHOLDER_START).append(segment.text).append(PLACEHOLDER_END);
+            } else {
+                appendValue(builder, segment.context, parameters.get(segment.text));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 변수 포함 여부
+     */
+    public boolean hasVariables() {
+        return variableCount > 0;
+    }
+
+    private void appendValue(StringBuilder builder, Context context, Object value) {
+        switch (context) {
+            case URL_PATH -> builder.append(UriUtils.encodePathSegment(String.valueOf(value), StandardCharsets.UTF_8));
+            case URL_QUERY -> builder.append(UriUtils.encodeQueryParam(String.valueOf(value), StandardCharsets.UTF_8));
+            case JSON_STRING -> appendJsonEscaped(builder, String.valueOf(value));
+            case JSON_VALUE -> appendJsonValue(builder, value);
+            default -> builder.append(value);
+        }
+    }
+
+    /**
+     * JSON 문자열 밖의 값
+     * - Map/Collection/배열은 JSON으로 직렬화, 그 외는 그대로 출력 (숫자, boolean, JSON 조각)
+     */
+    private void appendJsonValue(StringBuilder builder, Object value) {
+        if (value instanceof Map || value instanceof Collection || (value != null && value.getClass().isArray())) {
+            try {
+                builder.append(objectMapper.writeValueAsString(value));
+                return;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to serialize template value", e);
+            }
+        }
+        builder.append(value);
+    }
+
+    private static void appendJsonEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * URL 리터럴 인코딩
+     * - URI 문자(비예약 + 예약 구분자)와 유효한 %XX는 그대로, 나머지는 UTF-8 퍼센트 인코딩
+     */
+    static String encodeUriLiteral(String literal) {
+        StringBuilder builder = null;
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            boolean legal = URI_LEGAL_CHARACTERS.indexOf(c) >= 0
+                    || (c == '%' && i + 2 < literal.length() && isHex(literal.charAt(i + 1)) && isHex(literal.charAt(i + 2)));
+            if (legal) {
+                if (builder != null) {
+                    builder.append(c);
+                }
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(literal.length() + 16).append(literal, 0, i);
+            }
+            int codePoint = literal.codePointAt(i);
+            for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                builder.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+            }
+            i += Character.charCount(codePoint) - 1;
+        }
+        return builder != null ? builder.toString() : literal;
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * URL 리터럴 스캔: 스킴/호스트 → 경로 → 쿼리 순으로 위치 추적
+     * - 스킴/호스트 위치의 변수(예: ${baseUrl})는 인코딩하지 않음
+     */
+    private static class UrlScanner {
+        private Context context = Context.RAW;
+
+        private void scan(String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                char c = literal.charAt(i);
+                if (c == '?' || c == '#') {
+                    context = Context.URL_QUERY;
+                } else if (c == '/' && context == Context.RAW) {
+                    if (literal.startsWith("//", i) && i > 0 && literal.charAt(i - 1) == ':') {
+                        i++;
+                    } else {
+                        context = Context.URL_PATH;
+                    }
+                }
+            }
+        }
+
+        private Context context() {
+            return context;
+        }
+    }
+
+    /**
+     * JSON 리터럴 스캔: 문자열 내부 여부 추적 (이스케이프된 따옴표 제외)
+     */
+    private static class JsonScanner {
+        private boolean inString;
+        private boolean escaped;
+
+        private void scan(String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                char c = literal.charAt(i);
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\' && inString) {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = !inString;
+                }
+            }
+        }
+
+        private Context context() {
+            return inString ? Context.JSON_STRING : Context.JSON_VALUE;
+        }
+    }
+}
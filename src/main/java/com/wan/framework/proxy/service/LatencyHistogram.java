@@ -0,0 +1,112 @@
+package com.wan.framework.proxy.service;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 히스토그램 (HDR 방식 로그-선형 버킷, 마이크로초)
+ * - 2의 거듭제곱 구간마다 32개 선형 하위 버킷 → 상대 오차 약 3% 이내
+ * - 32 미만 값은 정확히 기록
+ * - 기록 범위를 넘는 값은 최대값으로 기록
+ * - 동기화하지 않으므로 호출자가 보호
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private final long highestTrackableValue;
+    private final int[] counts;
+    private long totalCount;
+    private long sum;
+    private long maxValue;
+
+    public LatencyHistogram(long highestTrackableValue) {
+        this.highestTrackableValue = Math.max(SUB_BUCKET_COUNT, highestTrackableValue);
+        this.counts = new int[indexOf(this.highestTrackableValue) + 1];
+    }
+
+    /**
+     * 값 기록
+     */
+    public void record(long value) {
+        long clamped = Math.min(Math.max(0L, value), highestTrackableValue);
+        counts[indexOf(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        maxValue = Math.max(maxValue, clamped);
+    }
+
+    /**
+     * 다른 히스토그램 합산 (같은 최대값으로 생성된 히스토그램)
+     */
+    public void add(LatencyHistogram other) {
+        int length = Math.min(counts.length, other.counts.length);
+        for (int i = 0; i < length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    /**
+     * 초기화
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0L;
+        sum = 0L;
+        maxValue = 0L;
+    }
+
+    /**
+     * 백분위 값 (해당 버킷의 상한, 최대값 이하)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * totalCount));
+        long accumulated = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return Math.min(highestValueOf(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0.0 : (double) sum / totalCount;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,155 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.constant.AsyncExecutionStatus;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.dto.ProxyAsyncExecutionResponse;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import com.wan.framework.proxy.exception.ProxyException;
+import com.wan.framework.redis.service.RedisCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 Proxy 실행 레지스트리
+ * - 실행 ID 발급 및 진행 중인 실행 추적 (로컬)
+ * - 완료 결과는 Redis에 TTL로 보관하여 다른 서버에서도 조회 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProxyAsyncExecutionRegistry {
+
+    private final RedisCacheService redisCacheService;
+    private final ProxyProperties proxyProperties;
+
+    private static final String RESULT_KEY_PREFIX = "PROXY:ASYNC:";
+
+    // 실행 ID -> 실행 정보 (진행 중 + 최근 완료)
+    private final Map<String, AsyncExecution> executions = new ConcurrentHashMap<>();
+
+    /**
+     * 비동기 실행 등록
+     *
+     * @param apiCode API 코드
+     * @param future  실행 결과 Future
+     * @return 접수 응답 (실행 ID 포함)
+     */
+    public ProxyAsyncExecutionResponse register(String apiCode, CompletableFuture<ProxyExecutionResponse> future) {
+        String executionId = UUID.randomUUID().toString();
+        AsyncExecution execution = new AsyncExecution(executionId, apiCode, future, LocalDateTime.now());
+        executions.put(executionId, execution);
+
+        future.whenComplete((result, error) -> {
+            execution.completedAt = System.currentTimeMillis();
+            storeResult(toResponse(execution));
+        });
+
+        log.debug("Async proxy execution registered: {} ({})", executionId, apiCode);
+        return toResponse(execution);
+    }
+
+    /**
+     * 비동기 실행 상태 조회
+     * - 로컬 → Redis 순으로 조회
+     */
+    public ProxyAsyncExecutionResponse getExecution(String executionId) {
+        AsyncExecution execution = executions.get(executionId);
+        if (execution != null) {
+            return toResponse(execution);
+        }
+
+        try {
+            ProxyAsyncExecutionResponse stored = redisCacheService.get(
+                    RESULT_KEY_PREFIX + executionId, ProxyAsyncExecutionResponse.class);
+            if (stored != null) {
+                return stored;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read async execution result from Redis: {} - {}", executionId, e.getMessage());
+        }
+
+        throw new ProxyException(ProxyExceptionMessage.ASYNC_EXECUTION_NOT_FOUND);
+    }
+
+    /**
+     * 보관 시간이 지난 완료 실행 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void evictCompleted() {
+        long expireBefore = System.currentTimeMillis() - proxyProperties.getAsync().getResultTtlSeconds() * 1000L;
+        executions.values().removeIf(e -> e.completedAt > 0 && e.completedAt < expireBefore);
+    }
+
+    /**
+     * 완료 결과 Redis 저장
+     */
+    private void storeResult(ProxyAsyncExecutionResponse response) {
+        try {
+            redisCacheService.set(
+                    RESULT_KEY_PREFIX + response.getExecutionId(),
+                    response,
+                    proxyProperties.getAsync().getResultTtlSeconds()
+            );
+        } catch (Exception e) {
+            // Redis 장애 시에도 로컬 결과로 조회 가능
+            log.warn("Failed to store async execution result to Redis: {} - {}",
+                    response.getExecutionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 정보 -> 응답 변환
+     */
+    private ProxyAsyncExecutionResponse toResponse(AsyncExecution execution) {
+        ProxyAsyncExecutionResponse.ProxyAsyncExecutionResponseBuilder builder = ProxyAsyncExecutionResponse.builder()
+                .executionId(execution.executionId)
+                .apiCode(execution.apiCode)
+                .acceptedAt(execution.acceptedAt);
+
+        CompletableFuture<ProxyExecutionResponse> future = execution.future;
+        if (!future.isDone()) {
+            return builder.status(AsyncExecutionStatus.RUNNING.name()).build();
+        }
+
+        try {
+            return builder.status(AsyncExecutionStatus.COMPLETED.name())
+                    .result(future.join())
+                    .build();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return builder.status(AsyncExecutionStatus.FAILED.name())
+                    .errorMessage(cause.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 실행 정보
+     */
+    private static class AsyncExecution {
+        private final String executionId;
+        private final String apiCode;
+        private final CompletableFuture<ProxyExecutionResponse> future;
+        private final LocalDateTime acceptedAt;
+        private volatile long completedAt;
+
+        private AsyncExecution(String executionId, String apiCode,
+                               CompletableFuture<ProxyExecutionResponse> future, LocalDateTime acceptedAt) {
+            this.executionId = executionId;
+            this.apiCode = apiCode;
+            this.future = future;
+            this.acceptedAt = acceptedAt;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.constant.LatencyPhase;
+import com.wan.framework.proxy.dto.ProxyLatencyStatsDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy 실행 지연 시간 기록
+ * - 모든 구간(DNS/TTFB/ATTEMPT/TOTAL)을 Micrometer 타이머로 게시 (api_code, phase, outcome 태그)
+ * - 실행 전체(TOTAL)는 API 코드별 HDR 히스토그램 롤링 윈도우로도 보관하여 /proxy/stats에서 조회
+ * - 이력 테이블을 조회하지 않음 (서버별 메모리 통계)
+ */
+@Slf4j
+@Service
+public class ProxyLatencyRecorder {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final ProxyProperties proxyProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RollingLatencyWindow> windows = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ProxyLatencyRecorder(ProxyProperties proxyProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.proxyProperties = proxyProperties;
+        // Actuator 미사용 시 전역 레지스트리에 기록
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * 구간 지연 시간 기록
+     */
+    public void record(String apiCode, LatencyPhase phase, long nanos, boolean success) {
+        if (nanos < 0) {
+            return;
+        }
+        try {
+            timer(apiCode, phase, success).record(nanos, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            log.debug("Failed to record proxy latency metric: {} - {}", apiCode, e.getMessage());
+        }
+
+        if (phase == LatencyPhase.TOTAL) {
+            windows.computeIfAbsent(apiCode, key -> newWindow())
+                    .record(nanos, !success, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * API 코드별 통계 조회
+     *
+     * @param windowSeconds 집계 윈도우 (버킷 크기 단위로 올림, 최대 윈도우로 제한)
+     * @param apiCode       특정 API 코드만 조회 (null이면 전체)
+     */
+    public List<ProxyLatencyStatsDTO> getStats(long windowSeconds, String apiCode) {
+        ProxyProperties.Stats config = proxyProperties.getStats();
+        int bucketSeconds = Math.max(1, config.getBucketSeconds());
+        int windowBuckets = (int) Math.min(config.getMaxWindowBuckets(),
+                Math.max(1L, (windowSeconds + bucketSeconds - 1) / bucketSeconds));
+        long now = System.currentTimeMillis();
+
+        return windows.entrySet().stream()
+                .filter(entry -> apiCode == null || apiCode.equals(entry.getKey()))
+                .map(entry -> toStats(entry.getKey(), entry.getValue().snapshot(windowBuckets, now),
+                        (long) windowBuckets * bucketSeconds))
+                .filter(stats -> stats.getCalls() > 0)
+                .sorted(Comparator.comparing(ProxyLatencyStatsDTO::getApiCode))
+                .toList();
+    }
+
+    private ProxyLatencyStatsDTO toStats(String apiCode, RollingLatencyWindow.Snapshot snapshot, long windowSeconds) {
+        return ProxyLatencyStatsDTO.builder()
+                .apiCode(apiCode)
+                .phase(LatencyPhase.TOTAL.name())
+                .windowSeconds(windowSeconds)
+                .calls(snapshot.calls())
+                .failures(snapshot.failures())
+                .errorRate(snapshot.errorRate())
+                .p50Ms(snapshot.percentileMs(50.0))
+                .p95Ms(snapshot.percentileMs(95.0))
+                .p99Ms(snapshot.percentileMs(99.0))
+                .meanMs(snapshot.meanMs())
+                .maxMs(snapshot.maxMs())
+                .build();
+    }
+
+    private RollingLatencyWindow newWindow() {
+        ProxyProperties.Stats config = proxyProperties.getStats();
+        return new RollingLatencyWindow(
+                TimeUnit.SECONDS.toMillis(config.getBucketSeconds()),
+                config.getMaxWindowBuckets(),
+                TimeUnit.MILLISECONDS.toMicros(config.getHighestTrackableMs()));
+    }
+
+    private Timer timer(String apiCode, LatencyPhase phase, boolean success) {
+        String outcome = success ? "success" : "failure";
+        return timers.computeIfAbsent(apiCode + ":" + phase + ":" + outcome, key -> {
+            Timer.Builder builder = Timer.builder("proxy.execution")
+                    .description("Proxy API execution latency")
+                    .tag("api_code", apiCode)
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome);
+            if (proxyProperties.getStats().isPublishPercentiles()) {
+                builder.publishPercentiles(PERCENTILES);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+}
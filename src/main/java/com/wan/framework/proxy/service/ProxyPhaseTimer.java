@@ -0,0 +1,73 @@
+package com.wan.framework.proxy.service;
+
+/**
+ * 대상 API 호출 구간 측정 (System.nanoTime 기반, 호출 스레드 한정)
+ * - ApiExecutionService가 호출 직전에 시작하고, RestTemplate 인터셉터가 DNS/TTFB 구간을 기록
+ * - 측정 중이 아닐 때(다른 RestTemplate 사용처)는 current()가 null
+ */
+public final class ProxyPhaseTimer {
+
+    private static final ThreadLocal<ProxyPhaseTimer> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private long dnsNanos = -1L;
+    private long ttfbNanos = -1L;
+
+    private ProxyPhaseTimer() {
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 현재 스레드에서 측정 시작
+     */
+    public static ProxyPhaseTimer start() {
+        ProxyPhaseTimer timer = new ProxyPhaseTimer();
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    /**
+     * 현재 스레드의 측정 (측정 중이 아니면 null)
+     */
+    public static ProxyPhaseTimer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * DNS 해석 시간 기록
+     */
+    public void recordDns(long nanos) {
+        this.dnsNanos = nanos;
+    }
+
+    /**
+     * 응답 헤더 수신 시점 기록
+     */
+    public void recordFirstByte() {
+        this.ttfbNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 측정 종료
+     *
+     * @return 시작부터 종료까지 경과 시간 (나노초)
+     */
+    public long stop() {
+        CURRENT.remove();
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * DNS 해석 시간 (미측정 시 -1)
+     */
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    /**
+     * 응답 헤더 수신까지 시간 (미측정 시 -1)
+     */
+    public long getTtfbNanos() {
+        return ttfbNanos;
+    }
+}
@@ -0,0 +1,257 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CachedProxyResponse;
+import com.wan.framework.redis.service.RedisCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Proxy 응답 캐시 서비스
+ * - GET/HEAD 엔드포인트 중 캐시를 켠 경우에만 적용
+ * - 키: apiCode + HTTP 메서드 + 렌더링된 URL + 지정된 요청 헤더 값
+ * - 로컬 LRU → Redis 순으로 조회 (Redis 조회 결과는 로컬에 적재)
+ * - 대상 응답의 Cache-Control(no-store, private, no-cache, s-maxage, max-age)과 ETag를 따름
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProxyResponseCacheService {
+
+    private final RedisCacheService redisCacheService;
+    private final ObjectMapper objectMapper;
+    private final ProxyProperties proxyProperties;
+
+    private static final String KEY_PREFIX = "PROXY:RESPONSE:";
+    private static final long NOT_STORABLE = -1L;
+
+    // 접근 순서 기반 LRU (최대 항목 수 초과 시 가장 오래전 사용된 항목 제거)
+    private final Map<String, CachedProxyResponse> localCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedProxyResponse> eldest) {
+            return size() > proxyProperties.getResponseCache().getLocalMaxEntries();
+        }
+    };
+
+    /**
+     * 캐시 적용 대상 여부
+     */
+    public boolean isCacheable(ApiEndpoint endpoint) {
+        return Boolean.TRUE.equals(endpoint.getResponseCacheEnabled())
+                && ("GET".equalsIgnoreCase(endpoint.getHttpMethod()) || "HEAD".equalsIgnoreCase(endpoint.getHttpMethod()));
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public String buildKey(ApiEndpoint endpoint, String executedUrl, HttpHeaders requestHeaders) {
+        StringBuilder source = new StringBuilder(executedUrl.length() + 64)
+                .append(endpoint.getHttpMethod().toUpperCase()).append('\n')
+                .append(executedUrl);
+
+        String varyHeaders = endpoint.getResponseCacheVaryHeaders();
+        if (varyHeaders != null && !varyHeaders.isBlank()) {
+            for (String name : varyHeaders.split(",")) {
+                String headerName = name.trim();
+                if (!headerName.isEmpty()) {
+                    source.append('\n').append(headerName.toLowerCase(Locale.ROOT)).append('=')
+                            .append(requestHeaders.getFirst(headerName));
+                }
+            }
+        }
+
+        return KEY_PREFIX + endpoint.getApiCode() + ":"
+                + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 캐시 조회 (보관 기간이 지난 항목은 제외)
+     */
+    public CachedProxyResponse get(String key) {
+        long now = System.currentTimeMillis();
+
+        CachedProxyResponse cached;
+        synchronized (localCache) {
+            cached = localCache.get(key);
+            if (cached != null && !cached.isRetained(now)) {
+                localCache.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            cached = redisCacheService.get(key, CachedProxyResponse.class);
+        } catch (Exception e) {
+            log.warn("Failed to read proxy response cache from Redis: {} - {}", key, e.getMessage());
+            return null;
+        }
+
+        if (cached != null && cached.isRetained(now)) {
+            synchronized (localCache) {
+                localCache.put(key, cached);
+            }
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * 대상 응답 캐시 저장
+     * - no-store/private 응답, 2xx가 아닌 응답, 최대 크기 초과 바디는 저장하지 않음
+     */
+    public void put(String key, ApiEndpoint endpoint, ResponseEntity<String> response) {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return;
+        }
+
+        String body = response.getBody();
+        if (body != null && body.length() > proxyProperties.getResponseCache().getMaxBodyBytes()) {
+            log.debug("Response too large to cache: {} ({} chars)", endpoint.getApiCode(), body.length());
+            return;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        long freshSeconds = freshnessSeconds(headers.getCacheControl(), endpoint);
+        if (freshSeconds == NOT_STORABLE) {
+            return;
+        }
+
+        String etag = headers.getETag();
+        long retainSeconds = etag != null ? Math.max(freshSeconds, ttlOf(endpoint)) : freshSeconds;
+        if (retainSeconds <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedProxyResponse cached = CachedProxyResponse.builder()
+                .statusCode(response.getStatusCode().value())
+                .responseBody(body)
+                .responseHeaders(toJson(headers))
+                .etag(etag)
+                .freshUntil(now + freshSeconds * 1000L)
+                .retainUntil(now + retainSeconds * 1000L)
+                .build();
+
+        store(key, cached, retainSeconds);
+    }
+
+    /**
+     * 304 Not Modified 응답으로 캐시 항목 갱신
+     */
+    public CachedProxyResponse revalidate(String key, ApiEndpoint endpoint, CachedProxyResponse cached,
+                                          HttpHeaders notModifiedHeaders) {
+        long freshSeconds = freshnessSeconds(notModifiedHeaders.getCacheControl(), endpoint);
+        if (freshSeconds == NOT_STORABLE) {
+            evict(key);
+            return cached;
+        }
+
+        long retainSeconds = Math.max(freshSeconds, ttlOf(endpoint));
+        long now = System.currentTimeMillis();
+        CachedProxyResponse refreshed = CachedProxyResponse.builder()
+                .statusCode(cached.getStatusCode())
+                .responseBody(cached.getResponseBody())
+                .responseHeaders(cached.getResponseHeaders())
+                .etag(notModifiedHeaders.getETag() != null ? notModifiedHeaders.getETag() : cached.getEtag())
+                .freshUntil(now + freshSeconds * 1000L)
+                .retainUntil(now + retainSeconds * 1000L)
+                .build();
+
+        if (retainSeconds > 0) {
+            store(key, refreshed, retainSeconds);
+        }
+        return refreshed;
+    }
+
+    /**
+     * 캐시 항목 제거
+     */
+    public void evict(String key) {
+        synchronized (localCache) {
+            localCache.remove(key);
+        }
+        try {
+            redisCacheService.delete(key);
+        } catch (Exception e) {
+            log.warn("Failed to evict proxy response cache from Redis: {} - {}", key, e.getMessage());
+        }
+    }
+
+    private void store(String key, CachedProxyResponse cached, long retainSeconds) {
+        synchronized (localCache) {
+            localCache.put(key, cached);
+        }
+        try {
+            redisCacheService.set(key, cached, retainSeconds);
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 캐시만 사용
+            log.warn("Failed to store proxy response cache to Redis: {} - {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Cache-Control 기반 유효 시간 (초)
+     * - no-store, private: 저장 불가
+     * - no-cache: 저장하되 매번 재검증 (0초)
+     * - s-maxage > max-age > 엔드포인트 기본 TTL 순으로 적용
+     */
+    private long freshnessSeconds(String cacheControl, ApiEndpoint endpoint) {
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return ttlOf(endpoint);
+        }
+
+        Long maxAge = null;
+        Long sharedMaxAge = null;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String value = directive.trim();
+            if (value.equals("no-store") || value.equals("private")) {
+                return NOT_STORABLE;
+            } else if (value.equals("no-cache")) {
+                return 0L;
+            } else if (value.startsWith("s-maxage=")) {
+                sharedMaxAge = parseSeconds(value.substring("s-maxage=".length()));
+            } else if (value.startsWith("max-age=")) {
+                maxAge = parseSeconds(value.substring("max-age=".length()));
+            }
+        }
+
+        if (sharedMaxAge != null) {
+            return sharedMaxAge;
+        }
+        return maxAge != null ? maxAge : ttlOf(endpoint);
+    }
+
+    private Long parseSeconds(String value) {
+        try {
+            return Math.max(0L, Long.parseLong(value.replace("\"", "").trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long ttlOf(ApiEndpoint endpoint) {
+        return endpoint.getResponseCacheTtlSeconds() != null ? Math.max(0, endpoint.getResponseCacheTtlSeconds()) : 0L;
+    }
+
+    private String toJson(HttpHeaders headers) {
+        try {
+            return objectMapper.writeValueAsString(headers.toSingleValueMap());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
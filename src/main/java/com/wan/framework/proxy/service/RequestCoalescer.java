@@ -0,0 +1,302 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wan.framework.proxy.config.ProxyAsyncExecutor;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CoalescingStatsDTO;
+import com.wan.framework.proxy.dto.ProxyExecutionRequest;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Proxy 동시 요청 병합 (request coalescing)
+ * - 같은 API 코드 + 같은 파라미터의 GET/HEAD 요청이 동시에 들어오면 대상 API는 한 번만 호출하고 결과를 공유
+ * - 서버 내: 진행 중인 호출 future를 공유
+ * - 서버 간 (선택): Redis 락을 획득한 서버만 호출하고, 나머지 서버는 결과 키를 짧은 주기로 확인
+ * - 실행 이력은 대표 호출 한 건만 저장됨
+ * - 대기자마다 응답 복사본을 전달 (호출자 간 응답 객체 공유 방지)
+ * - 대기자가 모두 취소하면 공유 호출도 취소 (남은 재시도 중단)
+ * - 병합 키에 deadlineAt이 없으므로 마감 시각이 있는 요청은 병합하지 않음 (ApiExecutionService에서 우회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProxyAsyncExecutor proxyAsyncExecutor;
+    private final ProxyProperties proxyProperties;
+
+    private static final String LOCK_PREFIX = "PROXY:COALESCE:LOCK:";
+    private static final String RESULT_PREFIX = "PROXY:COALESCE:RESULT:";
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaderExecutions = new LongAdder();
+    private final LongAdder localCollapsed = new LongAdder();
+    private final LongAdder remoteCollapsed = new LongAdder();
+    private final LongAdder remoteFallbacks = new LongAdder();
+
+    /**
+     * 병합 대상 여부 (멱등 메서드만)
+     */
+    public boolean isCoalescible(ApiEndpoint endpoint) {
+        return proxyProperties.getCoalescing().isEnabled()
+                && ("GET".equalsIgnoreCase(endpoint.getHttpMethod()) || "HEAD".equalsIgnoreCase(endpoint.getHttpMethod()));
+    }
+
+    /**
+     * 병합 실행
+     *
+     * @param call 실제 호출 (대표 요청일 때만 실행)
+     */
+    public CompletableFuture<ProxyExecutionResponse> execute(
+            ApiEndpoint endpoint,
+            ProxyExecutionRequest request,
+            Supplier<CompletableFuture<ProxyExecutionResponse>> call) {
+
+        String key = buildKey(endpoint, request);
+
+        while (true) {
+            Flight flight = new Flight();
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                // 대기자가 모두 취소한 호출에는 합류하지 않음
+                if (!existing.join()) {
+                    inFlight.remove(key, existing);
+                    continue;
+                }
+                localCollapsed.increment();
+                log.debug("Proxy request collapsed into in-flight call: {}", endpoint.getApiCode());
+                return existing.waiter();
+            }
+
+            flight.join();
+            flight.shared.whenComplete((response, error) -> inFlight.remove(key, flight));
+
+            flight.execution = proxyProperties.getCoalescing().isClusterEnabled()
+                    ? executeClustered(key, call)
+                    : lead(call);
+            propagate(flight.execution, flight.shared);
+
+            return flight.waiter();
+        }
+    }
+
+    /**
+     * 병합 통계
+     */
+    public CoalescingStatsDTO getStats() {
+        return CoalescingStatsDTO.builder()
+                .inFlight(inFlight.size())
+                .leaderExecutions(leaderExecutions.sum())
+                .localCollapsed(localCollapsed.sum())
+                .remoteCollapsed(remoteCollapsed.sum())
+                .remoteFallbacks(remoteFallbacks.sum())
+                .build();
+    }
+
+    /**
+     * 병합 키 (apiCode + 키 정렬된 파라미터 JSON)
+     * - 헤더/URL/바디는 모두 파라미터로 렌더링되므로 파라미터가 같으면 같은 요청
+     */
+    String buildKey(ApiEndpoint endpoint, ProxyExecutionRequest request) {
+        String parameters;
+        try {
+            Map<String, Object> sorted = request.getParameters() != null ? new TreeMap<>(request.getParameters()) : Map.of();
+            parameters = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsString(sorted);
+        } catch (Exception e) {
+            parameters = String.valueOf(request.getParameters());
+        }
+        return endpoint.getApiCode() + ":" + DigestUtils.md5DigestAsHex(
+                (endpoint.getHttpMethod().toUpperCase() + "\n" + parameters).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CompletableFuture<ProxyExecutionResponse> lead(Supplier<CompletableFuture<ProxyExecutionResponse>> call) {
+        leaderExecutions.increment();
+        try {
+            return call.get();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 서버 간 병합
+     * - 락 획득 시 대표 호출 후 결과 키 기록
+     * - 락 미획득 시 결과 키 대기 (락 해제/시간 초과/Redis 장애 시 직접 호출)
+     */
+    private CompletableFuture<ProxyExecutionResponse> executeClustered(
+            String key, Supplier<CompletableFuture<ProxyExecutionResponse>> call) {
+        ProxyProperties.Coalescing config = proxyProperties.getCoalescing();
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_PREFIX + key, token, Duration.ofMillis(config.getLockTtlMs()));
+        } catch (Exception e) {
+            log.warn("Failed to acquire coalescing lock, executing directly: {} - {}", key, e.getMessage());
+            return lead(call);
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            return lead(call).whenComplete((response, error) -> publish(key, token, response));
+        }
+
+        CompletableFuture<ProxyExecutionResponse> result = new CompletableFuture<>();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMs());
+        awaitRemote(key, call, result, deadlineNanos);
+        return result;
+    }
+
+    /**
+     * 대표 호출 결과 기록 후 락 해제 (결과를 먼저 기록해야 대기 서버가 락 해제 전에 결과를 확인)
+     */
+    private void publish(String key, String token, ProxyExecutionResponse response) {
+        try {
+            if (response != null) {
+                stringRedisTemplate.opsForValue().set(RESULT_PREFIX + key, objectMapper.writeValueAsString(response),
+                        Duration.ofMillis(proxyProperties.getCoalescing().getResultTtlMs()));
+            }
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + key), token);
+        } catch (Exception e) {
+            log.warn("Failed to publish coalesced proxy result: {} - {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버의 대표 호출 결과 확인 (타이머로 재확인, 스레드 대기 없음)
+     */
+    private void awaitRemote(String key, Supplier<CompletableFuture<ProxyExecutionResponse>> call,
+                             CompletableFuture<ProxyExecutionResponse> result, long deadlineNanos) {
+        if (result.isDone()) {
+            // 대기자가 모두 취소함
+            return;
+        }
+        try {
+            String json = stringRedisTemplate.opsForValue().get(RESULT_PREFIX + key);
+            if (json != null) {
+                remoteCollapsed.increment();
+                result.complete(objectMapper.readValue(json, ProxyExecutionResponse.class));
+                return;
+            }
+
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOCK_PREFIX + key))
+                    || System.nanoTime() - deadlineNanos > 0) {
+                remoteFallbacks.increment();
+                propagate(lead(call), result);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read coalesced proxy result, executing directly: {} - {}", key, e.getMessage());
+            remoteFallbacks.increment();
+            propagate(lead(call), result);
+            return;
+        }
+
+        proxyAsyncExecutor.schedule(() -> awaitRemote(key, call, result, deadlineNanos),
+                proxyProperties.getCoalescing().getPollIntervalMs());
+    }
+
+    private void propagate(CompletableFuture<ProxyExecutionResponse> source, CompletableFuture<ProxyExecutionResponse> target) {
+        source.whenComplete((response, error) -> {
+            if (error != null) {
+                target.completeExceptionally(error);
+            } else {
+                target.complete(response);
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 병합 호출
+     * - 대기자 수를 세어 마지막 대기자가 취소하면 실제 호출까지 취소
+     */
+    private class Flight {
+        private final CompletableFuture<ProxyExecutionResponse> shared = new CompletableFuture<>();
+        private volatile CompletableFuture<ProxyExecutionResponse> execution;
+        private int waiters;
+        private boolean abandoned;
+
+        private synchronized boolean join() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        /**
+         * 대기자별 응답 복사본 (취소 시 대기자 수 감소)
+         */
+        private CompletableFuture<ProxyExecutionResponse> waiter() {
+            CompletableFuture<ProxyExecutionResponse> waiter = shared.thenApply(RequestCoalescer.this::copy);
+            waiter.whenComplete((response, error) -> {
+                if (waiter.isCancelled()) {
+                    leave();
+                }
+            });
+            return waiter;
+        }
+
+        private void leave() {
+            synchronized (this) {
+                if (--waiters > 0 || shared.isDone()) {
+                    return;
+                }
+                abandoned = true;
+            }
+            log.debug("All coalesced waiters cancelled, cancelling shared call");
+            CompletableFuture<ProxyExecutionResponse> running = execution;
+            if (running != null) {
+                running.cancel(true);
+            }
+            shared.cancel(true);
+        }
+    }
+
+    private ProxyExecutionResponse copy(ProxyExecutionResponse response) {
+        return ProxyExecutionResponse.builder()
+                .executionHistoryId(response.getExecutionHistoryId())
+                .apiCode(response.getApiCode())
+                .isSuccess(response.getIsSuccess())
+                .statusCode(response.getStatusCode())
+                .responseBody(response.getResponseBody())
+                .errorMessage(response.getErrorMessage())
+                .executionTimeMs(response.getExecutionTimeMs())
+                .retryAttempt(response.getRetryAttempt())
+                .executedAt(response.getExecutedAt())
+                .cacheStatus(response.getCacheStatus())
+                .branches(response.getBranches())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.wan.framework.proxy.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 호출 마감 시각 (epoch 밀리초, 호출 스레드 한정)
+ * - ApiExecutionService가 시도 직전에 설정하고, HTTP 요청 팩토리가 연결/읽기 타임아웃을 남은 시간으로 줄임
+ * - 마감이 없는 호출은 remainingMillis()가 null
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * 마감 시각을 설정한 상태로 호출
+     *
+     * @param deadlineAt 마감 시각 (null이면 마감 없음)
+     */
+    public static <T> T call(Long deadlineAt, Supplier<T> call) {
+        if (deadlineAt == null) {
+            return call.get();
+        }
+        CURRENT.set(deadlineAt);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드 호출의 남은 시간 (마감이 없으면 null, 지났으면 0 이하)
+     */
+    public static Long remainingMillis() {
+        Long deadlineAt = CURRENT.get();
+        return deadlineAt != null ? deadlineAt - System.currentTimeMillis() : null;
+    }
+
+    /**
+     * 마감 시각이 지났는지 여부
+     */
+    public static boolean isExpired(Long deadlineAt) {
+        return deadlineAt != null && System.currentTimeMillis() >= deadlineAt;
+    }
+
+    /**
+     * 마감 시각까지 delayMs를 기다릴 수 있는지 여부
+     */
+    public static boolean allows(Long deadlineAt, long delayMs) {
+        return deadlineAt == null || System.currentTimeMillis() + delayMs < deadlineAt;
+    }
+}
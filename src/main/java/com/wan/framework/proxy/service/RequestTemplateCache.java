@@ -0,0 +1,148 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.exception.ProxyException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 엔드포인트 요청 템플릿 캐시
+ * - URL / 헤더 / 바디 템플릿을 엔드포인트 ID + 버전(수정일시) 단위로 한 번만 컴파일
+ * - 엔드포인트가 수정되면 버전이 바뀌어 다음 호출 시 재컴파일
+ * - 헤더 템플릿 JSON은 컴파일 시점에 미리 파싱 (파싱 불가 시 렌더링 후 파싱)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestTemplateCache {
+
+    private final ObjectMapper objectMapper;
+
+    // 엔드포인트 ID -> 최신 버전 컴파일 결과
+    private final Map<Long, EndpointTemplates> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 엔드포인트 컴파일 템플릿 조회
+     */
+    public EndpointTemplates get(ApiEndpoint endpoint) {
+        if (endpoint.getId() == null) {
+            return compile(endpoint);
+        }
+
+        LocalDateTime version = versionOf(endpoint);
+        EndpointTemplates cached = cache.get(endpoint.getId());
+        if (cached != null && Objects.equals(cached.version, version)) {
+            return cached;
+        }
+
+        EndpointTemplates compiled = compile(endpoint);
+        cache.put(endpoint.getId(), compiled);
+        log.debug("Request templates compiled: {} (version: {})", endpoint.getApiCode(), version);
+        return compiled;
+    }
+
+    /**
+     * 엔드포인트 캐시 제거
+     */
+    public void evict(Long endpointId) {
+        cache.remove(endpointId);
+    }
+
+    private EndpointTemplates compile(ApiEndpoint endpoint) {
+        CompiledTemplate url = CompiledTemplate.compile(
+                endpoint.getTargetUrl(), CompiledTemplate.Escaping.URL, objectMapper);
+
+        CompiledTemplate body = null;
+        if (endpoint.getRequestBodyTemplate() != null && !endpoint.getRequestBodyTemplate().isEmpty()) {
+            body = CompiledTemplate.compile(endpoint.getRequestBodyTemplate(), CompiledTemplate.Escaping.JSON, objectMapper);
+        }
+
+        Map<String, CompiledTemplate> headers = Map.of();
+        CompiledTemplate headerDocument = null;
+        String headerTemplate = endpoint.getRequestHeaders();
+        if (headerTemplate != null && !headerTemplate.isEmpty()) {
+            try {
+                Map<String, String> parsed = objectMapper.readValue(headerTemplate, new TypeReference<>() {});
+                Map<String, CompiledTemplate> compiledHeaders = new LinkedHashMap<>();
+                parsed.forEach((name, value) -> compiledHeaders.put(name,
+                        CompiledTemplate.compile(String.valueOf(value), CompiledTemplate.Escaping.NONE, objectMapper)));
+                headers = compiledHeaders;
+            } catch (Exception e) {
+                // 변수가 JSON 구조 안에 있어 사전 파싱이 불가능한 경우 렌더링 후 파싱
+                log.debug("Header template is not pre-parsable, falling back to per-call parsing: {}",
+                        endpoint.getApiCode());
+                headerDocument = CompiledTemplate.compile(headerTemplate, CompiledTemplate.Escaping.JSON, objectMapper);
+            }
+        }
+
+        return new EndpointTemplates(versionOf(endpoint), url, body, headers, headerDocument, objectMapper);
+    }
+
+    private LocalDateTime versionOf(ApiEndpoint endpoint) {
+        return endpoint.getUpdatedAt() != null ? endpoint.getUpdatedAt() : endpoint.getCreatedAt();
+    }
+
+    /**
+     * 엔드포인트 단위 컴파일 템플릿
+     */
+    public static class EndpointTemplates {
+        private final LocalDateTime version;
+        private final CompiledTemplate url;
+        private final CompiledTemplate body;
+        private final Map<String, CompiledTemplate> headers;
+        private final CompiledTemplate headerDocument;
+        private final ObjectMapper objectMapper;
+
+        private EndpointTemplates(LocalDateTime version, CompiledTemplate url, CompiledTemplate body,
+                                  Map<String, CompiledTemplate> headers, CompiledTemplate headerDocument,
+                                  ObjectMapper objectMapper) {
+            this.version = version;
+            this.url = url;
+            this.body = body;
+            this.headers = headers;
+            this.headerDocument = headerDocument;
+            this.objectMapper = objectMapper;
+        }
+
+        /**
+         * URL 렌더링 (경로/쿼리 값 URL 인코딩)
+         */
+        public String renderUrl(Map<String, Object> parameters) {
+            return url.render(parameters);
+        }
+
+        /**
+         * 바디 렌더링 (JSON 이스케이프), 바디 템플릿이 없으면 null
+         */
+        public String renderBody(Map<String, Object> parameters) {
+            return body != null ? body.render(parameters) : null;
+        }
+
+        /**
+         * 헤더 렌더링
+         */
+        public Map<String, String> renderHeaders(Map<String, Object> parameters) {
+            if (headerDocument != null) {
+                try {
+                    return objectMapper.readValue(headerDocument.render(parameters), new TypeReference<>() {});
+                } catch (Exception e) {
+                    throw new ProxyException(ProxyExceptionMessage.TEMPLATE_PARSING_FAILED, e);
+                }
+            }
+
+            Map<String, String> rendered = new LinkedHashMap<>(headers.size() * 2);
+            headers.forEach((name, value) -> rendered.put(name, value.render(parameters)));
+            return rendered;
+        }
+    }
+}
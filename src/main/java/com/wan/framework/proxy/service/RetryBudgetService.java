@@ -0,0 +1,106 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.config.ProxyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재시도 예산 서비스
+ * - 엔드포인트별 요청/재시도 수를 Redis 윈도우 카운터로 집계 (클러스터 공유)
+ * - 재시도는 윈도우 내 요청 수 * retryBudgetPercent% (최소 보장치 포함)까지만 허용
+ * - Redis 장애 시에는 재시도를 허용 (fail-open)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetryBudgetService {
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ProxyProperties proxyProperties;
+
+    private static final String KEY_PREFIX = "PROXY:RETRY_BUDGET:";
+
+    /**
+     * KEYS[1] = 요청 카운터, KEYS[2] = 재시도 카운터
+     * ARGV[1] = 예산 비율(%), ARGV[2] = 최소 재시도 수, ARGV[3] = TTL(초)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local requests = tonumber(redis.call('get', KEYS[1]) or '0')
+            local retries = tonumber(redis.call('get', KEYS[2]) or '0')
+            local budget = math.max(tonumber(ARGV[2]), math.floor(requests * tonumber(ARGV[1]) / 100))
+            if retries >= budget then
+                return 0
+            end
+            redis.call('incr', KEYS[2])
+            redis.call('expire', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 최초 요청 기록
+     */
+    public void recordRequest(String apiCode) {
+        try {
+            String key = requestKey(apiCode, currentWindow());
+            stringRedisTemplate.opsForValue().increment(key);
+            stringRedisTemplate.expire(key, Duration.ofSeconds(keyTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("Failed to record proxy request for retry budget: {} - {}", apiCode, e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 예산 획득 시도
+     *
+     * @param apiCode       API 코드
+     * @param budgetPercent 요청 대비 허용 재시도 비율 (%)
+     * @return 재시도 가능 여부
+     */
+    public boolean tryAcquireRetry(String apiCode, Integer budgetPercent) {
+        if (budgetPercent == null || budgetPercent >= 100) {
+            return true;
+        }
+
+        try {
+            long window = currentWindow();
+            Long result = stringRedisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(requestKey(apiCode, window), retryKey(apiCode, window)),
+                    String.valueOf(Math.max(0, budgetPercent)),
+                    String.valueOf(proxyProperties.getRetry().getMinRetriesPerWindow()),
+                    String.valueOf(keyTtlSeconds())
+            );
+
+            boolean acquired = result != null && result == 1L;
+            if (!acquired) {
+                log.warn("Retry budget exhausted: {} ({}%)", apiCode, budgetPercent);
+            }
+            return acquired;
+        } catch (Exception e) {
+            log.warn("Failed to check retry budget, allowing retry: {} - {}", apiCode, e.getMessage());
+            return true;
+        }
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / 1000L / proxyProperties.getRetry().getBudgetWindowSeconds();
+    }
+
+    private long keyTtlSeconds() {
+        return proxyProperties.getRetry().getBudgetWindowSeconds() * 2L;
+    }
+
+    private String requestKey(String apiCode, long window) {
+        return KEY_PREFIX + apiCode + ":" + window + ":requests";
+    }
+
+    private String retryKey(String apiCode, long window) {
+        return KEY_PREFIX + apiCode + ":" + window + ":retries";
+    }
+}
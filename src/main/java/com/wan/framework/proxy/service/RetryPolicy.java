@@ -0,0 +1,126 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.domain.ApiEndpoint;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * API 엔드포인트 재시도 정책
+ * - 지수 백오프 + Full Jitter (대기 = random(0, min(maxInterval, base * multiplier^n)))
+ * - 재시도 대상 HTTP 상태 코드 / 예외 클래스 판별
+ * - 최대 경과 시간 제한
+ * - 재시도 대상 상태 코드/예외 미설정(null, 빈 값) 시 엔티티 기본값 사용 (기존 행/DTO로 생성된 행)
+ */
+public class RetryPolicy {
+
+    private static final double DEFAULT_MULTIPLIER = 2.0;
+    private static final long DEFAULT_MAX_INTERVAL_MS = 30000L;
+    private static final String DEFAULT_RETRYABLE_STATUS_CODES = "408,429,502,503,504";
+    private static final String DEFAULT_RETRYABLE_EXCEPTIONS = "ResourceAccessException,SocketTimeoutException,ConnectException";
+
+    private final int maxRetries;
+    private final long baseIntervalMs;
+    private final double multiplier;
+    private final long maxIntervalMs;
+    private final long maxElapsedMs;
+    private final Set<String> retryableStatusCodes;
+    private final Set<String> retryableExceptions;
+    private final LongUnaryOperator jitter;
+
+    RetryPolicy(ApiEndpoint endpoint, LongUnaryOperator jitter) {
+        this.maxRetries = endpoint.getRetryCount() != null ? endpoint.getRetryCount() : 0;
+        this.baseIntervalMs = endpoint.getRetryIntervalMs() != null ? endpoint.getRetryIntervalMs() : 0L;
+        this.multiplier = endpoint.getRetryBackoffMultiplier() != null && endpoint.getRetryBackoffMultiplier() >= 1.0
+                ? endpoint.getRetryBackoffMultiplier() : DEFAULT_MULTIPLIER;
+        this.maxIntervalMs = endpoint.getRetryMaxIntervalMs() != null
+                ? endpoint.getRetryMaxIntervalMs() : DEFAULT_MAX_INTERVAL_MS;
+        this.maxElapsedMs = endpoint.getRetryMaxElapsedMs() != null && endpoint.getRetryMaxElapsedMs() > 0
+                ? endpoint.getRetryMaxElapsedMs() : Long.MAX_VALUE;
+        this.retryableStatusCodes = splitToSet(endpoint.getRetryableStatusCodes(), DEFAULT_RETRYABLE_STATUS_CODES);
+        this.retryableExceptions = splitToSet(endpoint.getRetryableExceptions(), DEFAULT_RETRYABLE_EXCEPTIONS);
+        this.jitter = jitter;
+    }
+
+    /**
+     * 엔드포인트 설정으로 정책 생성
+     */
+    public static RetryPolicy of(ApiEndpoint endpoint) {
+        return new RetryPolicy(endpoint, bound -> bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+
+    /**
+     * 재시도 횟수가 남았는지 확인
+     *
+     * @param retryAttempt 현재 시도 번호 (0 = 최초 시도)
+     */
+    public boolean hasRetriesLeft(int retryAttempt) {
+        return retryAttempt < maxRetries;
+    }
+
+    /**
+     * HTTP 상태 코드 재시도 대상 여부
+     * - "503" 같은 정확한 코드 또는 "5xx" 형태 지원
+     */
+    public boolean isRetryableStatus(Integer statusCode) {
+        if (statusCode == null) {
+            return false;
+        }
+        String code = String.valueOf(statusCode);
+        return retryableStatusCodes.contains(code)
+                || retryableStatusCodes.contains(code.charAt(0) + "xx");
+    }
+
+    /**
+     * 예외 재시도 대상 여부
+     * - 원인 체인의 각 예외와 상위 클래스를 단순 클래스명/FQCN으로 비교
+     */
+    public boolean isRetryableException(Throwable throwable) {
+        Throwable current = throwable;
+        int depth = 0;
+        while (current != null && depth++ < 10) {
+            for (Class<?> type = current.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                if (retryableExceptions.contains(type.getSimpleName().toLowerCase())
+                        || retryableExceptions.contains(type.getName().toLowerCase())) {
+                    return true;
+                }
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 다음 재시도 대기 시간 (Full Jitter)
+     *
+     * @param retryAttempt 현재 시도 번호 (0 = 최초 시도)
+     * @return 대기 시간 (밀리초)
+     */
+    public long nextDelayMs(int retryAttempt) {
+        double ceiling = baseIntervalMs * Math.pow(multiplier, retryAttempt);
+        long bound = (long) Math.min(maxIntervalMs, ceiling);
+        return jitter.applyAsLong(bound);
+    }
+
+    /**
+     * 대기 후 재시도해도 최대 경과 시간을 넘지 않는지 확인
+     *
+     * @param elapsedMs 최초 시도부터 경과 시간
+     * @param delayMs   예정된 대기 시간
+     */
+    public boolean withinMaxElapsed(long elapsedMs, long delayMs) {
+        return elapsedMs + delayMs <= maxElapsedMs;
+    }
+
+    private static Set<String> splitToSet(String csv, String defaultCsv) {
+        String value = csv == null || csv.isBlank() ? defaultCsv : csv;
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
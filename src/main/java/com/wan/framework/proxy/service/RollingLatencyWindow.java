@@ -0,0 +1,111 @@
+package com.wan.framework.proxy.service;
+
+/**
+ * 롤링 지연 시간 윈도우 (히스토그램 링 버퍼)
+ * - 시간 버킷마다 히스토그램(마이크로초) + 호출/실패 수를 보관
+ * - 조회 시 윈도우에 포함된 버킷만 합산 (만료 버킷은 다음 기록 시 재사용)
+ * - 버킷 히스토그램은 해당 버킷에 첫 기록이 있을 때 생성
+ */
+public class RollingLatencyWindow {
+
+    private final long bucketMillis;
+    private final long highestTrackableMicros;
+    private final Bucket[] buckets;
+
+    public RollingLatencyWindow(long bucketMillis, int bucketCount, long highestTrackableMicros) {
+        this.bucketMillis = Math.max(1L, bucketMillis);
+        this.highestTrackableMicros = Math.max(2L, highestTrackableMicros);
+        // 진행 중인 버킷 1개 추가 보관
+        this.buckets = new Bucket[Math.max(1, bucketCount) + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 지연 시간 기록
+     */
+    public void record(long nanos, boolean failed, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Bucket bucket = buckets[(int) (epoch % buckets.length)];
+        long micros = Math.min(Math.max(0L, nanos / 1000L), highestTrackableMicros);
+
+        synchronized (bucket) {
+            if (bucket.epoch != epoch) {
+                bucket.reset(epoch);
+            }
+            if (bucket.histogram == null) {
+                bucket.histogram = new LatencyHistogram(highestTrackableMicros);
+            }
+            bucket.histogram.record(micros);
+            bucket.calls++;
+            if (failed) {
+                bucket.failures++;
+            }
+        }
+    }
+
+    /**
+     * 최근 windowBuckets개 버킷 합산
+     */
+    public Snapshot snapshot(int windowBuckets, long nowMillis) {
+        long currentEpoch = nowMillis / bucketMillis;
+        long oldestEpoch = currentEpoch - Math.min(Math.max(1, windowBuckets), buckets.length - 1) + 1;
+
+        LatencyHistogram merged = new LatencyHistogram(highestTrackableMicros);
+        long calls = 0L;
+        long failures = 0L;
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                if (bucket.epoch >= oldestEpoch && bucket.epoch <= currentEpoch && bucket.histogram != null) {
+                    merged.add(bucket.histogram);
+                    calls += bucket.calls;
+                    failures += bucket.failures;
+                }
+            }
+        }
+        return new Snapshot(merged, calls, failures);
+    }
+
+    /**
+     * 윈도우 합산 결과
+     *
+     * @param histogram 지연 시간 히스토그램 (마이크로초)
+     * @param calls     호출 수
+     * @param failures  실패 수
+     */
+    public record Snapshot(LatencyHistogram histogram, long calls, long failures) {
+
+        public double percentileMs(double percentile) {
+            return calls == 0 ? 0.0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double meanMs() {
+            return calls == 0 ? 0.0 : histogram.getMean() / 1000.0;
+        }
+
+        public double maxMs() {
+            return calls == 0 ? 0.0 : histogram.getMaxValue() / 1000.0;
+        }
+
+        public double errorRate() {
+            return calls == 0 ? 0.0 : failures * 100.0 / calls;
+        }
+    }
+
+    private static class Bucket {
+        private long epoch = -1L;
+        private LatencyHistogram histogram;
+        private long calls;
+        private long failures;
+
+        private void reset(long newEpoch) {
+            epoch = newEpoch;
+            calls = 0L;
+            failures = 0L;
+            if (histogram != null) {
+                histogram.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wan.framework.proxy.web;
+
+import com.wan.framework.proxy.dto.ApiCompositeDTO;
+import com.wan.framework.proxy.service.ApiCompositeService;
+import com.wan.framework.session.dto.SessionDTO;
+import com.wan.framework.session.service.SessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 복합 API 관리 컨트롤러
+ * - 복합 API 메타 정보 CRUD
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api-composites")
+@RequiredArgsConstructor
+public class ApiCompositeController {
+
+    private final ApiCompositeService apiCompositeService;
+    private final SessionService sessionService;
+
+    /**
+     * 복합 API 생성
+     */
+    @PostMapping
+    public ResponseEntity<ApiCompositeDTO> createApiComposite(@RequestBody ApiCompositeDTO dto, HttpServletRequest request) {
+        log.info("Creating API composite: {}", dto.getCompositeCode());
+        SessionDTO sessionDTO = sessionService.getCurrentSession(request);
+        dto.setCreatedBy(sessionDTO.getUserId());
+        ApiCompositeDTO created = apiCompositeService.createApiComposite(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * 복합 API 수정
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiCompositeDTO> updateApiComposite(
+            @PathVariable Long id,
+            @RequestBody ApiCompositeDTO dto) {
+        log.info("Updating API composite: {}", id);
+        ApiCompositeDTO updated = apiCompositeService.updateApiComposite(id, dto);
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * 복합 API 삭제
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteApiComposite(@PathVariable Long id) {
+        log.info("Deleting API composite: {}", id);
+        apiCompositeService.deleteApiComposite(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 복합 API 조회
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiCompositeDTO> getApiComposite(@PathVariable Long id) {
+        return ResponseEntity.ok(apiCompositeService.getApiComposite(id));
+    }
+
+    /**
+     * 복합 API 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<Page<ApiCompositeDTO>> getAllApiComposites(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(apiCompositeService.getAllApiComposites(page, size));
+    }
+}
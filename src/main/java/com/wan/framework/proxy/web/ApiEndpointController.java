@@ -1,7 +1,9 @@
 package com.wan.framework.proxy.web;
 
 import com.wan.framework.proxy.dto.ApiEndpointDTO;
+import com.wan.framework.proxy.dto.CircuitBreakerStatusDTO;
 import com.wan.framework.proxy.service.ApiEndpointService;
+import com.wan.framework.proxy.service.CircuitBreakerService;
 import com.wan.framework.session.dto.SessionDTO;
 import com.wan.framework.session.service.SessionService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,9 +14,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * API 엔드포인트 관리 컨트롤러
  * - API 메타 정보 CRUD
+ * - 서킷 브레이커 상태 조회 및 초기화
  */
 @Slf4j
 @RestController
@@ -24,6 +29,7 @@ public class ApiEndpointController {
 
     private final ApiEndpointService apiEndpointService;
     private final SessionService sessionService;
+    private final CircuitBreakerService circuitBreakerService;
 
     /**
      * API 엔드포인트 생성
@@ -99,4 +105,31 @@ public class ApiEndpointController {
         ApiEndpointDTO toggled = apiEndpointService.toggleApiEndpoint(id);
         return ResponseEntity.ok(toggled);
     }
+
+    /**
+     * 서킷 브레이커 상태 목록 조회 (호출 이력이 있는 엔드포인트)
+     */
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<List<CircuitBreakerStatusDTO>> getCircuitBreakers() {
+        return ResponseEntity.ok(circuitBreakerService.getAllStatuses());
+    }
+
+    /**
+     * API 엔드포인트 서킷 브레이커 상태 조회
+     */
+    @GetMapping("/{id}/circuit-breaker")
+    public ResponseEntity<CircuitBreakerStatusDTO> getCircuitBreaker(@PathVariable Long id) {
+        ApiEndpointDTO dto = apiEndpointService.getApiEndpoint(id);
+        return ResponseEntity.ok(circuitBreakerService.getStatus(dto.getApiCode()));
+    }
+
+    /**
+     * API 엔드포인트 서킷 브레이커 초기화 (CLOSED)
+     */
+    @PostMapping("/{id}/circuit-breaker/reset")
+    public ResponseEntity<CircuitBreakerStatusDTO> resetCircuitBreaker(@PathVariable Long id) {
+        ApiEndpointDTO dto = apiEndpointService.getApiEndpoint(id);
+        log.info("Resetting circuit breaker: {} ({})", id, dto.getApiCode());
+        return ResponseEntity.ok(circuitBreakerService.reset(dto.getApiCode()));
+    }
 }
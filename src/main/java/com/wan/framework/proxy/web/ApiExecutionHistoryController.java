@@ -1,5 +1,6 @@
 package com.wan.framework.proxy.web;
 
+import com.wan.framework.base.dto.CursorPage;
 import com.wan.framework.proxy.dto.ApiExecutionHistoryDTO;
 import com.wan.framework.proxy.service.ApiExecutionHistoryService;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +47,17 @@ public class ApiExecutionHistoryController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * API 엔드포인트별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/endpoint/{apiEndpointId}/cursor")
+    public ResponseEntity<CursorPage<ApiExecutionHistoryDTO>> getHistoryByEndpointCursor(
+            @PathVariable Long apiEndpointId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(executionHistoryService.getHistoryByEndpoint(apiEndpointId, cursor, size));
+    }
+
     /**
      * API 코드별 실행 이력 조회
      */
@@ -58,6 +70,17 @@ public class ApiExecutionHistoryController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * API 코드별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/api-code/{apiCode}/cursor")
+    public ResponseEntity<CursorPage<ApiExecutionHistoryDTO>> getHistoryByApiCodeCursor(
+            @PathVariable String apiCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(executionHistoryService.getHistoryByApiCode(apiCode, cursor, size));
+    }
+
     /**
      * 기간별 실행 이력 조회
      */
@@ -81,6 +104,17 @@ public class ApiExecutionHistoryController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * 성공/실패별 실행 이력 조회 (커서, 건수 미집계)
+     */
+    @GetMapping("/success/{isSuccess}/cursor")
+    public ResponseEntity<CursorPage<ApiExecutionHistoryDTO>> getHistoryBySuccessCursor(
+            @PathVariable Boolean isSuccess,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(executionHistoryService.getHistoryBySuccess(isSuccess, cursor, size));
+    }
+
     /**
      * 최근 실행 이력 조회
      */
@@ -1,20 +1,40 @@
 package com.wan.framework.proxy.web;
 
+import com.wan.framework.proxy.constant.AsyncExecutionStatus;
 import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiComposite;
 import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CoalescingStatsDTO;
+import com.wan.framework.proxy.dto.ProxyAsyncExecutionResponse;
 import com.wan.framework.proxy.dto.ProxyExecutionRequest;
 import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import com.wan.framework.proxy.dto.ProxyLatencyStatsDTO;
 import com.wan.framework.proxy.exception.ProxyException;
+import com.wan.framework.proxy.service.ApiCompositeExecutionService;
+import com.wan.framework.proxy.service.ApiCompositeService;
 import com.wan.framework.proxy.service.ApiEndpointService;
 import com.wan.framework.proxy.service.ApiExecutionService;
+import com.wan.framework.proxy.service.ProxyAsyncExecutionRegistry;
+import com.wan.framework.proxy.service.ProxyLatencyRecorder;
+import com.wan.framework.proxy.service.RequestCoalescer;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
 /**
  * Proxy API 컨트롤러
  * - 공통 실행 엔드포인트
+ * - 스트리밍 실행
+ * - 비동기 실행 및 결과 조회
+ * - 복합 API 실행
+ * - 동시 요청 병합 통계
+ * - 실행 지연 / 오류율 통계
  */
 @Slf4j
 @RestController
@@ -24,6 +44,11 @@ public class ProxyApiController {
 
     private final ApiEndpointService apiEndpointService;
     private final ApiExecutionService apiExecutionService;
+    private final ProxyAsyncExecutionRegistry proxyAsyncExecutionRegistry;
+    private final ApiCompositeService apiCompositeService;
+    private final ApiCompositeExecutionService apiCompositeExecutionService;
+    private final RequestCoalescer requestCoalescer;
+    private final ProxyLatencyRecorder latencyRecorder;
 
     /**
      * Proxy API 실행
@@ -33,6 +58,133 @@ public class ProxyApiController {
     public ResponseEntity<ProxyExecutionResponse> executeApi(@RequestBody ProxyExecutionRequest request) {
         log.info("Proxy API execution requested: {}", request.getApiCode());
 
+        ApiEndpoint endpoint = getExecutableEndpoint(request);
+
+        // API 실행
+        ProxyExecutionResponse response = apiExecutionService.execute(endpoint, request);
+
+        log.info("Proxy API execution completed: {} (success: {})",
+                request.getApiCode(), response.getIsSuccess());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Proxy API 스트리밍 실행
+     * POST /proxy/execute-stream
+     * - 대상 응답의 상태 코드와 바디를 그대로 스트리밍 전달 (대용량 응답용)
+     * - 재시도 / 응답 캐시 미적용
+     */
+    @PostMapping("/execute-stream")
+    public void executeApiStreaming(
+            @RequestBody ProxyExecutionRequest request,
+            HttpServletResponse servletResponse) throws IOException {
+        log.info("Proxy API streaming execution requested: {}", request.getApiCode());
+
+        ApiEndpoint endpoint = getExecutableEndpoint(request);
+
+        ProxyExecutionResponse response = apiExecutionService.executeStreaming(
+                endpoint,
+                request,
+                (statusCode, headers) -> {
+                    servletResponse.setStatus(statusCode);
+                    if (headers != null && headers.getContentType() != null) {
+                        servletResponse.setContentType(headers.getContentType().toString());
+                    }
+                },
+                servletResponse.getOutputStream()
+        );
+
+        log.info("Proxy API streaming execution completed: {} (success: {})",
+                request.getApiCode(), response.getIsSuccess());
+    }
+
+    /**
+     * Proxy API 비동기 실행
+     * POST /proxy/execute-async
+     * - 202 Accepted + 실행 ID 반환
+     */
+    @PostMapping("/execute-async")
+    public ResponseEntity<ProxyAsyncExecutionResponse> executeApiAsync(@RequestBody ProxyExecutionRequest request) {
+        log.info("Proxy API async execution requested: {}", request.getApiCode());
+
+        ApiEndpoint endpoint = getExecutableEndpoint(request);
+
+        // API 비동기 실행
+        ProxyAsyncExecutionResponse accepted = proxyAsyncExecutionRegistry.register(
+                endpoint.getApiCode(),
+                apiExecutionService.executeAsync(endpoint, request)
+        );
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/proxy/executions/" + accepted.getExecutionId()))
+                .body(accepted);
+    }
+
+    /**
+     * Proxy API 비동기 실행 결과 조회
+     * GET /proxy/executions/{executionId}
+     * - 실행 중: 202, 완료: 200
+     */
+    @GetMapping("/executions/{executionId}")
+    public ResponseEntity<ProxyAsyncExecutionResponse> getAsyncExecution(@PathVariable String executionId) {
+        ProxyAsyncExecutionResponse execution = proxyAsyncExecutionRegistry.getExecution(executionId);
+
+        if (AsyncExecutionStatus.RUNNING.name().equals(execution.getStatus())) {
+            return ResponseEntity.accepted().body(execution);
+        }
+        return ResponseEntity.ok(execution);
+    }
+
+    /**
+     * 복합 API 실행
+     * POST /proxy/composites/{compositeCode}/execute
+     * - 요청 파라미터는 모든 브랜치에 공통 전달
+     */
+    @PostMapping("/composites/{compositeCode}/execute")
+    public ResponseEntity<ProxyExecutionResponse> executeComposite(
+            @PathVariable String compositeCode,
+            @RequestBody ProxyExecutionRequest request) {
+        log.info("API composite execution requested: {}", compositeCode);
+
+        ApiComposite composite = apiCompositeService.getApiCompositeByCode(compositeCode);
+
+        // 활성화 여부 확인
+        if (!composite.getIsEnabled()) {
+            throw new ProxyException(ProxyExceptionMessage.API_COMPOSITE_DISABLED);
+        }
+
+        ProxyExecutionResponse response = apiCompositeExecutionService.execute(composite, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 동시 요청 병합 통계 조회
+     * GET /proxy/coalescing
+     */
+    @GetMapping("/coalescing")
+    public ResponseEntity<CoalescingStatsDTO> getCoalescingStats() {
+        return ResponseEntity.ok(requestCoalescer.getStats());
+    }
+
+    /**
+     * 실행 지연 / 오류율 통계 조회 (서버 메모리 롤링 윈도우)
+     * GET /proxy/stats?windowSeconds=300&apiCode=...
+     * - p50/p95/p99, 평균, 최대, 오류율
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<ProxyLatencyStatsDTO>> getLatencyStats(
+            @RequestParam(defaultValue = "300") long windowSeconds,
+            @RequestParam(required = false) String apiCode) {
+        return ResponseEntity.ok(latencyRecorder.getStats(windowSeconds, apiCode));
+    }
+
+    /**
+     * 실행 가능한 API 엔드포인트 조회
+     * - API 코드 필수 검증
+     * - 활성화 여부 확인
+     */
+    private ApiEndpoint getExecutableEndpoint(ProxyExecutionRequest request) {
         // API 코드 필수 검증
         if (request.getApiCode() == null || request.getApiCode().isEmpty()) {
             throw new ProxyException(ProxyExceptionMessage.MISSING_REQUIRED_PARAMETER);
@@ -46,12 +198,6 @@ public class ProxyApiController {
             throw new ProxyException(ProxyExceptionMessage.API_ENDPOINT_DISABLED);
         }
 
-        // API 실행
-        ProxyExecutionResponse response = apiExecutionService.execute(endpoint, request);
-
-        log.info("Proxy API execution completed: {} (success: {})",
-                request.getApiCode(), response.getIsSuccess());
-
-        return ResponseEntity.ok(response);
+        return endpoint;
     }
 }
@@ -0,0 +1,16 @@
+package com.wan.framework.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 펜싱 토큰 포함 락
+ * - 펜싱 토큰은 같은 키로 락을 획득할 때마다 단조 증가
+ * - 락이 만료된 뒤 늦게 끝난 이전 소유자의 쓰기를 거부하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class FencedLock {
+    private final String lockValue;
+    private final long fencingToken;
+}
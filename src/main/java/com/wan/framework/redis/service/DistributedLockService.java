@@ -1,5 +1,6 @@
 package com.wan.framework.redis.service;
 
+import com.wan.framework.redis.dto.FencedLock;
 import com.wan.framework.redis.dto.LockInfo;
 import com.wan.framework.redis.exception.RedisException;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import static com.wan.framework.redis.constant.RedisExceptionMessage.*;
  * - Redis SET NX EX 기반 락 획득
  * - Lua Script 기반 안전한 락 해제
  * - TTL 필수, 소유자 식별 값 포함
+ * - 펜싱 토큰 락: 락 획득과 토큰 증가를 하나의 Lua Script로 처리
  */
 @Slf4j
 @Service
@@ -31,6 +33,15 @@ public class DistributedLockService {
     private final RedisTemplate<String, String> stringRedisTemplate;
 
     private static final String LOCK_PREFIX = "LOCK:";
+    private static final String FENCE_PREFIX = "LOCK:FENCE:";
+
+    // Lua Script: 락 획득 성공 시에만 펜싱 토큰 증가 (실패 시 0)
+    private static final DefaultRedisScript<Long> FENCED_ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('set', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+                return redis.call('incr', KEYS[2])
+            end
+            return 0
+            """, Long.class);
     private static final String SERVER_ID = getServerId();
 
     // 재진입 락을 위한 ThreadLocal 저장소
@@ -60,6 +71,30 @@ public class DistributedLockService {
         throw new RedisException(LOCK_ACQUIRE_FAILED);
     }
 
+    /**
+     * 펜싱 토큰 포함 분산 락 획득
+     * - 토큰 키는 만료되지 않으므로 키별 토큰은 계속 증가
+     *
+     * @param key        락 키
+     * @param ttlSeconds TTL (초)
+     * @return 락 소유자 식별 값 + 펜싱 토큰
+     */
+    public FencedLock acquireFencedLock(String key, long ttlSeconds) {
+        String lockKey = LOCK_PREFIX + key;
+        String lockValue = generateLockValue();
+
+        Long token = stringRedisTemplate.execute(FENCED_ACQUIRE_SCRIPT,
+                List.of(lockKey, FENCE_PREFIX + key), lockValue, String.valueOf(ttlSeconds));
+
+        if (token != null && token > 0) {
+            log.debug("Fenced lock acquired: key={}, value={}, token={}, ttl={}s", lockKey, lockValue, token, ttlSeconds);
+            return new FencedLock(lockValue, token);
+        }
+
+        log.warn("Failed to acquire fenced lock: key={}", lockKey);
+        throw new RedisException(LOCK_ACQUIRE_FAILED);
+    }
+
     /**
      * 분산 락 획득 시도 (타임아웃 포함)
      *
@@ -120,6 +155,32 @@ public class DistributedLockService {
         }
     }
 
+    /**
+     * 펜싱 토큰 기준 락 강제 해제 (중단된 서버가 남긴 락 정리)
+     * - 마지막으로 발급된 토큰이 주어진 토큰과 같을 때만 삭제 → 이후 다른 소유자가 획득한 락은 유지
+     *
+     * @param key          락 키
+     * @param fencingToken 락 획득 시 발급된 펜싱 토큰
+     * @return 해제 여부
+     */
+    public boolean releaseFencedLock(String key, long fencingToken) {
+        String luaScript = """
+                if redis.call('get', KEYS[2]) == ARGV[1] then
+                    return redis.call('del', KEYS[1])
+                else
+                    return 0
+                end
+                """;
+
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>(luaScript, Long.class);
+        Long result = stringRedisTemplate.execute(script,
+                List.of(LOCK_PREFIX + key, FENCE_PREFIX + key), String.valueOf(fencingToken));
+
+        boolean released = result != null && result == 1;
+        log.debug("Fenced lock force release: key={}, token={}, released={}", LOCK_PREFIX + key, fencingToken, released);
+        return released;
+    }
+
     /**
      * 분산 락 연장
      *
@@ -13,7 +13,9 @@ import static com.wan.framework.base.constant.DataStateCode.I;
  * 세션 생성/삭제/만료 이벤트 기록
  */
 @Entity
-@Table(name = "t_session_audit")
+@Table(name = "t_session_audit", indexes = {
+        @Index(name = "idx_session_audit_event_time", columnList = "event_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,79 @@
+package com.wan.framework.base.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("키셋 커서 페이지 테스트")
+class CursorPageTest {
+
+    private record Row(LocalDateTime time, Long id) {
+    }
+
+    @Test
+    @DisplayName("커서 인코딩/디코딩 왕복")
+    void cursor_RoundTrip() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123456000), 42L);
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 위치")
+    void cursor_First() {
+        // when
+        KeysetCursor first = KeysetCursor.decode(null);
+
+        // then
+        assertThat(first.id()).isEqualTo(Long.MAX_VALUE);
+        assertThat(first.time()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외")
+    void cursor_Invalid() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1건 조회 시 다음 커서는 마지막 행 위치")
+    void of_HasNext() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Row> rows = List.of(new Row(now, 3L), new Row(now, 2L), new Row(now.minusSeconds(1), 9L));
+
+        // when
+        CursorPage<Long> page = CursorPage.of(rows, 2, Row::time, Row::id, Row::id);
+
+        // then
+        assertThat(page.getContent()).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(new KeysetCursor(now, 2L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서 없음")
+    void of_LastPage() {
+        // given
+        List<Row> rows = List.of(new Row(LocalDateTime.of(2026, 1, 1, 0, 0), 1L));
+
+        // when
+        CursorPage<Row> page = CursorPage.of(rows, 2, Row::time, Row::id, Function.identity());
+
+        // then
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(CursorPage.limit(2).getPageSize()).isEqualTo(3);
+    }
+}
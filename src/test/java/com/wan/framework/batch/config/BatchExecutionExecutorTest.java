@@ -0,0 +1,92 @@
+package com.wan.framework.batch.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BatchExecutionExecutor 테스트")
+class BatchExecutionExecutorTest {
+
+    private BatchExecutionExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private BatchExecutionExecutor createExecutor(int maxPoolSize, int queueCapacity) {
+        BatchProperties properties = new BatchProperties();
+        properties.getExecution().setMaxPoolSize(maxPoolSize);
+        properties.getExecution().setQueueCapacity(queueCapacity);
+        executor = new BatchExecutionExecutor(properties);
+        return executor;
+    }
+
+    @Test
+    @DisplayName("최대 스레드 수까지 대기열 없이 동시 실행")
+    void submit_RunsUpToMaxPoolSizeConcurrently() throws Exception {
+        // given
+        createExecutor(8, 100);
+        CountDownLatch running = new CountDownLatch(8);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            tasks.add(executor.submit(() -> {
+                running.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+        }
+
+        // then
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getActiveCount()).isEqualTo(8);
+        assertThat(executor.getQueuedCount()).isZero();
+
+        release.countDown();
+        assertThat(tasks).allSatisfy(task -> assertThat(task.get(2, TimeUnit.SECONDS)).isTrue());
+    }
+
+    @Test
+    @DisplayName("모든 스레드가 실행 중일 때만 대기열 사용")
+    void submit_QueuesBeyondMaxPoolSize() throws Exception {
+        // given
+        createExecutor(2, 10);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            executor.submit(() -> {
+                running.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+        }
+
+        // then
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getPoolSize()).isEqualTo(2);
+        assertThat(executor.getQueuedCount()).isEqualTo(3);
+
+        release.countDown();
+    }
+}
@@ -0,0 +1,71 @@
+package com.wan.framework.batch.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ElasticQuartzThreadPool 테스트")
+class ElasticQuartzThreadPoolTest {
+
+    private ElasticQuartzThreadPool threadPool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        threadPool = new ElasticQuartzThreadPool();
+        threadPool.setThreadCount(2);
+        threadPool.setKeepAliveSeconds(1);
+        threadPool.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        threadPool.shutdown(false);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업 수만큼 가용 슬롯 감소")
+    void blockForAvailableThreads() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        boolean accepted = threadPool.runInThread(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(threadPool.blockForAvailableThreads()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.currentTimeMillis() + 1000;
+        while (threadPool.getBusyCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(threadPool.blockForAvailableThreads()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 후에는 작업을 받지 않음")
+    void runInThread_AfterShutdown() {
+        // given
+        threadPool.shutdown(false);
+
+        // when & then
+        assertThat(threadPool.runInThread(() -> { })).isFalse();
+        assertThat(threadPool.blockForAvailableThreads()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package com.wan.framework.batch.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProxyPagingItemReader 테스트")
+class ProxyPagingItemReaderTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    /**
+     * 전체 7건 (페이지 0: 0~2, 1: 3~5, 2: 6)
+     */
+    private final List<Integer> requestedPages = new ArrayList<>();
+
+    private List<Map<String, Object>> loadPage(int page) {
+        requestedPages.add(page);
+        return IntStream.range(page * PAGE_SIZE, Math.min((page + 1) * PAGE_SIZE, 7))
+                .mapToObj(i -> Map.<String, Object>of("id", i))
+                .toList();
+    }
+
+    private List<Object> readAll(ProxyPagingItemReader reader) throws Exception {
+        List<Object> ids = new ArrayList<>();
+        Map<String, Object> item;
+        while ((item = reader.read()) != null) {
+            ids.add(item.get("id"));
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("페이지 크기 미만 페이지에서 종료")
+    void read_AllPages() throws Exception {
+        // given
+        ProxyPagingItemReader reader = new ProxyPagingItemReader(this::loadPage, PAGE_SIZE, 0, 1);
+        reader.open(new ExecutionContext());
+
+        // when
+        List<Object> ids = readAll(reader);
+
+        // then
+        assertThat(ids).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(requestedPages).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("파티션은 자기 페이지만 읽음")
+    void read_Partition() throws Exception {
+        // given
+        ProxyPagingItemReader reader = new ProxyPagingItemReader(this::loadPage, PAGE_SIZE, 1, 2);
+        reader.open(new ExecutionContext());
+
+        // when
+        List<Object> ids = readAll(reader);
+
+        // then
+        assertThat(ids).containsExactly(3, 4, 5);
+        assertThat(requestedPages).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("재시작 - 저장된 위치(페이지 중간)부터 다시 읽음")
+    void read_Restart() throws Exception {
+        // given
+        ProxyPagingItemReader first = new ProxyPagingItemReader(this::loadPage, PAGE_SIZE, 0, 1);
+        ExecutionContext executionContext = new ExecutionContext();
+        first.open(executionContext);
+        for (int i = 0; i < 4; i++) {
+            first.read();
+        }
+        first.update(executionContext);
+        first.close();
+        requestedPages.clear();
+
+        // when
+        ProxyPagingItemReader restarted = new ProxyPagingItemReader(this::loadPage, PAGE_SIZE, 0, 1);
+        restarted.open(executionContext);
+        List<Object> ids = readAll(restarted);
+
+        // then
+        assertThat(ids).containsExactly(4, 5, 6);
+        assertThat(requestedPages).containsExactly(1, 2);
+    }
+}
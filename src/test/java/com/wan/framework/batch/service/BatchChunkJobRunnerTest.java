@@ -0,0 +1,37 @@
+package com.wan.framework.batch.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("청크 작업 실행기 테스트")
+class BatchChunkJobRunnerTest {
+
+    @Test
+    @DisplayName("파티션 스레드 상한 - 커넥션 풀 최대 크기의 절반")
+    void connectionLimit_HalfOfHikariPool() {
+        // given
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(10);
+
+            // when & then
+            assertThat(BatchChunkJobRunner.connectionLimit(dataSource)).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("파티션 스레드 상한 - 커넥션 풀 크기를 알 수 없으면 제한 없음")
+    void connectionLimit_UnknownPool() throws Exception {
+        // given
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.isWrapperFor(HikariDataSource.class)).willReturn(false);
+
+        // when & then
+        assertThat(BatchChunkJobRunner.connectionLimit(dataSource)).isEqualTo(Integer.MAX_VALUE);
+    }
+}
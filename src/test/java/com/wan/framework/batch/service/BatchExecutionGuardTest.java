@@ -0,0 +1,136 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.redis.constant.RedisExceptionMessage;
+import com.wan.framework.redis.dto.FencedLock;
+import com.wan.framework.redis.exception.RedisException;
+import com.wan.framework.redis.service.DistributedLockService;
+import com.wan.framework.redis.service.LockWatchDogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchExecutionGuard 테스트")
+class BatchExecutionGuardTest {
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Mock
+    private LockWatchDogService lockWatchDogService;
+
+    @Mock
+    private BatchJobRepository batchJobRepository;
+
+    @InjectMocks
+    private BatchExecutionGuard batchExecutionGuard;
+
+    private BatchJob batchJob;
+
+    @BeforeEach
+    void setUp() {
+        batchJob = new BatchJob();
+        batchJob.setId(1L);
+        batchJob.setBatchId("TEST_BATCH_001");
+        batchJob.setAllowConcurrent(false);
+    }
+
+    @Test
+    @DisplayName("동시 실행 허용 - Redis 호출 없이 실행")
+    void acquire_AllowConcurrent() {
+        // given
+        batchJob.setAllowConcurrent(true);
+
+        // when
+        BatchExecutionGuard.Lease lease = batchExecutionGuard.acquire(batchJob);
+
+        // then
+        assertThat(lease).isSameAs(BatchExecutionGuard.Lease.NONE);
+        verifyNoInteractions(distributedLockService, lockWatchDogService);
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 펜싱 토큰 반환 및 Watch Dog 등록")
+    void acquire_Success() {
+        // given
+        given(distributedLockService.acquireFencedLock("batch:TEST_BATCH_001:lease", 30L))
+                .willReturn(new FencedLock("lock-value", 42L));
+
+        // when
+        BatchExecutionGuard.Lease lease = batchExecutionGuard.acquire(batchJob);
+
+        // then
+        assertThat(lease.key()).isEqualTo("batch:TEST_BATCH_001:lease");
+        assertThat(lease.fencingToken()).isEqualTo(42L);
+        verify(lockWatchDogService).registerLock("batch:TEST_BATCH_001:lease", "lock-value");
+    }
+
+    @Test
+    @DisplayName("임대 획득 - 다른 실행이 임대 중")
+    void acquire_AlreadyRunning() {
+        // given
+        given(distributedLockService.acquireFencedLock(anyString(), anyLong()))
+                .willThrow(new RedisException(RedisExceptionMessage.LOCK_ACQUIRE_FAILED));
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionGuard.acquire(batchJob))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.BATCH_ALREADY_RUNNING.getMessage());
+        verifyNoInteractions(lockWatchDogService);
+    }
+
+    @Test
+    @DisplayName("임대 획득 - Redis 장애 시 실행하지 않음")
+    void acquire_RedisUnavailable() {
+        // given
+        given(distributedLockService.acquireFencedLock(anyString(), anyLong()))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionGuard.acquire(batchJob))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.BATCH_LOCK_ACQUISITION_FAILED.getMessage());
+    }
+
+    @Test
+    @DisplayName("결과 기록 - 더 최신 임대가 이미 기록한 경우 무시")
+    void recordResult_StaleLease() {
+        // given
+        BatchExecutionGuard.Lease lease = new BatchExecutionGuard.Lease("batch:TEST_BATCH_001:lease", "lock-value", 3L);
+        LocalDateTime executedAt = LocalDateTime.now();
+        given(batchJobRepository.updateLastExecution(1L, "SUCCESS", executedAt, 3L)).willReturn(0);
+
+        // when
+        boolean recorded = batchExecutionGuard.recordResult(batchJob, lease, "SUCCESS", executedAt);
+
+        // then
+        assertThat(recorded).isFalse();
+    }
+
+    @Test
+    @DisplayName("임대 반납 - 반납 실패는 무시")
+    void release_IgnoreFailure() {
+        // given
+        BatchExecutionGuard.Lease lease = new BatchExecutionGuard.Lease("batch:TEST_BATCH_001:lease", "lock-value", 3L);
+        willThrow(new RedisException(RedisExceptionMessage.LOCK_RELEASE_FAILED))
+                .given(distributedLockService).releaseLock(anyString(), anyString());
+
+        // when & then
+        assertThatCode(() -> batchExecutionGuard.release(lease)).doesNotThrowAnyException();
+        verify(lockWatchDogService).unregisterLock("batch:TEST_BATCH_001:lease");
+    }
+}
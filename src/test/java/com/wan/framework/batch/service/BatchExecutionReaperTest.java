@@ -0,0 +1,210 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRunRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRunRepository;
+import com.wan.framework.redis.service.DistributedLockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchExecutionReaper 테스트")
+class BatchExecutionReaperTest {
+
+    @Mock
+    private BatchExecutionRepository batchExecutionRepository;
+
+    @Mock
+    private BatchJobRepository batchJobRepository;
+
+    @Mock
+    private BatchWorkflowRunRepository batchWorkflowRunRepository;
+
+    @Mock
+    private BatchWorkflowStepRunRepository batchWorkflowStepRunRepository;
+
+    @Mock
+    private BatchNodeHeartbeat batchNodeHeartbeat;
+
+    @Mock
+    private BatchExecutionGuard batchExecutionGuard;
+
+    @Mock
+    private BatchExecutionService batchExecutionService;
+
+    @Mock
+    private BatchWorkflowService batchWorkflowService;
+
+    @Mock
+    private BatchExecutionStreamService batchExecutionStreamService;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @InjectMocks
+    private BatchExecutionReaper batchExecutionReaper;
+
+    private BatchExecution execution(String executionId, BatchStatus status, String serverInfo) {
+        return BatchExecution.builder()
+                .executionId(executionId)
+                .batchJobId(1L)
+                .batchId("TEST_BATCH_001")
+                .status(status.name())
+                .serverInfo(serverInfo)
+                .fencingToken(7L)
+                .retryCount(0)
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .build();
+    }
+
+    @Test
+    @DisplayName("정리 - 중단된 서버의 RUNNING 실행만 FAIL, 임대 해제")
+    void reap_AbandonedExecution() {
+        // given
+        BatchExecution dead = execution("exec-dead", BatchStatus.RUNNING, "node-dead");
+        BatchExecution alive = execution("exec-alive", BatchStatus.RUNNING, "node-alive");
+        given(batchExecutionRepository.findByStatusInAndStartTimeBefore(anyList(), any()))
+                .willReturn(List.of(dead, alive));
+        given(batchWorkflowRunRepository.findByStatusAndStartTimeBefore(anyString(), any()))
+                .willReturn(List.of());
+        given(batchNodeHeartbeat.isAlive("node-dead")).willReturn(false);
+        given(batchNodeHeartbeat.isAlive("node-alive")).willReturn(true);
+        given(batchExecutionRepository.finishIfStatus(eq("exec-dead"), eq(BatchStatus.RUNNING.name()),
+                eq(BatchStatus.FAIL.name()), any(), any(), anyString()))
+                .willReturn(1);
+
+        // when
+        int reaped = batchExecutionReaper.reap();
+
+        // then
+        assertThat(reaped).isEqualTo(1);
+        assertThat(dead.getStatus()).isEqualTo(BatchStatus.FAIL.name());
+        verify(batchExecutionGuard).releaseAbandoned(dead);
+        verify(batchExecutionStreamService).publishStatus(dead);
+        verify(batchExecutionRepository, never()).finishIfStatus(eq("exec-alive"), any(), any(), any(), any(), any());
+        verify(batchExecutionService, never()).scheduleRetry(any(), any());
+    }
+
+    @Test
+    @DisplayName("정리 - 그 사이 정상 종료된 실행은 건드리지 않음")
+    void reap_AlreadyFinished() {
+        // given
+        BatchExecution dead = execution("exec-dead", BatchStatus.RUNNING, "node-dead");
+        given(batchExecutionRepository.findByStatusInAndStartTimeBefore(anyList(), any()))
+                .willReturn(List.of(dead));
+        given(batchWorkflowRunRepository.findByStatusAndStartTimeBefore(anyString(), any()))
+                .willReturn(List.of());
+        given(batchNodeHeartbeat.isAlive("node-dead")).willReturn(false);
+        given(batchExecutionRepository.finishIfStatus(anyString(), any(), any(), any(), any(), any()))
+                .willReturn(0);
+
+        // when
+        int reaped = batchExecutionReaper.reap();
+
+        // then
+        assertThat(reaped).isZero();
+        verify(batchExecutionGuard, never()).releaseAbandoned(any());
+    }
+
+    @Test
+    @DisplayName("정리 - 재시도 예약 설정 시 재시도 예약, 선점된 재시도는 RETRY로 복귀")
+    void reap_RequeueAndClaimedRetry() {
+        // given
+        batchProperties.getReaper().setRequeue(true);
+        BatchExecution running = execution("exec-running", BatchStatus.RUNNING, "node-dead");
+        BatchExecution claimed = execution("exec-claimed", BatchStatus.WAIT, "node-dead");
+        BatchJob batchJob = BatchJob.builder().id(1L).batchId("TEST_BATCH_001").build();
+        given(batchExecutionRepository.findByStatusInAndStartTimeBefore(anyList(), any()))
+                .willReturn(List.of(running, claimed));
+        given(batchWorkflowRunRepository.findByStatusAndStartTimeBefore(anyString(), any()))
+                .willReturn(List.of());
+        given(batchNodeHeartbeat.isAlive("node-dead")).willReturn(false);
+        given(batchExecutionRepository.finishIfStatus(anyString(), any(), any(), any(), any(), any()))
+                .willReturn(1);
+        given(batchExecutionRepository.requeueClaimedRetry(eq("exec-claimed"), any())).willReturn(1);
+        given(batchJobRepository.findById(1L)).willReturn(Optional.of(batchJob));
+
+        // when
+        int reaped = batchExecutionReaper.reap();
+
+        // then
+        assertThat(reaped).isEqualTo(2);
+        assertThat(claimed.getStatus()).isEqualTo(BatchStatus.RETRY.name());
+        verify(batchExecutionService).scheduleRetry(batchJob, running);
+        verify(batchNodeHeartbeat, times(1)).isAlive("node-dead");
+    }
+
+    @Test
+    @DisplayName("정리 - 중단된 서버의 워크플로우 실행 FAIL (실행 중 단계 포함)")
+    void reap_AbandonedWorkflowRun() {
+        // given
+        BatchWorkflowRun run = BatchWorkflowRun.builder()
+                .runId("run-001")
+                .workflowId("WF_001")
+                .status(BatchStatus.RUNNING.name())
+                .serverInfo("node-dead")
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .build();
+        BatchWorkflowStepRun runningStep = BatchWorkflowStepRun.builder()
+                .runId("run-001").stepKey("a").status(BatchStatus.RUNNING.name()).build();
+        BatchWorkflowStepRun doneStep = BatchWorkflowStepRun.builder()
+                .runId("run-001").stepKey("b").status(BatchStatus.SUCCESS.name()).build();
+        given(batchExecutionRepository.findByStatusInAndStartTimeBefore(anyList(), any()))
+                .willReturn(List.of());
+        given(batchWorkflowRunRepository.findByStatusAndStartTimeBefore(anyString(), any()))
+                .willReturn(List.of(run));
+        given(batchNodeHeartbeat.isAlive("node-dead")).willReturn(false);
+        given(batchWorkflowStepRunRepository.findByRunIdOrderById("run-001"))
+                .willReturn(List.of(runningStep, doneStep));
+
+        // when
+        batchExecutionReaper.reap();
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(BatchStatus.FAIL.name());
+        assertThat(runningStep.getStatus()).isEqualTo(BatchStatus.FAIL.name());
+        assertThat(doneStep.getStatus()).isEqualTo(BatchStatus.SUCCESS.name());
+        verify(batchWorkflowService, never()).resumeWorkflowRun(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("주기 실행 - Redis 장애로 생존 여부를 알 수 없으면 정리하지 않음")
+    void poll_RedisFailure() {
+        // given
+        given(distributedLockService.acquireLock(anyString(), anyLong())).willReturn("lock-value");
+        given(batchExecutionRepository.findByStatusInAndStartTimeBefore(anyList(), any()))
+                .willReturn(List.of(execution("exec-001", BatchStatus.RUNNING, "node-x")));
+        given(batchNodeHeartbeat.isAlive("node-x")).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        batchExecutionReaper.poll();
+
+        // then
+        verify(batchExecutionRepository, never()).finishIfStatus(any(), any(), any(), any(), any(), any());
+        verify(distributedLockService).releaseLock(anyString(), eq("lock-value"));
+    }
+}
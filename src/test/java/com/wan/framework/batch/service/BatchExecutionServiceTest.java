@@ -1,6 +1,9 @@
 package com.wan.framework.batch.service;
 
+import com.wan.framework.batch.config.BatchExecutionExecutor;
+import com.wan.framework.batch.config.BatchProperties;
 import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchJobType;
 import com.wan.framework.batch.constant.BatchStatus;
 import com.wan.framework.batch.constant.BatchTriggerType;
 import com.wan.framework.batch.domain.BatchExecution;
@@ -9,21 +12,26 @@ import com.wan.framework.batch.dto.BatchExecutionDTO;
 import com.wan.framework.batch.exception.BatchException;
 import com.wan.framework.batch.mapper.BatchExecutionMapper;
 import com.wan.framework.batch.repository.BatchExecutionRepository;
+import com.wan.framework.batch.repository.BatchJobRepository;
 import com.wan.framework.proxy.domain.ApiEndpoint;
 import com.wan.framework.proxy.dto.ProxyExecutionResponse;
 import com.wan.framework.proxy.service.ApiEndpointService;
 import com.wan.framework.proxy.service.ApiExecutionService;
-import com.wan.framework.redis.service.DistributedLockService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,14 +54,39 @@ class BatchExecutionServiceTest {
     private ApiExecutionService apiExecutionService;
 
     @Mock
-    private DistributedLockService distributedLockService;
+    private BatchExecutionGuard batchExecutionGuard;
 
     @Mock
     private com.fasterxml.jackson.databind.ObjectMapper objectMapper;
 
+    @Mock
+    private BatchExecutionExecutor batchExecutionExecutor;
+
+    @Mock
+    private BatchJobRepository batchJobRepository;
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Mock
+    private BatchChunkJobRunner batchChunkJobRunner;
+
+    @Mock
+    private BatchExecutionStreamService batchExecutionStreamService;
+
+    @Mock
+    private BatchNodeHeartbeat batchNodeHeartbeat;
+
+    @Spy
+    private BatchParameterCache batchParameterCache =
+            new BatchParameterCache(new com.fasterxml.jackson.databind.ObjectMapper());
+
     @InjectMocks
     private BatchExecutionService batchExecutionService;
 
+    private static final BatchExecutionGuard.Lease LEASE =
+            new BatchExecutionGuard.Lease("batch:TEST_BATCH_001:lease", "lock-value", 7L);
+
     private BatchJob testBatchJob;
     private BatchExecution testExecution;
     private ProxyExecutionResponse successResponse;
@@ -96,22 +129,29 @@ class BatchExecutionServiceTest {
                 .build();
     }
 
+    /**
+     * 배치 실행기를 호출 스레드에서 바로 실행
+     */
+    private void givenDirectExecutor() {
+        given(batchExecutionExecutor.submit(any())).willAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.getArgument(0, Supplier.class).get()));
+    }
+
     @Test
     @DisplayName("배치 실행 - 성공")
     void executeBatch_Success() {
         // given
         ApiEndpoint mockEndpoint = new ApiEndpoint();
 
-        given(batchExecutionRepository.findByBatchIdAndStatus(anyString(), eq(BatchStatus.RUNNING.name())))
-                .willReturn(Optional.empty());
-        given(distributedLockService.acquireLock(anyString(), anyLong()))
-                .willReturn("lock-value");
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
         given(batchExecutionRepository.save(any(BatchExecution.class)))
                 .willReturn(testExecution);
+        givenDirectExecutor();
         given(apiEndpointService.getApiEndpointByCode(anyString()))
                 .willReturn(mockEndpoint);
-        given(apiExecutionService.execute(any(), any()))
-                .willReturn(successResponse);
+        given(apiExecutionService.executeAsync(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(successResponse));
         given(batchExecutionMapper.toDto(any(BatchExecution.class)))
                 .willReturn(new BatchExecutionDTO());
 
@@ -124,9 +164,9 @@ class BatchExecutionServiceTest {
 
         // then
         assertThat(result).isNotNull();
-        verify(distributedLockService).acquireLock(anyString(), anyLong());
-        verify(distributedLockService).releaseLock(anyString(), eq("lock-value"));
-        verify(apiExecutionService).execute(any(), any());
+        verify(batchExecutionGuard).acquire(testBatchJob);
+        verify(batchExecutionGuard).release(LEASE);
+        verify(apiExecutionService).executeAsync(any(), any());
     }
 
     @Test
@@ -134,8 +174,8 @@ class BatchExecutionServiceTest {
     void executeBatch_AlreadyRunning() {
         // given
         testBatchJob.setAllowConcurrent(false);
-        given(batchExecutionRepository.findByBatchIdAndStatus(anyString(), eq(BatchStatus.RUNNING.name())))
-                .willReturn(Optional.of(testExecution));
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willThrow(new BatchException(BatchExceptionMessage.BATCH_ALREADY_RUNNING));
 
         // when & then
         assertThatThrownBy(() -> batchExecutionService.executeBatch(
@@ -151,15 +191,8 @@ class BatchExecutionServiceTest {
     @DisplayName("배치 실행 - Lock 획득 실패")
     void executeBatch_LockAcquisitionFailed() {
         // given
-        given(batchExecutionRepository.findByBatchIdAndStatus(anyString(), eq(BatchStatus.RUNNING.name())))
-                .willReturn(Optional.empty());
-        given(distributedLockService.acquireLock(anyString(), anyLong()))
-                .willThrow(new com.wan.framework.redis.exception.RedisException(
-                        com.wan.framework.redis.constant.RedisExceptionMessage.LOCK_ACQUIRE_FAILED));
-        given(batchExecutionRepository.findByExecutionId(anyString()))
-                .willReturn(Optional.empty());
-        given(batchExecutionRepository.save(any(BatchExecution.class)))
-                .willReturn(testExecution);
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willThrow(new BatchException(BatchExceptionMessage.BATCH_LOCK_ACQUISITION_FAILED));
 
         // when & then
         assertThatThrownBy(() -> batchExecutionService.executeBatch(
@@ -168,7 +201,9 @@ class BatchExecutionServiceTest {
                 "admin"
         ))
                 .isInstanceOf(BatchException.class)
-                .hasMessage(BatchExceptionMessage.BATCH_EXECUTION_FAILED.getMessage());
+                .hasMessage(BatchExceptionMessage.BATCH_LOCK_ACQUISITION_FAILED.getMessage());
+        verify(batchExecutionRepository, never()).save(any(BatchExecution.class));
+        verify(batchExecutionGuard, never()).release(any());
     }
 
     @Test
@@ -185,16 +220,15 @@ class BatchExecutionServiceTest {
                 .retryAttempt(0)
                 .build();
 
-        given(batchExecutionRepository.findByBatchIdAndStatus(anyString(), eq(BatchStatus.RUNNING.name())))
-                .willReturn(Optional.empty());
-        given(distributedLockService.acquireLock(anyString(), anyLong()))
-                .willReturn("lock-value");
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
         given(batchExecutionRepository.save(any(BatchExecution.class)))
                 .willReturn(testExecution);
+        givenDirectExecutor();
         given(apiEndpointService.getApiEndpointByCode(anyString()))
                 .willReturn(new ApiEndpoint());
-        given(apiExecutionService.execute(any(), any()))
-                .willReturn(failResponse);
+        given(apiExecutionService.executeAsync(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(failResponse));
         given(batchExecutionMapper.toDto(any(BatchExecution.class)))
                 .willReturn(new BatchExecutionDTO());
 
@@ -207,7 +241,113 @@ class BatchExecutionServiceTest {
 
         // then
         assertThat(result).isNotNull();
-        verify(distributedLockService).releaseLock(anyString(), eq("lock-value"));
+        verify(batchExecutionGuard).release(LEASE);
+        verify(batchExecutionRepository).save(argThat(execution ->
+                BatchStatus.RETRY.name().equals(execution.getStatus())
+                        && execution.getRetryCount() == 1
+                        && "exec-001".equals(execution.getOriginalExecutionId())
+                        && execution.getNextRetryAt() != null));
+    }
+
+    @Test
+    @DisplayName("청크 작업 실행 - 청크 실행기로 실행하고 읽기/쓰기 건수 기록")
+    void executeBatch_Chunk() {
+        // given
+        testBatchJob.setJobType(BatchJobType.CHUNK.name());
+        testBatchJob.setChunkWriterApiCode("WRITE_API");
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
+        given(batchExecutionRepository.save(any(BatchExecution.class)))
+                .willReturn(testExecution);
+        givenDirectExecutor();
+        given(batchChunkJobRunner.run(eq(testBatchJob), eq(testExecution), anyMap(), anyLong(), any()))
+                .willReturn(new BatchChunkJobRunner.Result(true, 250L, 250L, null));
+        given(batchExecutionMapper.toDto(any(BatchExecution.class)))
+                .willReturn(new BatchExecutionDTO());
+
+        // when
+        batchExecutionService.executeBatch(testBatchJob, BatchTriggerType.MANUAL, "admin");
+
+        // then
+        assertThat(testExecution.getStatus()).isEqualTo(BatchStatus.SUCCESS.name());
+        assertThat(testExecution.getReadCount()).isEqualTo(250L);
+        assertThat(testExecution.getWriteCount()).isEqualTo(250L);
+        verify(apiExecutionService, never()).executeAsync(any(), any());
+        verify(batchExecutionGuard).release(LEASE);
+    }
+
+    @Test
+    @DisplayName("배치 실행 실패 - 최대 재시도 회차면 재시도 예약하지 않음")
+    void executeBatch_FailedAtMaxRetry() {
+        // given
+        ProxyExecutionResponse failResponse = ProxyExecutionResponse.builder()
+                .executionHistoryId(1L)
+                .isSuccess(false)
+                .errorMessage("API Error")
+                .executionTimeMs(500L)
+                .build();
+        testExecution.setRetryCount(3);
+
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
+        given(batchExecutionRepository.save(any(BatchExecution.class)))
+                .willReturn(testExecution);
+        givenDirectExecutor();
+        given(apiEndpointService.getApiEndpointByCode(anyString()))
+                .willReturn(new ApiEndpoint());
+        given(apiExecutionService.executeAsync(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(failResponse));
+        given(batchExecutionMapper.toDto(any(BatchExecution.class)))
+                .willReturn(new BatchExecutionDTO());
+
+        // when
+        batchExecutionService.executeBatch(testBatchJob, BatchTriggerType.SCHEDULER, "SCHEDULER");
+
+        // then
+        verify(batchExecutionRepository, never()).existsByOriginalExecutionIdAndRetryCount(anyString(), anyInt());
+        verify(batchExecutionRepository, never()).save(argThat(execution ->
+                BatchStatus.RETRY.name().equals(execution.getStatus())));
+    }
+
+    @Test
+    @DisplayName("예약 재시도 실행 - 다른 실행이 임대 중이면 회차 소모 없이 연기")
+    void executeRetry_Postponed() {
+        // given
+        BatchExecution retryExecution = BatchExecution.builder()
+                .executionId("exec-retry")
+                .batchJobId(1L)
+                .batchId("TEST_BATCH_001")
+                .status(BatchStatus.WAIT.name())
+                .retryCount(1)
+                .originalExecutionId("exec-001")
+                .build();
+        given(batchJobRepository.findById(1L))
+                .willReturn(Optional.of(testBatchJob));
+        given(batchExecutionGuard.acquire(testBatchJob))
+                .willThrow(new BatchException(BatchExceptionMessage.BATCH_ALREADY_RUNNING));
+
+        // when
+        batchExecutionService.executeRetry(retryExecution);
+
+        // then
+        assertThat(retryExecution.getStatus()).isEqualTo(BatchStatus.RETRY.name());
+        assertThat(retryExecution.getRetryCount()).isEqualTo(1);
+        assertThat(retryExecution.getNextRetryAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        verify(batchExecutionRepository).save(retryExecution);
+        verifyNoInteractions(batchExecutionExecutor);
+    }
+
+    @Test
+    @DisplayName("재시도 지연 - 지수 백오프 및 상한")
+    void backoffSeconds() {
+        // given
+        batchProperties.getRetry().setMaxBackoffSeconds(300);
+
+        // when & then
+        assertThat(batchExecutionService.backoffSeconds(testBatchJob, 1)).isEqualTo(60);
+        assertThat(batchExecutionService.backoffSeconds(testBatchJob, 2)).isEqualTo(120);
+        assertThat(batchExecutionService.backoffSeconds(testBatchJob, 3)).isEqualTo(240);
+        assertThat(batchExecutionService.backoffSeconds(testBatchJob, 4)).isEqualTo(300);
     }
 
     @Test
@@ -220,16 +360,15 @@ class BatchExecutionServiceTest {
                         .executedBy("admin")
                         .build();
 
-        given(batchExecutionRepository.findByBatchIdAndStatus(anyString(), eq(BatchStatus.RUNNING.name())))
-                .willReturn(Optional.empty());
-        given(distributedLockService.acquireLock(anyString(), anyLong()))
-                .willReturn("lock-value");
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
         given(batchExecutionRepository.save(any(BatchExecution.class)))
                 .willReturn(testExecution);
+        givenDirectExecutor();
         given(apiEndpointService.getApiEndpointByCode(anyString()))
                 .willReturn(new ApiEndpoint());
-        given(apiExecutionService.execute(any(), any()))
-                .willReturn(successResponse);
+        given(apiExecutionService.executeAsync(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(successResponse));
         given(batchExecutionMapper.toDto(any(BatchExecution.class)))
                 .willReturn(new BatchExecutionDTO());
 
@@ -238,7 +377,64 @@ class BatchExecutionServiceTest {
 
         // then
         assertThat(result).isNotNull();
-        verify(apiExecutionService).execute(any(), any());
+        verify(apiExecutionService).executeAsync(any(), any());
+    }
+
+    @Test
+    @DisplayName("수동 실행 - 덮어쓰기 파라미터 적용")
+    void executeManual_WithOverrides() {
+        // given
+        testBatchJob.setExecutionParameters(
+                "{\"baseDate\":{\"$type\":\"DATE\",\"default\":\"${today-1d}\"},\"param\":\"value\"}");
+        com.wan.framework.batch.dto.BatchExecutionRequest request =
+                com.wan.framework.batch.dto.BatchExecutionRequest.builder()
+                        .batchId("TEST_BATCH_001")
+                        .parameters(java.util.Map.of("baseDate", "2026-01-31"))
+                        .executedBy("admin")
+                        .build();
+
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
+        given(batchExecutionRepository.save(any(BatchExecution.class)))
+                .willReturn(testExecution);
+        givenDirectExecutor();
+        given(apiEndpointService.getApiEndpointByCode(anyString()))
+                .willReturn(new ApiEndpoint());
+        given(apiExecutionService.executeAsync(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(successResponse));
+        given(batchExecutionMapper.toDto(any(BatchExecution.class)))
+                .willReturn(new BatchExecutionDTO());
+
+        // when
+        batchExecutionService.executeManual(testBatchJob, request);
+
+        // then
+        ArgumentCaptor<com.wan.framework.proxy.dto.ProxyExecutionRequest> captor =
+                ArgumentCaptor.forClass(com.wan.framework.proxy.dto.ProxyExecutionRequest.class);
+        verify(apiExecutionService).executeAsync(any(), captor.capture());
+        assertThat(captor.getValue().getParameters())
+                .containsEntry("baseDate", "2026-01-31")
+                .containsEntry("param", "value")
+                .containsEntry("batchId", "TEST_BATCH_001");
+    }
+
+    @Test
+    @DisplayName("수동 실행 - 타입이 맞지 않는 덮어쓰기 파라미터는 실행 전에 거부")
+    void executeManual_InvalidOverride() {
+        // given
+        testBatchJob.setExecutionParameters("{\"pageSize\":{\"$type\":\"INTEGER\",\"default\":100}}");
+        com.wan.framework.batch.dto.BatchExecutionRequest request =
+                com.wan.framework.batch.dto.BatchExecutionRequest.builder()
+                        .batchId("TEST_BATCH_001")
+                        .parameters(java.util.Map.of("pageSize", "many"))
+                        .executedBy("admin")
+                        .build();
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionService.executeManual(testBatchJob, request))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.INVALID_EXECUTION_PARAMETERS.getMessage());
+        verify(batchExecutionGuard, never()).acquire(any(BatchJob.class));
     }
 
     @Test
@@ -250,8 +446,10 @@ class BatchExecutionServiceTest {
 
         given(batchExecutionRepository.findByExecutionId(anyString()))
                 .willReturn(Optional.of(testExecution));
+        given(batchJobRepository.findById(1L))
+                .willReturn(Optional.of(testBatchJob));
         given(batchExecutionRepository.save(any(BatchExecution.class)))
-                .willReturn(testExecution);
+                .willAnswer(invocation -> invocation.getArgument(0));
         given(batchExecutionMapper.toDto(any(BatchExecution.class)))
                 .willReturn(new BatchExecutionDTO());
 
@@ -260,8 +458,35 @@ class BatchExecutionServiceTest {
 
         // then
         assertThat(result).isNotNull();
-        // retryBatch는 재시도 이력만 생성하고 실제 실행은 스케줄러에서 처리
-        verify(batchExecutionRepository).save(any(BatchExecution.class));
+        // retryBatch는 재시도 이력만 예약하고 실제 실행은 재시도 스케줄러에서 처리
+        ArgumentCaptor<BatchExecution> captor = ArgumentCaptor.forClass(BatchExecution.class);
+        verify(batchExecutionRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(BatchStatus.RETRY.name());
+        assertThat(captor.getValue().getRetryCount()).isEqualTo(2);
+        assertThat(captor.getValue().getOriginalExecutionId()).isEqualTo("exec-001");
+        assertThat(captor.getValue().getNextRetryAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("배치 재시도 - 같은 회차가 이미 예약됨")
+    void retryBatch_AlreadyScheduled() {
+        // given
+        testExecution.setStatus(BatchStatus.FAIL.name());
+        testExecution.setRetryCount(1);
+        testExecution.setOriginalExecutionId("exec-root");
+
+        given(batchExecutionRepository.findByExecutionId(anyString()))
+                .willReturn(Optional.of(testExecution));
+        given(batchJobRepository.findById(1L))
+                .willReturn(Optional.of(testBatchJob));
+        given(batchExecutionRepository.existsByOriginalExecutionIdAndRetryCount("exec-root", 2))
+                .willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionService.retryBatch("exec-001", "admin"))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.RETRY_ALREADY_SCHEDULED.getMessage());
+        verify(batchExecutionRepository, never()).save(any(BatchExecution.class));
     }
 
     @Test
@@ -282,10 +507,13 @@ class BatchExecutionServiceTest {
     void retryBatch_MaxRetryExceeded() {
         // given
         testExecution.setStatus(BatchStatus.FAIL.name());
-        testExecution.setRetryCount(3);
+        testExecution.setRetryCount(2);
+        testBatchJob.setMaxRetryCount(2);
 
         given(batchExecutionRepository.findByExecutionId(anyString()))
                 .willReturn(Optional.of(testExecution));
+        given(batchJobRepository.findById(1L))
+                .willReturn(Optional.of(testBatchJob));
 
         // when & then
         assertThatThrownBy(() -> batchExecutionService.retryBatch("exec-001", "admin"))
@@ -328,14 +556,15 @@ class BatchExecutionServiceTest {
     void executeBatch_AllowConcurrent() {
         // given
         testBatchJob.setAllowConcurrent(true);
-        given(distributedLockService.acquireLock(anyString(), anyLong()))
-                .willReturn("lock-value");
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(BatchExecutionGuard.Lease.NONE);
         given(batchExecutionRepository.save(any(BatchExecution.class)))
                 .willReturn(testExecution);
+        givenDirectExecutor();
         given(apiEndpointService.getApiEndpointByCode(anyString()))
                 .willReturn(new ApiEndpoint());
-        given(apiExecutionService.execute(any(), any()))
-                .willReturn(successResponse);
+        given(apiExecutionService.executeAsync(any(), any()))
+                .willReturn(CompletableFuture.completedFuture(successResponse));
         given(batchExecutionMapper.toDto(any(BatchExecution.class)))
                 .willReturn(new BatchExecutionDTO());
 
@@ -348,6 +577,72 @@ class BatchExecutionServiceTest {
 
         // then
         assertThat(result).isNotNull();
-        verify(apiExecutionService).execute(any(), any());
+        verify(apiExecutionService).executeAsync(any(), any());
+    }
+
+    @Test
+    @DisplayName("배치 실행 - 마감 시각 경과 시 TIMEOUT 기록")
+    void executeBatch_Timeout() {
+        // given
+        testBatchJob.setTimeoutSeconds(0);
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
+        given(batchExecutionRepository.save(any(BatchExecution.class)))
+                .willReturn(testExecution);
+        given(batchExecutionExecutor.submit(any()))
+                .willReturn(new CompletableFuture<>());
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionService.executeBatch(
+                testBatchJob,
+                BatchTriggerType.SCHEDULER,
+                "SCHEDULER"
+        ))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.BATCH_TIMEOUT.getMessage());
+        assertThat(testExecution.getStatus()).isEqualTo(BatchStatus.TIMEOUT.name());
+        assertThat(testExecution.getEndTime()).isNotNull();
+        verify(batchExecutionGuard).release(LEASE);
+    }
+
+    @Test
+    @DisplayName("실행 취소 - 실행 중인 배치는 CANCELLED 기록")
+    void cancelExecution_Running() {
+        // given
+        AtomicReference<BatchExecution> saved = new AtomicReference<>();
+        given(batchExecutionGuard.acquire(any(BatchJob.class)))
+                .willReturn(LEASE);
+        given(batchExecutionRepository.save(any(BatchExecution.class))).willAnswer(invocation -> {
+            saved.compareAndSet(null, invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        given(batchExecutionExecutor.submit(any())).willAnswer(invocation -> {
+            batchExecutionService.cancelExecution(saved.get().getExecutionId(), "admin");
+            return new CompletableFuture<>();
+        });
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionService.executeBatch(
+                testBatchJob,
+                BatchTriggerType.MANUAL,
+                "admin"
+        ))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.BATCH_CANCELLED.getMessage());
+        assertThat(saved.get().getStatus()).isEqualTo(BatchStatus.CANCELLED.name());
+        verify(batchExecutionGuard).release(LEASE);
+    }
+
+    @Test
+    @DisplayName("실행 취소 - 다른 서버에서 실행 중")
+    void cancelExecution_RunningOnOtherServer() {
+        // given
+        given(batchExecutionRepository.findByExecutionId("exec-001"))
+                .willReturn(Optional.of(testExecution));
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionService.cancelExecution("exec-001", "admin"))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.BATCH_RUNNING_ON_OTHER_SERVER.getMessage());
     }
 }
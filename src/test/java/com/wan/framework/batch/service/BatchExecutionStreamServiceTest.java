@@ -0,0 +1,161 @@
+package com.wan.framework.batch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchExecutionEventType;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.dto.BatchExecutionEvent;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchExecutionStreamService 테스트")
+class BatchExecutionStreamServiceTest {
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private BatchExecutionRepository batchExecutionRepository;
+
+    @Mock
+    private BatchNodeHeartbeat batchNodeHeartbeat;
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @InjectMocks
+    private BatchExecutionStreamService batchExecutionStreamService;
+
+    private BatchExecution execution(String executionId, BatchStatus status) {
+        return BatchExecution.builder()
+                .executionId(executionId)
+                .batchId("TEST_BATCH_001")
+                .status(status.name())
+                .build();
+    }
+
+    private BatchExecutionEvent statusEvent(String executionId, String batchId, BatchStatus status) {
+        return BatchExecutionEvent.builder()
+                .eventType(BatchExecutionEventType.STATUS.name())
+                .executionId(executionId)
+                .batchId(batchId)
+                .status(status.name())
+                .build();
+    }
+
+    @Test
+    @DisplayName("실행 구독 - 이미 종료된 실행은 현재 상태 전송 후 바로 종료")
+    void subscribe_FinishedExecution() {
+        // given
+        given(batchExecutionRepository.findByExecutionId("exec-001"))
+                .willReturn(Optional.of(execution("exec-001", BatchStatus.SUCCESS)));
+
+        // when
+        batchExecutionStreamService.subscribe("exec-001");
+
+        // then
+        assertThat(batchExecutionStreamService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 구독 - 없는 실행은 구독하지 않음")
+    void subscribe_NotFound() {
+        // given
+        given(batchExecutionRepository.findByExecutionId("unknown")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionStreamService.subscribe("unknown"))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.BATCH_EXECUTION_NOT_FOUND.getMessage());
+        assertThat(batchExecutionStreamService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이벤트 전달 - 종료 상태는 실행 구독만 종료, 전체 구독은 유지")
+    void dispatch_TerminalStatus() {
+        // given
+        given(batchExecutionRepository.findByExecutionId("exec-001"))
+                .willReturn(Optional.of(execution("exec-001", BatchStatus.RUNNING)));
+        batchExecutionStreamService.subscribe("exec-001");
+        batchExecutionStreamService.subscribeAll("TEST_BATCH_001");
+        batchExecutionStreamService.subscribeAll(null);
+
+        // when
+        batchExecutionStreamService.dispatch(statusEvent("exec-002", "TEST_BATCH_001", BatchStatus.FAIL));
+        int afterOtherExecution = batchExecutionStreamService.getSubscriberCount();
+        batchExecutionStreamService.dispatch(statusEvent("exec-001", "TEST_BATCH_001", BatchStatus.FAIL));
+
+        // then
+        assertThat(afterOtherExecution).isEqualTo(3);
+        assertThat(batchExecutionStreamService.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발행 - Redis 장애 시 이 서버 구독자에게 직접 전달")
+    void publishStatus_RedisFailureFallsBackToLocal() {
+        // given
+        given(batchExecutionRepository.findByExecutionId("exec-001"))
+                .willReturn(Optional.of(execution("exec-001", BatchStatus.RUNNING)));
+        batchExecutionStreamService.subscribe("exec-001");
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // when
+        batchExecutionStreamService.publishStatus(execution("exec-001", BatchStatus.TIMEOUT));
+
+        // then
+        assertThat(batchExecutionStreamService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 이벤트 - 실행별 발행 간격 제한")
+    void publishProgress_Throttled() {
+        // given
+        BatchExecution running = execution("exec-001", BatchStatus.RUNNING);
+
+        // when
+        batchExecutionStreamService.publishProgress(running, 10);
+        batchExecutionStreamService.publishProgress(running, 20);
+
+        // then
+        verify(redisTemplate, times(1)).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("구독 - 서버당 구독 수 상한")
+    void subscribeAll_Limit() {
+        // given
+        batchProperties.getStream().setMaxSubscribers(1);
+        batchExecutionStreamService.subscribeAll(null);
+
+        // when & then
+        assertThatThrownBy(() -> batchExecutionStreamService.subscribeAll(null))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.STREAM_SUBSCRIBER_LIMIT.getMessage());
+    }
+}
@@ -0,0 +1,145 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.service.ApiEndpointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchHostConcurrencyLimiter 테스트")
+class BatchHostConcurrencyLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ApiEndpointService apiEndpointService;
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @InjectMocks
+    private BatchHostConcurrencyLimiter batchHostConcurrencyLimiter;
+
+    private BatchJob batchJob;
+
+    @BeforeEach
+    void setUp() {
+        batchJob = BatchJob.builder()
+                .batchId("TEST_BATCH_001")
+                .proxyApiCode("TEST_API")
+                .timeoutSeconds(300)
+                .build();
+    }
+
+    private void givenTargetUrl(String targetUrl) {
+        given(apiEndpointService.getApiEndpointByCode("TEST_API"))
+                .willReturn(ApiEndpoint.builder().apiCode("TEST_API").targetUrl(targetUrl).build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenAcquireResult(Long result) {
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(result);
+    }
+
+    @Test
+    @DisplayName("허가 획득 - 상한 미설정 시 Redis 조회 없이 허가")
+    void tryAcquire_NoLimit() {
+        // given
+        givenTargetUrl("https://api.example.com/orders");
+
+        // when
+        Optional<BatchHostConcurrencyLimiter.Permit> permit = batchHostConcurrencyLimiter.tryAcquire(batchJob);
+
+        // then
+        assertThat(permit).contains(BatchHostConcurrencyLimiter.Permit.NONE);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("허가 획득 - 호스트별 상한 도달 시 대기")
+    void tryAcquire_LimitReached() {
+        // given
+        batchProperties.getSchedule().getHostLimits().put("api.example.com", 2);
+        givenTargetUrl("https://API.example.com/orders");
+        givenAcquireResult(0L);
+
+        // when
+        Optional<BatchHostConcurrencyLimiter.Permit> permit = batchHostConcurrencyLimiter.tryAcquire(batchJob);
+
+        // then
+        assertThat(permit).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허가 획득/반납 - 상한 미만이면 허가, 반납 시 제거")
+    void tryAcquire_Acquired() {
+        // given
+        batchProperties.getSchedule().setMaxConcurrentPerHost(3);
+        givenTargetUrl("https://api.example.com/orders");
+        givenAcquireResult(1L);
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        // when
+        BatchHostConcurrencyLimiter.Permit permit = batchHostConcurrencyLimiter.tryAcquire(batchJob).orElseThrow();
+        batchHostConcurrencyLimiter.release(permit);
+
+        // then
+        assertThat(permit.key()).isEqualTo("batch:host:api.example.com:permits");
+        verify(zSetOperations).remove(permit.key(), permit.member());
+    }
+
+    @Test
+    @DisplayName("허가 획득 - 호스트를 알 수 없는 템플릿 URL은 제한 없음")
+    void tryAcquire_TemplatedUrl() {
+        // given
+        batchProperties.getSchedule().setMaxConcurrentPerHost(1);
+        givenTargetUrl("https://{tenant}.example.com/orders");
+
+        // when
+        Optional<BatchHostConcurrencyLimiter.Permit> permit = batchHostConcurrencyLimiter.tryAcquire(batchJob);
+
+        // then
+        assertThat(permit).contains(BatchHostConcurrencyLimiter.Permit.NONE);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("허가 획득 - Redis 장애 시 제한 없이 실행")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_RedisFailure() {
+        // given
+        batchProperties.getSchedule().setMaxConcurrentPerHost(1);
+        givenTargetUrl("https://api.example.com/orders");
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        Optional<BatchHostConcurrencyLimiter.Permit> permit = batchHostConcurrencyLimiter.tryAcquire(batchJob);
+
+        // then
+        assertThat(permit).contains(BatchHostConcurrencyLimiter.Permit.NONE);
+    }
+}
@@ -1,12 +1,15 @@
 package com.wan.framework.batch.service;
 
+import com.wan.framework.batch.config.BatchProperties;
 import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchJobType;
 import com.wan.framework.batch.constant.ScheduleType;
 import com.wan.framework.batch.domain.BatchJob;
 import com.wan.framework.batch.dto.BatchJobDTO;
 import com.wan.framework.batch.exception.BatchException;
 import com.wan.framework.batch.mapper.BatchJobMapper;
 import com.wan.framework.batch.repository.BatchJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wan.framework.base.constant.DataStateCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.SchedulerException;
 import org.springframework.data.domain.Page;
@@ -44,6 +48,12 @@ class BatchJobServiceTest {
     @Mock
     private com.wan.framework.batch.repository.BatchExecutionRepository batchExecutionRepository;
 
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Spy
+    private BatchParameterCache batchParameterCache = new BatchParameterCache(new ObjectMapper());
+
     @InjectMocks
     private BatchJobService batchJobService;
 
@@ -134,6 +144,70 @@ class BatchJobServiceTest {
                 .hasMessage(BatchExceptionMessage.INVALID_SCHEDULE_EXPRESSION.getMessage());
     }
 
+    @Test
+    @DisplayName("배치 작업 생성 - 청크 작업에 쓰기 API 없음")
+    void createBatchJob_ChunkWithoutWriter() {
+        // given
+        testDTO.setJobType(BatchJobType.CHUNK.name());
+        testDTO.setChunkSize(500);
+        given(batchJobRepository.existsByBatchIdAndDataStateNot(anyString(), any(DataStateCode.class)))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> batchJobService.createBatchJob(testDTO))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.INVALID_CHUNK_CONFIG.getMessage());
+        verify(batchJobRepository, never()).save(any(BatchJob.class));
+    }
+
+    @Test
+    @DisplayName("배치 작업 생성 - 실행 파라미터 식 오류는 저장 시점에 거부")
+    void createBatchJob_InvalidExecutionParameters() {
+        // given
+        testDTO.setExecutionParameters("{\"from\":\"${yesterday}\"}");
+        given(batchJobRepository.existsByBatchIdAndDataStateNot(anyString(), any(DataStateCode.class)))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> batchJobService.createBatchJob(testDTO))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.INVALID_EXECUTION_PARAMETERS.getMessage());
+        verify(batchJobRepository, never()).save(any(BatchJob.class));
+    }
+
+    @Test
+    @DisplayName("배치 작업 생성 - 실행 분산 구간이 실행 주기 이상")
+    void createBatchJob_SpreadExceedsInterval() {
+        // given
+        testDTO.setScheduleType(ScheduleType.INTERVAL.name());
+        testDTO.setScheduleExpression("60000");
+        testDTO.setSpreadSeconds(60);
+        given(batchJobRepository.existsByBatchIdAndDataStateNot(anyString(), any(DataStateCode.class)))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> batchJobService.createBatchJob(testDTO))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.INVALID_SCHEDULE_SPREAD.getMessage());
+        verify(batchJobRepository, never()).save(any(BatchJob.class));
+    }
+
+    @Test
+    @DisplayName("배치 작업 생성 - 파티션 수 상한 초과")
+    void createBatchJob_ChunkTooManyPartitions() {
+        // given
+        testDTO.setJobType(BatchJobType.CHUNK.name());
+        testDTO.setChunkWriterApiCode("WRITE_API");
+        testDTO.setChunkPartitions(batchProperties.getChunk().getMaxPartitions() + 1);
+        given(batchJobRepository.existsByBatchIdAndDataStateNot(anyString(), any(DataStateCode.class)))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> batchJobService.createBatchJob(testDTO))
+                .isInstanceOf(BatchException.class)
+                .hasMessage(BatchExceptionMessage.INVALID_CHUNK_CONFIG.getMessage());
+    }
+
     @Test
     @DisplayName("배치 작업 생성 - 잘못된 INTERVAL 표현식")
     void createBatchJob_InvalidIntervalExpression() {
@@ -0,0 +1,82 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("배치 서버 생존 신호 테스트")
+class BatchNodeHeartbeatTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private BatchNodeHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        heartbeat = new BatchNodeHeartbeat(stringRedisTemplate, new BatchProperties());
+    }
+
+    private static String hostOf(String nodeId) {
+        return nodeId.substring(0, nodeId.lastIndexOf(':'));
+    }
+
+    @Test
+    @DisplayName("서버 식별 값 - 호스트명 + 프로세스별 인스턴스 ID")
+    void nodeId_UniquePerProcess() {
+        // given
+        BatchNodeHeartbeat restarted = new BatchNodeHeartbeat(stringRedisTemplate, new BatchProperties());
+
+        // when & then
+        assertThat(heartbeat.getNodeId()).matches(".+:[0-9a-f]{8}");
+        assertThat(hostOf(restarted.getNodeId())).isEqualTo(hostOf(heartbeat.getNodeId()));
+        assertThat(restarted.getNodeId()).isNotEqualTo(heartbeat.getNodeId());
+    }
+
+    @Test
+    @DisplayName("생존 신호 - 인스턴스 ID 키로 TTL 갱신")
+    void beat() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        heartbeat.beat();
+
+        // then
+        verify(valueOperations).set(eq("batch:node:" + heartbeat.getNodeId()), anyString(), eq(Duration.ofSeconds(45)));
+    }
+
+    @Test
+    @DisplayName("생존 여부 - 이 프로세스는 항상 생존")
+    void isAlive_Self() {
+        assertThat(heartbeat.isAlive(heartbeat.getNodeId())).isTrue();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("생존 여부 - 같은 호스트의 이전 인스턴스는 자신의 생존 신호로만 판단")
+    void isAlive_PreviousInstanceOnSameHost() {
+        // given
+        String previous = hostOf(heartbeat.getNodeId()) + ":00000000";
+        given(stringRedisTemplate.hasKey("batch:node:" + previous)).willReturn(false);
+
+        // when & then
+        assertThat(heartbeat.isAlive(previous)).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.domain.BatchExecution;
+import com.wan.framework.batch.repository.BatchExecutionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchRetryScheduler 테스트")
+class BatchRetrySchedulerTest {
+
+    @Mock
+    private BatchExecutionRepository batchExecutionRepository;
+
+    @Mock
+    private BatchExecutionService batchExecutionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BatchNodeHeartbeat batchNodeHeartbeat;
+
+    private BatchProperties batchProperties;
+    private BatchRetryScheduler batchRetryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        batchProperties = new BatchProperties();
+        batchProperties.getRetry().setMaxConcurrent(2);
+        batchRetryScheduler = new BatchRetryScheduler(
+                batchExecutionRepository, batchExecutionService, batchProperties, batchNodeHeartbeat, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchRetryScheduler.shutdown();
+    }
+
+    private BatchExecution retryExecution(String executionId) {
+        return BatchExecution.builder()
+                .executionId(executionId)
+                .batchJobId(1L)
+                .batchId("TEST_BATCH_001")
+                .status(BatchStatus.RETRY.name())
+                .retryCount(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("선점 - 빈 슬롯 수만큼 조회하고 WAIT으로 변경, 선점 서버 기록")
+    void claimDueRetries() {
+        // given
+        List<BatchExecution> due = List.of(retryExecution("exec-1"), retryExecution("exec-2"));
+        given(batchExecutionRepository.findDueRetriesForUpdate(eq(BatchStatus.RETRY.name()), any(), eq(2)))
+                .willReturn(due);
+        given(batchExecutionRepository.saveAll(due)).willReturn(due);
+        given(batchNodeHeartbeat.getNodeId()).willReturn("node-1:1a2b3c4d");
+
+        // when
+        List<BatchExecution> claimed = batchRetryScheduler.claimDueRetries(2);
+
+        // then
+        assertThat(claimed).hasSize(2)
+                .allSatisfy(execution -> {
+                    assertThat(execution.getStatus()).isEqualTo(BatchStatus.WAIT.name());
+                    assertThat(execution.getServerInfo()).isEqualTo("node-1:1a2b3c4d");
+                });
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("조회 주기 - 선점한 재시도를 실행")
+    void poll_DispatchClaimed() {
+        // given
+        BatchExecution execution = retryExecution("exec-1");
+        given(batchExecutionRepository.findDueRetriesForUpdate(anyString(), any(), anyInt()))
+                .willReturn(List.of(execution));
+        given(batchExecutionRepository.saveAll(anyList())).willReturn(List.of(execution));
+
+        // when
+        batchRetryScheduler.poll();
+
+        // then
+        verify(batchExecutionService, timeout(1000)).executeRetry(execution);
+    }
+
+    @Test
+    @DisplayName("자동 재시도 비활성화 - 조회하지 않음")
+    void poll_Disabled() {
+        // given
+        batchProperties.getRetry().setEnabled(false);
+
+        // when
+        batchRetryScheduler.poll();
+
+        // then
+        verifyNoInteractions(batchExecutionRepository, batchExecutionService);
+    }
+}
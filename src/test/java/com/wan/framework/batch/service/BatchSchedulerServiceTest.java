@@ -1,16 +1,19 @@
 package com.wan.framework.batch.service;
 
+import com.wan.framework.batch.constant.MisfirePolicy;
 import com.wan.framework.batch.constant.ScheduleType;
 import com.wan.framework.batch.domain.BatchJob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.*;
 
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -232,4 +235,100 @@ class BatchSchedulerServiceTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    @DisplayName("Misfire 정책 - 배치별 정책을 트리거에 적용")
+    void scheduleBatchJob_MisfirePolicy() throws SchedulerException {
+        // given
+        testBatchJob.setMisfirePolicy(MisfirePolicy.FIRE_ONCE_NOW.name());
+        given(scheduler.checkExists(any(JobKey.class)))
+                .willReturn(false);
+
+        // when
+        batchSchedulerService.scheduleBatchJob(testBatchJob);
+
+        // then
+        ArgumentCaptor<Trigger> captor = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(any(JobDetail.class), captor.capture());
+        assertThat(captor.getValue().getMisfireInstruction())
+                .isEqualTo(CronTrigger.MISFIRE_INSTRUCTION_FIRE_ONCE_NOW);
+    }
+
+    @Test
+    @DisplayName("Misfire 정책 - 미지정 시 놓친 실행 건너뜀")
+    void scheduleBatchJob_DefaultMisfirePolicy() throws SchedulerException {
+        // given
+        testBatchJob.setScheduleType(ScheduleType.INTERVAL.name());
+        testBatchJob.setScheduleExpression("60000");
+        testBatchJob.setMisfirePolicy(null);
+        given(scheduler.checkExists(any(JobKey.class)))
+                .willReturn(false);
+
+        // when
+        batchSchedulerService.scheduleBatchJob(testBatchJob);
+
+        // then
+        ArgumentCaptor<Trigger> captor = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(any(JobDetail.class), captor.capture());
+        assertThat(captor.getValue().getMisfireInstruction())
+                .isEqualTo(SimpleTrigger.MISFIRE_INSTRUCTION_RESCHEDULE_NEXT_WITH_REMAINING_COUNT);
+    }
+
+    @Test
+    @DisplayName("실행 분산 - batchId별 고정 지연, 구간 이내")
+    void spreadDelayMillis_Deterministic() {
+        // given
+        testBatchJob.setSpreadSeconds(600);
+        BatchJob other = BatchJob.builder().batchId("TEST_BATCH_002").spreadSeconds(600).build();
+
+        // when
+        long delay = batchSchedulerService.spreadDelayMillis(testBatchJob);
+        long again = batchSchedulerService.spreadDelayMillis(testBatchJob);
+        long otherDelay = batchSchedulerService.spreadDelayMillis(other);
+
+        // then
+        assertThat(delay).isEqualTo(again).isBetween(0L, 599_999L);
+        assertThat(otherDelay).isBetween(0L, 599_999L).isNotEqualTo(delay);
+    }
+
+    @Test
+    @DisplayName("실행 분산 - 구간 미지정 시 지연 없음")
+    void spreadDelayMillis_NoSpread() {
+        // given
+        testBatchJob.setSpreadSeconds(null);
+
+        // when & then
+        assertThat(batchSchedulerService.spreadDelayMillis(testBatchJob)).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 미루기 - 같은 Job에 1회성 Trigger 등록")
+    void deferBatchJob_Success() throws SchedulerException {
+        // given
+        Date fireAt = new Date(System.currentTimeMillis() + 5000);
+
+        // when
+        batchSchedulerService.deferBatchJob("TEST_BATCH_001", fireAt, 1000L);
+
+        // then
+        ArgumentCaptor<Trigger> captor = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(captor.capture());
+        Trigger trigger = captor.getValue();
+        assertThat(trigger.getJobKey()).isEqualTo(JobKey.jobKey("TEST_BATCH_001", "BATCH_GROUP"));
+        assertThat(trigger.getStartTime()).isEqualTo(fireAt);
+        assertThat(trigger.getJobDataMap().getBoolean(BatchSchedulerService.DEFERRED_KEY)).isTrue();
+        assertThat(trigger.getJobDataMap().getLong(BatchSchedulerService.QUEUED_SINCE_KEY)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("실행 미루기 - 같은 시각으로 이미 미뤄졌으면 무시")
+    void deferBatchJob_AlreadyExists() throws SchedulerException {
+        // given
+        given(scheduler.scheduleJob(any(Trigger.class)))
+                .willThrow(new ObjectAlreadyExistsException("exists"));
+
+        // when & then
+        assertThatCode(() -> batchSchedulerService.deferBatchJob("TEST_BATCH_001", new Date(), 1000L))
+                .doesNotThrowAnyException();
+    }
 }
@@ -0,0 +1,197 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.batch.config.BatchProperties;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.constant.BatchTriggerType;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.domain.BatchWorkflowEdge;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.dto.BatchExecutionDTO;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRunRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRunRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BatchWorkflowRunner 테스트")
+class BatchWorkflowRunnerTest {
+
+    @Mock
+    private BatchWorkflowRunRepository batchWorkflowRunRepository;
+
+    @Mock
+    private BatchWorkflowStepRunRepository batchWorkflowStepRunRepository;
+
+    @Mock
+    private BatchJobRepository batchJobRepository;
+
+    @Mock
+    private BatchExecutionService batchExecutionService;
+
+    private BatchWorkflowRunner batchWorkflowRunner;
+    private BatchWorkflowRun run;
+
+    @BeforeEach
+    void setUp() {
+        batchWorkflowRunner = new BatchWorkflowRunner(batchWorkflowRunRepository, batchWorkflowStepRunRepository,
+                batchJobRepository, batchExecutionService, new BatchProperties());
+        run = BatchWorkflowRun.builder().runId("run-1").status(BatchStatus.RUNNING.name()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchWorkflowRunner.shutdown();
+    }
+
+    private BatchJob job(long id, String batchId) {
+        BatchJob job = BatchJob.builder().id(id).batchId(batchId).maxRetryCount(0).retryIntervalSeconds(0).build();
+        given(batchJobRepository.findById(id)).willReturn(Optional.of(job));
+        return job;
+    }
+
+    private void givenResult(BatchJob job, BatchStatus status) {
+        given(batchExecutionService.executeBatch(eq(job), eq(BatchTriggerType.WORKFLOW), eq("WORKFLOW:run-1")))
+                .willReturn(BatchExecutionDTO.builder().executionId("exec-" + job.getBatchId()).status(status.name()).build());
+    }
+
+    private static BatchWorkflowStep step(String stepKey, long batchJobId) {
+        return BatchWorkflowStep.builder().stepKey(stepKey).batchJobId(batchJobId).build();
+    }
+
+    private static BatchWorkflowEdge edge(String from, String to, String condition) {
+        return BatchWorkflowEdge.builder().fromStepKey(from).toStepKey(to).condition(condition).build();
+    }
+
+    private static List<BatchWorkflowStepRun> waiting(List<BatchWorkflowStep> steps) {
+        return steps.stream()
+                .map(step -> BatchWorkflowStepRun.builder().runId("run-1").stepKey(step.getStepKey())
+                        .batchJobId(step.getBatchJobId()).status(BatchStatus.WAIT.name()).build())
+                .collect(Collectors.toList());
+    }
+
+    private void awaitFinished() {
+        verify(batchWorkflowRunRepository, timeout(2000)).save(run);
+    }
+
+    @Test
+    @DisplayName("다이아몬드 DAG - 선행 단계가 모두 끝난 뒤 후행 단계 실행")
+    void start_Diamond() {
+        // given
+        BatchJob a = job(1L, "A");
+        BatchJob b = job(2L, "B");
+        BatchJob c = job(3L, "C");
+        BatchJob d = job(4L, "D");
+        List.of(a, b, c, d).forEach(job -> givenResult(job, BatchStatus.SUCCESS));
+        List<BatchWorkflowStep> steps = List.of(step("a", 1L), step("b", 2L), step("c", 3L), step("d", 4L));
+        List<BatchWorkflowEdge> edges = List.of(
+                edge("a", "b", "ON_SUCCESS"), edge("a", "c", "ON_SUCCESS"),
+                edge("b", "d", "ON_SUCCESS"), edge("c", "d", "ON_SUCCESS"));
+        List<BatchWorkflowStepRun> stepRuns = waiting(steps);
+
+        // when
+        batchWorkflowRunner.start(run, steps, edges, stepRuns);
+
+        // then
+        awaitFinished();
+        assertThat(run.getStatus()).isEqualTo(BatchStatus.SUCCESS.name());
+        assertThat(stepRuns).allSatisfy(stepRun -> assertThat(stepRun.getStatus()).isEqualTo(BatchStatus.SUCCESS.name()));
+        InOrder inOrder = inOrder(batchExecutionService);
+        inOrder.verify(batchExecutionService).executeBatch(eq(a), any(), any());
+        inOrder.verify(batchExecutionService).executeBatch(eq(d), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패 분기 - ON_FAILURE 단계 실행, ON_SUCCESS 단계와 그 후행은 건너뜀")
+    void start_FailureBranch() {
+        // given
+        BatchJob a = job(1L, "A");
+        BatchJob cleanup = job(2L, "CLEANUP");
+        BatchJob next = job(3L, "NEXT");
+        givenResult(a, BatchStatus.FAIL);
+        givenResult(cleanup, BatchStatus.SUCCESS);
+        List<BatchWorkflowStep> steps = List.of(step("a", 1L), step("cleanup", 2L), step("next", 3L), step("last", 3L));
+        List<BatchWorkflowEdge> edges = List.of(
+                edge("a", "cleanup", "ON_FAILURE"),
+                edge("a", "next", "ON_SUCCESS"),
+                edge("next", "last", "ON_SUCCESS"));
+        List<BatchWorkflowStepRun> stepRuns = waiting(steps);
+
+        // when
+        batchWorkflowRunner.start(run, steps, edges, stepRuns);
+
+        // then
+        awaitFinished();
+        Map<String, String> statuses = stepRuns.stream()
+                .collect(Collectors.toMap(BatchWorkflowStepRun::getStepKey, BatchWorkflowStepRun::getStatus));
+        assertThat(statuses).containsEntry("a", BatchStatus.FAIL.name())
+                .containsEntry("cleanup", BatchStatus.SUCCESS.name())
+                .containsEntry("next", BatchStatus.SKIPPED.name())
+                .containsEntry("last", BatchStatus.SKIPPED.name());
+        assertThat(run.getStatus()).isEqualTo(BatchStatus.FAIL.name());
+        verify(batchExecutionService, never()).executeBatch(eq(next), any(), any());
+    }
+
+    @Test
+    @DisplayName("재개 - SUCCESS 단계는 다시 실행하지 않음")
+    void start_ResumeSkipsSucceededSteps() {
+        // given
+        BatchJob a = job(1L, "A");
+        BatchJob b = job(2L, "B");
+        givenResult(b, BatchStatus.SUCCESS);
+        List<BatchWorkflowStep> steps = List.of(step("a", 1L), step("b", 2L));
+        List<BatchWorkflowStepRun> stepRuns = waiting(steps);
+        stepRuns.get(0).setStatus(BatchStatus.SUCCESS.name());
+
+        // when
+        batchWorkflowRunner.start(run, steps, List.of(edge("a", "b", "ON_SUCCESS")), stepRuns);
+
+        // then
+        awaitFinished();
+        assertThat(run.getStatus()).isEqualTo(BatchStatus.SUCCESS.name());
+        verify(batchExecutionService, never()).executeBatch(eq(a), any(), any());
+        verify(batchExecutionService).executeBatch(eq(b), any(), any());
+    }
+
+    @Test
+    @DisplayName("단계 재시도 - 실패 후 재시도 횟수 안에서 성공하면 SUCCESS")
+    void start_StepRetry() {
+        // given
+        BatchJob a = job(1L, "A");
+        a.setMaxRetryCount(2);
+        given(batchExecutionService.executeBatch(eq(a), eq(BatchTriggerType.WORKFLOW), any()))
+                .willReturn(BatchExecutionDTO.builder().status(BatchStatus.FAIL.name()).build())
+                .willReturn(BatchExecutionDTO.builder().status(BatchStatus.SUCCESS.name()).build());
+        given(batchExecutionService.backoffSeconds(anyInt(), anyInt())).willReturn(0L);
+        List<BatchWorkflowStep> steps = List.of(step("a", 1L));
+        List<BatchWorkflowStepRun> stepRuns = waiting(steps);
+
+        // when
+        batchWorkflowRunner.start(run, steps, List.of(), stepRuns);
+
+        // then
+        awaitFinished();
+        assertThat(stepRuns.get(0).getStatus()).isEqualTo(BatchStatus.SUCCESS.name());
+        assertThat(stepRuns.get(0).getAttempt()).isEqualTo(2);
+    }
+}
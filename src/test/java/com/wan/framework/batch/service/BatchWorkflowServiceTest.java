@@ -0,0 +1,198 @@
+package com.wan.framework.batch.service;
+
+import com.wan.framework.base.constant.DataStateCode;
+import com.wan.framework.batch.constant.BatchExceptionMessage;
+import com.wan.framework.batch.constant.BatchStatus;
+import com.wan.framework.batch.constant.BatchTriggerType;
+import com.wan.framework.batch.domain.BatchJob;
+import com.wan.framework.batch.domain.BatchWorkflow;
+import com.wan.framework.batch.domain.BatchWorkflowRun;
+import com.wan.framework.batch.domain.BatchWorkflowStep;
+import com.wan.framework.batch.domain.BatchWorkflowStepRun;
+import com.wan.framework.batch.dto.BatchWorkflowEdgeDTO;
+import com.wan.framework.batch.dto.BatchWorkflowRunDTO;
+import com.wan.framework.batch.dto.BatchWorkflowStepDTO;
+import com.wan.framework.batch.exception.BatchException;
+import com.wan.framework.batch.mapper.BatchWorkflowMapper;
+import com.wan.framework.batch.repository.BatchJobRepository;
+import com.wan.framework.batch.repository.BatchWorkflowEdgeRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRepository;
+import com.wan.framework.batch.repository.BatchWorkflowRunRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRepository;
+import com.wan.framework.batch.repository.BatchWorkflowStepRunRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchWorkflowService 테스트")
+class BatchWorkflowServiceTest {
+
+    @Mock
+    private BatchWorkflowRepository batchWorkflowRepository;
+
+    @Mock
+    private BatchWorkflowStepRepository batchWorkflowStepRepository;
+
+    @Mock
+    private BatchWorkflowEdgeRepository batchWorkflowEdgeRepository;
+
+    @Mock
+    private BatchWorkflowRunRepository batchWorkflowRunRepository;
+
+    @Mock
+    private BatchWorkflowStepRunRepository batchWorkflowStepRunRepository;
+
+    @Mock
+    private BatchJobRepository batchJobRepository;
+
+    @Mock
+    private BatchWorkflowMapper batchWorkflowMapper;
+
+    @Mock
+    private BatchJobService batchJobService;
+
+    @Mock
+    private BatchSchedulerService batchSchedulerService;
+
+    @Mock
+    private BatchWorkflowRunner batchWorkflowRunner;
+
+    @Mock
+    private BatchNodeHeartbeat batchNodeHeartbeat;
+
+    @InjectMocks
+    private BatchWorkflowService batchWorkflowService;
+
+    private static BatchWorkflowStepDTO step(String stepKey) {
+        return BatchWorkflowStepDTO.builder().stepKey(stepKey).batchJobId(1L).build();
+    }
+
+    private static BatchWorkflowEdgeDTO edge(String from, String to) {
+        return BatchWorkflowEdgeDTO.builder().fromStepKey(from).toStepKey(to).build();
+    }
+
+    private void givenBatchJobExists() {
+        given(batchJobRepository.findById(1L))
+                .willReturn(Optional.of(BatchJob.builder().id(1L).dataState(DataStateCode.I).build()));
+    }
+
+    @Test
+    @DisplayName("정의 검증 - 다이아몬드 DAG 허용, 조건 미지정 시 ON_SUCCESS")
+    void validateDefinition_Diamond() {
+        // given
+        givenBatchJobExists();
+        List<BatchWorkflowEdgeDTO> edges = List.of(edge("a", "b"), edge("a", "c"), edge("b", "d"), edge("c", "d"));
+
+        // when
+        batchWorkflowService.validateDefinition(List.of(step("a"), step("b"), step("c"), step("d")), edges);
+
+        // then
+        assertThat(edges).allSatisfy(edge -> assertThat(edge.getCondition()).isEqualTo("ON_SUCCESS"));
+    }
+
+    @Test
+    @DisplayName("정의 검증 - 순환이 있으면 거부")
+    void validateDefinition_Cycle() {
+        // given
+        givenBatchJobExists();
+
+        // when & then
+        assertThatThrownBy(() -> batchWorkflowService.validateDefinition(
+                List.of(step("a"), step("b"), step("c")),
+                List.of(edge("a", "b"), edge("b", "c"), edge("c", "a"))))
+                .isInstanceOf(BatchException.class)
+                .extracting("batchExceptionMessage")
+                .isEqualTo(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+    }
+
+    @Test
+    @DisplayName("정의 검증 - 정의되지 않은 단계 연결 거부")
+    void validateDefinition_UnknownStep() {
+        // given
+        givenBatchJobExists();
+
+        // when & then
+        assertThatThrownBy(() -> batchWorkflowService.validateDefinition(
+                List.of(step("a")), List.of(edge("a", "missing"))))
+                .isInstanceOf(BatchException.class)
+                .extracting("batchExceptionMessage")
+                .isEqualTo(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+    }
+
+    @Test
+    @DisplayName("정의 검증 - 단계 키 중복 거부")
+    void validateDefinition_DuplicateStepKey() {
+        // given
+        givenBatchJobExists();
+
+        // when & then
+        assertThatThrownBy(() -> batchWorkflowService.validateDefinition(List.of(step("a"), step("a")), List.of()))
+                .isInstanceOf(BatchException.class)
+                .extracting("batchExceptionMessage")
+                .isEqualTo(BatchExceptionMessage.INVALID_WORKFLOW_DEFINITION);
+    }
+
+    @Test
+    @DisplayName("워크플로우 실행 - 이미 실행 중이면 거부")
+    void startWorkflow_AlreadyRunning() {
+        // given
+        BatchWorkflow workflow = BatchWorkflow.builder().id(1L).workflowId("WF_001").enabled(true).build();
+        given(batchWorkflowRepository.findByWorkflowIdAndDataStateNot("WF_001", DataStateCode.D))
+                .willReturn(Optional.of(workflow));
+        given(batchWorkflowRunRepository.existsByBatchWorkflowIdAndStatus(1L, BatchStatus.RUNNING.name()))
+                .willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> batchWorkflowService.startWorkflow("WF_001", BatchTriggerType.MANUAL, "admin"))
+                .isInstanceOf(BatchException.class)
+                .extracting("batchExceptionMessage")
+                .isEqualTo(BatchExceptionMessage.WORKFLOW_ALREADY_RUNNING);
+        verify(batchWorkflowRunner, never()).start(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실행 재개 - 성공한 단계는 유지하고 나머지는 WAIT으로 되돌림")
+    void resumeWorkflowRun_KeepsSucceededSteps() {
+        // given
+        BatchWorkflowRun run = BatchWorkflowRun.builder()
+                .runId("run-1").batchWorkflowId(1L).workflowId("WF_001")
+                .status(BatchStatus.FAIL.name()).resumeCount(0).build();
+        given(batchWorkflowRunRepository.findByRunId("run-1")).willReturn(Optional.of(run));
+        given(batchWorkflowStepRepository.findByBatchWorkflowIdOrderById(1L)).willReturn(List.of(
+                BatchWorkflowStep.builder().stepKey("a").batchJobId(1L).build(),
+                BatchWorkflowStep.builder().stepKey("b").batchJobId(2L).build()));
+        given(batchWorkflowStepRunRepository.findByRunIdOrderById("run-1")).willReturn(List.of(
+                BatchWorkflowStepRun.builder().runId("run-1").stepKey("a").status(BatchStatus.SUCCESS.name()).attempt(1).build(),
+                BatchWorkflowStepRun.builder().runId("run-1").stepKey("b").status(BatchStatus.FAIL.name()).attempt(3).build()));
+        given(batchWorkflowStepRunRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(batchWorkflowRunRepository.save(run)).willReturn(run);
+        given(batchWorkflowMapper.toRunDto(run)).willReturn(new BatchWorkflowRunDTO());
+
+        // when
+        batchWorkflowService.resumeWorkflowRun("run-1", "admin");
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BatchWorkflowStepRun>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchWorkflowRunner).start(eq(run), anyList(), anyList(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(BatchWorkflowStepRun::getStepKey, BatchWorkflowStepRun::getStatus, BatchWorkflowStepRun::getAttempt)
+                .containsExactly(
+                        tuple("a", BatchStatus.SUCCESS.name(), 1),
+                        tuple("b", BatchStatus.WAIT.name(), 0));
+        assertThat(run.getStatus()).isEqualTo(BatchStatus.RUNNING.name());
+        assertThat(run.getResumeCount()).isEqualTo(1);
+    }
+}
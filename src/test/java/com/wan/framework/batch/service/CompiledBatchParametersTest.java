@@ -0,0 +1,110 @@
+package com.wan.framework.batch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("컴파일 배치 실행 파라미터 테스트")
+class CompiledBatchParametersTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final CompiledBatchParameters.Context CONTEXT = new CompiledBatchParameters.Context(
+            "exec-001", "TEST_BATCH_001", LocalDateTime.of(2026, 3, 1, 2, 30, 0));
+
+    @Test
+    @DisplayName("날짜 식 - 실행 시점 기준 오프셋/형식 적용, 리터럴은 그대로")
+    void resolveExpressions() {
+        // given
+        CompiledBatchParameters parameters = CompiledBatchParameters.compile("""
+                {"from": "${now-1d}", "to": "${now}", "day": "${today-1M:yyyyMMdd}",
+                 "file": "report_${today-1d}_${batchId}.csv", "limit": 10, "mode": "full"}
+                """, objectMapper);
+
+        // when
+        Map<String, Object> resolved = parameters.resolve(CONTEXT, null);
+
+        // then
+        assertThat(resolved)
+                .containsEntry("from", "2026-02-28T02:30:00")
+                .containsEntry("to", "2026-03-01T02:30:00")
+                .containsEntry("day", "20260201")
+                .containsEntry("file", "report_2026-02-28_TEST_BATCH_001.csv")
+                .containsEntry("limit", 10)
+                .containsEntry("mode", "full");
+    }
+
+    @Test
+    @DisplayName("타입 지정 - 기본값 형식 적용, 덮어쓰기 값 타입 변환")
+    void resolveTypedParameters() {
+        // given
+        CompiledBatchParameters parameters = CompiledBatchParameters.compile("""
+                {"baseDate": {"$type": "DATE", "default": "${today-1d}", "format": "yyyyMMdd"},
+                 "pageSize": {"$type": "INTEGER", "default": 100},
+                 "rate": {"$type": "DECIMAL"},
+                 "dryRun": {"$type": "BOOLEAN", "default": false}}
+                """, objectMapper);
+
+        // when
+        Map<String, Object> defaults = parameters.resolve(CONTEXT, null);
+        Map<String, Object> overridden = parameters.resolve(CONTEXT,
+                Map.of("pageSize", "500", "rate", "0.25", "dryRun", "true", "extra", "x"));
+
+        // then
+        assertThat(defaults)
+                .containsEntry("baseDate", "20260228")
+                .containsEntry("pageSize", 100)
+                .containsEntry("dryRun", false)
+                .doesNotContainKey("rate");
+        assertThat(overridden)
+                .containsEntry("pageSize", 500)
+                .containsEntry("rate", new BigDecimal("0.25"))
+                .containsEntry("dryRun", true)
+                .containsEntry("extra", "x");
+    }
+
+    @Test
+    @DisplayName("필수 파라미터 누락 / 타입 변환 실패는 실행 시 거부")
+    void rejectMissingOrInvalidValue() {
+        // given
+        CompiledBatchParameters parameters = CompiledBatchParameters.compile("""
+                {"targetId": {"$type": "LONG", "required": true}}
+                """, objectMapper);
+
+        // when & then
+        assertThatThrownBy(() -> parameters.resolve(CONTEXT, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("targetId");
+        assertThatThrownBy(() -> parameters.validateOverrides(Map.of("targetId", "abc")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("targetId");
+        assertThat(parameters.resolve(CONTEXT, Map.of("targetId", "42"))).containsEntry("targetId", 42L);
+    }
+
+    @Test
+    @DisplayName("잘못된 정의는 컴파일 시점에 거부")
+    void rejectInvalidDefinition() {
+        assertThatThrownBy(() -> CompiledBatchParameters.compile("{\"a\": \"${yesterday}\"}", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'a'");
+        assertThatThrownBy(() -> CompiledBatchParameters.compile("{\"a\": \"${today-1h}\"}", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledBatchParameters.compile("{\"a\": \"${today:HH:mm}\"}", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledBatchParameters.compile("{\"a\": \"${now\"}", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledBatchParameters.compile(
+                "{\"a\": {\"$type\": \"INTEGER\", \"default\": \"ten\"}}", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledBatchParameters.compile("[1, 2]", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledBatchParameters.compile("{broken", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
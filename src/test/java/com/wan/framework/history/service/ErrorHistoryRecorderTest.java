@@ -0,0 +1,177 @@
+package com.wan.framework.history.service;
+
+import com.wan.framework.base.service.SequenceIdAllocator;
+import com.wan.framework.history.config.HistoryProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("에러 이력 집계 저장 테스트")
+class ErrorHistoryRecorderTest {
+
+    @Mock
+    private SequenceIdAllocator sequenceIdAllocator;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private ErrorHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new ErrorHistoryRecorder(sequenceIdAllocator, jdbcTemplate, new HistoryProperties());
+    }
+
+    private RuntimeException failAt(String message) {
+        return new RuntimeException(message);
+    }
+
+    @Test
+    @DisplayName("동기 모드 - 기록 즉시 저장")
+    void record_SyncMode() {
+        // given
+        given(request.getRequestURI()).willReturn("/api/test");
+        given(sequenceIdAllocator.nextId(eq("error_history"), eq("t_error_history"), eq("error_id"), anyInt()))
+                .willReturn(7L);
+        HistoryProperties properties = new HistoryProperties();
+        properties.getErrorRecording().setAsyncEnabled(false);
+        recorder = new ErrorHistoryRecorder(sequenceIdAllocator, jdbcTemplate, properties);
+        recorder.start();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            recorder.record(failAt("message " + i), request);
+        }
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO t_error_history"), captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(1));
+        assertThat(recorder.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 모드 - flush 전까지 고유 에러 수만큼만 보관")
+    void record_PendingUntilFlush() {
+        // given
+        given(request.getRequestURI()).willReturn("/api/test");
+        given(sequenceIdAllocator.nextId(anyString(), anyString(), anyString(), anyInt())).willReturn(1L);
+        HistoryProperties properties = new HistoryProperties();
+        properties.getErrorRecording().setFlushIntervalMs(60000);
+        properties.getErrorRecording().setBucketSeconds(3600);
+        recorder = new ErrorHistoryRecorder(sequenceIdAllocator, jdbcTemplate, properties);
+        recorder.start();
+
+        try {
+            // when
+            for (int i = 0; i < 100; i++) {
+                recorder.record(failAt("same"), request);
+            }
+            recorder.record(new IllegalStateException("other"), request);
+
+            // then
+            assertThat(recorder.getPendingCount()).isEqualTo(2);
+            verifyNoInteractions(jdbcTemplate);
+
+            recorder.flush();
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+            assertThat(captor.getValue()).hasSize(2);
+            assertThat(captor.getValue()).extracting(row -> row[4]).containsExactlyInAnyOrder(100L, 1L);
+        } finally {
+            recorder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("ID 할당 실패 - ID 없이 저장하지 않고 해당 집계만 버림")
+    void flush_AllocatorFailureDrops() {
+        // given
+        given(request.getRequestURI()).willReturn("/api/test");
+        given(sequenceIdAllocator.nextId(anyString(), anyString(), anyString(), anyInt()))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(8L);
+        HistoryProperties properties = new HistoryProperties();
+        properties.getErrorRecording().setFlushIntervalMs(60000);
+        recorder = new ErrorHistoryRecorder(sequenceIdAllocator, jdbcTemplate, properties);
+        recorder.start();
+
+        try {
+            recorder.record(failAt("first"), request);
+            recorder.record(new IllegalStateException("second"), request);
+
+            // when
+            recorder.flush();
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+            assertThat(captor.getValue()).hasSize(1);
+            assertThat(captor.getValue().get(0)[0]).isEqualTo(8L);
+            assertThat(recorder.getPendingCount()).isZero();
+        } finally {
+            recorder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("UPSERT는 같은 지문·버킷일 때만 발생 횟수를 합산")
+    void flush_UpsertGuardedByFingerprint() {
+        // given
+        given(request.getRequestURI()).willReturn("/api/test");
+        given(sequenceIdAllocator.nextId(anyString(), anyString(), anyString(), anyInt())).willReturn(9L);
+        HistoryProperties properties = new HistoryProperties();
+        properties.getErrorRecording().setAsyncEnabled(false);
+        recorder = new ErrorHistoryRecorder(sequenceIdAllocator, jdbcTemplate, properties);
+        recorder.start();
+
+        // when
+        recorder.record(failAt("message"), request);
+
+        // then
+        verify(jdbcTemplate).batchUpdate(contains("occurrence_count = IF(fingerprint = VALUES(fingerprint)"
+                + " AND bucket_start = VALUES(bucket_start)"), anyList());
+    }
+
+    @Test
+    @DisplayName("지문은 메시지와 무관하고 예외 타입에 따라 달라짐")
+    void fingerprint() {
+        // given
+        RuntimeException first = failAt("a");
+        RuntimeException second = failAt("b");
+        IllegalStateException other = new IllegalStateException("a");
+        second.setStackTrace(first.getStackTrace());
+        other.setStackTrace(first.getStackTrace());
+
+        // when & then
+        assertThat(recorder.fingerprint(first)).hasSize(64).isEqualTo(recorder.fingerprint(second));
+        assertThat(recorder.fingerprint(first)).isNotEqualTo(recorder.fingerprint(other));
+    }
+
+    @Test
+    @DisplayName("버킷 시작 시각은 버킷 크기로 내림")
+    void bucketStart() {
+        assertThat(recorder.bucketStart(LocalDateTime.of(2026, 1, 1, 10, 15, 42)))
+                .isEqualTo(LocalDateTime.of(2026, 1, 1, 10, 15, 0));
+    }
+}
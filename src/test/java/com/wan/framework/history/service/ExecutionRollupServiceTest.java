@@ -0,0 +1,142 @@
+package com.wan.framework.history.service;
+
+import com.wan.framework.history.config.HistoryProperties;
+import com.wan.framework.history.constant.RollupGranularity;
+import com.wan.framework.history.constant.RollupSource;
+import com.wan.framework.history.mapper.ExecutionRollupMapper;
+import com.wan.framework.history.repository.ExecutionRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("실행 이력 롤업 서비스 테스트")
+class ExecutionRollupServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private ExecutionRollupRepository executionRollupRepository;
+
+    @Mock
+    private ExecutionRollupMapper executionRollupMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HistoryProperties properties;
+    private ExecutionRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HistoryProperties();
+        properties.getRollup().setMaxSliceMinutes(60);
+        service = new ExecutionRollupService(properties, executionRollupRepository, executionRollupMapper,
+                jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("구간 집계 - 최대 구간 크기만큼 분/시/일 롤업 후 진행 위치 갱신")
+    void rollupSlice_AdvancesCheckpoint() {
+        // given
+        LocalDateTime from = CUTOFF.minusHours(2);
+        given(jdbcTemplate.queryForList(contains("FOR UPDATE"), eq(Timestamp.class), eq("API_EXECUTION")))
+                .willReturn(List.of(Timestamp.valueOf(from)));
+
+        // when
+        boolean processed = service.rollupSlice(RollupSource.API_EXECUTION, CUTOFF);
+
+        // then
+        assertThat(processed).isTrue();
+        verify(jdbcTemplate, times(3)).update(startsWith("INSERT INTO t_execution_rollup"),
+                eq("API_EXECUTION"), anyString(),
+                eq(Timestamp.valueOf(from)), eq(Timestamp.valueOf(from.plusHours(1))));
+        verify(jdbcTemplate).update(startsWith("UPDATE t_rollup_checkpoint"),
+                eq(Timestamp.valueOf(from.plusHours(1))), any(Timestamp.class), eq("API_EXECUTION"));
+    }
+
+    @Test
+    @DisplayName("구간 집계 - 진행 위치가 기준 시각에 도달하면 집계하지 않음")
+    void rollupSlice_CaughtUp() {
+        // given
+        given(jdbcTemplate.queryForList(contains("FOR UPDATE"), eq(Timestamp.class), eq("API_KEY_USAGE")))
+                .willReturn(List.of(Timestamp.valueOf(CUTOFF)));
+
+        // when
+        boolean processed = service.rollupSlice(RollupSource.API_KEY_USAGE, CUTOFF);
+
+        // then
+        assertThat(processed).isFalse();
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO t_execution_rollup"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("집계 SQL - 배치는 종료 시각 기준, 일 단위 버킷")
+    void upsertSql_Batch() {
+        // when
+        String sql = ExecutionRollupService.upsertSql(RollupSource.BATCH_EXECUTION, RollupGranularity.DAY);
+
+        // then
+        assertThat(sql).contains("FROM t_batch_execution");
+        assertThat(sql).contains("end_time >= ? AND end_time < ?");
+        assertThat(sql).contains("DATE_FORMAT(end_time, '%Y-%m-%d 00:00:00')");
+        assertThat(sql).contains("ON DUPLICATE KEY UPDATE");
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 롤업 합계와 미반영 원본 합계를 더함")
+    @SuppressWarnings("unchecked")
+    void getExecutionStats_MergesRollupAndTail() {
+        // given
+        Timestamp checkpoint = Timestamp.valueOf(CUTOFF);
+        given(jdbcTemplate.queryForList(startsWith("SELECT processed_until"), eq(Timestamp.class), eq("API_EXECUTION")))
+                .willReturn(List.of(checkpoint));
+        given(jdbcTemplate.queryForObject(contains("FROM t_execution_rollup"), any(RowMapper.class),
+                eq("API_EXECUTION"), eq(1L), eq("DAY")))
+                .willReturn(new ExecutionRollupService.Totals(10L, 8L, 2L, 10L, 1000L));
+        given(jdbcTemplate.queryForObject(contains("FROM t_api_execution_history"), any(RowMapper.class),
+                eq(1L), eq(checkpoint)))
+                .willReturn(new ExecutionRollupService.Totals(2L, 1L, 1L, 2L, 400L));
+
+        // when
+        Object[] stats = (Object[]) service.getExecutionStats(RollupSource.API_EXECUTION, 1L);
+
+        // then
+        assertThat(stats[0]).isEqualTo(12L);
+        assertThat(stats[1]).isEqualTo(9L);
+        assertThat(stats[2]).isEqualTo(3L);
+        assertThat(stats[3]).isEqualTo(1400.0 / 12);
+    }
+
+    @Test
+    @DisplayName("건수 조회 - 롤업 전에는 원본 전체 집계")
+    @SuppressWarnings("unchecked")
+    void countExecutions_BeforeFirstRollup() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT processed_until"), eq(Timestamp.class), eq("API_KEY_USAGE")))
+                .willReturn(List.of());
+        given(jdbcTemplate.queryForObject(contains("FROM t_api_key_usage_history"), any(RowMapper.class), eq(5L)))
+                .willReturn(new ExecutionRollupService.Totals(7L, 5L, 2L, 0L, 0L));
+
+        // when & then
+        assertThat(service.countExecutions(RollupSource.API_KEY_USAGE, 5L, null)).isEqualTo(7L);
+        assertThat(service.countExecutions(RollupSource.API_KEY_USAGE, 5L, false)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,109 @@
+package com.wan.framework.history.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.history.config.HistoryProperties;
+import com.wan.framework.history.constant.ExportFormat;
+import com.wan.framework.history.constant.ExportSource;
+import com.wan.framework.history.constant.HistoryExceptionMessage;
+import com.wan.framework.history.exception.HistoryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이력 내보내기 서비스 테스트")
+class HistoryExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 1, 2, 0, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HistoryExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HistoryExportService(new HistoryProperties(), jdbcTemplate, new ObjectMapper());
+    }
+
+    /**
+     * 한 행(id=1, message="a,\"b\"")을 돌려주는 커서
+     */
+    private void givenSingleRow() throws Exception {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        given(metaData.getColumnCount()).willReturn(2);
+        given(metaData.getColumnLabel(1)).willReturn("id");
+        given(metaData.getColumnLabel(2)).willReturn("message");
+
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getMetaData()).willReturn(metaData);
+        given(rs.getObject(1)).willReturn(1L);
+        given(rs.getObject(2)).willReturn("a,\"b\"");
+
+        willAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            return null;
+        }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더와 RFC 4180 이스케이프")
+    void export_Csv() throws Exception {
+        // given
+        givenSingleRow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = service.export(ExportSource.API_EXECUTION, ExportFormat.CSV, FROM, TO, out);
+
+        // then
+        assertThat(count).isEqualTo(1L);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,message\r\n1,\"a,\"\"b\"\"\"\r\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 행마다 JSON 한 줄")
+    void export_Ndjson() throws Exception {
+        // given
+        givenSingleRow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        service.export(ExportSource.SESSION_AUDIT, ExportFormat.NDJSON, FROM, TO, out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1,\"message\":\"a,\\\"b\\\"\"}\n");
+    }
+
+    @Test
+    @DisplayName("기간이 잘못되거나 최대 기간을 넘으면 예외")
+    void validateRange_Invalid() {
+        assertThatThrownBy(() -> service.validateRange(FROM, FROM.plusDays(32)))
+                .isInstanceOf(HistoryException.class)
+                .hasMessage(HistoryExceptionMessage.EXPORT_RANGE_TOO_LONG.getMessage());
+        assertThatThrownBy(() -> service.validateRange(TO, FROM))
+                .isInstanceOf(HistoryException.class)
+                .hasMessage(HistoryExceptionMessage.INVALID_EXPORT_RANGE.getMessage());
+        assertThatThrownBy(() -> service.validateRange(null, TO))
+                .isInstanceOf(HistoryException.class)
+                .hasMessage(HistoryExceptionMessage.INVALID_EXPORT_RANGE.getMessage());
+    }
+}
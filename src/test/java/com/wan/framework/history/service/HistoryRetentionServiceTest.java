@@ -0,0 +1,167 @@
+package com.wan.framework.history.service;
+
+import com.wan.framework.history.config.HistoryProperties;
+import com.wan.framework.history.constant.HistoryExceptionMessage;
+import com.wan.framework.history.constant.PartitionUnit;
+import com.wan.framework.history.exception.HistoryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이력 보관 기간 정리 서비스 테스트")
+class HistoryRetentionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 3, 30);
+
+    @Mock
+    private HistoryArchiveWriter archiveWriter;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HistoryProperties properties;
+    private HistoryRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HistoryProperties();
+        properties.getRetention().setChunkSize(2);
+        properties.getRetention().setPartitionsAhead(1);
+        service = new HistoryRetentionService(properties, archiveWriter, jdbcTemplate);
+    }
+
+    private HistoryProperties.Table table(PartitionUnit unit) {
+        HistoryProperties.Table table = new HistoryProperties.Table();
+        table.setTableName("t_api_key_usage_history");
+        table.setTimeColumn("used_at");
+        table.setRetentionDays(30);
+        table.setPartitionUnit(unit);
+        return table;
+    }
+
+    @Test
+    @DisplayName("청크 삭제 - 아카이브 후 PK 순서로 삭제")
+    void applyRetention_ChunkedDelete() throws Exception {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT * FROM t_api_key_usage_history"),
+                any(), eq(Long.MIN_VALUE), eq(2)))
+                .willReturn(List.of(Map.of("id", 1L), Map.of("id", 2L)));
+        given(jdbcTemplate.queryForList(startsWith("SELECT * FROM t_api_key_usage_history"),
+                any(), eq(2L), eq(2)))
+                .willReturn(List.of(Map.of("id", 5L)));
+
+        // when
+        HistoryRetentionService.RetentionResult result = service.applyRetention(table(PartitionUnit.NONE), NOW);
+
+        // then
+        assertThat(result.removedRows()).isEqualTo(3L);
+        assertThat(result.archivedRows()).isEqualTo(3L);
+        verify(archiveWriter, times(2)).append(any(Path.class), anyList());
+        verify(jdbcTemplate).update("DELETE FROM t_api_key_usage_history WHERE id IN (?, ?)", 1L, 2L);
+        verify(jdbcTemplate).update("DELETE FROM t_api_key_usage_history WHERE id IN (?)", 5L);
+    }
+
+    @Test
+    @DisplayName("파티션 - 만료 파티션만 DROP, 미래 파티션 추가")
+    void applyRetention_DropExpiredPartitions() throws Exception {
+        // given
+        HistoryProperties.Table table = table(PartitionUnit.DAY);
+        table.setArchive(false);
+        List<Map<String, Object>> partitions = List.of(
+                partition("p20260101", "'2026-01-02 00:00:00'"),
+                partition("p20260309", "'2026-03-10 00:00:00'"),
+                partition("p_future", "MAXVALUE"));
+        given(jdbcTemplate.queryForList(contains("information_schema.PARTITIONS"), eq("t_api_key_usage_history")))
+                .willReturn(partitions);
+
+        // when
+        HistoryRetentionService.RetentionResult result = service.applyRetention(table, NOW);
+
+        // then
+        assertThat(result.droppedPartitions()).isEqualTo(1);
+        verify(jdbcTemplate).execute("ALTER TABLE t_api_key_usage_history REORGANIZE PARTITION p_future INTO (" +
+                "PARTITION p20260310 VALUES LESS THAN ('2026-03-11 00:00:00'), " +
+                "PARTITION p20260311 VALUES LESS THAN ('2026-03-12 00:00:00'), " +
+                "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        verify(jdbcTemplate).execute("ALTER TABLE t_api_key_usage_history DROP PARTITION p20260101");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE t_api_key_usage_history DROP PARTITION p20260309");
+    }
+
+    @Test
+    @DisplayName("파티션 미적용 테이블 - 정기 정리에서 파티션 전환 없이 청크 삭제")
+    void applyRetention_UnpartitionedTableNotConverted() {
+        // given
+        HistoryProperties.Table table = table(PartitionUnit.DAY);
+        table.setArchive(false);
+        given(jdbcTemplate.queryForList(contains("information_schema.PARTITIONS"), eq("t_api_key_usage_history")))
+                .willReturn(List.of());
+        given(jdbcTemplate.queryForList(startsWith("SELECT * FROM t_api_key_usage_history"),
+                any(), eq(Long.MIN_VALUE), eq(2)))
+                .willReturn(List.of(Map.of("id", 1L)));
+
+        // when
+        HistoryRetentionService.RetentionResult result = service.applyRetention(table, NOW);
+
+        // then
+        assertThat(result.removedRows()).isEqualTo(1L);
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate).update("DELETE FROM t_api_key_usage_history WHERE id IN (?)", 1L);
+    }
+
+    @Test
+    @DisplayName("파티션 전환 - 명시적 요청 시에만 ALTER TABLE 실행")
+    void convertToPartitions() {
+        // given
+        properties.getRetention().getTables().put("api-key-usage-history", table(PartitionUnit.DAY));
+        given(jdbcTemplate.queryForList(contains("information_schema.PARTITIONS"), eq("t_api_key_usage_history")))
+                .willReturn(List.of(), List.of(
+                        partition("p20260310", "'2026-03-11 00:00:00'"),
+                        partition("p_future", "MAXVALUE")));
+
+        // when
+        int partitions = service.convertToPartitions("api-key-usage-history");
+
+        // then
+        assertThat(partitions).isEqualTo(2);
+        verify(jdbcTemplate).execute(startsWith("ALTER TABLE t_api_key_usage_history"));
+    }
+
+    @Test
+    @DisplayName("파티션 전환 - 파티션 단위가 없는 테이블은 거부")
+    void convertToPartitions_NoPartitionUnit() {
+        // given
+        properties.getRetention().getTables().put("api-key-usage-history", table(PartitionUnit.NONE));
+
+        // when & then
+        assertThatThrownBy(() -> service.convertToPartitions("api-key-usage-history"))
+                .isInstanceOf(HistoryException.class)
+                .hasMessage(HistoryExceptionMessage.PARTITION_UNIT_MISSING.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("파티션 상한 파싱")
+    void parseBoundary() {
+        assertThat(HistoryRetentionService.parseBoundary("'2026-01-02 00:00:00'"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 2, 0, 0));
+        assertThat(HistoryRetentionService.parseBoundary("MAXVALUE")).isNull();
+    }
+
+    private Map<String, Object> partition(String name, String description) {
+        return Map.of("PARTITION_NAME", name, "PARTITION_METHOD", "RANGE COLUMNS", "PARTITION_DESCRIPTION", description);
+    }
+}
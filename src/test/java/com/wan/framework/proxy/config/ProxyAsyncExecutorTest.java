@@ -0,0 +1,82 @@
+package com.wan.framework.proxy.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProxyAsyncExecutor 테스트")
+class ProxyAsyncExecutorTest {
+
+    private ProxyAsyncExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private ProxyAsyncExecutor createExecutor(int maxPoolSize, int queueCapacity) {
+        ProxyProperties properties = new ProxyProperties();
+        properties.getAsync().setMaxPoolSize(maxPoolSize);
+        properties.getAsync().setQueueCapacity(queueCapacity);
+        executor = new ProxyAsyncExecutor(properties);
+        return executor;
+    }
+
+    private Runnable blockingTask(CountDownLatch running, CountDownLatch release) {
+        return () -> {
+            running.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("최대 스레드 수까지 대기열 없이 동시 실행")
+    void execute_RunsUpToMaxPoolSizeConcurrently() throws Exception {
+        // given
+        createExecutor(12, 500);
+        CountDownLatch running = new CountDownLatch(12);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            executor.execute(blockingTask(running, release));
+        }
+
+        // then
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getActiveCount()).isEqualTo(12);
+        assertThat(executor.getQueueSize()).isZero();
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("모든 스레드가 실행 중일 때만 대기열 사용")
+    void execute_QueuesBeyondMaxPoolSize() throws Exception {
+        // given
+        createExecutor(2, 10);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            executor.execute(blockingTask(running, release));
+        }
+
+        // then
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getPoolSize()).isEqualTo(2);
+        assertThat(executor.getQueueSize()).isEqualTo(3);
+
+        release.countDown();
+    }
+}
@@ -0,0 +1,82 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.domain.ApiComposite;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CompositeBranch;
+import com.wan.framework.proxy.dto.ProxyExecutionRequest;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("복합 API 실행 테스트")
+class ApiCompositeExecutionServiceTest {
+
+    @Mock
+    private ApiCompositeService apiCompositeService;
+
+    @Mock
+    private ApiEndpointService apiEndpointService;
+
+    @Mock
+    private ApiExecutionService apiExecutionService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ApiCompositeExecutionService apiCompositeExecutionService;
+
+    @Test
+    @DisplayName("마감 - 브랜치 요청에 마감 시각 전달, 끝나지 않은 브랜치 호출은 취소")
+    void execute_DeadlineCancelsPendingBranch() {
+        // given
+        ApiComposite composite = ApiComposite.builder()
+                .compositeCode("COMPOSITE_001")
+                .compositeName("복합 API")
+                .branchDefinitions("[]")
+                .timeoutMs(100)
+                .build();
+        given(apiCompositeService.parseBranches(anyString())).willReturn(List.of(
+                CompositeBranch.builder().key("fast").apiCode("FAST_API").build(),
+                CompositeBranch.builder().key("slow").apiCode("SLOW_API").build()));
+        given(apiEndpointService.getApiEndpointByCode(anyString())).willAnswer(invocation ->
+                ApiEndpoint.builder().apiCode(invocation.getArgument(0)).isEnabled(true).build());
+
+        CompletableFuture<ProxyExecutionResponse> slowCall = new CompletableFuture<>();
+        given(apiExecutionService.executeAsync(argThat(e -> e != null && "FAST_API".equals(e.getApiCode())), any()))
+                .willReturn(CompletableFuture.completedFuture(ProxyExecutionResponse.builder()
+                        .apiCode("FAST_API").isSuccess(true).responseBody("{\"ok\":true}").build()));
+        given(apiExecutionService.executeAsync(argThat(e -> e != null && "SLOW_API".equals(e.getApiCode())), any()))
+                .willReturn(slowCall);
+        long before = System.currentTimeMillis();
+
+        // when
+        ProxyExecutionResponse response = apiCompositeExecutionService.execute(composite,
+                ProxyExecutionRequest.builder().build());
+
+        // then
+        assertThat(response.getIsSuccess()).isFalse();
+        assertThat(response.getErrorMessage()).contains("slow: Composite deadline exceeded");
+        assertThat(slowCall).isCancelled();
+
+        ArgumentCaptor<ProxyExecutionRequest> captor = ArgumentCaptor.forClass(ProxyExecutionRequest.class);
+        verify(apiExecutionService, times(2)).executeAsync(any(), captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(request ->
+                assertThat(request.getDeadlineAt()).isBetween(before + 100, System.currentTimeMillis() + 100));
+    }
+}
@@ -0,0 +1,104 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.dto.CompositeBranch;
+import com.wan.framework.proxy.exception.ProxyException;
+import com.wan.framework.proxy.mapper.ApiCompositeMapper;
+import com.wan.framework.proxy.repository.ApiCompositeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("복합 API 서비스 테스트")
+class ApiCompositeServiceTest {
+
+    @Mock
+    private ApiCompositeRepository apiCompositeRepository;
+
+    @Mock
+    private ApiCompositeMapper apiCompositeMapper;
+
+    @Mock
+    private ApiEndpointService apiEndpointService;
+
+    private ApiCompositeService apiCompositeService;
+
+    @BeforeEach
+    void setUp() {
+        apiCompositeService = new ApiCompositeService(
+                apiCompositeRepository, apiCompositeMapper, apiEndpointService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("브랜치 구성 파싱 - 선행 브랜치 순으로 정렬")
+    void parseBranches_TopologicalOrder() {
+        // given
+        String definitions = """
+                [{"key": "orders", "apiCode": "ORDER_LIST", "dependsOn": ["user"],
+                  "parameterMappings": {"customerId": "user:/data/customerId"}},
+                 {"key": "user", "apiCode": "USER_GET"},
+                 {"key": "notices", "apiCode": "NOTICE_LIST"}]
+                """;
+
+        // when
+        List<CompositeBranch> branches = apiCompositeService.parseBranches(definitions);
+
+        // then
+        assertThat(branches).extracting(CompositeBranch::getKey)
+                .containsExactly("user", "notices", "orders");
+    }
+
+    @Test
+    @DisplayName("브랜치 구성 파싱 실패 - 순환 의존")
+    void parseBranches_Cycle() {
+        // given
+        String definitions = """
+                [{"key": "a", "apiCode": "API_A", "dependsOn": ["b"]},
+                 {"key": "b", "apiCode": "API_B", "dependsOn": ["a"]}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> apiCompositeService.parseBranches(definitions))
+                .isInstanceOf(ProxyException.class)
+                .extracting("proxyExceptionMessage")
+                .isEqualTo(ProxyExceptionMessage.INVALID_COMPOSITE_DEFINITION);
+    }
+
+    @Test
+    @DisplayName("브랜치 구성 파싱 실패 - 선행 브랜치가 아닌 응답 매핑")
+    void parseBranches_MappingWithoutDependency() {
+        // given
+        String definitions = """
+                [{"key": "user", "apiCode": "USER_GET"},
+                 {"key": "orders", "apiCode": "ORDER_LIST",
+                  "parameterMappings": {"customerId": "user:/data/customerId"}}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> apiCompositeService.parseBranches(definitions))
+                .isInstanceOf(ProxyException.class);
+    }
+
+    @Test
+    @DisplayName("브랜치 구성 파싱 실패 - 중복 키")
+    void parseBranches_DuplicateKey() {
+        // given
+        String definitions = """
+                [{"key": "user", "apiCode": "USER_GET"},
+                 {"key": "user", "apiCode": "USER_DETAIL"}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> apiCompositeService.parseBranches(definitions))
+                .isInstanceOf(ProxyException.class);
+    }
+}
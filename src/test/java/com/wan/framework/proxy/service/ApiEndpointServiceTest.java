@@ -35,6 +35,9 @@ class ApiEndpointServiceTest {
     @Mock
     private ApiEndpointMapper apiEndpointMapper;
 
+    @Mock
+    private RequestTemplateCache requestTemplateCache;
+
     @InjectMocks
     private ApiEndpointService apiEndpointService;
 
@@ -162,6 +165,7 @@ class ApiEndpointServiceTest {
 
         // Then
         verify(apiEndpointRepository, times(1)).save(any(ApiEndpoint.class));
+        verify(requestTemplateCache).evict(1L);
         assertThat(testEndpoint.getDataState()).isEqualTo(DataStateCode.D);
     }
 
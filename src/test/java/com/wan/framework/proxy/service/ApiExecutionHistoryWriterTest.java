@@ -0,0 +1,144 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.base.service.SequenceIdAllocator;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.domain.ApiExecutionHistory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("API 실행 이력 비동기 저장 테스트")
+class ApiExecutionHistoryWriterTest {
+
+    @Mock
+    private SequenceIdAllocator sequenceIdAllocator;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path spillDir;
+
+    private ApiExecutionHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private ApiExecutionHistoryWriter createWriter(boolean asyncEnabled) {
+        ProxyProperties properties = new ProxyProperties();
+        properties.getHistory().setAsyncEnabled(asyncEnabled);
+        properties.getHistory().setFlushIntervalMs(60000L);
+        properties.getHistory().setSpillDir(spillDir.toString());
+        writer = new ApiExecutionHistoryWriter(sequenceIdAllocator, jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+                properties, transactionManager);
+        writer.start();
+        return writer;
+    }
+
+    private static Collection<ApiExecutionHistory> rows(int size) {
+        return argThat(batch -> batch != null && batch.size() == size);
+    }
+
+    @Test
+    @DisplayName("비동기 모드 - ID 사전 할당 후 대기열 적재")
+    void write_Async() {
+        // given
+        createWriter(true);
+        given(sequenceIdAllocator.nextId(eq("api_execution_history"), eq("t_api_execution_history"), anyInt()))
+                .willReturn(101L);
+
+        // when
+        ApiExecutionHistory result = writer.write(ApiExecutionHistory.builder().apiCode("TEST_API_001").build());
+
+        // then
+        assertThat(result.getId()).isEqualTo(101L);
+        assertThat(result.getExecutedAt()).isNotNull();
+        assertThat(writer.getPendingCount()).isEqualTo(1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("동기 모드 - 시퀀스 ID로 즉시 저장 (AUTO_INCREMENT 미사용)")
+    void write_Sync() {
+        // given
+        createWriter(false);
+        given(sequenceIdAllocator.nextId(anyString(), anyString(), anyInt())).willReturn(101L);
+        ApiExecutionHistory history = ApiExecutionHistory.builder().apiCode("TEST_API_001").build();
+
+        // when
+        writer.write(history);
+
+        // then
+        assertThat(history.getId()).isEqualTo(101L);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO t_api_execution_history"), rows(1), eq(1), any());
+    }
+
+    @Test
+    @DisplayName("비동기 모드 - ID 할당 실패 시 ID 없이 저장하지 않고 spill")
+    void write_AllocatorFailureSpills() throws Exception {
+        // given
+        createWriter(true);
+        given(sequenceIdAllocator.nextId(anyString(), anyString(), anyInt()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+
+        // when
+        ApiExecutionHistory result = writer.write(ApiExecutionHistory.builder().apiCode("TEST_API_001").build());
+
+        // then
+        assertThat(result.getId()).isNull();
+        assertThat(writer.getPendingCount()).isZero();
+        assertThat(Files.readAllLines(spillDir.resolve("history-current.ndjson"))).hasSize(1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("ID 충돌 - 배치 전체를 spill하지 않고 행 단위 저장, 충돌 행은 새 ID로 저장")
+    void drain_DuplicateKeyInsertsRowByRow() {
+        // given
+        createWriter(true);
+        given(sequenceIdAllocator.nextId(anyString(), anyString(), anyInt())).willReturn(101L, 102L, 103L);
+        ApiExecutionHistory collided = writer.write(ApiExecutionHistory.builder().apiCode("TEST_API_001").build());
+        ApiExecutionHistory other = writer.write(ApiExecutionHistory.builder().apiCode("TEST_API_002").build());
+        given(jdbcTemplate.batchUpdate(anyString(), rows(2), anyInt(), any()))
+                .willThrow(new DuplicateKeyException("Duplicate entry '101'"));
+        given(jdbcTemplate.batchUpdate(anyString(),
+                argThat((Collection<ApiExecutionHistory> batch) -> batch != null && batch.size() == 1
+                        && batch.iterator().next().getId() == 101L), anyInt(), any()))
+                .willThrow(new DuplicateKeyException("Duplicate entry '101'"));
+
+        // when
+        writer.shutdown();
+        writer = null;
+
+        // then
+        assertThat(collided.getId()).isEqualTo(103L);
+        assertThat(other.getId()).isEqualTo(102L);
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO"), rows(1), eq(1), any());
+        assertThat(spillDir.resolve("history-current.ndjson")).doesNotExist();
+    }
+}
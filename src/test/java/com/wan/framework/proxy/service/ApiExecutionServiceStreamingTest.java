@@ -0,0 +1,168 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.config.ProxyAsyncExecutor;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.domain.ApiExecutionHistory;
+import com.wan.framework.proxy.dto.ProxyExecutionRequest;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import com.wan.framework.proxy.exception.ProxyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("API 스트리밍 실행 테스트")
+class ApiExecutionServiceStreamingTest {
+
+    @Mock
+    private ApiExecutionHistoryWriter executionHistoryWriter;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private ProxyAsyncExecutor proxyAsyncExecutor;
+
+    @Mock
+    private RetryBudgetService retryBudgetService;
+
+    @Mock
+    private CircuitBreakerService circuitBreakerService;
+
+    @Mock
+    private ProxyResponseCacheService responseCacheService;
+
+    @Mock
+    private RequestCoalescer requestCoalescer;
+
+    @Mock
+    private ProxyLatencyRecorder latencyRecorder;
+
+    @Mock
+    private ClientHttpResponse targetResponse;
+
+    private ApiExecutionService apiExecutionService;
+    private ApiEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        apiExecutionService = new ApiExecutionService(executionHistoryWriter, restTemplate, objectMapper,
+                proxyAsyncExecutor, retryBudgetService, circuitBreakerService, new RequestTemplateCache(objectMapper),
+                responseCacheService, requestCoalescer, latencyRecorder, new ProxyProperties());
+        endpoint = ApiEndpoint.builder()
+                .apiCode("TEST_API_001")
+                .apiName("테스트 API")
+                .httpMethod("GET")
+                .targetUrl("http://localhost:8080/items")
+                .build();
+        given(executionHistoryWriter.write(any(ApiExecutionHistory.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private ProxyExecutionRequest request() {
+        return ProxyExecutionRequest.builder().apiCode("TEST_API_001").parameters(Map.of()).build();
+    }
+
+    private ApiExecutionHistory savedHistory() {
+        ArgumentCaptor<ApiExecutionHistory> captor = ArgumentCaptor.forClass(ApiExecutionHistory.class);
+        verify(executionHistoryWriter).write(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("호출자 연결 끊김 - 대상 장애로 집계하지 않고 이력 저장, 예외 없이 반환")
+    void executeStreaming_ClientDisconnected() throws Exception {
+        // given
+        given(targetResponse.getStatusCode()).willReturn(HttpStatus.OK);
+        given(targetResponse.getHeaders()).willReturn(new HttpHeaders());
+        given(targetResponse.getBody()).willReturn(new ByteArrayInputStream("payload".getBytes(StandardCharsets.UTF_8)));
+        given(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .willAnswer(invocation -> invocation.getArgument(3, ResponseExtractor.class).extractData(targetResponse));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when
+        ProxyExecutionResponse response = apiExecutionService.executeStreaming(
+                endpoint, request(), (status, headers) -> {}, disconnected);
+
+        // then
+        assertThat(response).isNotNull();
+        verify(circuitBreakerService).onResult(endpoint, false);
+        ApiExecutionHistory history = savedHistory();
+        assertThat(history.getResponseStatusCode()).isEqualTo(200);
+        assertThat(history.getErrorMessage()).contains("Client disconnected");
+    }
+
+    @Test
+    @DisplayName("대상 연결 실패 (응답 시작 전) - 대상 장애로 집계, 이력 저장 후 예외")
+    void executeStreaming_ConnectionFailedBeforeResponse() {
+        // given
+        given(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .willThrow(new ResourceAccessException("Connection refused"));
+        AtomicBoolean started = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> apiExecutionService.executeStreaming(
+                endpoint, request(), (status, headers) -> started.set(true), OutputStream.nullOutputStream()))
+                .isInstanceOf(ProxyException.class)
+                .hasMessage(ProxyExceptionMessage.API_CONNECTION_FAILED.getMessage());
+        assertThat(started).isFalse();
+        verify(circuitBreakerService).onResult(endpoint, true);
+        assertThat(savedHistory().getIsSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대상 응답 읽기 실패 (응답 시작 후) - 예외 대신 실패 결과 반환, 이력 저장")
+    void executeStreaming_TargetFailedAfterResponseStarted() throws Exception {
+        // given
+        given(targetResponse.getStatusCode()).willReturn(HttpStatus.OK);
+        given(targetResponse.getHeaders()).willReturn(new HttpHeaders());
+        given(targetResponse.getBody()).willThrow(new IOException("Connection reset"));
+        given(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .willAnswer(invocation -> {
+                    try {
+                        return invocation.getArgument(3, ResponseExtractor.class).extractData(targetResponse);
+                    } catch (IOException e) {
+                        throw new ResourceAccessException("I/O error", e);
+                    }
+                });
+
+        // when
+        ProxyExecutionResponse response = apiExecutionService.executeStreaming(
+                endpoint, request(), (status, headers) -> {}, OutputStream.nullOutputStream());
+
+        // then
+        assertThat(response.getIsSuccess()).isFalse();
+        assertThat(savedHistory().getIsSuccess()).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wan.framework.proxy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("바디 캡처 테스트")
+class BodyCaptureTest {
+
+    @Test
+    @DisplayName("최대 크기 이하 바디는 그대로 저장")
+    void capture_WithinLimit() {
+        // when
+        BodyCapture.Captured captured = BodyCapture.capture("{\"ok\":true}", 1024, false);
+
+        // then
+        assertThat(captured.stored()).isEqualTo("{\"ok\":true}");
+        assertThat(captured.size()).isEqualTo(11L);
+        assertThat(captured.remainderHash()).isNull();
+        assertThat(captured.compressed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 앞부분만 저장하고 나머지는 해시")
+    void capture_Truncated() {
+        // when
+        BodyCapture.Captured captured = BodyCapture.capture("abcdefghij", 4, false);
+
+        // then
+        assertThat(captured.stored()).isEqualTo("abcd");
+        assertThat(captured.size()).isEqualTo(10L);
+        assertThat(captured.remainderHash()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("청크 단위 기록과 전체 기록 결과 동일")
+    void write_Chunked() {
+        // given
+        byte[] bytes = "abcdefghij".getBytes(StandardCharsets.UTF_8);
+        BodyCapture chunked = new BodyCapture(4);
+
+        // when
+        chunked.write(bytes, 0, 3);
+        chunked.write(bytes, 3, 7);
+        BodyCapture.Captured captured = chunked.finish(false);
+
+        // then
+        assertThat(captured).isEqualTo(BodyCapture.capture("abcdefghij", 4, false));
+    }
+
+    @Test
+    @DisplayName("gzip 압축 저장 후 복원")
+    void compressAndDecode() {
+        // given
+        String body = "{\"message\":\"" + "반복 데이터 ".repeat(100) + "\"}";
+
+        // when
+        BodyCapture.Captured captured = BodyCapture.capture(body, 65536, true);
+
+        // then
+        assertThat(captured.compressed()).isTrue();
+        assertThat(captured.stored()).isNotEqualTo(body);
+        assertThat(BodyCapture.decode(captured.stored(), true)).isEqualTo(body);
+    }
+}
@@ -0,0 +1,145 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.constant.CircuitState;
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.exception.ProxyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("서킷 브레이커 서비스 테스트")
+class CircuitBreakerServiceTest {
+
+    private AtomicLong now;
+    private CircuitBreakerService circuitBreakerService;
+    private ApiEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        circuitBreakerService = new CircuitBreakerService(now::get);
+        endpoint = ApiEndpoint.builder()
+                .apiCode("TEST_API_001")
+                .circuitBreakerEnabled(true)
+                .circuitFailureRateThreshold(50)
+                .circuitSlidingWindowSize(4)
+                .circuitMinimumCalls(4)
+                .circuitOpenDurationMs(1000)
+                .circuitHalfOpenCalls(2)
+                .maxConcurrentCalls(2)
+                .build();
+    }
+
+    private void call(boolean failed) {
+        circuitBreakerService.acquirePermission(endpoint);
+        circuitBreakerService.onResult(endpoint, failed);
+    }
+
+    @Test
+    @DisplayName("실패율 임계치 도달 시 OPEN 전환 후 호출 차단")
+    void opensWhenFailureRateExceeded() {
+        // given
+        call(false);
+        call(false);
+        call(true);
+        call(true);
+
+        // when & then
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getState())
+                .isEqualTo(CircuitState.OPEN.name());
+        assertThatThrownBy(() -> circuitBreakerService.acquirePermission(endpoint))
+                .isInstanceOf(ProxyException.class)
+                .extracting("proxyExceptionMessage")
+                .isEqualTo(ProxyExceptionMessage.CIRCUIT_BREAKER_OPEN);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만이면 OPEN 전환하지 않음")
+    void staysClosedBelowMinimumCalls() {
+        // given
+        call(true);
+        call(true);
+        call(true);
+
+        // when & then
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getState())
+                .isEqualTo(CircuitState.CLOSED.name());
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간 경과 후 HALF_OPEN 시험 호출 성공 시 CLOSED")
+    void halfOpenClosesAfterSuccessfulTrials() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(1000L);
+
+        // when
+        call(false);
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getState())
+                .isEqualTo(CircuitState.HALF_OPEN.name());
+        call(false);
+
+        // then
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getState())
+                .isEqualTo(CircuitState.CLOSED.name());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출 실패 시 다시 OPEN")
+    void halfOpenReopensOnFailure() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(1000L);
+
+        // when
+        call(true);
+
+        // then
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getState())
+                .isEqualTo(CircuitState.OPEN.name());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도 초과 시 Bulkhead 거부")
+    void bulkheadRejectsOverLimit() {
+        // given
+        circuitBreakerService.acquirePermission(endpoint);
+        circuitBreakerService.acquirePermission(endpoint);
+
+        // when & then
+        assertThatThrownBy(() -> circuitBreakerService.acquirePermission(endpoint))
+                .isInstanceOf(ProxyException.class)
+                .extracting("proxyExceptionMessage")
+                .isEqualTo(ProxyExceptionMessage.BULKHEAD_FULL);
+
+        circuitBreakerService.onResult(endpoint, false);
+        assertThatCode(() -> circuitBreakerService.acquirePermission(endpoint)).doesNotThrowAnyException();
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getBulkheadRejectedCalls()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 초기화 시 CLOSED")
+    void reset() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+
+        // when
+        circuitBreakerService.reset("TEST_API_001");
+
+        // then
+        assertThat(circuitBreakerService.getStatus("TEST_API_001").getState())
+                .isEqualTo(CircuitState.CLOSED.name());
+        assertThatCode(() -> circuitBreakerService.acquirePermission(endpoint)).doesNotThrowAnyException();
+    }
+}
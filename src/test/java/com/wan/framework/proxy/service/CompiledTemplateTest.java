@@ -0,0 +1,106 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("컴파일 템플릿 테스트")
+class CompiledTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("URL 템플릿 - 경로/쿼리 값 인코딩, 호스트 변수는 그대로")
+    void renderUrl() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "${baseUrl}/users/${userId}?q=${query}", CompiledTemplate.Escaping.URL, objectMapper);
+        Map<String, Object> params = Map.of(
+                "baseUrl", "https://api.example.com",
+                "userId", "a/b c",
+                "query", "x&y=1");
+
+        // when
+        String result = template.render(params);
+
+        // then
+        assertThat(result).isEqualTo("https://api.example.com/users/a%2Fb%20c?q=x%26y%3D1");
+    }
+
+    @Test
+    @DisplayName("URL 템플릿 - 리터럴의 비ASCII/공백/'|'는 인코딩, 구분자와 기존 %XX는 유지")
+    void renderUrl_EncodesIllegalLiteralCharacters() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "https://api.example.com/상품 목록/${id}?fields=a|b&name=%EA%B0%80", CompiledTemplate.Escaping.URL,
+                objectMapper);
+
+        // when
+        String result = template.render(Map.of("id", "1"));
+
+        // then
+        assertThat(result).isEqualTo("https://api.example.com/%EC%83%81%ED%92%88%20%EB%AA%A9%EB%A1%9D/1"
+                + "?fields=a%7Cb&name=%EA%B0%80");
+        assertThatCode(() -> java.net.URI.create(result)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("URL 템플릿 - 변수 없는 리터럴도 인코딩")
+    void renderUrl_LiteralOnly() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "https://api.example.com/검색?q=a b", CompiledTemplate.Escaping.URL, objectMapper);
+
+        // when & then
+        assertThat(template.render(Map.of())).isEqualTo("https://api.example.com/%EA%B2%80%EC%83%89?q=a%20b");
+    }
+
+    @Test
+    @DisplayName("JSON 템플릿 - 문자열 내부 값 이스케이프, 외부 값은 그대로 또는 직렬화")
+    void renderJson() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "{\"name\":\"${name}\",\"count\":${count},\"tags\":${tags}}",
+                CompiledTemplate.Escaping.JSON, objectMapper);
+        Map<String, Object> params = Map.of(
+                "name", "say \"hi\"\n",
+                "count", 3,
+                "tags", List.of("a", "b"));
+
+        // when
+        String result = template.render(params);
+
+        // then
+        assertThat(result).isEqualTo("{\"name\":\"say \\\"hi\\\"\\n\",\"count\":3,\"tags\":[\"a\",\"b\"]}");
+    }
+
+    @Test
+    @DisplayName("파라미터에 없는 변수는 플레이스홀더 유지")
+    void keepsUnknownPlaceholder() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "Bearer ${token}", CompiledTemplate.Escaping.NONE, objectMapper);
+
+        // when & then
+        assertThat(template.render(new HashMap<>())).isEqualTo("Bearer ${token}");
+        assertThat(template.render(null)).isEqualTo("Bearer ${token}");
+    }
+
+    @Test
+    @DisplayName("변수 없는 템플릿은 원본 그대로")
+    void renderWithoutVariables() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile(
+                "https://api.example.com/health", CompiledTemplate.Escaping.URL, objectMapper);
+
+        // when & then
+        assertThat(template.hasVariables()).isFalse();
+        assertThat(template.render(Map.of("a", 1))).isEqualTo("https://api.example.com/health");
+    }
+}
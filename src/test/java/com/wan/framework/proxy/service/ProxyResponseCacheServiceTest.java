@@ -0,0 +1,129 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.CachedProxyResponse;
+import com.wan.framework.redis.service.RedisCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Proxy 응답 캐시 서비스 테스트")
+class ProxyResponseCacheServiceTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    private ProxyResponseCacheService responseCacheService;
+    private ApiEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheService = new ProxyResponseCacheService(redisCacheService, new ObjectMapper(), new ProxyProperties());
+        endpoint = ApiEndpoint.builder()
+                .apiCode("TEST_API_001")
+                .httpMethod("GET")
+                .responseCacheEnabled(true)
+                .responseCacheTtlSeconds(60)
+                .responseCacheVaryHeaders("Authorization")
+                .build();
+    }
+
+    private ResponseEntity<String> response(String cacheControl, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        if (cacheControl != null) {
+            headers.setCacheControl(cacheControl);
+        }
+        if (etag != null) {
+            headers.setETag(etag);
+        }
+        return new ResponseEntity<>("{\"ok\":true}", headers, HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("캐시 적용 대상 - GET/HEAD + 캐시 사용 설정")
+    void isCacheable() {
+        assertThat(responseCacheService.isCacheable(endpoint)).isTrue();
+
+        endpoint.setHttpMethod("POST");
+        assertThat(responseCacheService.isCacheable(endpoint)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 키 - Vary 헤더 값에 따라 구분")
+    void buildKey_VaryHeaders() {
+        // given
+        HttpHeaders userA = new HttpHeaders();
+        userA.set("Authorization", "Bearer a");
+        HttpHeaders userB = new HttpHeaders();
+        userB.set("Authorization", "Bearer b");
+
+        // when
+        String keyA = responseCacheService.buildKey(endpoint, "https://api.example.com/items", userA);
+        String keyB = responseCacheService.buildKey(endpoint, "https://api.example.com/items", userB);
+
+        // then
+        assertThat(keyA).startsWith("PROXY:RESPONSE:TEST_API_001:").isNotEqualTo(keyB);
+    }
+
+    @Test
+    @DisplayName("max-age 응답 저장 후 로컬 캐시에서 유효 응답 조회")
+    void putAndGet_MaxAge() {
+        // when
+        responseCacheService.put("key", endpoint, response("max-age=30", null));
+        CachedProxyResponse cached = responseCacheService.get("key");
+
+        // then
+        assertThat(cached).isNotNull();
+        assertThat(cached.isFresh(System.currentTimeMillis())).isTrue();
+        assertThat(cached.getResponseBody()).isEqualTo("{\"ok\":true}");
+        verify(redisCacheService).set(eq("key"), any(CachedProxyResponse.class), eq(30L));
+        verify(redisCacheService, never()).get(anyString(), eq(CachedProxyResponse.class));
+    }
+
+    @Test
+    @DisplayName("no-store 응답은 저장하지 않음")
+    void put_NoStore() {
+        // when
+        responseCacheService.put("key", endpoint, response("no-store", "\"v1\""));
+
+        // then
+        verify(redisCacheService, never()).set(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("no-cache + ETag 응답은 재검증 대상으로 보관")
+    void put_NoCacheWithEtag() {
+        // when
+        responseCacheService.put("key", endpoint, response("no-cache", "\"v1\""));
+        CachedProxyResponse cached = responseCacheService.get("key");
+
+        // then
+        assertThat(cached).isNotNull();
+        assertThat(cached.isFresh(System.currentTimeMillis())).isFalse();
+        assertThat(cached.getEtag()).isEqualTo("\"v1\"");
+        verify(redisCacheService).set(eq("key"), any(CachedProxyResponse.class), eq(60L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 캐시 미스로 처리")
+    void get_RedisFailure() {
+        // given
+        given(redisCacheService.get("key", CachedProxyResponse.class)).willThrow(new RuntimeException("down"));
+
+        // when & then
+        assertThat(responseCacheService.get("key")).isNull();
+    }
+}
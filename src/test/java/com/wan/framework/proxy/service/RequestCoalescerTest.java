@@ -0,0 +1,157 @@
+package com.wan.framework.proxy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wan.framework.proxy.config.ProxyAsyncExecutor;
+import com.wan.framework.proxy.config.ProxyProperties;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.dto.ProxyExecutionRequest;
+import com.wan.framework.proxy.dto.ProxyExecutionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Proxy 동시 요청 병합 테스트")
+class RequestCoalescerTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ProxyAsyncExecutor proxyAsyncExecutor;
+
+    private RequestCoalescer requestCoalescer;
+    private ApiEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        requestCoalescer = new RequestCoalescer(stringRedisTemplate, new ObjectMapper(), proxyAsyncExecutor,
+                new ProxyProperties());
+        endpoint = ApiEndpoint.builder()
+                .apiCode("TEST_API_001")
+                .httpMethod("GET")
+                .build();
+    }
+
+    private ProxyExecutionRequest request(Map<String, Object> parameters) {
+        return ProxyExecutionRequest.builder().apiCode("TEST_API_001").parameters(parameters).build();
+    }
+
+    @Test
+    @DisplayName("병합 대상 - GET/HEAD만")
+    void isCoalescible() {
+        assertThat(requestCoalescer.isCoalescible(endpoint)).isTrue();
+
+        endpoint.setHttpMethod("POST");
+        assertThat(requestCoalescer.isCoalescible(endpoint)).isFalse();
+    }
+
+    @Test
+    @DisplayName("진행 중인 동일 요청은 한 번만 호출하고 결과 공유")
+    void execute_CollapsesInFlight() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<ProxyExecutionResponse> downstream = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<ProxyExecutionResponse> first = requestCoalescer.execute(endpoint,
+                request(Map.of("id", 1, "type", "A")), () -> {
+                    calls.incrementAndGet();
+                    return downstream;
+                });
+        CompletableFuture<ProxyExecutionResponse> second = requestCoalescer.execute(endpoint,
+                request(Map.of("type", "A", "id", 1)), () -> {
+                    calls.incrementAndGet();
+                    return downstream;
+                });
+        downstream.complete(ProxyExecutionResponse.builder().isSuccess(true).responseBody("ok").build());
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join().getResponseBody()).isEqualTo("ok");
+        assertThat(second.join()).isNotSameAs(first.join());
+        assertThat(requestCoalescer.getStats().getLocalCollapsed()).isEqualTo(1L);
+        assertThat(requestCoalescer.getStats().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("파라미터가 다르면 병합하지 않음")
+    void execute_DifferentParameters() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        requestCoalescer.execute(endpoint, request(Map.of("id", 1)), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        requestCoalescer.execute(endpoint, request(Map.of("id", 2)), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(requestCoalescer.getStats().getLocalCollapsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("병합된 호출 취소 - 일부 대기자 취소는 공유 호출 유지, 마지막 대기자 취소 시 공유 호출 취소")
+    void execute_CancelLastWaiterCancelsSharedCall() {
+        // given
+        CompletableFuture<ProxyExecutionResponse> downstream = new CompletableFuture<>();
+        CompletableFuture<ProxyExecutionResponse> first = requestCoalescer.execute(endpoint,
+                request(Map.of("id", 1)), () -> downstream);
+        CompletableFuture<ProxyExecutionResponse> second = requestCoalescer.execute(endpoint,
+                request(Map.of("id", 1)), () -> downstream);
+
+        // when
+        first.cancel(true);
+
+        // then
+        assertThat(downstream.isDone()).isFalse();
+        assertThat(requestCoalescer.getStats().getInFlight()).isEqualTo(1);
+
+        // when
+        second.cancel(true);
+
+        // then
+        assertThat(downstream.isCancelled()).isTrue();
+        assertThat(requestCoalescer.getStats().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 대기자가 취소한 호출에는 합류하지 않고 새로 호출")
+    void execute_AfterAbandonedCallStartsNewCall() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<ProxyExecutionResponse> abandoned = requestCoalescer.execute(endpoint,
+                request(Map.of("id", 1)), () -> {
+                    calls.incrementAndGet();
+                    return new CompletableFuture<>();
+                });
+        abandoned.cancel(true);
+
+        // when
+        CompletableFuture<ProxyExecutionResponse> next = requestCoalescer.execute(endpoint,
+                request(Map.of("id", 1)), () -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.completedFuture(
+                            ProxyExecutionResponse.builder().isSuccess(true).responseBody("ok").build());
+                });
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(next.join().getResponseBody()).isEqualTo("ok");
+    }
+}
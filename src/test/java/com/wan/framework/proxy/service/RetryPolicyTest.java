@@ -0,0 +1,114 @@
+package com.wan.framework.proxy.service;
+
+import com.wan.framework.proxy.constant.ProxyExceptionMessage;
+import com.wan.framework.proxy.domain.ApiEndpoint;
+import com.wan.framework.proxy.exception.ProxyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("재시도 정책 테스트")
+class RetryPolicyTest {
+
+    private ApiEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = ApiEndpoint.builder()
+                .apiCode("TEST_API_001")
+                .retryCount(3)
+                .retryIntervalMs(1000)
+                .retryBackoffMultiplier(2.0)
+                .retryMaxIntervalMs(5000)
+                .retryMaxElapsedMs(10000)
+                .retryableStatusCodes("429,5xx")
+                .retryableExceptions("ResourceAccessException")
+                .build();
+    }
+
+    @Test
+    @DisplayName("지수 백오프 - 최대 대기 시간으로 제한")
+    void nextDelayMs_ExponentialWithCap() {
+        // given - jitter 없이 상한값 그대로 사용
+        RetryPolicy policy = new RetryPolicy(endpoint, bound -> bound);
+
+        // when & then
+        assertThat(policy.nextDelayMs(0)).isEqualTo(1000L);
+        assertThat(policy.nextDelayMs(1)).isEqualTo(2000L);
+        assertThat(policy.nextDelayMs(2)).isEqualTo(4000L);
+        assertThat(policy.nextDelayMs(3)).isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("Full Jitter - 대기 시간은 0 ~ 상한값 범위")
+    void nextDelayMs_JitterWithinBound() {
+        // given
+        RetryPolicy policy = RetryPolicy.of(endpoint);
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextDelayMs(2)).isBetween(0L, 4000L);
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대상 상태 코드 판별 - 정확한 코드 및 5xx 패턴")
+    void isRetryableStatus() {
+        // given
+        RetryPolicy policy = RetryPolicy.of(endpoint);
+
+        // when & then
+        assertThat(policy.isRetryableStatus(429)).isTrue();
+        assertThat(policy.isRetryableStatus(503)).isTrue();
+        assertThat(policy.isRetryableStatus(400)).isFalse();
+        assertThat(policy.isRetryableStatus(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도 대상 예외 판별 - 원인 체인 탐색")
+    void isRetryableException() {
+        // given
+        RetryPolicy policy = RetryPolicy.of(endpoint);
+        ProxyException wrapped = new ProxyException(ProxyExceptionMessage.API_CONNECTION_FAILED,
+                new ResourceAccessException("I/O error", new SocketTimeoutException("timeout")));
+
+        // when & then
+        assertThat(policy.isRetryableException(wrapped)).isTrue();
+        assertThat(policy.isRetryableException(new IllegalStateException("bad"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수 및 최대 경과 시간 확인")
+    void retryLimits() {
+        // given
+        RetryPolicy policy = RetryPolicy.of(endpoint);
+
+        // when & then
+        assertThat(policy.hasRetriesLeft(2)).isTrue();
+        assertThat(policy.hasRetriesLeft(3)).isFalse();
+        assertThat(policy.withinMaxElapsed(8000L, 2000L)).isTrue();
+        assertThat(policy.withinMaxElapsed(8000L, 2001L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도 대상 미설정 - 기본 상태 코드/예외로 재시도")
+    void retryableDefaults_WhenNull() {
+        // given - 기존 행(ddl-auto) 또는 DTO로 생성되어 재시도 대상이 null
+        endpoint.setRetryableStatusCodes(null);
+        endpoint.setRetryableExceptions(" ");
+        RetryPolicy policy = RetryPolicy.of(endpoint);
+
+        // when & then
+        assertThat(policy.isRetryableStatus(503)).isTrue();
+        assertThat(policy.isRetryableStatus(429)).isTrue();
+        assertThat(policy.isRetryableStatus(500)).isFalse();
+        assertThat(policy.isRetryableStatus(400)).isFalse();
+        assertThat(policy.isRetryableException(new ResourceAccessException("I/O error"))).isTrue();
+        assertThat(policy.isRetryableException(new IllegalStateException("bad"))).isFalse();
+    }
+}
@@ -0,0 +1,72 @@
+package com.wan.framework.proxy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("롤링 지연 시간 윈도우 테스트")
+class RollingLatencyWindowTest {
+
+    private static final long BUCKET_MILLIS = 60000L;
+
+    private RollingLatencyWindow newWindow() {
+        return new RollingLatencyWindow(BUCKET_MILLIS, 5, TimeUnit.MINUTES.toMicros(10));
+    }
+
+    @Test
+    @DisplayName("백분위 값은 상대 오차 3% 이내")
+    void snapshot_Percentiles() {
+        // given
+        RollingLatencyWindow window = newWindow();
+        long now = 10 * BUCKET_MILLIS;
+        for (int ms = 1; ms <= 100; ms++) {
+            window.record(TimeUnit.MILLISECONDS.toNanos(ms), false, now);
+        }
+
+        // when
+        RollingLatencyWindow.Snapshot snapshot = window.snapshot(1, now);
+
+        // then
+        assertThat(snapshot.calls()).isEqualTo(100L);
+        assertThat(snapshot.percentileMs(50.0)).isCloseTo(50.0, withinPercentage(3));
+        assertThat(snapshot.percentileMs(99.0)).isCloseTo(99.0, withinPercentage(3));
+        assertThat(snapshot.maxMs()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("오류율 집계")
+    void snapshot_ErrorRate() {
+        // given
+        RollingLatencyWindow window = newWindow();
+        long now = 10 * BUCKET_MILLIS;
+        window.record(TimeUnit.MILLISECONDS.toNanos(10), false, now);
+        window.record(TimeUnit.MILLISECONDS.toNanos(10), false, now);
+        window.record(TimeUnit.MILLISECONDS.toNanos(10), false, now);
+        window.record(TimeUnit.MILLISECONDS.toNanos(10), true, now);
+
+        // when & then
+        assertThat(window.snapshot(1, now).errorRate()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("윈도우 밖 버킷은 제외")
+    void snapshot_ExcludesExpiredBuckets() {
+        // given
+        RollingLatencyWindow window = newWindow();
+        long start = 10 * BUCKET_MILLIS;
+        window.record(TimeUnit.MILLISECONDS.toNanos(500), true, start);
+        window.record(TimeUnit.MILLISECONDS.toNanos(5), false, start + 3 * BUCKET_MILLIS);
+
+        // when
+        RollingLatencyWindow.Snapshot recent = window.snapshot(2, start + 3 * BUCKET_MILLIS);
+        RollingLatencyWindow.Snapshot all = window.snapshot(5, start + 3 * BUCKET_MILLIS);
+
+        // then
+        assertThat(recent.calls()).isEqualTo(1L);
+        assertThat(recent.failures()).isZero();
+        assertThat(all.calls()).isEqualTo(2L);
+    }
+}